@@ -5,13 +5,16 @@ package oracle.kubernetes.operator;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import javax.annotation.Nullable;
 
@@ -40,16 +43,21 @@ import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.http.HttpClientPool;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.LoggingFilter;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.logging.OncePerMessageLoggingFilter;
+import oracle.kubernetes.operator.rest.Scan;
+import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.steps.BeforeAdminServiceStep;
 import oracle.kubernetes.operator.steps.DeleteDomainStep;
 import oracle.kubernetes.operator.steps.DomainPresenceStep;
+import oracle.kubernetes.operator.steps.ManagedServerUpIteratorStep;
 import oracle.kubernetes.operator.steps.ManagedServersUpStep;
 import oracle.kubernetes.operator.steps.WatchPodReadyAdminStep;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
@@ -63,6 +71,7 @@ import oracle.kubernetes.weblogic.domain.model.AdminService;
 import oracle.kubernetes.weblogic.domain.model.Channel;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 
 import static oracle.kubernetes.operator.helpers.LegalNames.toJobIntrospectorName;
 
@@ -70,12 +79,12 @@ public class DomainProcessorImpl implements DomainProcessor {
 
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
 
-  private static final Map<String, FiberGate> makeRightFiberGates = new ConcurrentHashMap<>();
+  private static Map<String, FiberGate> makeRightFiberGates = new ConcurrentHashMap<>();
   private static final Map<String, FiberGate> statusFiberGates = new ConcurrentHashMap<>();
   // Map from namespace to map of domainUID to Domain
   private static Map<String, Map<String, DomainPresenceInfo>> DOMAINS =
         new ConcurrentHashMap<>();
-  private static final ConcurrentMap<String, ConcurrentMap<String, ScheduledFuture<?>>>
+  private static final ConcurrentMap<String, ConcurrentMap<String, StatusUpdateTask>>
         statusUpdaters = new ConcurrentHashMap<>();
   private final DomainProcessorDelegate delegate;
 
@@ -101,24 +110,32 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private static void registerStatusUpdater(
-        String ns, String domainUid, ScheduledFuture<?> future) {
-    ScheduledFuture<?> existing =
-          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, future);
+        String ns, String domainUid, StatusUpdateTask task) {
+    StatusUpdateTask existing =
+          statusUpdaters.computeIfAbsent(ns, k -> new ConcurrentHashMap<>()).put(domainUid, task);
     if (existing != null) {
       existing.cancel(false);
     }
   }
 
   private static void unregisterStatusUpdater(String ns, String domainUid) {
-    ConcurrentMap<String, ScheduledFuture<?>> map = statusUpdaters.get(ns);
+    ConcurrentMap<String, StatusUpdateTask> map = statusUpdaters.get(ns);
     if (map != null) {
-      ScheduledFuture<?> existing = map.remove(domainUid);
+      StatusUpdateTask existing = map.remove(domainUid);
       if (existing != null) {
         existing.cancel(true);
       }
     }
   }
 
+  // Recomputes the status of the domain now, if the status of that domain is being maintained
+  private static void requestStatusRecheck(DomainPresenceInfo info) {
+    Optional.ofNullable(statusUpdaters.get(info.getNamespace()))
+          .map(m -> m.get(info.getDomainUid()))
+          .filter(task -> task.isFor(info))
+          .ifPresent(StatusUpdateTask::requestRecheck);
+  }
+
   private static void onEvent(V1Event event) {
     V1ObjectReference ref = event.getInvolvedObject();
     if (ref == null) {
@@ -135,7 +152,10 @@ public class DomainProcessorImpl implements DomainProcessor {
 
     Optional.ofNullable(DOMAINS.get(event.getMetadata().getNamespace()))
           .map(m -> m.get(domainUid))
-          .ifPresent(info -> info.updateLastKnownServerStatus(serverName, status));
+          .ifPresent(info -> {
+            info.updateLastKnownServerStatus(serverName, status);
+            requestStatusRecheck(info);
+          });
   }
 
   private static String getReadinessStatus(V1Event event) {
@@ -245,21 +265,40 @@ public class DomainProcessorImpl implements DomainProcessor {
     switch (watchType) {
       case "ADDED":
         info.setServerPodBeingDeleted(serverName, Boolean.FALSE);
-        // fall through
+        info.setServerPodFromEvent(serverName, pod);
+        break;
       case "MODIFIED":
+        V1Pod oldPod = info.getServerPod(serverName);
         info.setServerPodFromEvent(serverName, pod);
+        if (!isStatusAffected(oldPod, pod)) {
+          return;
+        }
         break;
       case "DELETED":
         boolean removed = info.deleteServerPodFromEvent(serverName, pod);
         if (removed && info.isNotDeleting() && !info.isServerPodBeingDeleted(serverName)) {
           LOGGER.info(MessageKeys.POD_DELETED, domainUid, getNamespace(pod), serverName);
-          makeRightDomainPresence(info, true, false, true);
+          repairServer(info, serverName);
         }
         break;
 
       case "ERROR":
       default:
+        return;
     }
+
+    requestStatusRecheck(info);
+  }
+
+  // most pod modifications, such as changes to other annotations or to labels, cannot change the domain status;
+  // a change to the state annotation or a container restart can change the state reported for a server
+  private boolean isStatusAffected(V1Pod oldPod, V1Pod newPod) {
+    return oldPod == null
+        || PodHelper.getReadyStatus(oldPod) != PodHelper.getReadyStatus(newPod)
+        || PodHelper.isDeleting(oldPod) != PodHelper.isDeleting(newPod)
+        || PodHelper.isFailed(oldPod) != PodHelper.isFailed(newPod)
+        || PodHelper.getRestartCount(oldPod) != PodHelper.getRestartCount(newPod)
+        || !Objects.equals(PodHelper.getRecordedServerState(oldPod), PodHelper.getRecordedServerState(newPod));
   }
 
   private String getNamespace(V1Pod pod) {
@@ -324,13 +363,111 @@ public class DomainProcessorImpl implements DomainProcessor {
       case "DELETED":
         boolean removed = ServiceHelper.deleteFromEvent(info, item.object);
         if (removed && info.isNotDeleting()) {
-          makeRightDomainPresence(info, true, false, true);
+          repairService(info, item.object);
         }
         break;
       default:
     }
   }
 
+  private void repairService(DomainPresenceInfo info, V1Service service) {
+    String serverName = ServiceHelper.getServerName(service);
+    if (serverName != null) {
+      repairServer(info, serverName);
+    } else {
+      repairClusterService(info, ServiceHelper.getClusterName(service));
+    }
+  }
+
+  /**
+   * Restores the pod and services of a single server whose pod or service was deleted. Only that server's steps are
+   * run, using the topology and server startup information recorded by the last make-right of its domain. If that
+   * make-right did not complete, if the information is not available, or if a make-right is already running for the
+   * domain, runs the full make-right.
+   */
+  private void repairServer(DomainPresenceInfo info, String serverName) {
+    Packet packet = createRepairPacket(info);
+    runRepairPlan(info, packet == null ? null : createServerRepairPlan(info, getTopology(packet), serverName), packet);
+  }
+
+  private void repairClusterService(DomainPresenceInfo info, String clusterName) {
+    Packet packet = createRepairPacket(info);
+    Step plan = null;
+    if (packet != null && clusterName != null && getTopology(packet).getClusterConfigs().containsKey(clusterName)) {
+      packet.put(ProcessingConstants.CLUSTER_NAME, clusterName);
+      plan = ServiceHelper.createForClusterStep(null);
+    }
+    runRepairPlan(info, plan, packet);
+  }
+
+  private Step createServerRepairPlan(DomainPresenceInfo info, WlsDomainConfig topology, String serverName) {
+    if (serverName.equals(topology.getAdminServerName())) {
+      return bringAdminServerUp(info, delegate.getPodAwaiterStepFactory(info.getNamespace()), null);
+    }
+
+    return Optional.ofNullable(info.getServerStartupInfo()).stream()
+        .flatMap(Collection::stream)
+        .filter(ssi -> serverName.equals(ssi.getServerName()))
+        .findFirst()
+        .map(ssi -> new ManagedServerUpIteratorStep(Collections.singletonList(ssi), null))
+        .orElse(null);
+  }
+
+  // a repair uses the topology recorded by the last introspection, rather than reading the introspector config map,
+  // so it is only attempted when the last make-right completed and that topology is known to be current
+  private Packet createRepairPacket(DomainPresenceInfo info) {
+    if (!info.isMakeRightComplete()) {
+      return null;
+    }
+
+    WlsDomainConfig topology =
+        Optional.ofNullable(ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid()))
+            .map(Scan::getWlsDomainConfig)
+            .orElse(null);
+    if (info.getDomain() == null || topology == null) {
+      return null;
+    }
+
+    Packet packet = createPlanPacket(info);
+    packet.put(ProcessingConstants.DOMAIN_TOPOLOGY, topology);
+    return packet;
+  }
+
+  private WlsDomainConfig getTopology(Packet packet) {
+    return (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+  }
+
+  private void runRepairPlan(DomainPresenceInfo info, Step plan, Packet packet) {
+    if (!delegate.isNamespaceRunning(info.getNamespace())) {
+      return;
+    }
+
+    if (plan == null || !startRepairFiber(info, plan, packet)) {
+      makeRightDomainPresence(info, true, false, true);
+    }
+  }
+
+  private boolean startRepairFiber(DomainPresenceInfo info, Step plan, Packet packet) {
+    LOGGER.fine("Repairing resources of domain with UID: " + info.getDomainUid());
+    Fiber fiber = getMakeRightFiberGate(info.getNamespace()).startFiberIfNoCurrentFiber(
+        info.getDomainUid(),
+        plan,
+        packet,
+        new CompletionCallback() {
+          @Override
+          public void onCompletion(Packet packet) {
+            // no-op
+          }
+
+          @Override
+          public void onThrowable(Packet packet, Throwable throwable) {
+            LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+            makeRightDomainPresence(info, true, false, false);
+          }
+        });
+    return fiber != null;
+  }
+
   /**
    * Dispatch config map watch event.
    * @param item watch event
@@ -405,59 +542,152 @@ public class DomainProcessorImpl implements DomainProcessor {
   }
 
   private void scheduleDomainStatusUpdating(DomainPresenceInfo info) {
-    final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
-
     MainTuning main = TuningParameters.getInstance().getMainTuning();
-    registerStatusUpdater(
-        info.getNamespace(),
-        info.getDomainUid(),
-        delegate.scheduleWithFixedDelay(
-            () -> {
-              try {
-                V1SubjectRulesReviewStatus srrs = delegate.getSubjectRulesReviewStatus(info.getNamespace());
-                Packet packet = new Packet();
-                packet
-                    .getComponents()
-                    .put(
-                        ProcessingConstants.DOMAIN_COMPONENT_NAME,
-                        Component.createFor(info, delegate.getVersion(),
-                            V1SubjectRulesReviewStatus.class, srrs));
-                packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
-                Step strategy =
-                    ServerStatusReader.createStatusStep(main.statusUpdateTimeoutSeconds, null);
-                FiberGate gate = getStatusFiberGate(info.getNamespace());
-
-                Fiber f =
-                    gate.startFiberIfNoCurrentFiber(
-                        info.getDomainUid(),
-                        strategy,
-                        packet,
-                        new CompletionCallback() {
-                          @Override
-                          public void onCompletion(Packet packet) {
-                            AtomicInteger serverHealthRead =
-                                packet.getValue(
-                                    ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
-                            if (serverHealthRead == null || serverHealthRead.get() == 0) {
-                              loggingFilter.setFiltering(false).resetLogHistory();
-                            } else {
-                              loggingFilter.setFiltering(true);
-                            }
-                          }
-
-                          @Override
-                          public void onThrowable(Packet packet, Throwable throwable) {
-                            LOGGER.severe(MessageKeys.EXCEPTION, throwable);
-                            loggingFilter.setFiltering(true);
-                          }
-                        });
-              } catch (Throwable t) {
-                LOGGER.severe(MessageKeys.EXCEPTION, t);
-              }
-            },
-            main.initialShortDelay,
-            main.initialShortDelay,
-            TimeUnit.SECONDS));
+    StatusUpdateTask task = new StatusUpdateTask(info, main);
+    registerStatusUpdater(info.getNamespace(), info.getDomainUid(), task);
+    task.schedule(main.initialShortDelay);
+  }
+
+  /**
+   * Recomputes the status of a domain. A recheck is requested whenever a watch event reports a change to one of
+   * the server pods of the domain, so the periodic timer is only a safety net: while its rechecks find the status
+   * unchanged, each interval between them is twice the last, up to the eventual long delay. Any change to the
+   * status, or any requested recheck, restores the initial short delay.
+   */
+  private class StatusUpdateTask implements Runnable {
+    private final DomainPresenceInfo info;
+    private final MainTuning main;
+    private final int maxTicksBetweenRechecks;
+    private final OncePerMessageLoggingFilter loggingFilter = new OncePerMessageLoggingFilter();
+    private final AtomicBoolean recheckRequested = new AtomicBoolean();
+    private final AtomicBoolean recheckQueued = new AtomicBoolean();
+    private ScheduledFuture<?> future;
+    private int ticksBetweenRechecks = 1;
+    private int ticksUntilRecheck = 1;
+
+    StatusUpdateTask(DomainPresenceInfo info, MainTuning main) {
+      this.info = info;
+      this.main = main;
+      this.maxTicksBetweenRechecks =
+          (int) Math.max(1, main.eventualLongDelay / Math.max(1, main.initialShortDelay));
+    }
+
+    boolean isFor(DomainPresenceInfo info) {
+      return this.info == info;
+    }
+
+    // The timer ticks at the initial short delay, but rechecks only when its current interval has elapsed
+    private synchronized void schedule(long tickSeconds) {
+      future = delegate.scheduleWithFixedDelay(this, tickSeconds, tickSeconds, TimeUnit.SECONDS);
+    }
+
+    private synchronized void cancel(boolean mayInterruptIfRunning) {
+      Optional.ofNullable(future).ifPresent(f -> f.cancel(mayInterruptIfRunning));
+    }
+
+    @Override
+    public void run() {
+      if (recheckRequested.get() || isRecheckDue()) {
+        recheck();
+      }
+    }
+
+    private synchronized boolean isRecheckDue() {
+      return --ticksUntilRecheck <= 0;
+    }
+
+    // called on watcher threads, so the recheck is handed off to the engine, and a burst of requests runs only one
+    void requestRecheck() {
+      recheckRequested.set(true);
+      resetInterval();
+      if (recheckQueued.compareAndSet(false, true)) {
+        delegate.runSteps(new RequestedRecheckStep());
+      }
+    }
+
+    private class RequestedRecheckStep extends Step {
+      @Override
+      public NextAction apply(Packet packet) {
+        recheckQueued.set(false);
+        recheck();
+        return doNext(packet);
+      }
+    }
+
+    private synchronized void resetInterval() {
+      ticksBetweenRechecks = 1;
+      ticksUntilRecheck = 1;
+    }
+
+    private synchronized void recordRecheck(boolean statusChanged) {
+      ticksBetweenRechecks = statusChanged ? 1 : Math.min(2 * ticksBetweenRechecks, maxTicksBetweenRechecks);
+      ticksUntilRecheck = ticksBetweenRechecks;
+    }
+
+    private void recheck() {
+      try {
+        V1SubjectRulesReviewStatus srrs = delegate.getSubjectRulesReviewStatus(info.getNamespace());
+        Packet packet = new Packet();
+        packet
+            .getComponents()
+            .put(
+                ProcessingConstants.DOMAIN_COMPONENT_NAME,
+                Component.createFor(info, delegate.getVersion(),
+                    V1SubjectRulesReviewStatus.class, srrs));
+        packet.put(LoggingFilter.LOGGING_FILTER_PACKET_KEY, loggingFilter);
+        Step strategy =
+            ServerStatusReader.createStatusStep(main.statusUpdateTimeoutSeconds, null);
+        FiberGate gate = getStatusFiberGate(info.getNamespace());
+
+        // if a recheck is already running, the request remains set, so another will follow it
+        DomainStatus initialStatus = getCurrentStatus();
+        recheckRequested.set(false);
+        Fiber f =
+            gate.startFiberIfNoCurrentFiber(
+                info.getDomainUid(),
+                strategy,
+                packet,
+                new CompletionCallback() {
+                  @Override
+                  public void onCompletion(Packet packet) {
+                    AtomicInteger serverHealthRead =
+                        packet.getValue(
+                            ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
+                    if (serverHealthRead == null || serverHealthRead.get() == 0) {
+                      loggingFilter.setFiltering(false).resetLogHistory();
+                    } else {
+                      loggingFilter.setFiltering(true);
+                    }
+                    recordRecheck(!Objects.equals(initialStatus, getCurrentStatus()));
+                    rerunIfRequested();
+                  }
+
+                  @Override
+                  public void onThrowable(Packet packet, Throwable throwable) {
+                    LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+                    loggingFilter.setFiltering(true);
+                    recordRecheck(true);
+                    rerunIfRequested();
+                  }
+                });
+        if (f == null) {
+          recheckRequested.set(true);
+        }
+      } catch (Throwable t) {
+        LOGGER.severe(MessageKeys.EXCEPTION, t);
+      }
+    }
+
+    private void rerunIfRequested() {
+      if (recheckRequested.get()) {
+        recheck();
+      }
+    }
+
+    private DomainStatus getCurrentStatus() {
+      return Optional.ofNullable(info.getPendingStatus())
+          .orElse(Optional.ofNullable(info.getDomain()).map(Domain::getStatus).orElse(null));
+    }
   }
 
   /**
@@ -524,26 +754,31 @@ public class DomainProcessorImpl implements DomainProcessor {
         strategy = DomainValidationSteps.createDomainValidationSteps(ns, strategy);
       }
 
-      PodAwaiterStepFactory pw = delegate.getPodAwaiterStepFactory(info.getNamespace());
-      V1SubjectRulesReviewStatus srrs = delegate.getSubjectRulesReviewStatus(info.getNamespace());
-      Packet packet = new Packet();
-      packet
-          .getComponents()
-          .put(
-              ProcessingConstants.DOMAIN_COMPONENT_NAME,
-              Component.createFor(info, delegate.getVersion(),
-                  PodAwaiterStepFactory.class, pw,
-                  V1SubjectRulesReviewStatus.class, srrs));
+      info.setMakeRightComplete(false);
       runDomainPlan(
           dom,
           domainUid,
           ns,
-          new StepAndPacket(strategy, packet),
+          new StepAndPacket(strategy, createPlanPacket(info)),
           isDeleting,
           isWillInterrupt);
     }
   }
 
+  private Packet createPlanPacket(DomainPresenceInfo info) {
+    PodAwaiterStepFactory pw = delegate.getPodAwaiterStepFactory(info.getNamespace());
+    V1SubjectRulesReviewStatus srrs = delegate.getSubjectRulesReviewStatus(info.getNamespace());
+    Packet packet = new Packet();
+    packet
+        .getComponents()
+        .put(
+            ProcessingConstants.DOMAIN_COMPONENT_NAME,
+            Component.createFor(info, delegate.getVersion(),
+                PodAwaiterStepFactory.class, pw,
+                V1SubjectRulesReviewStatus.class, srrs));
+    return packet;
+  }
+
   private Step readExistingServices(DomainPresenceInfo info) {
     return new CallBuilder()
         .withLabelSelectors(
@@ -565,7 +800,10 @@ public class DomainProcessorImpl implements DomainProcessor {
         new CompletionCallback() {
           @Override
           public void onCompletion(Packet packet) {
-            // no-op
+            if (!isDeleting) {
+              Optional.ofNullable(packet.getSpi(DomainPresenceInfo.class))
+                  .ifPresent(info -> info.setMakeRightComplete(true));
+            }
           }
 
           @Override
@@ -677,6 +915,9 @@ public class DomainProcessorImpl implements DomainProcessor {
     @Override
     public NextAction apply(Packet packet) {
       unregisterPresenceInfo(info.getNamespace(), info.getDomainUid());
+      Optional.ofNullable(info.getDomain())
+          .map(Domain::getWebLogicCredentialsSecretName)
+          .ifPresent(secretName -> HttpClientPool.getInstance().closeClient(info.getNamespace(), secretName));
       return doNext(packet);
     }
   }
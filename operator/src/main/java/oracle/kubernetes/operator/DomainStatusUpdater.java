@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -23,10 +24,12 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import oracle.kubernetes.operator.calls.CallResponse;
 import oracle.kubernetes.operator.calls.FailureStatusSource;
+import oracle.kubernetes.operator.calls.RequestPriority;
 import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
+import oracle.kubernetes.operator.helpers.KubernetesUtils;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -37,6 +40,10 @@ import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -49,6 +56,7 @@ import oracle.kubernetes.weblogic.domain.model.ServerStatus;
 
 import static java.net.HttpURLConnection.HTTP_INTERNAL_ERROR;
 import static oracle.kubernetes.operator.LabelConstants.CLUSTERNAME_LABEL;
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_COMPONENT_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_HEALTH_MAP;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_STATE_MAP;
@@ -153,6 +161,19 @@ public class DomainStatusUpdater {
     return new FailedStep(reason, message, next);
   }
 
+  static int getStatusUpdateWindowSeconds() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(parameters -> parameters.getMainTuning().statusUpdateWindowSeconds)
+        .orElse(0);
+  }
+
+  /**
+   * The base for steps which change the domain status. Rather than patching the domain itself, each such step
+   * records the new status as the domain's pending status, from which the next step computes its own changes.
+   * Pending changes are written together, at most once per status update window, so that a burst of changes
+   * makes a single patch which omits any states that were superseded within the window. A change which newly
+   * marks the domain as failed is written at once, as is every change if the window is zero.
+   */
   abstract static class DomainStatusUpdaterStep extends Step {
 
     DomainStatusUpdaterStep(Step next) {
@@ -169,58 +190,154 @@ public class DomainStatusUpdater {
     public NextAction apply(Packet packet) {
       DomainStatusUpdaterContext context = createContext(packet);
       DomainStatus newStatus = context.getNewStatus();
+      if (context.isStatusChanged(newStatus)) {
+        return doNext(packet);
+      }
+
+      boolean isNewFailure = isFailed(newStatus) && !isFailed(context.getStatus());
+      context.getInfo().setPendingStatus(newStatus);
+      if (getStatusUpdateWindowSeconds() <= 0 || isNewFailure) {
+        return doNext(new WriteStatusStep(getNext()), packet);
+      }
 
-      return context.isStatusChanged(newStatus)
-            ? doNext(packet)
-            : doNext(createDomainStatusPatchStep(context, newStatus), packet);
+      scheduleStatusWrite(context.getInfo());
+      return doNext(packet);
     }
 
-    private Step createDomainStatusPatchStep(DomainStatusUpdaterContext context, DomainStatus newStatus) {
-      JsonPatchBuilder builder = Json.createPatchBuilder();
-      newStatus.createPatchFrom(builder, context.getStatus());
-      LOGGER.info(MessageKeys.DOMAIN_STATUS, context.getDomainUid(), newStatus);
+    private boolean isFailed(DomainStatus status) {
+      return status != null && status.hasConditionWith(c -> c.hasType(Failed) && TRUE.equals(c.getStatus()));
+    }
+
+    private void scheduleStatusWrite(DomainPresenceInfo info) {
+      if (!info.setStatusWriteScheduled()) {
+        return;
+      }
 
-      return new CallBuilder().patchDomainAsync(
-            context.getDomainName(),
-            context.getNamespace(),
-            new V1Patch(builder.build().toString()),
-            createResponseStep(context, getNext()));
+      Engine engine = Fiber.current().owner;
+      engine.getExecutor().schedule(
+          () -> {
+            info.clearStatusWriteScheduled();
+            if (info.isNotDeleting()) {
+              engine.createFiber().start(new WriteStatusStep(null), createWritePacket(info), new WriteCallback());
+            }
+          },
+          getStatusUpdateWindowSeconds(),
+          TimeUnit.SECONDS);
     }
 
-    private ResponseStep<Domain> createResponseStep(DomainStatusUpdaterContext context, Step next) {
-      return new PatchResponseStep(this, context, next);
+    private Packet createWritePacket(DomainPresenceInfo info) {
+      Packet packet = new Packet();
+      packet.getComponents().put(DOMAIN_COMPONENT_NAME, Component.createFor(info));
+      return packet;
+    }
+  }
+
+  private static class WriteCallback implements CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+      // no-op
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      LOGGER.severe(MessageKeys.EXCEPTION, throwable);
+    }
+  }
+
+  /**
+   * A step which writes the pending status of the domain, if any, as a single patch computed from the last status
+   * read from the domain.
+   */
+  static class WriteStatusStep extends Step {
+
+    WriteStatusStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      DomainStatus pendingStatus = info.getPendingStatus();
+      Domain domain = info.getDomain();
+      if (pendingStatus == null || domain == null) {
+        return doNext(packet);
+      } else if (pendingStatus.equals(domain.getStatus())) {
+        info.clearPendingStatus(pendingStatus);
+        return doNext(packet);
+      }
+
+      JsonPatchBuilder builder = Json.createPatchBuilder();
+      pendingStatus.createPatchFrom(builder, domain.getStatus());
+      LOGGER.info(MessageKeys.DOMAIN_STATUS, domain.getDomainUid(), pendingStatus);
+
+      return doNext(
+          new CallBuilder().withPriority(RequestPriority.LOW).patchDomainAsync(
+              domain.getMetadata().getName(),
+              domain.getMetadata().getNamespace(),
+              new V1Patch(builder.build().toString()),
+              new PatchResponseStep(info, pendingStatus, getNext())),
+          packet);
     }
   }
 
   static class PatchResponseStep extends DefaultResponseStep<Domain> {
-    private final DomainStatusUpdaterStep updaterStep;
-    private final DomainStatusUpdaterContext context;
+    private final DomainPresenceInfo info;
+    private final DomainStatus writtenStatus;
 
-    public PatchResponseStep(DomainStatusUpdaterStep updaterStep, DomainStatusUpdaterContext context, Step nextStep) {
+    public PatchResponseStep(DomainPresenceInfo info, DomainStatus writtenStatus, Step nextStep) {
       super(nextStep);
-      this.updaterStep = updaterStep;
-      this.context = context;
+      this.info = info;
+      this.writtenStatus = writtenStatus;
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Domain> callResponse) {
+      recordWrittenStatus(callResponse.getResult());
+      info.clearPendingStatus(writtenStatus);
+      return super.onSuccess(packet, callResponse);
+    }
+
+    // The written status becomes the base of the next status change, which would otherwise be computed from the
+    // status before this write, and undo it, if computed before the watch event for the patch arrives. The rest of
+    // the recorded domain is kept, so that watch events for changes made before the patch are still processed.
+    private void recordWrittenStatus(Domain patchedDomain) {
+      Domain current = info.getDomain();
+      if (patchedDomain == null || current == null
+          || KubernetesUtils.isFirstNewer(current.getMetadata(), patchedDomain.getMetadata())) {
+        return;
+      }
+
+      Domain updated = new Domain()
+          .withApiVersion(current.getApiVersion())
+          .withKind(current.getKind())
+          .withMetadata(current.getMetadata())
+          .withSpec(current.getSpec());
+      updated.setStatus(patchedDomain.getStatus());
+      info.setDomain(updated);
     }
 
     @Override
     public NextAction onFailure(Packet packet, CallResponse<Domain> callResponse) {
       if (!isPatchFailure(callResponse)) {
+        // drop the unwritten status, so that the next change is computed from the status last read from the domain
+        info.clearPendingStatus(writtenStatus);
         return super.onFailure(packet, callResponse);
       }
 
-      return doNext(createRetry(context, getNext()), packet);
+      return doNext(createRetry(getNext()), packet);
     }
 
-    public Step createRetry(DomainStatusUpdaterContext context, Step next) {
-      return Step.chain(createDomainRefreshStep(context), updaterStep, next);
+    public Step createRetry(Step next) {
+      return Step.chain(createDomainRefreshStep(), new WriteStatusStep(next));
     }
 
     private boolean isPatchFailure(CallResponse<Domain> callResponse) {
       return callResponse.getStatusCode() == HTTP_INTERNAL_ERROR;
     }
 
-    private Step createDomainRefreshStep(DomainStatusUpdaterContext context) {
-      return new CallBuilder().readDomainAsync(context.getDomainName(), context.getNamespace(), new DomainUpdateStep());
+    private Step createDomainRefreshStep() {
+      return new CallBuilder().withPriority(RequestPriority.LOW).readDomainAsync(
+          info.getDomain().getMetadata().getName(), info.getNamespace(), new DomainUpdateStep());
     }
   }
 
@@ -255,20 +372,13 @@ public class DomainStatusUpdater {
       return newStatus.equals(getStatus());
     }
 
-    private String getNamespace() {
-      return getMetadata().getNamespace();
-    }
-
-    private V1ObjectMeta getMetadata() {
-      return getDomain().getMetadata();
-    }
-
     DomainPresenceInfo getInfo() {
       return info;
     }
 
+    // the most recently computed status, which may not yet have been written to the domain
     DomainStatus getStatus() {
-      return getDomain().getStatus();
+      return Optional.ofNullable(info.getPendingStatus()).orElseGet(() -> getDomain().getStatus());
     }
 
     Domain getDomain() {
@@ -279,10 +389,6 @@ public class DomainStatusUpdater {
       domainStatusUpdaterStep.modifyStatus(status);
     }
 
-    private String getDomainName() {
-      return getMetadata().getName();
-    }
-
     DomainStatus cloneStatus() {
       return Optional.ofNullable(getStatus()).map(DomainStatus::new).orElse(new DomainStatus());
     }
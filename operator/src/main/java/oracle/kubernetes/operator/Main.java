@@ -28,17 +28,21 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
+import javax.management.JMException;
 
 import io.kubernetes.client.openapi.models.V1EventList;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1NamespaceList;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1SecretList;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServiceList;
 import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.RequestCoalescer;
+import oracle.kubernetes.operator.calls.RequestRateLimiter;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.CallBuilderFactory;
 import oracle.kubernetes.operator.helpers.ClientPool;
@@ -46,10 +50,13 @@ import oracle.kubernetes.operator.helpers.ConfigMapHelper;
 import oracle.kubernetes.operator.helpers.CrdHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.HealthCheckHelper;
+import oracle.kubernetes.operator.helpers.HttpClientMetrics;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.helpers.SecretCache;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
+import oracle.kubernetes.operator.http.HttpClientPool;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -60,6 +67,8 @@ import oracle.kubernetes.operator.work.Component;
 import oracle.kubernetes.operator.work.Container;
 import oracle.kubernetes.operator.work.ContainerResolver;
 import oracle.kubernetes.operator.work.Engine;
+import oracle.kubernetes.operator.work.EngineExecutor;
+import oracle.kubernetes.operator.work.EngineMetrics;
 import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.FiberGate;
@@ -80,8 +89,9 @@ public class Main {
 
   private static final Container container = new Container();
   private static final ThreadFactory threadFactory = new WrappedThreadFactory();
+  private static final EngineExecutor engineExecutor = new EngineExecutor("operator");
   private static final ScheduledExecutorService wrappedExecutorService =
-      Engine.wrappedExecutorService("operator", container);
+      Engine.wrappedExecutorService(engineExecutor, container);
   private static final TuningParameters tuningAndConfig;
   private static final CallBuilderFactory callBuilderFactory = new CallBuilderFactory();
   private static Map<String, NamespaceStatus> namespaceStatuses = new ConcurrentHashMap<>();
@@ -91,6 +101,7 @@ public class Main {
   private static final Map<String, EventWatcher> eventWatchers = new ConcurrentHashMap<>();
   private static final Map<String, ServiceWatcher> serviceWatchers = new ConcurrentHashMap<>();
   private static final Map<String, PodWatcher> podWatchers = new ConcurrentHashMap<>();
+  private static final Map<String, SecretWatcher> secretWatchers = new ConcurrentHashMap<>();
   private static NamespaceWatcher namespaceWatcher = null;
   private static Function<String,String> getHelmVariable = System::getenv;
   private static final String operatorNamespace = computeOperatorNamespace();
@@ -116,7 +127,17 @@ public class Main {
 
       TuningParameters.initializeInstance(wrappedExecutorService, "/operator/config");
       tuningAndConfig = TuningParameters.getInstance();
-    } catch (IOException e) {
+      configureEngine();
+      tuningAndConfig.addUpdateListener(Main::configureEngine);
+      RequestRateLimiter.getInstance().setScheduler(wrappedExecutorService);
+      configureRateLimiter();
+      tuningAndConfig.addUpdateListener(Main::configureRateLimiter);
+      tuningAndConfig.addUpdateListener(ClientPool.getInstance()::configure);
+      new EngineMetrics(engineExecutor, engine.getStepRunTimes()).register("operator");
+      RequestRateLimiter.getInstance().register();
+      RequestCoalescer.getInstance().register();
+      new HttpClientMetrics(ClientPool.getInstance()).register();
+    } catch (IOException | JMException e) {
       LOGGER.warning(MessageKeys.EXCEPTION, e);
       throw new RuntimeException(e);
     }
@@ -137,6 +158,21 @@ public class Main {
                 callBuilderFactory));
   }
 
+  private static void configureEngine() {
+    TuningParameters.EngineTuning tuning = tuningAndConfig.getEngineTuning();
+    engineExecutor.configure(
+        tuning.engineThreadCount,
+        tuning.engineMaximumThreadCount,
+        tuning.engineQueueThreshold,
+        tuning.engineThreadKeepAliveSeconds);
+    engine.getStepTrace().setEnabled(tuning.engineStepTraceEnabled);
+  }
+
+  private static void configureRateLimiter() {
+    TuningParameters.CallBuilderTuning tuning = tuningAndConfig.getCallBuilderTuning();
+    RequestRateLimiter.getInstance().configure(tuning.callRequestsPerSecond, tuning.callBurst);
+  }
+
   /**
    * Entry point.
    *
@@ -242,7 +278,10 @@ public class Main {
     podWatchers.remove(ns);
     serviceWatchers.remove(ns);
     configMapWatchers.remove(ns);
+    secretWatchers.remove(ns);
     JobWatcher.removeNamespace(ns);
+    SecretCache.getInstance().removeNamespace(ns);
+    HttpClientPool.getInstance().closeNamespace(ns);
   }
 
   private static void stopNamespaces(Collection<String> targetNamespaces,
@@ -314,6 +353,7 @@ public class Main {
         readExistingPods(ns),
         readExistingEvents(ns),
         readExistingServices(ns),
+        readExistingSecrets(ns),
         readExistingDomains(ns));
   }
 
@@ -328,6 +368,10 @@ public class Main {
         .listServiceAsync(ns, new ServiceListStep(ns));
   }
 
+  private static Step readExistingSecrets(String ns) {
+    return new CallBuilder().listSecretsAsync(ns, new SecretListStep(ns));
+  }
+
   private static Step readExistingEvents(String ns) {
     return new CallBuilder()
         .withFieldSelector(Main.READINESS_PROBE_FAILURE_EVENT_FILTER)
@@ -391,7 +435,7 @@ public class Main {
 
   private static void startRestServer(String principal, Collection<String> targetNamespaces)
       throws Exception {
-    RestServer.create(new RestConfigImpl(principal, targetNamespaces));
+    RestServer.create(new RestConfigImpl(principal, targetNamespaces, engine.getStepTrace()));
     RestServer.getInstance().start(container);
   }
 
@@ -462,6 +506,16 @@ public class Main {
         isNamespaceStopping(ns));
   }
 
+  private static SecretWatcher createSecretWatcher(String ns, String initialResourceVersion) {
+    return SecretWatcher.create(
+        threadFactory,
+        ns,
+        initialResourceVersion,
+        tuningAndConfig.getWatchTuning(),
+        SecretCache.getInstance(),
+        isNamespaceStopping(ns));
+  }
+
   private static DomainWatcher createDomainWatcher(String ns, String initialResourceVersion) {
     return DomainWatcher.create(
         threadFactory,
@@ -765,6 +819,39 @@ public class Main {
     }
   }
 
+  private static class SecretListStep extends ResponseStep<V1SecretList> {
+    private final String ns;
+
+    SecretListStep(String ns) {
+      this.ns = ns;
+    }
+
+    @Override
+    public NextAction onFailure(Packet packet, CallResponse<V1SecretList> callResponse) {
+      return callResponse.getStatusCode() == CallBuilder.NOT_FOUND
+          ? onSuccess(packet, callResponse)
+          : super.onFailure(packet, callResponse);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1SecretList> callResponse) {
+      V1SecretList result = callResponse.getResult();
+
+      if (result != null) {
+        SecretCache.getInstance().replaceNamespace(ns, result.getItems());
+      }
+
+      if (!secretWatchers.containsKey(ns)) {
+        secretWatchers.put(ns, createSecretWatcher(ns, getInitialResourceVersion(result)));
+      }
+      return doNext(packet);
+    }
+
+    private String getInitialResourceVersion(V1SecretList result) {
+      return result != null ? result.getMetadata().getResourceVersion() : "";
+    }
+  }
+
   private static class EventListStep extends ResponseStep<V1EventList> {
     private final String ns;
 
@@ -188,7 +188,7 @@ public class PodWatcher extends Watcher<V1Pod> implements WatchListener<V1Pod>,
     
     @Override
     Step createReadAsyncStep(String name, String namespace, ResponseStep<V1Pod> responseStep) {
-      return new CallBuilder().readPodAsync(name, namespace, responseStep);
+      return new CallBuilder().withCoalescing().readPodAsync(name, namespace, responseStep);
     }
   }
 
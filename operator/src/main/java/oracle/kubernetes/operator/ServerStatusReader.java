@@ -4,13 +4,19 @@
 package oracle.kubernetes.operator;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -31,6 +37,7 @@ import oracle.kubernetes.operator.steps.ReadHealthStep;
 import oracle.kubernetes.operator.utils.KubernetesExec;
 import oracle.kubernetes.operator.utils.KubernetesExecFactory;
 import oracle.kubernetes.operator.utils.KubernetesExecFactoryImpl;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -46,10 +53,30 @@ public class ServerStatusReader {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static KubernetesExecFactory EXEC_FACTORY = new KubernetesExecFactoryImpl();
   private static Function<Step, Step> STEP_FACTORY = ReadHealthStep::createReadHealthStep;
+  private static Function<Step, Step> DOMAIN_HEALTH_STEP_FACTORY = ReadHealthStep::createReadDomainHealthStep;
+  private static final int EXEC_WAIT_THREAD_COUNT = 10;
+  private static final long EXEC_WAIT_KEEP_ALIVE_SECONDS = 60;
+  private static Executor EXEC_WAITER = createExecWaiter();
 
   private ServerStatusReader() {
   }
 
+  // The threads which wait for readState scripts to exit. The pool is bounded, so that many slow pods queue
+  // their reads rather than each occupying a thread, as they would with Process.onExit and the common pool.
+  private static Executor createExecWaiter() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+        EXEC_WAIT_THREAD_COUNT, EXEC_WAIT_THREAD_COUNT, EXEC_WAIT_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), ServerStatusReader::createExecWaitThread);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static Thread createExecWaitThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, "Server state reader");
+    thread.setDaemon(true);
+    return thread;
+  }
+
   static Step createDomainStatusReaderStep(
       DomainPresenceInfo info, long timeoutSeconds, Step next) {
     return new DomainStatusReaderStep(info, timeoutSeconds, next);
@@ -97,11 +124,43 @@ public class ServerStatusReader {
       packet.put(SERVER_STATE_MAP, new ConcurrentHashMap<String, String>());
       packet.put(SERVER_HEALTH_MAP, new ConcurrentHashMap<String, ServerHealth>());
 
+      Step readServers = new ServerStatusForkStep(info, timeoutSeconds, getNext());
+      return doNext(
+          isReadHealthFromAdminServer() ? DOMAIN_HEALTH_STEP_FACTORY.apply(readServers) : readServers, packet);
+    }
+
+    private boolean isReadHealthFromAdminServer() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getMainTuning)
+          .map(main -> main.statusUpdateReadHealthFromAdminServer)
+          .orElse(false);
+    }
+  }
+
+  /**
+   * Reads the state and health of each server with a pod, other than those already reported by the admin server.
+   */
+  private static class ServerStatusForkStep extends Step {
+    private final DomainPresenceInfo info;
+    private final long timeoutSeconds;
+
+    ServerStatusForkStep(DomainPresenceInfo info, long timeoutSeconds, Step next) {
+      super(next);
+      this.info = info;
+      this.timeoutSeconds = timeoutSeconds;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      @SuppressWarnings("unchecked")
+      Map<String, ServerHealth> serverHealthMap = (Map<String, ServerHealth>) packet.get(SERVER_HEALTH_MAP);
+
       AtomicInteger remainingServerHealthToRead = new AtomicInteger();
       packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, remainingServerHealthToRead);
 
       Collection<StepAndPacket> startDetails =
           info.getServerPods()
+              .filter(pod -> !isAlreadyRead(serverHealthMap, pod))
               .map(pod -> createStatusReaderStep(packet, pod))
               .collect(Collectors.toList());
 
@@ -113,6 +172,11 @@ public class ServerStatusReader {
       }
     }
 
+    private boolean isAlreadyRead(Map<String, ServerHealth> serverHealthMap, V1Pod pod) {
+      String serverName = PodHelper.getPodServerName(pod);
+      return serverName != null && serverHealthMap.containsKey(serverName);
+    }
+
     private StepAndPacket createStatusReaderStep(Packet packet, V1Pod pod) {
       return new StepAndPacket(
           createServerStatusReaderStep(info, pod, PodHelper.getPodServerName(pod), timeoutSeconds),
@@ -144,10 +208,12 @@ public class ServerStatusReader {
       TuningParameters.MainTuning main = TuningParameters.getInstance().getMainTuning();
       LastKnownStatus lastKnownStatus = info.getLastKnownServerStatus(serverName);
       if (lastKnownStatus != null
-          && !WebLogicConstants.UNKNOWN_STATE.equals(lastKnownStatus.getStatus())
-          && lastKnownStatus.getUnchangedCount() >= main.unchangedCountToDelayStatusRecheck) {
-        if (DateTime.now()
-            .isBefore(lastKnownStatus.getTime().plusSeconds((int) main.eventualLongDelay))) {
+          && !WebLogicConstants.UNKNOWN_STATE.equals(lastKnownStatus.getStatus())) {
+        long recheckDelay =
+            lastKnownStatus.getRecheckDelaySeconds(
+                main.unchangedCountToDelayStatusRecheck, main.initialShortDelay, main.eventualLongDelay);
+        if (recheckDelay > 0
+            && DateTime.now().isBefore(lastKnownStatus.getTime().plusSeconds((int) recheckDelay))) {
           String state = lastKnownStatus.getStatus();
           serverStateMap.put(serverName, state);
           return doNext(packet);
@@ -160,57 +226,111 @@ public class ServerStatusReader {
         return doNext(packet);
       }
 
+      if (info.getDomain().getServerStateSource() == ServerStateSource.PodAnnotation) {
+        String state = PodHelper.getRecordedServerState(pod);
+        if (state != null) {
+          serverStateMap.put(serverName, chooseStateOrLastKnownServerStatus(lastKnownStatus, state));
+          return doNext(packet);
+        }
+      }
+
+      return doSuspend(fiber -> readStateWithExec(fiber, packet, serverStateMap, lastKnownStatus));
+    }
+
+    // Starts the readState script in the pod, resuming the fiber when the script exits or the timeout expires.
+    // The wait for the script happens on the bounded exec waiter, so that no engine thread is blocked.
+    private void readStateWithExec(
+        Fiber fiber, Packet packet, ConcurrentMap<String, String> serverStateMap, LastKnownStatus lastKnownStatus) {
       // Even though we don't need input data for this call, the API server is
       // returning 400 Bad Request any time we set these to false.  There is likely some bug in the
       // client
       final boolean stdin = true;
       final boolean tty = true;
 
-      return doSuspend(
-          fiber -> {
-            Process proc = null;
-            String state = null;
-            ClientPool helper = ClientPool.getInstance();
-            ApiClient client = helper.take();
-            try {
-              KubernetesExec kubernetesExec = EXEC_FACTORY.create(client, pod, CONTAINER_NAME);
-              kubernetesExec.setStdin(stdin);
-              kubernetesExec.setTty(tty);
-              proc = kubernetesExec.exec("/weblogic-operator/scripts/readState.sh");
-
-              InputStream in = proc.getInputStream();
-              if (proc.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
-                int exitValue = proc.exitValue();
-                if (exitValue == 0) {
-                  try (final Reader reader = new InputStreamReader(in, Charsets.UTF_8)) {
-                    state = CharStreams.toString(reader);
-                  }
-                } else if (exitValue == 1 || exitValue == 2) {
-                  state =
-                      PodHelper.isDeleting(pod)
-                          ? WebLogicConstants.SHUTDOWN_STATE
-                          : WebLogicConstants.STARTING_STATE;
-                } else {
-                  state = WebLogicConstants.UNKNOWN_STATE;
-                }
-              }
-            } catch (InterruptedException ignore) {
-              Thread.currentThread().interrupt();
-            } catch (IOException | ApiException e) {
-              LOGGER.warning(MessageKeys.EXCEPTION, e);
-            } finally {
-              helper.recycle(client);
-              if (proc != null) {
-                proc.destroy();
-              }
-            }
+      ClientPool helper = ClientPool.getInstance();
+      ApiClient client = helper.take();
+      Process proc = null;
+      try {
+        KubernetesExec kubernetesExec = EXEC_FACTORY.create(client, pod, CONTAINER_NAME);
+        kubernetesExec.setStdin(stdin);
+        kubernetesExec.setTty(tty);
+        proc = kubernetesExec.exec("/weblogic-operator/scripts/readState.sh");
+      } catch (IOException | ApiException e) {
+        LOGGER.warning(MessageKeys.EXCEPTION, e);
+      }
+
+      if (proc == null) {
+        helper.recycle(client);
+        resumeWithState(fiber, packet, serverStateMap, lastKnownStatus, null);
+        return;
+      }
 
-            state = chooseStateOrLastKnownServerStatus(lastKnownStatus, state);
-            serverStateMap.put(serverName, state);
-            fiber.resume(packet);
+      Process process = proc;
+      AtomicBoolean didResume = new AtomicBoolean(false);
+      ScheduledFuture<?> timeout =
+          fiber
+              .owner
+              .getExecutor()
+              .schedule(
+                  () -> {
+                    if (didResume.compareAndSet(false, true)) {
+                      releaseExec(helper, client, process);
+                      resumeWithState(fiber, packet, serverStateMap, lastKnownStatus, null);
+                    }
+                  },
+                  timeoutSeconds,
+                  TimeUnit.SECONDS);
+
+      EXEC_WAITER.execute(
+          () -> {
+            String state = didResume.get() ? null : waitForState(process);
+            if (didResume.compareAndSet(false, true)) {
+              timeout.cancel(false);
+              releaseExec(helper, client, process);
+              resumeWithState(fiber, packet, serverStateMap, lastKnownStatus, state);
+            }
           });
     }
 
+    private String waitForState(Process process) {
+      try {
+        return process.waitFor(timeoutSeconds, TimeUnit.SECONDS) ? readState(process) : null;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return null;
+      }
+    }
+
+    private String readState(Process process) {
+      int exitValue = process.exitValue();
+      if (exitValue == 0) {
+        try (final Reader reader = new InputStreamReader(process.getInputStream(), Charsets.UTF_8)) {
+          return CharStreams.toString(reader);
+        } catch (IOException e) {
+          LOGGER.warning(MessageKeys.EXCEPTION, e);
+          return null;
+        }
+      } else if (exitValue == 1 || exitValue == 2) {
+        return PodHelper.isDeleting(pod)
+            ? WebLogicConstants.SHUTDOWN_STATE
+            : WebLogicConstants.STARTING_STATE;
+      } else {
+        return WebLogicConstants.UNKNOWN_STATE;
+      }
+    }
+
+    private void releaseExec(ClientPool helper, ApiClient client, Process process) {
+      helper.recycle(client);
+      process.destroy();
+    }
+
+    private void resumeWithState(
+        Fiber fiber, Packet packet, ConcurrentMap<String, String> serverStateMap,
+        LastKnownStatus lastKnownStatus, String state) {
+      serverStateMap.put(serverName, chooseStateOrLastKnownServerStatus(lastKnownStatus, state));
+      fiber.resume(packet);
+    }
+
     private String chooseStateOrLastKnownServerStatus(
         LastKnownStatus lastKnownStatus, String state) {
       if (state != null) {
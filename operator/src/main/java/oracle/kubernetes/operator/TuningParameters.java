@@ -30,6 +30,17 @@ public interface TuningParameters extends Map<String, String> {
 
   public PodTuning getPodTuning();
 
+  public EngineTuning getEngineTuning();
+
+  public HttpClientTuning getHttpClientTuning();
+
+  /**
+   * Registers an action to run whenever the tuning parameters change.
+   * @param listener the action to run
+   */
+  default void addUpdateListener(Runnable listener) {
+  }
+
   public static class MainTuning {
     public final int domainPresenceFailureRetrySeconds;
     public final int domainPresenceFailureRetryMaxCount;
@@ -39,6 +50,9 @@ public interface TuningParameters extends Map<String, String> {
     public final int unchangedCountToDelayStatusRecheck;
     public final long initialShortDelay;
     public final long eventualLongDelay;
+    public final int statusUpdateWindowSeconds;
+    public final boolean statusUpdateReadHealthFromAdminServer;
+    public final int serverPodReadyTimeoutSeconds;
 
     /**
      * create main tuning.
@@ -50,6 +64,9 @@ public interface TuningParameters extends Map<String, String> {
      * @param unchangedCountToDelayStatusRecheck unchanged count to delay status recheck
      * @param initialShortDelay initial short delay
      * @param eventualLongDelay eventual long delay
+     * @param statusUpdateWindowSeconds minimum interval between domain status writes, or 0 to write each change
+     * @param statusUpdateReadHealthFromAdminServer read the health of all running servers with one admin server call
+     * @param serverPodReadyTimeoutSeconds maximum time a limited server startup waits for a server pod to be ready
      */
     public MainTuning(
         int domainPresenceFailureRetrySeconds,
@@ -59,7 +76,10 @@ public interface TuningParameters extends Map<String, String> {
         int statusUpdateTimeoutSeconds,
         int unchangedCountToDelayStatusRecheck,
         long initialShortDelay,
-        long eventualLongDelay) {
+        long eventualLongDelay,
+        int statusUpdateWindowSeconds,
+        boolean statusUpdateReadHealthFromAdminServer,
+        int serverPodReadyTimeoutSeconds) {
       this.domainPresenceFailureRetrySeconds = domainPresenceFailureRetrySeconds;
       this.domainPresenceFailureRetryMaxCount = domainPresenceFailureRetryMaxCount;
       this.domainPresenceRecheckIntervalSeconds = domainPresenceRecheckIntervalSeconds;
@@ -68,6 +88,9 @@ public interface TuningParameters extends Map<String, String> {
       this.unchangedCountToDelayStatusRecheck = unchangedCountToDelayStatusRecheck;
       this.initialShortDelay = initialShortDelay;
       this.eventualLongDelay = eventualLongDelay;
+      this.statusUpdateWindowSeconds = statusUpdateWindowSeconds;
+      this.statusUpdateReadHealthFromAdminServer = statusUpdateReadHealthFromAdminServer;
+      this.serverPodReadyTimeoutSeconds = serverPodReadyTimeoutSeconds;
     }
 
     @Override
@@ -81,6 +104,9 @@ public interface TuningParameters extends Map<String, String> {
           .append("unchangedCountToDelayStatusRecheck", unchangedCountToDelayStatusRecheck)
           .append("initialShortDelay", initialShortDelay)
           .append("eventualLongDelay", eventualLongDelay)
+          .append("statusUpdateWindowSeconds", statusUpdateWindowSeconds)
+          .append("statusUpdateReadHealthFromAdminServer", statusUpdateReadHealthFromAdminServer)
+          .append("serverPodReadyTimeoutSeconds", serverPodReadyTimeoutSeconds)
           .toString();
     }
 
@@ -95,6 +121,9 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay)
           .append(eventualLongDelay)
+          .append(statusUpdateWindowSeconds)
+          .append(statusUpdateReadHealthFromAdminServer)
+          .append(serverPodReadyTimeoutSeconds)
           .toHashCode();
     }
 
@@ -116,6 +145,9 @@ public interface TuningParameters extends Map<String, String> {
           .append(unchangedCountToDelayStatusRecheck, mt.unchangedCountToDelayStatusRecheck)
           .append(initialShortDelay, mt.initialShortDelay)
           .append(eventualLongDelay, mt.eventualLongDelay)
+          .append(statusUpdateWindowSeconds, mt.statusUpdateWindowSeconds)
+          .append(statusUpdateReadHealthFromAdminServer, mt.statusUpdateReadHealthFromAdminServer)
+          .append(serverPodReadyTimeoutSeconds, mt.serverPodReadyTimeoutSeconds)
           .isEquals();
     }
   }
@@ -124,17 +156,27 @@ public interface TuningParameters extends Map<String, String> {
     public final int callRequestLimit;
     public final int callMaxRetryCount;
     public final int callTimeoutSeconds;
+    public final int callRequestsPerSecond;
+    public final int callBurst;
+    public final boolean callProtobufEnabled;
 
     /**
      * Create call builder tuning.
      * @param callRequestLimit call request limit
      * @param callMaxRetryCount call max retry count
      * @param callTimeoutSeconds call timeout
+     * @param callRequestsPerSecond sustained rate of calls to the API server, or zero for no limit
+     * @param callBurst number of calls which may be sent at once after a quiet period
+     * @param callProtobufEnabled true if core resources should be read and watched in the protobuf encoding
      */
-    public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds) {
+    public CallBuilderTuning(int callRequestLimit, int callMaxRetryCount, int callTimeoutSeconds,
+                             int callRequestsPerSecond, int callBurst, boolean callProtobufEnabled) {
       this.callRequestLimit = callRequestLimit;
       this.callMaxRetryCount = callMaxRetryCount;
       this.callTimeoutSeconds = callTimeoutSeconds;
+      this.callRequestsPerSecond = callRequestsPerSecond;
+      this.callBurst = callBurst;
+      this.callProtobufEnabled = callProtobufEnabled;
     }
 
     @Override
@@ -143,6 +185,9 @@ public interface TuningParameters extends Map<String, String> {
           .append("callRequestLimit", callRequestLimit)
           .append("callMaxRetryCount", callMaxRetryCount)
           .append("callTimeoutSeconds", callTimeoutSeconds)
+          .append("callRequestsPerSecond", callRequestsPerSecond)
+          .append("callBurst", callBurst)
+          .append("callProtobufEnabled", callProtobufEnabled)
           .toString();
     }
 
@@ -152,6 +197,9 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit)
           .append(callMaxRetryCount)
           .append(callTimeoutSeconds)
+          .append(callRequestsPerSecond)
+          .append(callBurst)
+          .append(callProtobufEnabled)
           .toHashCode();
     }
 
@@ -168,6 +216,9 @@ public interface TuningParameters extends Map<String, String> {
           .append(callRequestLimit, cbt.callRequestLimit)
           .append(callMaxRetryCount, cbt.callMaxRetryCount)
           .append(callTimeoutSeconds, cbt.callTimeoutSeconds)
+          .append(callRequestsPerSecond, cbt.callRequestsPerSecond)
+          .append(callBurst, cbt.callBurst)
+          .append(callProtobufEnabled, cbt.callProtobufEnabled)
           .isEquals();
     }
   }
@@ -289,4 +340,140 @@ public interface TuningParameters extends Map<String, String> {
           .isEquals();
     }
   }
+
+  public static class EngineTuning {
+    public final int engineThreadCount;
+    public final int engineMaximumThreadCount;
+    public final int engineQueueThreshold;
+    public final long engineThreadKeepAliveSeconds;
+    public final boolean engineStepTraceEnabled;
+
+    /**
+     * create engine tuning.
+     * @param engineThreadCount number of threads running fibers before further fibers are queued
+     * @param engineMaximumThreadCount number of threads running fibers once the queue reaches its threshold
+     * @param engineQueueThreshold number of queued fibers at which additional threads are started
+     * @param engineThreadKeepAliveSeconds time after which an idle fiber thread is stopped
+     * @param engineStepTraceEnabled true if fibers should record the steps they run in the step trace
+     */
+    public EngineTuning(int engineThreadCount, int engineMaximumThreadCount, int engineQueueThreshold,
+                        long engineThreadKeepAliveSeconds, boolean engineStepTraceEnabled) {
+      this.engineThreadCount = engineThreadCount;
+      this.engineMaximumThreadCount = engineMaximumThreadCount;
+      this.engineQueueThreshold = engineQueueThreshold;
+      this.engineThreadKeepAliveSeconds = engineThreadKeepAliveSeconds;
+      this.engineStepTraceEnabled = engineStepTraceEnabled;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("engineThreadCount", engineThreadCount)
+          .append("engineMaximumThreadCount", engineMaximumThreadCount)
+          .append("engineQueueThreshold", engineQueueThreshold)
+          .append("engineThreadKeepAliveSeconds", engineThreadKeepAliveSeconds)
+          .append("engineStepTraceEnabled", engineStepTraceEnabled)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(engineThreadCount)
+          .append(engineMaximumThreadCount)
+          .append(engineQueueThreshold)
+          .append(engineThreadKeepAliveSeconds)
+          .append(engineStepTraceEnabled)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof EngineTuning)) {
+        return false;
+      }
+      EngineTuning et = (EngineTuning) o;
+      return new EqualsBuilder()
+          .append(engineThreadCount, et.engineThreadCount)
+          .append(engineMaximumThreadCount, et.engineMaximumThreadCount)
+          .append(engineQueueThreshold, et.engineQueueThreshold)
+          .append(engineThreadKeepAliveSeconds, et.engineThreadKeepAliveSeconds)
+          .append(engineStepTraceEnabled, et.engineStepTraceEnabled)
+          .isEquals();
+    }
+  }
+
+  public static class HttpClientTuning {
+    public final int httpMaxRequests;
+    public final int httpMaxRequestsPerHost;
+    public final int httpThreadCount;
+    public final int httpConnectionPoolSize;
+    public final long httpConnectionKeepAliveSeconds;
+    public final boolean httpEnableHttp2;
+
+    /**
+     * create HTTP client tuning.
+     * @param httpMaxRequests maximum number of calls in progress at once
+     * @param httpMaxRequestsPerHost maximum number of calls in progress at once to a single host
+     * @param httpThreadCount maximum number of threads running calls and their callbacks
+     * @param httpConnectionPoolSize maximum number of idle connections kept open
+     * @param httpConnectionKeepAliveSeconds time after which an idle connection is closed
+     * @param httpEnableHttp2 true if calls may be multiplexed over HTTP/2 connections, where the server supports it
+     */
+    public HttpClientTuning(int httpMaxRequests, int httpMaxRequestsPerHost, int httpThreadCount,
+                            int httpConnectionPoolSize, long httpConnectionKeepAliveSeconds, boolean httpEnableHttp2) {
+      this.httpMaxRequests = httpMaxRequests;
+      this.httpMaxRequestsPerHost = httpMaxRequestsPerHost;
+      this.httpThreadCount = httpThreadCount;
+      this.httpConnectionPoolSize = httpConnectionPoolSize;
+      this.httpConnectionKeepAliveSeconds = httpConnectionKeepAliveSeconds;
+      this.httpEnableHttp2 = httpEnableHttp2;
+    }
+
+    @Override
+    public String toString() {
+      return new ToStringBuilder(this)
+          .append("httpMaxRequests", httpMaxRequests)
+          .append("httpMaxRequestsPerHost", httpMaxRequestsPerHost)
+          .append("httpThreadCount", httpThreadCount)
+          .append("httpConnectionPoolSize", httpConnectionPoolSize)
+          .append("httpConnectionKeepAliveSeconds", httpConnectionKeepAliveSeconds)
+          .append("httpEnableHttp2", httpEnableHttp2)
+          .toString();
+    }
+
+    @Override
+    public int hashCode() {
+      return new HashCodeBuilder()
+          .append(httpMaxRequests)
+          .append(httpMaxRequestsPerHost)
+          .append(httpThreadCount)
+          .append(httpConnectionPoolSize)
+          .append(httpConnectionKeepAliveSeconds)
+          .append(httpEnableHttp2)
+          .toHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (o == null) {
+        return false;
+      }
+      if (!(o instanceof HttpClientTuning)) {
+        return false;
+      }
+      HttpClientTuning ht = (HttpClientTuning) o;
+      return new EqualsBuilder()
+          .append(httpMaxRequests, ht.httpMaxRequests)
+          .append(httpMaxRequestsPerHost, ht.httpMaxRequestsPerHost)
+          .append(httpThreadCount, ht.httpThreadCount)
+          .append(httpConnectionPoolSize, ht.httpConnectionPoolSize)
+          .append(httpConnectionKeepAliveSeconds, ht.httpConnectionKeepAliveSeconds)
+          .append(httpEnableHttp2, ht.httpEnableHttp2)
+          .isEquals();
+    }
+  }
 }
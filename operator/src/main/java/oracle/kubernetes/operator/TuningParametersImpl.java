@@ -4,6 +4,8 @@
 package oracle.kubernetes.operator;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -22,6 +24,9 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
   private CallBuilderTuning callBuilder = null;
   private WatchTuning watch = null;
   private PodTuning pod = null;
+  private EngineTuning engine = null;
+  private HttpClientTuning httpClient = null;
+  private final List<Runnable> updateListeners = new CopyOnWriteArrayList<>();
 
   private TuningParametersImpl(ScheduledExecutorService executorService, String mountPoint)
       throws IOException {
@@ -55,13 +60,19 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("statusUpdateTimeoutSeconds", 10),
             (int) readTuningParameter("statusUpdateUnchangedCountToDelayStatusRecheck", 10),
             readTuningParameter("statusUpdateInitialShortDelay", 3),
-            readTuningParameter("statusUpdateEventualLongDelay", 30));
+            readTuningParameter("statusUpdateEventualLongDelay", 30),
+            (int) readTuningParameter("statusUpdateWindowSeconds", 3),
+            readBooleanTuningParameter("statusUpdateReadHealthFromAdminServer", false),
+            (int) readTuningParameter("serverPodReadyTimeoutSeconds", 1800));
 
     CallBuilderTuning callBuilder =
         new CallBuilderTuning(
             (int) readTuningParameter("callRequestLimit", 500),
             (int) readTuningParameter("callMaxRetryCount", 5),
-            (int) readTuningParameter("callTimeoutSeconds", 10));
+            (int) readTuningParameter("callTimeoutSeconds", 10),
+            (int) readTuningParameter("callRequestsPerSecond", 0),
+            (int) readTuningParameter("callBurst", 100),
+            readBooleanTuningParameter("callProtobufEnabled", false));
 
     WatchTuning watch =
         new WatchTuning(
@@ -78,21 +89,64 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
             (int) readTuningParameter("livenessProbePeriodSeconds", 45),
             readTuningParameter("introspectorJobActiveDeadlineSeconds", 120));
 
+    int engineThreadCount = (int) readTuningParameter("engineThreadCount", 10, 1);
+    EngineTuning engine =
+        new EngineTuning(
+            engineThreadCount,
+            (int) readTuningParameter("engineMaximumThreadCount", engineThreadCount, engineThreadCount),
+            (int) readTuningParameter("engineQueueThreshold", 100, 0),
+            readTuningParameter("engineThreadKeepAliveSeconds", 60, 1),
+            readBooleanTuningParameter("engineStepTraceEnabled", false));
+
+    HttpClientTuning httpClient =
+        new HttpClientTuning(
+            (int) readTuningParameter("httpMaxRequests", 128, 1),
+            (int) readTuningParameter("httpMaxRequestsPerHost", 128, 1),
+            (int) readTuningParameter("httpThreadCount", 64, 1),
+            (int) readTuningParameter("httpConnectionPoolSize", 20, 0),
+            readTuningParameter("httpConnectionKeepAliveSeconds", 300, 1),
+            readBooleanTuningParameter("httpEnableHttp2", true));
+
+    boolean changed;
+
     lock.writeLock().lock();
     try {
-      if (!main.equals(this.main)
+      changed = !main.equals(this.main)
           || !callBuilder.equals(this.callBuilder)
           || !watch.equals(this.watch)
-          || !pod.equals(this.pod)) {
+          || !pod.equals(this.pod)
+          || !engine.equals(this.engine)
+          || !httpClient.equals(this.httpClient);
+      if (changed) {
         LOGGER.info(MessageKeys.TUNING_PARAMETERS);
       }
       this.main = main;
       this.callBuilder = callBuilder;
       this.watch = watch;
       this.pod = pod;
+      this.engine = engine;
+      this.httpClient = httpClient;
     } finally {
       lock.writeLock().unlock();
     }
+
+    if (changed) {
+      updateListeners.forEach(this::runUpdateListener);
+    }
+  }
+
+  // a listener which fails is logged, so that the listeners after it still see the new values
+  private void runUpdateListener(Runnable listener) {
+    try {
+      listener.run();
+    } catch (RuntimeException e) {
+      LOGGER.warning(MessageKeys.EXCEPTION, e);
+    }
+  }
+
+  @Override
+  public void addUpdateListener(Runnable listener) {
+    updateListeners.add(listener);
   }
 
   @Override
@@ -134,4 +188,24 @@ public class TuningParametersImpl extends ConfigMapConsumer implements TuningPar
       lock.readLock().unlock();
     }
   }
+
+  @Override
+  public EngineTuning getEngineTuning() {
+    lock.readLock().lock();
+    try {
+      return engine;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  @Override
+  public HttpClientTuning getHttpClientTuning() {
+    lock.readLock().lock();
+    try {
+      return httpClient;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
 }
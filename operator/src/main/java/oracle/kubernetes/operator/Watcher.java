@@ -3,7 +3,6 @@
 
 package oracle.kubernetes.operator;
 
-import java.lang.reflect.Method;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -14,6 +13,7 @@ import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.TuningParameters.WatchTuning;
 import oracle.kubernetes.operator.builders.WatchBuilder;
 import oracle.kubernetes.operator.builders.WatchI;
+import oracle.kubernetes.operator.helpers.ResourceMetadata;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -26,6 +26,11 @@ import static java.net.HttpURLConnection.HTTP_GONE;
  * This class handles the Watching interface and drives the watch support for a specific type of
  * object. It runs in a separate thread to drive watching asynchronously to the main thread.
  *
+ * <p>Each watcher covers a single namespace, because the operator is granted access to the resources of a
+ * namespace only through a role binding in that namespace, and the client reads each watch connection on a
+ * thread of its own. Watches request bookmarks, so that a watch restarted after its lifetime ends resumes from
+ * a recent resource version rather than relisting.
+ *
  * @param <T> The type of the object to be watched.
  */
 abstract class Watcher<T> {
@@ -143,6 +148,7 @@ abstract class Watcher<T> {
         initiateWatch(
             new WatchBuilder()
                 .withResourceVersion(resourceVersion.toString())
+                .withAllowBookmarks(true)
                 .withTimeoutSeconds(tuning.watchLifetime))) {
       while (hasNext(watch)) {
         Watch.Response<T> item = watch.next();
@@ -187,10 +193,14 @@ abstract class Watcher<T> {
     return item.type.equalsIgnoreCase("ERROR");
   }
 
+  private boolean isBookmark(Watch.Response<T> item) {
+    return item.type.equalsIgnoreCase("BOOKMARK");
+  }
+
   private void handleRegularUpdate(Watch.Response<T> item) {
     LOGGER.fine(MessageKeys.WATCH_EVENT, item.type, item.object);
     trackResourceVersion(item.type, item.object);
-    if (listener != null) {
+    if (listener != null && !isBookmark(item)) {
       listener.receivedResponse(item);
     }
   }
@@ -226,8 +236,8 @@ abstract class Watcher<T> {
 
   /**
    * Track resourceVersion and keep highest one for next watch iteration. The resourceVersion is
-   * extracted from the metadata in the class by a getter written to return that information. If the
-   * getter is not defined then the user will get all watches repeatedly.
+   * extracted from the metadata of the object by {@link ResourceMetadata}. If the type has no
+   * metadata then the user will get all watches repeatedly.
    *
    * @param type the type of operation
    * @param object the object that is returned
@@ -247,8 +257,7 @@ abstract class Watcher<T> {
 
   private long getResourceVersionFromMetadata(Object object) {
     try {
-      Method getMetadata = object.getClass().getDeclaredMethod("getMetadata");
-      V1ObjectMeta metadata = (V1ObjectMeta) getMetadata.invoke(object);
+      V1ObjectMeta metadata = ResourceMetadata.getObjectMeta(object);
       String val = metadata.getResourceVersion();
       return !isNullOrEmpty(val) ? Long.parseLong(val) : 0;
     } catch (Exception e) {
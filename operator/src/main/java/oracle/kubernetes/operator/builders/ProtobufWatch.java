@@ -0,0 +1,126 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.builders;
+
+import java.io.IOException;
+import java.util.Iterator;
+import javax.annotation.Nonnull;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.util.Watch;
+import okhttp3.Call;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import oracle.kubernetes.operator.calls.ProtobufCall;
+import oracle.kubernetes.operator.calls.ProtobufCodec;
+import oracle.kubernetes.operator.helpers.Pool;
+
+/**
+ * A watch which asks the server to send its events in the protobuf encoding. The server then sends each event as
+ * a frame holding a four-byte length followed by the encoded event. If the server instead answers in JSON, the
+ * events are read as lines of JSON, as the Kubernetes client does.
+ */
+class ProtobufWatch<T> implements WatchI<T> {
+  private final Pool<ApiClient> pool;
+  private ApiClient client;
+  private final Class<T> type;
+  private final ProtobufCodec codec;
+  private final Gson gson;
+  private final Response response;
+  private final boolean protobuf;
+
+  ProtobufWatch(Pool<ApiClient> pool, ApiClient client, Call call, Class<T> type) throws ApiException {
+    this.pool = pool;
+    this.client = client;
+    this.type = type;
+    this.codec = new ProtobufCodec(client.getJSON());
+    this.gson = client.getJSON().getGson();
+    this.response = execute(client.getHttpClient().newCall(ProtobufCall.acceptProtobuf(call.request())));
+    this.protobuf = ProtobufCodec.isProtobuf(response.header("Content-Type"));
+  }
+
+  private static Response execute(Call call) throws ApiException {
+    Response response;
+    try {
+      response = call.execute();
+    } catch (IOException e) {
+      throw new ApiException(e);
+    }
+
+    if (!response.isSuccessful()) {
+      try (ResponseBody body = response.body()) {
+        String text = body == null ? null : body.string();
+        throw new ApiException(response.message(), response.code(), response.headers().toMultimap(), text);
+      } catch (IOException e) {
+        throw new ApiException(e);
+      }
+    }
+    return response;
+  }
+
+  private BufferedSource getSource() {
+    return response.body().source();
+  }
+
+  @Override
+  public void close() throws IOException {
+    response.close();
+    if (client != null) {
+      pool.recycle(client);
+    }
+  }
+
+  @Override
+  @Nonnull
+  public Iterator<Watch.Response<T>> iterator() {
+    return this;
+  }
+
+  @Override
+  public boolean hasNext() {
+    try {
+      return !getSource().exhausted();
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  @Override
+  public Watch.Response<T> next() {
+    try {
+      return protobuf ? readFrame() : readLine();
+    } catch (IOException e) {
+      client = null;
+      throw new RuntimeException("IO Exception during next method.", e);
+    } catch (RuntimeException e) {
+      client = null;
+      throw e;
+    }
+  }
+
+  private Watch.Response<T> readFrame() throws IOException {
+    int length = getSource().readInt();
+    return codec.decodeWatchEvent(getSource().readByteArray(length), type);
+  }
+
+  private Watch.Response<T> readLine() throws IOException {
+    String line = getSource().readUtf8Line();
+    if (line == null) {
+      throw new RuntimeException("Null response from the server.");
+    }
+
+    JsonObject event = gson.fromJson(line, JsonObject.class);
+    String eventType = event.get("type").getAsString();
+    if ("ERROR".equals(eventType)) {
+      return new Watch.Response<T>(eventType, gson.fromJson(event.get("object"), V1Status.class));
+    } else {
+      return new Watch.Response<T>(eventType, gson.fromJson(event.get("object"), type));
+    }
+  }
+}
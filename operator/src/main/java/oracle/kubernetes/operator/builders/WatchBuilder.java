@@ -5,6 +5,7 @@ package oracle.kubernetes.operator.builders;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 
@@ -17,10 +18,14 @@ import io.kubernetes.client.openapi.models.V1Event;
 import io.kubernetes.client.openapi.models.V1Job;
 import io.kubernetes.client.openapi.models.V1Namespace;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import okhttp3.Call;
 import okhttp3.OkHttpClient;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.calls.MetadataCall;
+import oracle.kubernetes.operator.calls.ProtobufCodec;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.operator.helpers.Pool;
 import oracle.kubernetes.weblogic.domain.api.WeblogicApi;
@@ -33,12 +38,12 @@ public class WatchBuilder {
   /** Ignored for watches. */
   private static final String START_LIST = null;
 
-  private static final Boolean ALLOW_BOOKMARKS = false;
-
   private static WatchFactory FACTORY = new WatchFactoryImpl();
 
   private final CallParamsImpl callParams = new CallParamsImpl();
 
+  private Boolean allowBookmarks = false;
+
   public WatchBuilder() {
   }
 
@@ -139,6 +144,22 @@ public class WatchBuilder {
         new ListNamespacedConfigMapCall(namespace));
   }
 
+  /**
+   * Creates a web hook object to track secrets. Only the metadata of the secrets is requested, so the secrets
+   * reported by the watch normally have no data.
+   *
+   * @param namespace the namespace
+   * @return the active web hook
+   * @throws ApiException if there is an error on the call that sets up the web hook.
+   */
+  public WatchI<V1Secret> createSecretWatch(String namespace) throws ApiException {
+    return FACTORY.createWatch(
+        ClientPool.getInstance(),
+        callParams,
+        V1Secret.class,
+        new ListNamespacedSecretCall(namespace));
+  }
+
   /**
    * Creates a web hook object to track namespace calls.
    *
@@ -191,6 +212,18 @@ public class WatchBuilder {
     return this;
   }
 
+  /**
+   * Requests that the server send BOOKMARK events, which carry only a resource version, so that a watch
+   * restarted after its lifetime expires can resume from a recent version rather than relisting.
+   *
+   * @param allowBookmarks true if bookmark events are wanted
+   * @return the updated builder
+   */
+  public WatchBuilder withAllowBookmarks(Boolean allowBookmarks) {
+    this.allowBookmarks = allowBookmarks;
+    return this;
+  }
+
   public interface WatchFactory {
     <T> WatchI<T> createWatch(
         Pool<ApiClient> pool,
@@ -202,6 +235,7 @@ public class WatchBuilder {
 
   static class WatchFactoryImpl implements WatchFactory {
     @Override
+    @SuppressWarnings("unchecked")
     public <T> WatchI<T> createWatch(
         Pool<ApiClient> pool,
         CallParams callParams,
@@ -210,15 +244,25 @@ public class WatchBuilder {
         throws ApiException {
       ApiClient client = pool.take();
       try {
+        Call call = function.apply(client, callParams);
+        if (isProtobufEnabled() && ProtobufCodec.isSupported(responseBodyType)) {
+          return new ProtobufWatch<>(pool, client, call, (Class<T>) responseBodyType);
+        }
         return new WatchImpl<>(
             pool,
             client,
-            Watch.createWatch(
-                client, function.apply(client, callParams), getType(responseBodyType)));
+            Watch.createWatch(client, call, getType(responseBodyType)));
       } catch (UncheckedApiException e) {
         throw e.getCause();
       }
     }
+
+    private boolean isProtobufEnabled() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(TuningParameters::getCallBuilderTuning)
+          .map(tuning -> tuning.callProtobufEnabled)
+          .orElse(false);
+    }
   }
 
   private class ListNamespacedServiceCall implements BiFunction<ApiClient, CallParams, Call> {
@@ -241,7 +285,7 @@ public class WatchBuilder {
             .listNamespacedServiceCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                allowBookmarks,
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -276,7 +320,7 @@ public class WatchBuilder {
             .listNamespacedPodCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                allowBookmarks,
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -311,7 +355,7 @@ public class WatchBuilder {
             .listNamespacedJobCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                allowBookmarks,
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -346,7 +390,7 @@ public class WatchBuilder {
             .listNamespacedEventCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                allowBookmarks,
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -415,7 +459,7 @@ public class WatchBuilder {
             .listNamespacedConfigMapCall(
                 namespace,
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                allowBookmarks,
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
@@ -430,6 +474,41 @@ public class WatchBuilder {
     }
   }
 
+  private class ListNamespacedSecretCall implements BiFunction<ApiClient, CallParams, Call> {
+    private final String namespace;
+
+    ListNamespacedSecretCall(String namespace) {
+      this.namespace = namespace;
+    }
+
+    @Override
+    public Call apply(ApiClient client, CallParams callParams) {
+      // Ensure that client doesn't time out before call or watch
+      // infinite timeout
+      OkHttpClient httpClient =
+          client.getHttpClient().newBuilder().readTimeout(0, TimeUnit.SECONDS).build();
+      client.setHttpClient(httpClient);
+
+      try {
+        return MetadataCall.acceptMetadata(client, new CoreV1Api(client)
+            .listNamespacedSecretCall(
+                namespace,
+                callParams.getPretty(),
+                allowBookmarks,
+                START_LIST,
+                callParams.getFieldSelector(),
+                callParams.getLabelSelector(),
+                callParams.getLimit(),
+                callParams.getResourceVersion(),
+                callParams.getTimeoutSeconds(),
+                WATCH,
+                null));
+      } catch (ApiException e) {
+        throw new UncheckedApiException(e);
+      }
+    }
+  }
+
   private class ListNamespaceCall implements BiFunction<ApiClient, CallParams, Call> {
 
     @Override
@@ -444,7 +523,7 @@ public class WatchBuilder {
         return new CoreV1Api(client)
             .listNamespaceCall(
                 callParams.getPretty(),
-                ALLOW_BOOKMARKS,
+                allowBookmarks,
                 START_LIST,
                 callParams.getFieldSelector(),
                 callParams.getLabelSelector(),
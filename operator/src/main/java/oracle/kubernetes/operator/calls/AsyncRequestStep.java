@@ -3,12 +3,11 @@
 
 package oracle.kubernetes.operator.calls;
 
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -18,11 +17,13 @@ import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1ListMeta;
 import oracle.kubernetes.operator.helpers.CallBuilder;
 import oracle.kubernetes.operator.helpers.ClientPool;
+import oracle.kubernetes.operator.helpers.ResourceMetadata;
 import oracle.kubernetes.operator.helpers.ResponseStep;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -49,6 +50,8 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
   private final String fieldSelector;
   private final String labelSelector;
   private final String resourceVersion;
+  private final RequestCoalescer coalescer;
+  private final RequestRateLimiter rateLimiter = RequestRateLimiter.getInstance();
   private int timeoutSeconds;
 
   /**
@@ -74,6 +77,35 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
       String fieldSelector,
       String labelSelector,
       String resourceVersion) {
+    this(next, requestParams, factory, helper, timeoutSeconds, maxRetryCount,
+        fieldSelector, labelSelector, resourceVersion, null);
+  }
+
+  /**
+   * Construct async step which shares its call with identical concurrent requests.
+   *
+   * @param next Next
+   * @param requestParams Request parameters
+   * @param factory Factory
+   * @param helper Client pool
+   * @param timeoutSeconds Timeout
+   * @param maxRetryCount Max retry count
+   * @param fieldSelector Field selector
+   * @param labelSelector Label selector
+   * @param resourceVersion Resource version
+   * @param coalescer Coalescer through which to issue the call, or null to issue it directly
+   */
+  public AsyncRequestStep(
+      ResponseStep<T> next,
+      RequestParams requestParams,
+      CallFactory<T> factory,
+      ClientPool helper,
+      int timeoutSeconds,
+      int maxRetryCount,
+      String fieldSelector,
+      String labelSelector,
+      String resourceVersion,
+      RequestCoalescer coalescer) {
     super(next);
     this.helper = helper;
     this.requestParams = requestParams;
@@ -83,27 +115,12 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     this.fieldSelector = fieldSelector;
     this.labelSelector = labelSelector;
     this.resourceVersion = resourceVersion;
+    this.coalescer = coalescer;
     next.setPrevious(this);
   }
 
   private static String accessContinue(Object result) {
-    String cont = "";
-    if (result != null) {
-      try {
-        Method m = result.getClass().getMethod("getMetadata");
-        Object meta = m.invoke(result);
-        if (meta instanceof V1ListMeta) {
-          return ((V1ListMeta) meta).getContinue();
-        }
-      } catch (NoSuchMethodException
-          | SecurityException
-          | IllegalAccessException
-          | IllegalArgumentException
-          | InvocationTargetException e) {
-        // no-op, no-log
-      }
-    }
-    return cont;
+    return Optional.ofNullable(ResourceMetadata.getListMeta(result)).map(V1ListMeta::getContinue).orElse("");
   }
 
   @Override
@@ -150,120 +167,188 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
         resourceVersion);
 
     AtomicBoolean didResume = new AtomicBoolean(false);
-    ApiClient client = helper.take();
     return doSuspend(
         (fiber) -> {
-          ApiCallback<T> callback =
-              new BaseApiCallback<>() {
-                @Override
-                public void onFailure(
-                    ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
-                  if (didResume.compareAndSet(false, true)) {
-                    if (statusCode != CallBuilder.NOT_FOUND) {
-                      LOGGER.info(
-                          MessageKeys.ASYNC_FAILURE,
-                          identityHash(),
-                          ae.getMessage(),
-                          statusCode,
-                          responseHeaders,
-                          requestParams.call,
-                          requestParams.namespace,
-                          requestParams.name,
-                          requestParams.body,
-                          fieldSelector,
-                          labelSelector,
-                          resourceVersion,
-                          ae.getResponseBody());
-                    }
-
-                    helper.recycle(client);
-                    packet
-                        .getComponents()
-                        .put(
-                            RESPONSE_COMPONENT_NAME,
-                            Component.createFor(
-                                RetryStrategy.class,
-                                r,
-                                CallResponse.createFailure(ae, statusCode).withResponseHeaders(responseHeaders)));
-                    fiber.resume(packet);
-                  }
-                }
+          // the timeout runs from the time the call is queued, so that it includes any wait for the rate limiter
+          PendingCall pendingCall = new PendingCall();
+          pendingCall.setTimeout(scheduleTimeout(fiber, packet, r, didResume, pendingCall::cancel));
+          if (coalescer != null) {
+            startCoalescedCall(fiber, packet, r, c, didResume, pendingCall);
+          } else {
+            rateLimiter.acquire(requestParams, fiber.owner.getExecutor(),
+                () -> startUncoalescedCall(fiber, packet, r, c, didResume, pendingCall));
+          }
+        });
+  }
 
-                @Override
-                public void onSuccess(
-                    T result, int statusCode, Map<String, List<String>> responseHeaders) {
-                  if (didResume.compareAndSet(false, true)) {
-                    LOGGER.fine(ASYNC_SUCCESS, identityHash(), requestParams.call, result, statusCode, responseHeaders);
-
-                    helper.recycle(client);
-                    packet
-                        .getComponents()
-                        .put(
-                            RESPONSE_COMPONENT_NAME,
-                            Component.createFor(
-                                CallResponse.createSuccess(result, statusCode).withResponseHeaders(responseHeaders)));
-                    fiber.resume(packet);
-                  }
-                }
-              };
-
-          try {
-            CancellableCall cc = factory.generate(requestParams, client, c, callback);
-
-            // timeout handling
-            fiber
-                .owner
-                .getExecutor()
-                .schedule(
-                    () -> {
-                      if (didResume.compareAndSet(false, true)) {
-                        try {
-                          cc.cancel();
-                        } finally {
-                          LOGGER.fine(
-                              MessageKeys.ASYNC_TIMEOUT,
-                              identityHash(),
-                              requestParams.call,
-                              requestParams.namespace,
-                              requestParams.name,
-                              requestParams.body,
-                              fieldSelector,
-                              labelSelector,
-                              resourceVersion);
-                          packet
-                              .getComponents()
-                              .put(
-                                  RESPONSE_COMPONENT_NAME,
-                                  Component.createFor(RetryStrategy.class, r));
-                          fiber.resume(packet);
-                        }
-                      }
-                    },
-                    timeoutSeconds,
-                    TimeUnit.SECONDS);
-          } catch (Throwable t) {
-            String responseBody = (t instanceof ApiException) ? ((ApiException) t).getResponseBody() : "";
-            LOGGER.warning(
+  private void startUncoalescedCall(
+      Fiber fiber, Packet packet, RetryStrategy r, String cont, AtomicBoolean didResume, PendingCall pendingCall) {
+    if (didResume.get()) {
+      return;
+    }
+
+    ApiClient client = helper.take();
+    ApiCallback<T> callback = createCallback(fiber, packet, r, didResume, pendingCall, () -> helper.recycle(client));
+    startCall(fiber, packet, r, cont, didResume, client, callback, null, pendingCall);
+  }
+
+  private void startCoalescedCall(
+      Fiber fiber, Packet packet, RetryStrategy r, String cont, AtomicBoolean didResume, PendingCall pendingCall) {
+    ApiCallback<T> callback = createCallback(fiber, packet, r, didResume, pendingCall, () -> { });
+    RequestCoalescer.Flight<T> flight = coalescer.join(getCoalescingKey(cont), callback);
+    pendingCall.setCancel(() -> flight.leave(callback));
+    if (flight.isLeader(callback)) {
+      // the leader sends the call even if it has itself timed out, so long as other fibers are waiting for it
+      rateLimiter.acquire(requestParams, fiber.owner.getExecutor(), () -> {
+        ApiClient client = helper.take();
+        startCall(fiber, packet, r, cont, didResume, client, new RecyclingCallback(client, flight), flight, null);
+      });
+    } else {
+      LOGGER.fine(MessageKeys.ASYNC_COALESCED, identityHash(), requestParams.call);
+    }
+  }
+
+  private String getCoalescingKey(String cont) {
+    return String.join("|",
+        requestParams.call,
+        requestParams.namespace,
+        requestParams.name,
+        fieldSelector,
+        labelSelector,
+        resourceVersion,
+        cont);
+  }
+
+  private ApiCallback<T> createCallback(
+      Fiber fiber, Packet packet, RetryStrategy r, AtomicBoolean didResume, PendingCall pendingCall,
+      Runnable release) {
+    return new BaseApiCallback<>() {
+      @Override
+      public void onFailure(
+          ApiException ae, int statusCode, Map<String, List<String>> responseHeaders) {
+        if (didResume.compareAndSet(false, true)) {
+          if (statusCode != CallBuilder.NOT_FOUND) {
+            LOGGER.info(
                 MessageKeys.ASYNC_FAILURE,
-                t.getMessage(),
-                0,
-                null,
-                requestParams,
+                identityHash(),
+                ae.getMessage(),
+                statusCode,
+                responseHeaders,
+                requestParams.call,
                 requestParams.namespace,
                 requestParams.name,
                 requestParams.body,
                 fieldSelector,
                 labelSelector,
                 resourceVersion,
-                responseBody);
-            if (didResume.compareAndSet(false, true)) {
-              packet
-                  .getComponents()
-                  .put(RESPONSE_COMPONENT_NAME, Component.createFor(RetryStrategy.class, r));
-              fiber.resume(packet);
-            }
+                ae.getResponseBody());
           }
-        });
+
+          pendingCall.cancelTimeout();
+          release.run();
+          packet
+              .getComponents()
+              .put(
+                  RESPONSE_COMPONENT_NAME,
+                  Component.createFor(
+                      RetryStrategy.class,
+                      r,
+                      CallResponse.createFailure(ae, statusCode).withResponseHeaders(responseHeaders)));
+          fiber.resume(packet);
+        }
+      }
+
+      @Override
+      public void onSuccess(
+          T result, int statusCode, Map<String, List<String>> responseHeaders) {
+        if (didResume.compareAndSet(false, true)) {
+          LOGGER.fine(ASYNC_SUCCESS, identityHash(), requestParams.call, result, statusCode, responseHeaders);
+
+          pendingCall.cancelTimeout();
+          release.run();
+          packet
+              .getComponents()
+              .put(
+                  RESPONSE_COMPONENT_NAME,
+                  Component.createFor(
+                      CallResponse.createSuccess(result, statusCode).withResponseHeaders(responseHeaders)));
+          fiber.resume(packet);
+        }
+      }
+    };
+  }
+
+  private void startCall(
+      Fiber fiber, Packet packet, RetryStrategy r, String cont, AtomicBoolean didResume,
+      ApiClient client, ApiCallback<T> callback, RequestCoalescer.Flight<T> flight, PendingCall pendingCall) {
+    try {
+      CancellableCall cc = factory.generate(requestParams, client, cont, callback);
+      if (flight == null) {
+        pendingCall.setCancel(cc::cancel);
+      } else {
+        flight.setCall(cc);
+      }
+    } catch (Throwable t) {
+      String responseBody = (t instanceof ApiException) ? ((ApiException) t).getResponseBody() : "";
+      LOGGER.warning(
+          MessageKeys.ASYNC_FAILURE,
+          t.getMessage(),
+          0,
+          null,
+          requestParams,
+          requestParams.namespace,
+          requestParams.name,
+          requestParams.body,
+          fieldSelector,
+          labelSelector,
+          resourceVersion,
+          responseBody);
+      if (flight != null) {
+        flight.abandon(t);
+      }
+      if (didResume.compareAndSet(false, true)) {
+        Optional.ofNullable(pendingCall).ifPresent(PendingCall::cancelTimeout);
+        packet
+            .getComponents()
+            .put(RESPONSE_COMPONENT_NAME, Component.createFor(RetryStrategy.class, r));
+        fiber.resume(packet);
+      }
+    }
+  }
+
+  // timeout handling
+  private ScheduledFuture<?> scheduleTimeout(
+      Fiber fiber, Packet packet, RetryStrategy r, AtomicBoolean didResume, Runnable cancel) {
+    return fiber
+        .owner
+        .getExecutor()
+        .schedule(
+            () -> {
+              if (didResume.compareAndSet(false, true)) {
+                try {
+                  cancel.run();
+                } finally {
+                  LOGGER.fine(
+                      MessageKeys.ASYNC_TIMEOUT,
+                      identityHash(),
+                      requestParams.call,
+                      requestParams.namespace,
+                      requestParams.name,
+                      requestParams.body,
+                      fieldSelector,
+                      labelSelector,
+                      resourceVersion);
+                  packet
+                      .getComponents()
+                      .put(
+                          RESPONSE_COMPONENT_NAME,
+                          Component.createFor(RetryStrategy.class, r));
+                  fiber.resume(packet);
+                }
+              }
+            },
+            timeoutSeconds,
+            TimeUnit.SECONDS);
   }
 
   // creates a unique ID that allows matching requests to responses
@@ -271,6 +356,53 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     return Integer.toHexString(System.identityHashCode(this));
   }
 
+  // the means to abandon a call when its request times out, which is known only once the call has been sent,
+  // and the timeout itself, which is canceled once a response resumes the fiber
+  private static class PendingCall {
+    private Runnable cancel;
+    private boolean canceled;
+    private ScheduledFuture<?> timeout;
+    private boolean timeoutCanceled;
+
+    void setCancel(Runnable cancel) {
+      synchronized (this) {
+        this.cancel = cancel;
+        if (!canceled) {
+          return;
+        }
+      }
+      cancel.run();
+    }
+
+    void cancel() {
+      Runnable toRun;
+      synchronized (this) {
+        canceled = true;
+        toRun = cancel;
+      }
+      Optional.ofNullable(toRun).ifPresent(Runnable::run);
+    }
+
+    void setTimeout(ScheduledFuture<?> timeout) {
+      synchronized (this) {
+        this.timeout = timeout;
+        if (!timeoutCanceled) {
+          return;
+        }
+      }
+      timeout.cancel(false);
+    }
+
+    void cancelTimeout() {
+      ScheduledFuture<?> toCancel;
+      synchronized (this) {
+        timeoutCanceled = true;
+        toCancel = timeout;
+      }
+      Optional.ofNullable(toCancel).ifPresent(future -> future.cancel(false));
+    }
+  }
+
   private abstract static class BaseApiCallback<T> implements ApiCallback<T> {
     @Override
     public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
@@ -283,6 +415,29 @@ public class AsyncRequestStep<T> extends Step implements RetryStrategyListener {
     }
   }
 
+  // returns the client of a coalesced call to the pool before passing its response to the waiting fibers
+  private final class RecyclingCallback extends BaseApiCallback<T> {
+    private final ApiClient client;
+    private final ApiCallback<T> delegate;
+
+    RecyclingCallback(ApiClient client, ApiCallback<T> delegate) {
+      this.client = client;
+      this.delegate = delegate;
+    }
+
+    @Override
+    public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+      helper.recycle(client);
+      delegate.onFailure(e, statusCode, responseHeaders);
+    }
+
+    @Override
+    public void onSuccess(T result, int statusCode, Map<String, List<String>> responseHeaders) {
+      helper.recycle(client);
+      delegate.onSuccess(result, statusCode, responseHeaders);
+    }
+  }
+
   private final class DefaultRetryStrategy implements RetryStrategy {
     private long retryCount = 0;
     private final int maxRetryCount;
@@ -0,0 +1,68 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.Call;
+import okhttp3.Request;
+
+/**
+ * Sends an API call which would normally receive whole resources, asking instead for only their metadata. The
+ * server answers with PartialObjectMetadata objects, which hold the apiVersion, kind and metadata of a resource;
+ * these decode into the usual model class, whose other fields are left unset. A server which cannot return
+ * metadata alone answers with the whole resources, which decode just the same.
+ */
+public class MetadataCall {
+  /** The Accept header of list calls which want only the metadata of the listed resources. */
+  public static final String ACCEPT_LIST = "application/json;as=PartialObjectMetadataList;g=meta.k8s.io;v=v1, "
+      + "application/json";
+
+  /** The Accept header of read and watch calls which want only the metadata of a resource. */
+  public static final String ACCEPT = "application/json;as=PartialObjectMetadata;g=meta.k8s.io;v=v1, application/json";
+
+  private MetadataCall() {
+    // no instances
+  }
+
+  /**
+   * Returns a copy of the specified list request which asks only for the metadata of the listed resources.
+   *
+   * @param request a request built by the Kubernetes client
+   * @return the updated request
+   */
+  public static Request acceptMetadataList(Request request) {
+    return request.newBuilder().header("Accept", ACCEPT_LIST).build();
+  }
+
+  /**
+   * Returns a copy of the specified call which asks only for the metadata of the resources it returns. Used for
+   * watches, whose events each carry a single resource.
+   *
+   * @param client the client with which the call was built
+   * @param jsonCall a call built by the Kubernetes client
+   * @return a new call, which has not been sent
+   */
+  public static Call acceptMetadata(ApiClient client, Call jsonCall) {
+    return client.getHttpClient().newCall(jsonCall.request().newBuilder().header("Accept", ACCEPT).build());
+  }
+
+  /**
+   * Sends the request of the specified list call, asking only for the metadata of the listed resources, and reports
+   * the decoded result to the callback. The specified call itself is never sent.
+   *
+   * @param client the client with which the call was built
+   * @param jsonCall a list call built by the Kubernetes client
+   * @param resultType the model class of the list
+   * @param callback the callback to receive the result
+   * @param <T> the type of the result
+   * @return the call actually sent, which may be used to cancel it
+   */
+  public static <T> Call executeListAsync(
+      ApiClient client, Call jsonCall, Class<T> resultType, ApiCallback<T> callback) {
+    Call call = client.getHttpClient().newCall(acceptMetadataList(jsonCall.request()));
+    client.executeAsync(call, resultType, callback);
+    return call;
+  }
+}
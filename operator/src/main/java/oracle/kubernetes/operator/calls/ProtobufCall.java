@@ -0,0 +1,100 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.ApiException;
+import io.kubernetes.client.openapi.JSON;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+
+/**
+ * Sends an API call which would normally receive JSON, asking instead for the protobuf encoding of the response.
+ * The server may still answer in JSON, for example if it cannot encode the resource as protobuf; the response is
+ * decoded according to its content type, so that the caller receives the same model object in either case.
+ */
+public class ProtobufCall {
+  /** The Accept header of calls which prefer protobuf, but will accept JSON. */
+  public static final String ACCEPT = ProtobufCodec.PROTOBUF_MEDIA_TYPE + ", application/json";
+
+  private ProtobufCall() {
+    // no instances
+  }
+
+  /**
+   * Returns a copy of the specified request which asks for a protobuf response.
+   *
+   * @param request a request built by the Kubernetes client
+   * @return the updated request
+   */
+  public static Request acceptProtobuf(Request request) {
+    return request.newBuilder().header("Accept", ACCEPT).build();
+  }
+
+  /**
+   * Sends the request of the specified call, asking for a protobuf response, and reports the decoded result to the
+   * callback. The specified call itself is never sent.
+   *
+   * @param client the client with which the call was built
+   * @param jsonCall a call built by the Kubernetes client
+   * @param resultType the model class of the response
+   * @param callback the callback to receive the result
+   * @param <T> the type of the result
+   * @return the call actually sent, which may be used to cancel it
+   */
+  public static <T> Call executeAsync(ApiClient client, Call jsonCall, Class<T> resultType, ApiCallback<T> callback) {
+    Call call = client.getHttpClient().newCall(acceptProtobuf(jsonCall.request()));
+    call.enqueue(new ResponseHandler<>(client.getJSON(), resultType, callback));
+    return call;
+  }
+
+  private static class ResponseHandler<T> implements Callback {
+    private final JSON json;
+    private final ProtobufCodec codec;
+    private final Class<T> resultType;
+    private final ApiCallback<T> callback;
+
+    ResponseHandler(JSON json, Class<T> resultType, ApiCallback<T> callback) {
+      this.json = json;
+      this.codec = new ProtobufCodec(json);
+      this.resultType = resultType;
+      this.callback = callback;
+    }
+
+    @Override
+    public void onFailure(Call call, IOException e) {
+      callback.onFailure(new ApiException(e), 0, null);
+    }
+
+    @Override
+    public void onResponse(Call call, Response response) {
+      Map<String, List<String>> headers = response.headers().toMultimap();
+      try (ResponseBody body = response.body()) {
+        byte[] data = body == null ? new byte[0] : body.bytes();
+        boolean protobuf = ProtobufCodec.isProtobuf(response.header("Content-Type"));
+        if (!response.isSuccessful()) {
+          String text = protobuf ? codec.decodeStatusAsJson(data) : new String(data, StandardCharsets.UTF_8);
+          callback.onFailure(
+              new ApiException(response.message(), response.code(), headers, text), response.code(), headers);
+        } else if (protobuf) {
+          callback.onSuccess(codec.decode(data, resultType), response.code(), headers);
+        } else {
+          callback.onSuccess(
+              json.deserialize(new String(data, StandardCharsets.UTF_8), resultType), response.code(), headers);
+        }
+      } catch (IOException | RuntimeException e) {
+        callback.onFailure(new ApiException(e), response.code(), headers);
+      }
+    }
+  }
+}
@@ -0,0 +1,416 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ConfigMap;
+import io.kubernetes.client.openapi.models.V1ConfigMapList;
+import io.kubernetes.client.openapi.models.V1Event;
+import io.kubernetes.client.openapi.models.V1EventList;
+import io.kubernetes.client.openapi.models.V1Job;
+import io.kubernetes.client.openapi.models.V1JobList;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceList;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Runtime;
+import io.kubernetes.client.proto.V1;
+import io.kubernetes.client.proto.V1Batch;
+import io.kubernetes.client.util.Watch;
+
+/**
+ * Decodes the protobuf encoding of core Kubernetes resources into the model classes of the Kubernetes client.
+ * Each protobuf message is converted directly to the tree of JSON elements which the API server would have sent
+ * for it, and Gson then binds that tree to the model class; so that the resulting objects are the same as those
+ * decoded from JSON, the conversion reproduces the JSON conventions of the API types: timestamps, quantities and
+ * int-or-string values are written as strings, embedded structures marked inline are flattened, and scalar fields
+ * holding their zero values are omitted, as the {@code omitempty} JSON tags on most fields do. The scalar fields
+ * of the decoded types which lack that tag are listed, and keep their zero values; so are the optional scalar
+ * fields, which the encoding includes only when they are set, and which then keep their values, even zero ones.
+ *
+ * <p>Only the resource types registered here may be decoded; custom resources, such as domains, have no
+ * protobuf encoding and are always read as JSON.
+ */
+public class ProtobufCodec {
+  /** The media type of the protobuf encoding. */
+  public static final String PROTOBUF_MEDIA_TYPE = "application/vnd.kubernetes.protobuf";
+
+  // the prefix which identifies a protobuf-encoded response body
+  private static final byte[] MAGIC = {0x6b, 0x38, 0x73, 0x00};
+
+  private static final Map<Class<?>, Parser<? extends Message>> PARSERS = new HashMap<>();
+
+  private static final String TIME = "k8s.io.apimachinery.pkg.apis.meta.v1.Time";
+  private static final String MICRO_TIME = "k8s.io.apimachinery.pkg.apis.meta.v1.MicroTime";
+  private static final String FIELDS_V1 = "k8s.io.apimachinery.pkg.apis.meta.v1.FieldsV1";
+  private static final String RAW_EXTENSION = "k8s.io.apimachinery.pkg.runtime.RawExtension";
+  private static final String QUANTITY = "k8s.io.apimachinery.pkg.api.resource.Quantity";
+  private static final String INT_OR_STRING = "k8s.io.apimachinery.pkg.util.intstr.IntOrString";
+
+  // fields holding structures whose own fields appear directly in the enclosing JSON object
+  private static final Set<String> INLINE_FIELDS = Set.of(
+      "k8s.io.api.core.v1.Probe.handler",
+      "k8s.io.api.core.v1.Volume.volumeSource",
+      "k8s.io.api.core.v1.PersistentVolumeSpec.persistentVolumeSource",
+      "k8s.io.api.core.v1.EphemeralContainer.ephemeralContainerCommon");
+
+  // scalar fields of the decoded types whose JSON tags lack omitempty, so that their zero values are written
+  private static final Set<String> NON_OMITEMPTY_FIELDS = Set.of(
+      "k8s.io.api.core.v1.Container.name",
+      "k8s.io.api.core.v1.ContainerPort.containerPort",
+      "k8s.io.api.core.v1.ContainerStateTerminated.exitCode",
+      "k8s.io.api.core.v1.ContainerStatus.name",
+      "k8s.io.api.core.v1.ContainerStatus.ready",
+      "k8s.io.api.core.v1.ContainerStatus.restartCount",
+      "k8s.io.api.core.v1.ContainerStatus.image",
+      "k8s.io.api.core.v1.ContainerStatus.imageID",
+      "k8s.io.api.core.v1.EnvVar.name",
+      "k8s.io.api.core.v1.EphemeralContainerCommon.name",
+      "k8s.io.api.core.v1.EventSeries.count",
+      "k8s.io.api.core.v1.KeyToPath.key",
+      "k8s.io.api.core.v1.KeyToPath.path",
+      "k8s.io.api.core.v1.PodCondition.type",
+      "k8s.io.api.core.v1.PodCondition.status",
+      "k8s.io.api.core.v1.PodReadinessGate.conditionType",
+      "k8s.io.api.core.v1.PreferredSchedulingTerm.weight",
+      "k8s.io.api.core.v1.ServicePort.port",
+      "k8s.io.api.core.v1.TopologySpreadConstraint.maxSkew",
+      "k8s.io.api.core.v1.Volume.name",
+      "k8s.io.api.core.v1.VolumeMount.name",
+      "k8s.io.api.core.v1.VolumeMount.mountPath",
+      "k8s.io.api.core.v1.WeightedPodAffinityTerm.weight",
+      "k8s.io.api.batch.v1.JobCondition.type",
+      "k8s.io.api.batch.v1.JobCondition.status",
+      "k8s.io.apimachinery.pkg.apis.meta.v1.OwnerReference.apiVersion",
+      "k8s.io.apimachinery.pkg.apis.meta.v1.OwnerReference.kind",
+      "k8s.io.apimachinery.pkg.apis.meta.v1.OwnerReference.name",
+      "k8s.io.apimachinery.pkg.apis.meta.v1.OwnerReference.uid");
+
+  // scalar fields of the decoded types which are pointers in the API types; the protobuf encoding includes such a
+  // field only when it is set, and its JSON encoding then writes it even when it holds its zero value
+  private static final Set<String> OPTIONAL_FIELDS = Set.of(
+      "k8s.io.api.core.v1.AzureDiskVolumeSource.readOnly",
+      "k8s.io.api.core.v1.CSIVolumeSource.readOnly",
+      "k8s.io.api.core.v1.ClientIPConfig.timeoutSeconds",
+      "k8s.io.api.core.v1.ConfigMap.immutable",
+      "k8s.io.api.core.v1.ConfigMapEnvSource.optional",
+      "k8s.io.api.core.v1.ConfigMapKeySelector.optional",
+      "k8s.io.api.core.v1.ConfigMapProjection.optional",
+      "k8s.io.api.core.v1.ConfigMapVolumeSource.defaultMode",
+      "k8s.io.api.core.v1.ConfigMapVolumeSource.optional",
+      "k8s.io.api.core.v1.ContainerStatus.started",
+      "k8s.io.api.core.v1.DownwardAPIVolumeFile.mode",
+      "k8s.io.api.core.v1.DownwardAPIVolumeSource.defaultMode",
+      "k8s.io.api.core.v1.KeyToPath.mode",
+      "k8s.io.api.core.v1.PodSecurityContext.fsGroup",
+      "k8s.io.api.core.v1.PodSecurityContext.runAsGroup",
+      "k8s.io.api.core.v1.PodSecurityContext.runAsNonRoot",
+      "k8s.io.api.core.v1.PodSecurityContext.runAsUser",
+      "k8s.io.api.core.v1.PodSpec.activeDeadlineSeconds",
+      "k8s.io.api.core.v1.PodSpec.automountServiceAccountToken",
+      "k8s.io.api.core.v1.PodSpec.enableServiceLinks",
+      "k8s.io.api.core.v1.PodSpec.priority",
+      "k8s.io.api.core.v1.PodSpec.setHostnameAsFQDN",
+      "k8s.io.api.core.v1.PodSpec.shareProcessNamespace",
+      "k8s.io.api.core.v1.PodSpec.terminationGracePeriodSeconds",
+      "k8s.io.api.core.v1.ProjectedVolumeSource.defaultMode",
+      "k8s.io.api.core.v1.SecretEnvSource.optional",
+      "k8s.io.api.core.v1.SecretKeySelector.optional",
+      "k8s.io.api.core.v1.SecretProjection.optional",
+      "k8s.io.api.core.v1.SecretVolumeSource.defaultMode",
+      "k8s.io.api.core.v1.SecretVolumeSource.optional",
+      "k8s.io.api.core.v1.SecurityContext.allowPrivilegeEscalation",
+      "k8s.io.api.core.v1.SecurityContext.privileged",
+      "k8s.io.api.core.v1.SecurityContext.readOnlyRootFilesystem",
+      "k8s.io.api.core.v1.SecurityContext.runAsGroup",
+      "k8s.io.api.core.v1.SecurityContext.runAsNonRoot",
+      "k8s.io.api.core.v1.SecurityContext.runAsUser",
+      "k8s.io.api.core.v1.ServiceAccountTokenProjection.expirationSeconds",
+      "k8s.io.api.core.v1.Toleration.tolerationSeconds",
+      "k8s.io.api.batch.v1.JobSpec.activeDeadlineSeconds",
+      "k8s.io.api.batch.v1.JobSpec.backoffLimit",
+      "k8s.io.api.batch.v1.JobSpec.completions",
+      "k8s.io.api.batch.v1.JobSpec.manualSelector",
+      "k8s.io.api.batch.v1.JobSpec.parallelism",
+      "k8s.io.api.batch.v1.JobSpec.ttlSecondsAfterFinished",
+      "k8s.io.apimachinery.pkg.apis.meta.v1.ListMeta.remainingItemCount",
+      "k8s.io.apimachinery.pkg.apis.meta.v1.ObjectMeta.deletionGracePeriodSeconds",
+      "k8s.io.apimachinery.pkg.apis.meta.v1.OwnerReference.blockOwnerDeletion",
+      "k8s.io.apimachinery.pkg.apis.meta.v1.OwnerReference.controller");
+
+  static {
+    PARSERS.put(V1Pod.class, V1.Pod.parser());
+    PARSERS.put(V1PodList.class, V1.PodList.parser());
+    PARSERS.put(V1Service.class, V1.Service.parser());
+    PARSERS.put(V1ServiceList.class, V1.ServiceList.parser());
+    PARSERS.put(V1Event.class, V1.Event.parser());
+    PARSERS.put(V1EventList.class, V1.EventList.parser());
+    PARSERS.put(V1ConfigMap.class, V1.ConfigMap.parser());
+    PARSERS.put(V1ConfigMapList.class, V1.ConfigMapList.parser());
+    PARSERS.put(V1Job.class, V1Batch.Job.parser());
+    PARSERS.put(V1JobList.class, V1Batch.JobList.parser());
+    PARSERS.put(V1Status.class, Meta.Status.parser());
+  }
+
+  private final Gson gson;
+
+  public ProtobufCodec(JSON json) {
+    this.gson = json.getGson();
+  }
+
+  /**
+   * Returns true if resources of the specified type may be decoded from protobuf.
+   *
+   * @param type a model class
+   * @return true if the type has a protobuf encoding
+   */
+  public static boolean isSupported(Class<?> type) {
+    return PARSERS.containsKey(type);
+  }
+
+  /**
+   * Returns true if the specified content type is that of the protobuf encoding.
+   *
+   * @param contentType the value of a Content-Type header, or null
+   * @return true if the content is protobuf-encoded
+   */
+  public static boolean isProtobuf(String contentType) {
+    return contentType != null && contentType.startsWith(PROTOBUF_MEDIA_TYPE);
+  }
+
+  /**
+   * Decodes a resource from a response body sent by the API server.
+   *
+   * @param data the response body, including the protobuf envelope
+   * @param type the model class of the resource
+   * @param <T> the type of the resource
+   * @return the decoded resource
+   * @throws InvalidProtocolBufferException if the body is not a valid encoding of the resource
+   */
+  public <T> T decode(byte[] data, Class<T> type) throws InvalidProtocolBufferException {
+    return gson.fromJson(toJson(data, type), type);
+  }
+
+  /**
+   * Decodes a status from the body of a failure response, and returns it as JSON, so that it may be examined as
+   * any other failure response is.
+   *
+   * @param data the response body, including the protobuf envelope
+   * @return the JSON encoding of the status
+   * @throws InvalidProtocolBufferException if the body is not a valid encoding of a status
+   */
+  public String decodeStatusAsJson(byte[] data) throws InvalidProtocolBufferException {
+    return gson.toJson(toJson(data, V1Status.class));
+  }
+
+  /**
+   * Decodes an event from a protobuf watch stream.
+   *
+   * @param frame the content of one frame of the stream
+   * @param type the model class of the watched resources
+   * @param <T> the type of the watched resources
+   * @return the watch response
+   * @throws InvalidProtocolBufferException if the frame is not a valid encoding of a watch event
+   */
+  public <T> Watch.Response<T> decodeWatchEvent(byte[] frame, Class<T> type) throws InvalidProtocolBufferException {
+    Meta.WatchEvent event =
+        hasMagic(frame) ? Meta.WatchEvent.parseFrom(readEnvelope(frame).getRaw()) : Meta.WatchEvent.parseFrom(frame);
+    byte[] object = event.getObject().getRaw().toByteArray();
+    if ("ERROR".equals(event.getType())) {
+      return new Watch.Response<T>(event.getType(), decode(object, V1Status.class));
+    } else {
+      return new Watch.Response<T>(event.getType(), decode(object, type));
+    }
+  }
+
+  private JsonObject toJson(byte[] data, Class<?> type) throws InvalidProtocolBufferException {
+    Runtime.Unknown envelope = readEnvelope(data);
+    JsonObject json = (JsonObject) toJson(getParser(type).parseFrom(envelope.getRaw()));
+    addIfSet(json, "apiVersion", envelope.getTypeMeta().getApiVersion());
+    addIfSet(json, "kind", envelope.getTypeMeta().getKind());
+    return json;
+  }
+
+  private Parser<? extends Message> getParser(Class<?> type) {
+    Parser<? extends Message> parser = PARSERS.get(type);
+    if (parser == null) {
+      throw new IllegalArgumentException("No protobuf encoding for " + type.getName());
+    }
+    return parser;
+  }
+
+  private static boolean hasMagic(byte[] data) {
+    return data.length >= MAGIC.length && Arrays.equals(MAGIC, 0, MAGIC.length, data, 0, MAGIC.length);
+  }
+
+  private static Runtime.Unknown readEnvelope(byte[] data) throws InvalidProtocolBufferException {
+    if (!hasMagic(data)) {
+      throw new InvalidProtocolBufferException("Response body is not a protobuf-encoded Kubernetes object");
+    }
+    return Runtime.Unknown.parser().parseFrom(data, MAGIC.length, data.length - MAGIC.length);
+  }
+
+  private static void addIfSet(JsonObject json, String name, String value) {
+    if (!value.isEmpty()) {
+      json.addProperty(name, value);
+    }
+  }
+
+  /**
+   * Converts a protobuf message to the JSON tree of the equivalent API object.
+   *
+   * @param message a message representing an API object or one of its parts
+   * @return the JSON representation
+   */
+  JsonElement toJson(Message message) {
+    switch (message.getDescriptorForType().getFullName()) {
+      case TIME:
+      case MICRO_TIME:
+        return toTimestamp(message);
+      case QUANTITY:
+        return new JsonPrimitive((String) getFirstField(message));
+      case INT_OR_STRING:
+        return toIntOrString(message);
+      case RAW_EXTENSION:
+      case FIELDS_V1:
+        return toRawJson((ByteString) getFirstField(message));
+      default:
+        JsonObject json = new JsonObject();
+        addFields(json, message);
+        return json;
+    }
+  }
+
+  private void addFields(JsonObject json, Message message) {
+    for (Map.Entry<FieldDescriptor, Object> entry : message.getAllFields().entrySet()) {
+      FieldDescriptor field = entry.getKey();
+      if (INLINE_FIELDS.contains(field.getFullName())) {
+        addFields(json, (Message) entry.getValue());
+      } else if (field.isMapField()) {
+        json.add(field.getName(), toJsonMap((List<?>) entry.getValue()));
+      } else if (field.isRepeated()) {
+        json.add(field.getName(), toJsonArray(field, (List<?>) entry.getValue()));
+      } else if (!isOmittedZeroScalar(field, entry.getValue())) {
+        JsonElement value = toJsonValue(field, entry.getValue());
+        if (!value.isJsonNull()) {
+          json.add(field.getName(), value);
+        }
+      }
+    }
+  }
+
+  // Go's JSON encoding omits the zero values of fields tagged omitempty, but its protobuf encoding always includes
+  // them, so that without this check a pod would be decoded with empty strings and zero ports in place of nulls.
+  // Only the fields present in the message are examined, so an optional field is written whenever it was set,
+  // as with automountServiceAccountToken set to false or runAsUser set to zero.
+  private boolean isOmittedZeroScalar(FieldDescriptor field, Object value) {
+    return !NON_OMITEMPTY_FIELDS.contains(field.getFullName())
+        && !OPTIONAL_FIELDS.contains(field.getFullName())
+        && isZeroScalar(field, value);
+  }
+
+  private boolean isZeroScalar(FieldDescriptor field, Object value) {
+    switch (field.getJavaType()) {
+      case STRING:
+        return ((String) value).isEmpty();
+      case BYTE_STRING:
+        return ((ByteString) value).isEmpty();
+      case BOOLEAN:
+        return !((Boolean) value);
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+        return ((Number) value).doubleValue() == 0;
+      default:
+        return false;
+    }
+  }
+
+  private JsonArray toJsonArray(FieldDescriptor field, List<?> values) {
+    JsonArray array = new JsonArray();
+    for (Object value : values) {
+      array.add(toJsonValue(field, value));
+    }
+    return array;
+  }
+
+  // a map field is a repeated field of entries, each a message with a key field and a value field
+  private JsonObject toJsonMap(List<?> entries) {
+    JsonObject map = new JsonObject();
+    for (Object entry : entries) {
+      Message message = (Message) entry;
+      FieldDescriptor keyField = message.getDescriptorForType().findFieldByNumber(1);
+      FieldDescriptor valueField = message.getDescriptorForType().findFieldByNumber(2);
+      map.add((String) message.getField(keyField), toJsonValue(valueField, message.getField(valueField)));
+    }
+    return map;
+  }
+
+  private JsonElement toJsonValue(FieldDescriptor field, Object value) {
+    switch (field.getJavaType()) {
+      case MESSAGE:
+        return toJson((Message) value);
+      case BYTE_STRING:
+        return new JsonPrimitive(Base64.getEncoder().encodeToString(((ByteString) value).toByteArray()));
+      case BOOLEAN:
+        return new JsonPrimitive((Boolean) value);
+      case STRING:
+        return new JsonPrimitive((String) value);
+      case ENUM:
+        return new JsonPrimitive(((EnumValueDescriptor) value).getName());
+      default:
+        return new JsonPrimitive((Number) value);
+    }
+  }
+
+  private Object getFirstField(Message message) {
+    return message.getField(message.getDescriptorForType().getFields().get(0));
+  }
+
+  // the zero time is written as null in JSON
+  private JsonElement toTimestamp(Message message) {
+    long seconds = (Long) message.getField(message.getDescriptorForType().findFieldByName("seconds"));
+    int nanos = (Integer) message.getField(message.getDescriptorForType().findFieldByName("nanos"));
+    if (seconds == 0 && nanos == 0) {
+      return JsonNull.INSTANCE;
+    }
+    return new JsonPrimitive(Instant.ofEpochSecond(seconds, nanos).toString());
+  }
+
+  private JsonElement toIntOrString(Message message) {
+    long type = (Long) message.getField(message.getDescriptorForType().findFieldByName("type"));
+    if (type == 0) {
+      return new JsonPrimitive((Integer) message.getField(message.getDescriptorForType().findFieldByName("intVal")));
+    } else {
+      return new JsonPrimitive((String) message.getField(message.getDescriptorForType().findFieldByName("strVal")));
+    }
+  }
+
+  private JsonElement toRawJson(ByteString raw) {
+    return raw.isEmpty() ? JsonNull.INSTANCE : gson.fromJson(raw.toStringUtf8(), JsonElement.class);
+  }
+}
@@ -0,0 +1,219 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiException;
+
+/**
+ * Shares a single in-flight Kubernetes read among all of the fibers which request it at the same time. The first
+ * request for a given call, namespace, name, selectors and continuation issues the call; identical requests made
+ * before it completes wait for its response instead of issuing their own. Every waiting fiber is resumed with the
+ * same response, so its result must be treated as read-only.
+ *
+ * <p>Each waiting fiber keeps its own timeout. A fiber which times out stops waiting without affecting the others;
+ * the call is canceled only once no fiber is waiting for it.
+ *
+ * <p>The numbers of calls issued and of requests coalesced are reported through {@link RequestCoalescerMXBean}.
+ */
+public class RequestCoalescer implements RequestCoalescerMXBean {
+  private static final String OBJECT_NAME = "oracle.kubernetes.operator:type=RequestCoalescer";
+  private static final RequestCoalescer INSTANCE = new RequestCoalescer();
+
+  private final Map<String, Flight<?>> flights = new ConcurrentHashMap<>();
+  private final LongAdder issuedCount = new LongAdder();
+  private final LongAdder coalescedCount = new LongAdder();
+
+  RequestCoalescer() {
+  }
+
+  public static RequestCoalescer getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Registers the metrics of this coalescer with the platform MBean server.
+   *
+   * @throws JMException if the registration fails
+   */
+  public void register() throws JMException {
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+  }
+
+  /**
+   * Returns true if the specified request may be coalesced with identical requests. Only reads and lists,
+   * which have no side effects, may be.
+   *
+   * @param requestParams the parameters of a request
+   * @return true if the request is an idempotent read
+   */
+  public static boolean isCoalescible(RequestParams requestParams) {
+    return requestParams.body == null
+        && (requestParams.call.startsWith("read") || requestParams.call.startsWith("list"));
+  }
+
+  /**
+   * Returns the number of calls actually issued to the API server through this coalescer.
+   *
+   * @return a call count
+   */
+  @Override
+  public long getIssuedCount() {
+    return issuedCount.sum();
+  }
+
+  /**
+   * Returns the number of requests which were satisfied by sharing a call issued for another request.
+   *
+   * @return a request count
+   */
+  @Override
+  public long getCoalescedCount() {
+    return coalescedCount.sum();
+  }
+
+  /**
+   * Adds a callback to the in-flight call with the specified key, or creates a new flight for it if there is none.
+   * If the callback is the {@link Flight#isLeader(ApiCallback) leader} of the returned flight, the caller must
+   * issue the call, passing the flight as its callback.
+   *
+   * @param key a key which identifies identical requests
+   * @param callback the callback to receive the response
+   * @param <T> the type of the response
+   * @return the flight which the callback has joined
+   */
+  @SuppressWarnings("unchecked")
+  <T> Flight<T> join(String key, ApiCallback<T> callback) {
+    Flight<T> flight = (Flight<T>) flights.compute(
+        key, (k, current) -> current != null ? ((Flight<T>) current).add(callback) : new Flight<>(k, callback));
+    if (flight.isLeader(callback)) {
+      issuedCount.increment();
+    } else {
+      coalescedCount.increment();
+    }
+    return flight;
+  }
+
+  class Flight<T> implements ApiCallback<T> {
+    private final String key;
+    private final ApiCallback<T> leader;
+    private final List<ApiCallback<T>> waiters = new ArrayList<>();
+    private CancellableCall call;
+    private boolean canceled;
+
+    Flight(String key, ApiCallback<T> leader) {
+      this.key = key;
+      this.leader = leader;
+      waiters.add(leader);
+    }
+
+    private synchronized Flight<T> add(ApiCallback<T> callback) {
+      waiters.add(callback);
+      return this;
+    }
+
+    boolean isLeader(ApiCallback<T> callback) {
+      return leader == callback;
+    }
+
+    ApiCallback<T> getLeader() {
+      return leader;
+    }
+
+    /**
+     * Records the call issued for this flight, so that it may be canceled if every waiter times out.
+     *
+     * @param call the issued call
+     */
+    void setCall(CancellableCall call) {
+      boolean cancelNow;
+      synchronized (this) {
+        this.call = call;
+        cancelNow = canceled;
+      }
+      if (cancelNow) {
+        call.cancel();
+      }
+    }
+
+    /**
+     * Stops delivering the response to the specified callback. If no other callback is waiting, the flight is
+     * abandoned and its call canceled.
+     *
+     * @param callback a callback which no longer needs the response
+     */
+    void leave(ApiCallback<T> callback) {
+      // remove the waiter under the map's lock for the key, so that no new waiter can join an abandoned flight
+      flights.computeIfPresent(key, (k, current) -> current != this || removeWaiter(callback) ? current : null);
+
+      CancellableCall toCancel;
+      synchronized (this) {
+        toCancel = canceled ? call : null;
+      }
+      Optional.ofNullable(toCancel).ifPresent(CancellableCall::cancel);
+    }
+
+    // returns true if other waiters remain
+    private synchronized boolean removeWaiter(ApiCallback<T> callback) {
+      waiters.remove(callback);
+      canceled = waiters.isEmpty();
+      return !canceled;
+    }
+
+    /**
+     * Abandons this flight because its call could not be issued, reporting a failure to every waiter other
+     * than the leader, which handles the failure itself.
+     *
+     * @param throwable the reason that the call could not be issued
+     */
+    void abandon(Throwable throwable) {
+      ApiException failure =
+          throwable instanceof ApiException ? (ApiException) throwable : new ApiException(throwable);
+      for (ApiCallback<T> waiter : complete()) {
+        if (!isLeader(waiter)) {
+          waiter.onFailure(failure, 0, null);
+        }
+      }
+    }
+
+    private List<ApiCallback<T>> complete() {
+      flights.remove(key, this);
+      synchronized (this) {
+        List<ApiCallback<T>> result = new ArrayList<>(waiters);
+        waiters.clear();
+        return result;
+      }
+    }
+
+    @Override
+    public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+      complete().forEach(waiter -> waiter.onFailure(e, statusCode, responseHeaders));
+    }
+
+    @Override
+    public void onSuccess(T result, int statusCode, Map<String, List<String>> responseHeaders) {
+      complete().forEach(waiter -> waiter.onSuccess(result, statusCode, responseHeaders));
+    }
+
+    @Override
+    public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+      // no-op
+    }
+
+    @Override
+    public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+      // no-op
+    }
+  }
+}
@@ -0,0 +1,15 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+/**
+ * Management interface reporting how many Kubernetes reads the {@link RequestCoalescer} issued, and how many
+ * requests it satisfied by sharing one of those reads.
+ */
+public interface RequestCoalescerMXBean {
+
+  long getIssuedCount();
+
+  long getCoalescedCount();
+}
@@ -11,6 +11,7 @@ public final class RequestParams {
   public final String name;
   public final Object body;
   private CallParams callParams;
+  private RequestPriority priority;
 
   /**
    * Construct request params.
@@ -46,4 +47,18 @@ public final class RequestParams {
   public String getLabelSelector() {
     return callParams.getLabelSelector();
   }
+
+  /**
+   * Sets the priority with which this request waits for the {@link RequestRateLimiter}.
+   * @param priority priority, or null to use the default for the call
+   * @return these request params
+   */
+  public RequestParams withPriority(RequestPriority priority) {
+    this.priority = priority;
+    return this;
+  }
+
+  public RequestPriority getPriority() {
+    return priority != null ? priority : RequestPriority.forCall(call);
+  }
 }
@@ -0,0 +1,44 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+/**
+ * The priority lanes in which the {@link RequestRateLimiter} queues calls to the Kubernetes API while they wait
+ * for a permit. When calls are waiting in several lanes, each lane in turn is granted up to its weight in permits,
+ * so that a higher lane is served first, but a busy one cannot starve those below it.
+ */
+public enum RequestPriority {
+  /** Deletes and explicit scaling requests. */
+  HIGH(4),
+  /** The calls which bring domains to their desired state. */
+  NORMAL(2),
+  /** Domain status updates and other calls which only report state. */
+  LOW(1);
+
+  private final int weight;
+
+  RequestPriority(int weight) {
+    this.weight = weight;
+  }
+
+  int getWeight() {
+    return weight;
+  }
+
+  /**
+   * Returns the default priority for the specified call.
+   *
+   * @param call the name of a call, as recorded in its {@link RequestParams}
+   * @return a priority
+   */
+  static RequestPriority forCall(String call) {
+    if (call.startsWith("delete")) {
+      return HIGH;
+    } else if (call.endsWith("Status") || call.equals("readPodLog")) {
+      return LOW;
+    } else {
+      return NORMAL;
+    }
+  }
+}
@@ -0,0 +1,313 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import io.kubernetes.client.openapi.ApiException;
+import oracle.kubernetes.operator.work.Fiber;
+
+/**
+ * Limits the rate at which the operator sends calls to the Kubernetes API server, using a token bucket which
+ * refills at the configured number of permits per second, up to the configured burst. A call which finds no
+ * permit available waits in the lane for its {@link RequestPriority}; within a lane, waiting calls are granted
+ * permits in turn by namespace, so that a burst of calls for one namespace cannot starve the others.
+ *
+ * <p>The limiter is disabled until {@link #configure(int, int) configured} with a positive rate. Waiting calls
+ * are released by the timer of the executor set with {@link #setScheduler(ScheduledExecutorService)}.
+ */
+public class RequestRateLimiter implements RequestRateLimiterMXBean {
+  private static final String OBJECT_NAME = "oracle.kubernetes.operator:type=RequestRateLimiter";
+  private static final RequestRateLimiter INSTANCE = new RequestRateLimiter(System::nanoTime, null);
+
+  private final LongSupplier clock;
+  private final Map<RequestPriority, Lane> lanes = new EnumMap<>(RequestPriority.class);
+  private DrainScheduler scheduler;
+
+  private int permitsPerSecond;
+  private int burst;
+  private double permits;
+  private long lastRefillNanos;
+  private int numWaiting;
+  private boolean drainScheduled;
+
+  // the lane currently being served, and the number of permits it may still be granted in its turn
+  private RequestPriority currentLane = RequestPriority.HIGH;
+  private int credits = RequestPriority.HIGH.getWeight();
+
+  /**
+   * Creates a rate limiter.
+   *
+   * @param clock the source of the current time, in nanoseconds
+   * @param scheduler the scheduler with which to grant permits to waiting calls, or null if not yet set
+   */
+  RequestRateLimiter(LongSupplier clock, DrainScheduler scheduler) {
+    this.clock = clock;
+    this.scheduler = scheduler;
+    this.lastRefillNanos = clock.getAsLong();
+    for (RequestPriority priority : RequestPriority.values()) {
+      lanes.put(priority, new Lane());
+    }
+  }
+
+  public static RequestRateLimiter getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Registers the metrics of this limiter with the platform MBean server.
+   *
+   * @throws JMException if the registration fails
+   */
+  public void register() throws JMException {
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+  }
+
+  /**
+   * Sets the executor whose timer grants permits to waiting calls. Must be set before a rate is configured.
+   *
+   * @param executor a scheduled executor
+   */
+  public synchronized void setScheduler(ScheduledExecutorService executor) {
+    scheduler = (command, delayNanos) -> executor.schedule(command, delayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Sets the rate at which permits are issued.
+   *
+   * @param permitsPerSecond the sustained number of calls per second, or zero for no limit
+   * @param burst the number of calls which may be sent at once after a quiet period
+   */
+  public void configure(int permitsPerSecond, int burst) {
+    synchronized (this) {
+      refill();
+      boolean wasEnabled = isEnabled();
+      this.permitsPerSecond = Math.max(0, permitsPerSecond);
+      this.burst = Math.max(1, burst);
+      permits = wasEnabled ? Math.min(permits, this.burst) : this.burst;
+    }
+    drain();
+  }
+
+  private boolean isEnabled() {
+    return permitsPerSecond > 0;
+  }
+
+  /**
+   * Runs the specified command once a permit is available for the specified request. If one is available now,
+   * runs it on the calling thread; otherwise, queues it and later runs it with the specified executor.
+   *
+   * @param requestParams the parameters of the request
+   * @param executor the executor with which to run the command, if it must wait
+   * @param command the command which sends the request
+   */
+  public void acquire(RequestParams requestParams, Executor executor, Runnable command) {
+    synchronized (this) {
+      if (numWaiting > 0 || !tryTakePermit()) {
+        lanes.get(requestParams.getPriority()).add(requestParams.namespace, new Waiter(executor, command));
+        numWaiting++;
+        scheduleDrain();
+        return;
+      }
+    }
+    command.run();
+  }
+
+  /**
+   * Blocks the calling thread until a permit is available for the specified request, or until the request times
+   * out. A fiber's thread is not blocked: the request is charged against the limit without waiting, so that the
+   * calls which follow it wait longer instead.
+   *
+   * @param requestParams the parameters of the request
+   * @param timeoutSeconds the time which the request may take, measured from this call
+   * @throws ApiException if interrupted or timed out while waiting
+   */
+  public void acquireBlocking(RequestParams requestParams, int timeoutSeconds) throws ApiException {
+    if (Fiber.getCurrentIfSet() != null) {
+      takePermitWithoutWaiting();
+      return;
+    }
+
+    CountDownLatch granted = new CountDownLatch(1);
+    acquire(requestParams, Runnable::run, granted::countDown);
+    try {
+      if (!granted.await(timeoutSeconds, TimeUnit.SECONDS)) {
+        throw new ApiException(0, "Timed out waiting to send " + requestParams.call);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ApiException(e);
+    }
+  }
+
+  private synchronized void takePermitWithoutWaiting() {
+    if (isEnabled()) {
+      refill();
+      permits--;
+    }
+  }
+
+  private boolean tryTakePermit() {
+    if (!isEnabled()) {
+      return true;
+    }
+    refill();
+    if (permits < 1) {
+      return false;
+    }
+    permits--;
+    return true;
+  }
+
+  private void refill() {
+    long now = clock.getAsLong();
+    if (isEnabled()) {
+      permits = Math.min(burst, permits + (now - lastRefillNanos) * (double) permitsPerSecond / 1e9);
+    }
+    lastRefillNanos = now;
+  }
+
+  private void scheduleDrain() {
+    if (!drainScheduled) {
+      drainScheduled = true;
+      long delayNanos = isEnabled() ? (long) Math.ceil((1 - permits) * 1e9 / permitsPerSecond) : 0;
+      getScheduler().schedule(this::drain, Math.max(0, delayNanos));
+    }
+  }
+
+  private DrainScheduler getScheduler() {
+    return Optional.ofNullable(scheduler).orElseThrow(() -> new IllegalStateException("No scheduler set"));
+  }
+
+  // grants permits to as many waiting calls as now have them, then waits for the next permit if calls remain
+  private void drain() {
+    List<Waiter> granted = new ArrayList<>();
+    synchronized (this) {
+      drainScheduled = false;
+      while (numWaiting > 0 && tryTakePermit()) {
+        granted.add(nextWaiter());
+        numWaiting--;
+      }
+      if (numWaiting > 0) {
+        scheduleDrain();
+      }
+    }
+    granted.forEach(Waiter::grant);
+  }
+
+  // selects the next waiting call by weighted round-robin across the lanes
+  private Waiter nextWaiter() {
+    while (credits == 0 || lanes.get(currentLane).isEmpty()) {
+      currentLane = RequestPriority.values()[(currentLane.ordinal() + 1) % RequestPriority.values().length];
+      credits = currentLane.getWeight();
+    }
+    credits--;
+    return lanes.get(currentLane).poll(clock.getAsLong());
+  }
+
+  @Override
+  public synchronized Map<String, Integer> getQueueDepths() {
+    return getLaneValues(lane -> lane.depth);
+  }
+
+  @Override
+  public synchronized Map<String, Long> getGrantedCounts() {
+    return getLaneValues(lane -> lane.grantedCount);
+  }
+
+  @Override
+  public synchronized Map<String, Long> getWaitTimeNanos() {
+    return getLaneValues(lane -> lane.totalWaitNanos);
+  }
+
+  @Override
+  public synchronized Map<String, Long> getMaxWaitTimeNanos() {
+    return getLaneValues(lane -> lane.maxWaitNanos);
+  }
+
+  private <V> Map<String, V> getLaneValues(Function<Lane, V> getter) {
+    Map<String, V> result = new HashMap<>();
+    lanes.forEach((priority, lane) -> result.put(priority.name(), getter.apply(lane)));
+    return result;
+  }
+
+  interface DrainScheduler {
+    void schedule(Runnable command, long delayNanos);
+  }
+
+  private class Waiter {
+    private final Executor executor;
+    private final Runnable command;
+    private final long queuedNanos = clock.getAsLong();
+
+    Waiter(Executor executor, Runnable command) {
+      this.executor = executor;
+      this.command = command;
+    }
+
+    void grant() {
+      executor.execute(command);
+    }
+  }
+
+  // the calls waiting at one priority, queued by namespace; only accessed while holding the limiter's lock
+  private static class Lane {
+    private final Map<String, Deque<Waiter>> waitersByNamespace = new HashMap<>();
+    private final Deque<String> namespaces = new ArrayDeque<>();
+    private int depth;
+    private long grantedCount;
+    private long totalWaitNanos;
+    private long maxWaitNanos;
+
+    boolean isEmpty() {
+      return depth == 0;
+    }
+
+    void add(String namespace, Waiter waiter) {
+      String key = Optional.ofNullable(namespace).orElse("");
+      waitersByNamespace.computeIfAbsent(key, this::addNamespace).add(waiter);
+      depth++;
+    }
+
+    private Deque<Waiter> addNamespace(String namespace) {
+      namespaces.add(namespace);
+      return new ArrayDeque<>();
+    }
+
+    // removes the first waiter for the namespace whose turn it is, and moves that namespace to the back
+    Waiter poll(long now) {
+      String namespace = namespaces.poll();
+      Deque<Waiter> waiters = waitersByNamespace.get(namespace);
+      Waiter waiter = waiters.poll();
+      if (waiters.isEmpty()) {
+        waitersByNamespace.remove(namespace);
+      } else {
+        namespaces.add(namespace);
+      }
+
+      depth--;
+      grantedCount++;
+      long waitNanos = now - waiter.queuedNanos;
+      totalWaitNanos += waitNanos;
+      maxWaitNanos = Math.max(maxWaitNanos, waitNanos);
+      return waiter;
+    }
+  }
+}
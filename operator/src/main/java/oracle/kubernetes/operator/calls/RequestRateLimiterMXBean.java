@@ -0,0 +1,21 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.Map;
+
+/**
+ * Management interface reporting, for each {@link RequestPriority} lane of the {@link RequestRateLimiter}, the
+ * number of calls waiting for a permit and the time that calls have spent waiting.
+ */
+public interface RequestRateLimiterMXBean {
+
+  Map<String, Integer> getQueueDepths();
+
+  Map<String, Long> getGrantedCounts();
+
+  Map<String, Long> getWaitTimeNanos();
+
+  Map<String, Long> getMaxWaitTimeNanos();
+}
@@ -6,19 +6,25 @@ package oracle.kubernetes.operator.helpers;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Yaml;
 import org.apache.commons.codec.digest.DigestUtils;
+import org.joda.time.DateTime;
 
 /** Annotates pods, services with details about the Domain instance and checks these annotations. */
 public class AnnotationHelper {
   static final String SHA256_ANNOTATION = "weblogic.sha256";
+  static final String CANONICAL_HASH_PREFIX = "v2:";
+  static final String SERVER_STATE_ANNOTATION = "weblogic.serverState";
+  static final String SERVER_STATE_TIME_ANNOTATION = "weblogic.serverStateTime";
   private static final boolean DEBUG = false;
   private static final String HASHED_STRING = "hashedString";
-  private static Function<Object, String> HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
+  private static Function<Object, String> HASH_FUNCTION = CanonicalHash::sha256Hex;
+  private static Function<Object, String> LEGACY_HASH_FUNCTION = o -> DigestUtils.sha256Hex(Yaml.dump(o));
 
   /**
    * Marks metadata with annotations that let Prometheus know how to retrieve metrics from the
@@ -51,15 +57,19 @@ public class AnnotationHelper {
   }
 
   private static V1Pod addHash(V1Pod pod) {
-    pod.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, HASH_FUNCTION.apply(pod));
+    pod.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, createHash(pod));
     return pod;
   }
 
   private static V1Service addHash(V1Service service) {
-    service.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, HASH_FUNCTION.apply(service));
+    service.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, createHash(service));
     return service;
   }
 
+  private static String createHash(Object recipe) {
+    return CANONICAL_HASH_PREFIX + HASH_FUNCTION.apply(recipe);
+  }
+
   static String getHash(V1Pod pod) {
     return getAnnotation(pod.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
@@ -68,10 +78,75 @@ public class AnnotationHelper {
     return getAnnotation(service.getMetadata(), AnnotationHelper::getSha256Annotation);
   }
 
+  /**
+   * Returns true if the hash of a pod model matches that of an existing pod. Pods created by operator versions
+   * which hashed the YAML form of the recipe carry a hash without the canonical prefix; for those pods, the recipe
+   * is hashed in the same way, so that an operator upgrade does not cause them to be replaced.
+   *
+   * @param model the desired pod, with its hash annotation
+   * @param current the existing pod
+   * @param recipeSupplier a supplier of the recipe from which the model was created
+   * @return true if the existing pod was created from the same recipe
+   */
+  static boolean hasMatchingHash(V1Pod model, V1Pod current, Supplier<V1Pod> recipeSupplier) {
+    return hasMatchingHash(getHash(model), getHash(current), recipeSupplier);
+  }
+
+  /**
+   * Returns true if the hash of a service model matches that of an existing service, computing the legacy
+   * hash of the recipe when the existing service was created by an older operator version.
+   *
+   * @param model the desired service, with its hash annotation
+   * @param current the existing service
+   * @param recipeSupplier a supplier of the recipe from which the model was created
+   * @return true if the existing service was created from the same recipe
+   */
+  static boolean hasMatchingHash(V1Service model, V1Service current, Supplier<V1Service> recipeSupplier) {
+    return hasMatchingHash(getHash(model), getHash(current), recipeSupplier);
+  }
+
+  private static boolean hasMatchingHash(String modelHash, String currentHash, Supplier<?> recipeSupplier) {
+    if (modelHash.equals(currentHash)) {
+      return true;
+    } else {
+      return isLegacyHash(currentHash) && currentHash.equals(LEGACY_HASH_FUNCTION.apply(recipeSupplier.get()));
+    }
+  }
+
+  private static boolean isLegacyHash(String hash) {
+    return !hash.isEmpty() && !hash.startsWith(CANONICAL_HASH_PREFIX);
+  }
+
   static String getDebugString(V1Pod pod) {
     return getAnnotation(pod.getMetadata(), AnnotationHelper::getDebugHashAnnotation);
   }
 
+  /**
+   * Returns the server state recorded in the specified pod by its liveness probe, if any.
+   *
+   * @param pod a server pod
+   * @return the recorded state, or null if none has been recorded
+   */
+  public static String getServerState(V1Pod pod) {
+    String state = getAnnotation(pod.getMetadata(), a -> a.get(SERVER_STATE_ANNOTATION));
+    return state.isEmpty() ? null : state;
+  }
+
+  /**
+   * Returns the time at which the liveness probe of the specified pod last recorded the server state.
+   *
+   * @param pod a server pod
+   * @return the time, or null if none has been recorded or it cannot be parsed
+   */
+  public static DateTime getServerStateTime(V1Pod pod) {
+    String time = getAnnotation(pod.getMetadata(), a -> a.get(SERVER_STATE_TIME_ANNOTATION));
+    try {
+      return time.isEmpty() ? null : DateTime.parse(time);
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
   private static String getAnnotation(
       V1ObjectMeta metadata, Function<Map<String, String>, String> annotationGetter) {
     return Optional.ofNullable(metadata)
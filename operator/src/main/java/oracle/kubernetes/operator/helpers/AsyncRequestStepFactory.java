@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.helpers;
 
 import oracle.kubernetes.operator.calls.CallFactory;
+import oracle.kubernetes.operator.calls.RequestCoalescer;
 import oracle.kubernetes.operator.calls.RequestParams;
 import oracle.kubernetes.operator.work.Step;
 
@@ -18,4 +19,36 @@ public interface AsyncRequestStepFactory {
       String fieldSelector,
       String labelSelector,
       String resourceVersion);
+
+  /**
+   * Creates a step which shares its call with identical concurrent requests. By default, the call is not shared.
+   *
+   * @param next the response step
+   * @param requestParams the request parameters
+   * @param factory the call factory
+   * @param helper the client pool
+   * @param timeoutSeconds the call timeout
+   * @param maxRetryCount the maximum number of retries
+   * @param fieldSelector the field selector
+   * @param labelSelector the label selector
+   * @param resourceVersion the resource version
+   * @param coalescer the coalescer through which to issue the call
+   * @param <T> the type of the call result
+   * @return the request step
+   */
+  default <T> Step createCoalescedRequestAsync(
+      ResponseStep<T> next,
+      RequestParams requestParams,
+      CallFactory<T> factory,
+      ClientPool helper,
+      int timeoutSeconds,
+      int maxRetryCount,
+      String fieldSelector,
+      String labelSelector,
+      String resourceVersion,
+      RequestCoalescer coalescer) {
+    return createRequestAsync(
+        next, requestParams, factory, helper, timeoutSeconds, maxRetryCount,
+        fieldSelector, labelSelector, resourceVersion);
+  }
 }
@@ -44,7 +44,12 @@ import oracle.kubernetes.operator.calls.AsyncRequestStep;
 import oracle.kubernetes.operator.calls.CallFactory;
 import oracle.kubernetes.operator.calls.CallWrapper;
 import oracle.kubernetes.operator.calls.CancellableCall;
+import oracle.kubernetes.operator.calls.MetadataCall;
+import oracle.kubernetes.operator.calls.ProtobufCall;
+import oracle.kubernetes.operator.calls.RequestCoalescer;
 import oracle.kubernetes.operator.calls.RequestParams;
+import oracle.kubernetes.operator.calls.RequestPriority;
+import oracle.kubernetes.operator.calls.RequestRateLimiter;
 import oracle.kubernetes.operator.calls.SynchronousCallDispatcher;
 import oracle.kubernetes.operator.calls.SynchronousCallFactory;
 import oracle.kubernetes.operator.work.Step;
@@ -75,7 +80,7 @@ public class CallBuilder {
       };
 
   private static SynchronousCallDispatcher DISPATCHER = DEFAULT_DISPATCHER;
-  private static final AsyncRequestStepFactory DEFAULT_STEP_FACTORY = AsyncRequestStep::new;
+  private static final AsyncRequestStepFactory DEFAULT_STEP_FACTORY = new DefaultAsyncRequestStepFactory();
   private static AsyncRequestStepFactory STEP_FACTORY = DEFAULT_STEP_FACTORY;
   private final ClientPool helper;
   private final Boolean allowWatchBookmarks = false;
@@ -212,6 +217,9 @@ public class CallBuilder {
 
   /* Domains */
   private Integer maxRetryCount = 10;
+  private RequestCoalescer coalescer;
+  private RequestPriority priority;
+  private boolean protobufEnabled;
   private final Boolean watch = Boolean.FALSE;
   private final CallFactory<DomainList> listDomain =
       (requestParams, usage, cont, callback) ->
@@ -299,6 +307,15 @@ public class CallBuilder {
                   requestParams.namespace,
                   (V1DeleteOptions) requestParams.body,
                   callback));
+  private final CallFactory<V1Service> patchService =
+      (requestParams, usage, cont, callback) ->
+          wrap(
+              patchServiceAsync(
+                  usage,
+                  requestParams.name,
+                  requestParams.namespace,
+                  (V1Patch) requestParams.body,
+                  callback));
   private final CallFactory<V1Status> deletePersistentvolume =
       (requestParams, client, cont, callback) ->
           wrap(
@@ -416,6 +433,7 @@ public class CallBuilder {
   private CallBuilder(CallBuilderTuning tuning, ClientPool helper) {
     if (tuning != null) {
       tuning(tuning.callRequestLimit, tuning.callTimeoutSeconds, tuning.callMaxRetryCount);
+      this.protobufEnabled = tuning.callProtobufEnabled;
     }
     this.helper = helper;
   }
@@ -468,6 +486,29 @@ public class CallBuilder {
     return this;
   }
 
+  /**
+   * Requests that read and list calls made by this builder share a single API call with any identical
+   * call already in progress. The shared result must not be modified.
+   *
+   * @return this CallBuilder
+   */
+  public CallBuilder withCoalescing() {
+    this.coalescer = RequestCoalescer.getInstance();
+    return this;
+  }
+
+  /**
+   * Sets the priority with which calls made by this builder wait for the API rate limiter, in place of the
+   * default for each call.
+   *
+   * @param priority the priority of the calls
+   * @return this CallBuilder
+   */
+  public CallBuilder withPriority(RequestPriority priority) {
+    this.priority = priority;
+    return this;
+  }
+
   private void tuning(int limit, int timeoutSeconds, int maxRetryCount) {
     this.limit = limit;
     this.timeoutSeconds = timeoutSeconds;
@@ -499,6 +540,7 @@ public class CallBuilder {
 
   private <T> T executeSynchronousCall(
       RequestParams requestParams, SynchronousCallFactory<T> factory) throws ApiException {
+    RequestRateLimiter.getInstance().acquireBlocking(requestParams.withPriority(priority), timeoutSeconds);
     return DISPATCHER.execute(factory, requestParams, helper);
   }
 
@@ -770,8 +812,11 @@ public class CallBuilder {
   private Call readConfigMapAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1ConfigMap> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .readNamespacedConfigMapAsync(name, namespace, pretty, exact, export, callback);
+    return executeAsync(
+        client,
+        new CoreV1Api(client).readNamespacedConfigMapCall(name, namespace, pretty, exact, export, null),
+        V1ConfigMap.class,
+        callback);
   }
 
   /**
@@ -880,19 +925,23 @@ public class CallBuilder {
   private Call listPodAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1PodList> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .listNamespacedPodAsync(
-            namespace,
-            pretty,
-            allowWatchBookmarks,
-            cont,
-            fieldSelector,
-            labelSelector,
-            limit,
-            resourceVersion,
-            timeoutSeconds,
-            watch,
-            callback);
+    return executeAsync(
+        client,
+        new CoreV1Api(client)
+            .listNamespacedPodCall(
+                namespace,
+                pretty,
+                allowWatchBookmarks,
+                cont,
+                fieldSelector,
+                labelSelector,
+                limit,
+                resourceVersion,
+                timeoutSeconds,
+                watch,
+                null),
+        V1PodList.class,
+        callback);
   }
 
   /**
@@ -910,8 +959,11 @@ public class CallBuilder {
   private Call readPodAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1Pod> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .readNamespacedPodAsync(name, namespace, pretty, exact, export, callback);
+    return executeAsync(
+        client,
+        new CoreV1Api(client).readNamespacedPodCall(name, namespace, pretty, exact, export, null),
+        V1Pod.class,
+        callback);
   }
 
   /* Events */
@@ -1073,8 +1125,11 @@ public class CallBuilder {
   private Call readJobAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1Job> callback)
       throws ApiException {
-    return new BatchV1Api(client)
-        .readNamespacedJobAsync(name, namespace, pretty, exact, export, callback);
+    return executeAsync(
+        client,
+        new BatchV1Api(client).readNamespacedJobCall(name, namespace, pretty, exact, export, null),
+        V1Job.class,
+        callback);
   }
 
   /**
@@ -1161,19 +1216,23 @@ public class CallBuilder {
   private Call listServiceAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1ServiceList> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .listNamespacedServiceAsync(
-            namespace,
-            pretty,
-            allowWatchBookmarks,
-            cont,
-            fieldSelector,
-            labelSelector,
-            limit,
-            resourceVersion,
-            timeoutSeconds,
-            watch,
-            callback);
+    return executeAsync(
+        client,
+        new CoreV1Api(client)
+            .listNamespacedServiceCall(
+                namespace,
+                pretty,
+                allowWatchBookmarks,
+                cont,
+                fieldSelector,
+                labelSelector,
+                limit,
+                resourceVersion,
+                timeoutSeconds,
+                watch,
+                null),
+        V1ServiceList.class,
+        callback);
   }
 
   /**
@@ -1208,8 +1267,11 @@ public class CallBuilder {
   private Call readServiceAsync(
       ApiClient client, String name, String namespace, ApiCallback<V1Service> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .readNamespacedServiceAsync(name, namespace, pretty, exact, export, callback);
+    return executeAsync(
+        client,
+        new CoreV1Api(client).readNamespacedServiceCall(name, namespace, pretty, exact, export, null),
+        V1Service.class,
+        callback);
   }
 
   /**
@@ -1315,24 +1377,52 @@ public class CallBuilder {
         deleteService);
   }
 
+  private Call patchServiceAsync(
+      ApiClient client, String name, String namespace, V1Patch patch, ApiCallback<V1Service> callback)
+      throws ApiException {
+    return new CoreV1Api(client)
+        .patchNamespacedServiceAsync(name, namespace, patch, pretty, null, null, false, callback);
+  }
+
+  /**
+   * Asynchronous step for patching a service.
+   *
+   * @param name Name
+   * @param namespace Namespace
+   * @param patchBody instructions on what to patch
+   * @param responseStep Response step for when call completes
+   * @return Asynchronous step
+   */
+  public Step patchServiceAsync(
+      String name, String namespace, V1Patch patchBody, ResponseStep<V1Service> responseStep) {
+    return createRequestAsync(
+        responseStep,
+        new RequestParams("patchService", namespace, name, patchBody),
+        patchService);
+  }
+
   /* Secrets */
 
   private Call listEventAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1EventList> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .listNamespacedEventAsync(
-            namespace,
-            pretty,
-            allowWatchBookmarks,
-            cont,
-            fieldSelector,
-            labelSelector,
-            limit,
-            resourceVersion,
-            timeoutSeconds,
-            watch,
-            callback);
+    return executeAsync(
+        client,
+        new CoreV1Api(client)
+            .listNamespacedEventCall(
+                namespace,
+                pretty,
+                allowWatchBookmarks,
+                cont,
+                fieldSelector,
+                labelSelector,
+                limit,
+                resourceVersion,
+                timeoutSeconds,
+                watch,
+                null),
+        V1EventList.class,
+        callback);
   }
 
   /**
@@ -1462,23 +1552,28 @@ public class CallBuilder {
   private Call listSecretsAsync(
       ApiClient client, String namespace, String cont, ApiCallback<V1SecretList> callback)
       throws ApiException {
-    return new CoreV1Api(client)
-        .listNamespacedSecretAsync(
-            namespace,
-            pretty,
-            allowWatchBookmarks,
-            cont,
-            fieldSelector,
-            labelSelector,
-            limit,
-            resourceVersion,
-            timeoutSeconds,
-            watch,
-            callback);
+    return MetadataCall.executeListAsync(
+        client,
+        new CoreV1Api(client)
+            .listNamespacedSecretCall(
+                namespace,
+                pretty,
+                allowWatchBookmarks,
+                cont,
+                fieldSelector,
+                labelSelector,
+                limit,
+                resourceVersion,
+                timeoutSeconds,
+                watch,
+                null),
+        V1SecretList.class,
+        callback);
   }
 
   /**
-   * Asynchronous step for listing secrets in a namespace.
+   * Asynchronous step for listing secrets in a namespace. Only the metadata of the secrets is requested, so the
+   * listed secrets normally have no data; read a secret to obtain its data.
    *
    * @param namespace the namespace from which to list secrets
    * @param responseStep Response step for when call completes
@@ -1626,6 +1721,20 @@ public class CallBuilder {
 
   private <T> Step createRequestAsync(
       ResponseStep<T> next, RequestParams requestParams, CallFactory<T> factory) {
+    requestParams.withPriority(priority);
+    if (coalescer != null && RequestCoalescer.isCoalescible(requestParams)) {
+      return STEP_FACTORY.createCoalescedRequestAsync(
+          next,
+          requestParams,
+          factory,
+          helper,
+          timeoutSeconds,
+          maxRetryCount,
+          fieldSelector,
+          labelSelector,
+          resourceVersion,
+          coalescer);
+    }
     return STEP_FACTORY.createRequestAsync(
         next,
         requestParams,
@@ -1641,4 +1750,48 @@ public class CallBuilder {
   private CancellableCall wrap(Call call) {
     return new CallWrapper(call);
   }
+
+  // sends a read or list call for a core resource, asking for the protobuf encoding if it is enabled
+  private <T> Call executeAsync(ApiClient client, Call call, Class<T> resultType, ApiCallback<T> callback) {
+    if (protobufEnabled) {
+      return ProtobufCall.executeAsync(client, call, resultType, callback);
+    }
+    client.executeAsync(call, resultType, callback);
+    return call;
+  }
+
+  private static class DefaultAsyncRequestStepFactory implements AsyncRequestStepFactory {
+    @Override
+    public <T> Step createRequestAsync(
+        ResponseStep<T> next,
+        RequestParams requestParams,
+        CallFactory<T> factory,
+        ClientPool helper,
+        int timeoutSeconds,
+        int maxRetryCount,
+        String fieldSelector,
+        String labelSelector,
+        String resourceVersion) {
+      return new AsyncRequestStep<>(
+          next, requestParams, factory, helper, timeoutSeconds, maxRetryCount,
+          fieldSelector, labelSelector, resourceVersion);
+    }
+
+    @Override
+    public <T> Step createCoalescedRequestAsync(
+        ResponseStep<T> next,
+        RequestParams requestParams,
+        CallFactory<T> factory,
+        ClientPool helper,
+        int timeoutSeconds,
+        int maxRetryCount,
+        String fieldSelector,
+        String labelSelector,
+        String resourceVersion,
+        RequestCoalescer coalescer) {
+      return new AsyncRequestStep<>(
+          next, requestParams, factory, helper, timeoutSeconds, maxRetryCount,
+          fieldSelector, labelSelector, resourceVersion, coalescer);
+    }
+  }
 }
@@ -0,0 +1,238 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.codec.digest.DigestUtils;
+
+/**
+ * Computes a SHA-256 hash of a Kubernetes model object by walking its properties directly into a
+ * {@link MessageDigest}, rather than first rendering the object as YAML. The encoding is canonical: bean properties
+ * are visited in name order, map entries in key order, and properties whose values are null are skipped, so that two
+ * objects with the same content always produce the same hash, regardless of how they were built.
+ *
+ * <p>Each value is preceded by a one-byte tag and each string by its length, so that different structures cannot
+ * produce the same byte stream. The properties of each model class are discovered once and cached.
+ */
+public class CanonicalHash {
+
+  private static final byte NULL = 'N';
+  private static final byte STRING = 'S';
+  private static final byte SCALAR = 'V';
+  private static final byte LIST = 'L';
+  private static final byte MAP = 'M';
+  private static final byte OBJECT = 'O';
+  private static final byte END = 'E';
+
+  private static final int BUFFER_SIZE = 256;
+
+  private static final Map<Class<?>, Property[]> properties = new ConcurrentHashMap<>();
+
+  private final MessageDigest digest;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int length;
+
+  private CanonicalHash(MessageDigest digest) {
+    this.digest = digest;
+  }
+
+  /**
+   * Returns the canonical hash of the specified object as a hex string.
+   *
+   * @param object the object to hash
+   * @return a 64-character hex string
+   */
+  public static String sha256Hex(Object object) {
+    CanonicalHash hash = new CanonicalHash(DigestUtils.getSha256Digest());
+    hash.update(object);
+    hash.flush();
+    return Hex.encodeHexString(hash.digest.digest());
+  }
+
+  private void update(Object value) {
+    if (value == null) {
+      writeTag(NULL);
+    } else if (value instanceof String) {
+      writeTag(STRING);
+      writeString((String) value);
+    } else if (value instanceof Map) {
+      updateMap((Map<?, ?>) value);
+    } else if (value instanceof Collection) {
+      updateCollection((Collection<?>) value);
+    } else if (value instanceof Quantity) {
+      writeScalar(((Quantity) value).toSuffixedString());
+    } else if (value instanceof IntOrString) {
+      updateIntOrString((IntOrString) value);
+    } else if (value instanceof Enum) {
+      writeScalar(((Enum<?>) value).name());
+    } else if (isScalar(value.getClass())) {
+      writeScalar(value.toString());
+    } else {
+      updateObject(value);
+    }
+  }
+
+  private void updateIntOrString(IntOrString value) {
+    if (value.isInteger()) {
+      writeScalar(value.getIntValue().toString());
+    } else {
+      writeTag(STRING);
+      writeString(value.getStrValue());
+    }
+  }
+
+  private void updateCollection(Collection<?> collection) {
+    writeTag(LIST);
+    writeInt(collection.size());
+    for (Object item : collection) {
+      update(item);
+    }
+  }
+
+  private void updateMap(Map<?, ?> map) {
+    writeTag(MAP);
+    writeInt(map.size());
+    for (Object key : getSortedKeys(map)) {
+      writeString(String.valueOf(key));
+      update(map.get(key));
+    }
+  }
+
+  private Collection<?> getSortedKeys(Map<?, ?> map) {
+    if (map instanceof SortedMap && ((SortedMap<?, ?>) map).comparator() == null) {
+      return map.keySet();
+    }
+
+    List<Object> keys = new ArrayList<>(map.keySet());
+    keys.sort(Comparator.comparing(String::valueOf));
+    return keys;
+  }
+
+  private void updateObject(Object object) {
+    writeTag(OBJECT);
+    for (Property property : getProperties(object.getClass())) {
+      Object value = property.getValue(object);
+      if (value != null) {
+        writeString(property.name);
+        update(value);
+      }
+    }
+    writeTag(END);
+  }
+
+  private void writeScalar(String value) {
+    writeTag(SCALAR);
+    writeString(value);
+  }
+
+  private void writeTag(byte tag) {
+    ensureCapacity(1);
+    buffer[length++] = tag;
+  }
+
+  private void writeInt(int value) {
+    ensureCapacity(4);
+    buffer[length++] = (byte) (value >>> 24);
+    buffer[length++] = (byte) (value >>> 16);
+    buffer[length++] = (byte) (value >>> 8);
+    buffer[length++] = (byte) value;
+  }
+
+  // Writes the string as its length followed by its UTF-16 code units, without allocating an encoded copy.
+  private void writeString(String value) {
+    writeInt(value.length());
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      ensureCapacity(2);
+      buffer[length++] = (byte) (c >>> 8);
+      buffer[length++] = (byte) c;
+    }
+  }
+
+  private void ensureCapacity(int numBytes) {
+    if (length + numBytes > buffer.length) {
+      flush();
+    }
+  }
+
+  private void flush() {
+    digest.update(buffer, 0, length);
+    length = 0;
+  }
+
+  private static boolean isScalar(Class<?> type) {
+    return type.isPrimitive()
+        || type.getName().startsWith("java.")
+        || type.getName().startsWith("org.joda.time.");
+  }
+
+  private static Property[] getProperties(Class<?> type) {
+    return properties.computeIfAbsent(type, CanonicalHash::findProperties);
+  }
+
+  // Finds the readable bean properties of a model class, sorted by name.
+  private static Property[] findProperties(Class<?> type) {
+    return Arrays.stream(type.getMethods())
+          .filter(CanonicalHash::isPropertyGetter)
+          .map(Property::new)
+          .sorted(Comparator.comparing(p -> p.name))
+          .toArray(Property[]::new);
+  }
+
+  private static boolean isPropertyGetter(Method method) {
+    return !Modifier.isStatic(method.getModifiers())
+        && !method.isBridge()
+        && method.getParameterCount() == 0
+        && method.getDeclaringClass() != Object.class
+        && method.getReturnType() != void.class
+        && getPropertyName(method) != null;
+  }
+
+  private static String getPropertyName(Method method) {
+    String name = method.getName();
+    if (name.startsWith("get") && name.length() > 3) {
+      return Character.toLowerCase(name.charAt(3)) + name.substring(4);
+    } else if (name.startsWith("is") && name.length() > 2 && isBoolean(method.getReturnType())) {
+      return Character.toLowerCase(name.charAt(2)) + name.substring(3);
+    } else {
+      return null;
+    }
+  }
+
+  private static boolean isBoolean(Class<?> type) {
+    return type == boolean.class || type == Boolean.class;
+  }
+
+  private static class Property {
+    private final String name;
+    private final Method getter;
+
+    Property(Method getter) {
+      this.name = getPropertyName(getter);
+      this.getter = getter;
+    }
+
+    Object getValue(Object object) {
+      try {
+        return getter.invoke(object);
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalStateException("Unable to read property " + name + " of " + object.getClass(), e);
+      }
+    }
+  }
+}
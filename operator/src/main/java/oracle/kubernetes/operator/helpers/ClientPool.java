@@ -4,8 +4,12 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -16,8 +20,12 @@ import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.Configuration;
 import io.kubernetes.client.util.ClientBuilder;
+import okhttp3.ConnectionPool;
 import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import oracle.kubernetes.operator.TuningParameters;
+import oracle.kubernetes.operator.TuningParameters.HttpClientTuning;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
@@ -26,6 +34,8 @@ import oracle.kubernetes.operator.work.ContainerResolver;
 
 public class ClientPool extends Pool<ApiClient> {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final HttpClientTuning DEFAULT_TUNING = new HttpClientTuning(128, 128, 64, 20, 300, true);
+  private static final long HTTP_THREAD_KEEP_ALIVE_SECONDS = 60;
   private static ClientFactory FACTORY = new DefaultClientFactory();
   private static ClientPool SINGLETON = new ClientPool();
   private static ThreadFactory threadFactory;
@@ -56,13 +66,92 @@ public class ClientPool extends Pool<ApiClient> {
     return SINGLETON;
   }
 
+  private static HttpClientTuning getHttpClientTuning() {
+    return Optional.ofNullable(TuningParameters.getInstance())
+        .map(TuningParameters::getHttpClientTuning)
+        .orElse(DEFAULT_TUNING);
+  }
+
+  /**
+   * Returns the HTTP client shared by the operator's API clients, if one has been created.
+   *
+   * @return an optional HTTP client
+   */
+  Optional<OkHttpClient> getHttpClient() {
+    return Optional.ofNullable(instance.get()).map(ApiClient::getHttpClient);
+  }
+
+  /**
+   * Applies the current HTTP client tuning parameters to the dispatcher of the shared client. The connection
+   * pool and protocols of an existing client are not changed.
+   */
+  public void configure() {
+    HttpClientTuning tuning = getHttpClientTuning();
+    getHttpClient().map(OkHttpClient::dispatcher).ifPresent(dispatcher -> configure(dispatcher, tuning));
+  }
+
+  private static void configure(Dispatcher dispatcher, HttpClientTuning tuning) {
+    dispatcher.setMaxRequests(
+        getValidCount("httpMaxRequests", tuning.httpMaxRequests, DEFAULT_TUNING.httpMaxRequests));
+    dispatcher.setMaxRequestsPerHost(
+        getValidCount("httpMaxRequestsPerHost", tuning.httpMaxRequestsPerHost, DEFAULT_TUNING.httpMaxRequestsPerHost));
+    if (dispatcher.executorService() instanceof HttpExecutor) {
+      ((HttpExecutor) dispatcher.executorService()).resize(getThreadCount(tuning));
+    }
+  }
+
+  private static int getThreadCount(HttpClientTuning tuning) {
+    return getValidCount("httpThreadCount", tuning.httpThreadCount, DEFAULT_TUNING.httpThreadCount);
+  }
+
+  // the dispatcher and executor reject counts below one, so an invalid count is replaced by its default
+  private static int getValidCount(String parameter, int count, int defaultCount) {
+    if (count < 1) {
+      LOGGER.warning(MessageKeys.TUNING_PARAMETER_TOO_SMALL, parameter, count, 1, defaultCount);
+      return defaultCount;
+    }
+    return count;
+  }
+
+  // a thread like those of OkHttp's own dispatcher, for use when the operator has not supplied a thread factory
+  private static Thread createDaemonThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, "OkHttp Dispatcher");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  // a bounded pool: calls beyond the thread count wait in the queue rather than each starting a thread
+  private static class HttpExecutor extends ThreadPoolExecutor {
+    HttpExecutor(int threadCount, ThreadFactory threadFactory) {
+      super(threadCount, threadCount, HTTP_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(), threadFactory);
+      allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      super.execute(wrapRunnable(command));
+    }
+
+    void resize(int threadCount) {
+      if (threadCount > getMaximumPoolSize()) {
+        setMaximumPoolSize(threadCount);
+        setCorePoolSize(threadCount);
+      } else {
+        setCorePoolSize(threadCount);
+        setMaximumPoolSize(threadCount);
+      }
+    }
+  }
+
   @Override
   protected ApiClient create() {
     // We no longer need this connection pooling because OkHttp 3 now supports
     // connection pooling within each instance.  Prior to the Kubernetes Java
     // client, version 7.0.0, the ApiClient held an instance of the OkHttp 2
     // HTTP client, which was single threaded.
-    // Disable pooling and always return the same instance
+    // Disable pooling and always return the same instance; its dispatcher and
+    // connection pool bound the concurrent calls and connections instead.
     return instance.updateAndGet(prev -> {
       return prev != null ? prev : getApiClient();
     });
@@ -108,29 +197,35 @@ public class ClientPool extends Pool<ApiClient> {
           Configuration.setDefaultApiClient(client);
         }
 
-        if (threadFactory != null) {
-          ExecutorService exec =
-              new ThreadPoolExecutor(
-                  0,
-                  Integer.MAX_VALUE,
-                  60,
-                  TimeUnit.SECONDS,
-                  new SynchronousQueue<Runnable>(),
-                  threadFactory) {
-                @Override
-                public void execute(Runnable command) {
-                  super.execute(wrapRunnable(command));
-                }
-              };
-          OkHttpClient httpClient =
-              client.getHttpClient().newBuilder().dispatcher(new Dispatcher(exec)).build();
-          client.setHttpClient(httpClient);
-        }
+        HttpClientTuning tuning = getHttpClientTuning();
+        Dispatcher dispatcher = new Dispatcher(createExecutor(tuning));
+        configure(dispatcher, tuning);
+        OkHttpClient httpClient =
+            client.getHttpClient().newBuilder()
+                .dispatcher(dispatcher)
+                .connectionPool(
+                    new ConnectionPool(
+                        tuning.httpConnectionPoolSize, tuning.httpConnectionKeepAliveSeconds, TimeUnit.SECONDS))
+                .protocols(getProtocols(tuning))
+                .build();
+        client.setHttpClient(httpClient);
 
         return client;
       } catch (IOException e) {
         throw new RuntimeException(e);
       }
     }
+
+    private ExecutorService createExecutor(HttpClientTuning tuning) {
+      return new HttpExecutor(
+          getThreadCount(tuning), Optional.ofNullable(threadFactory).orElse(ClientPool::createDaemonThread));
+    }
+
+    // HTTP/2 is negotiated during the TLS handshake, so a server without it is still reached over HTTP/1.1
+    private List<Protocol> getProtocols(HttpClientTuning tuning) {
+      return tuning.httpEnableHttp2
+          ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+          : Collections.singletonList(Protocol.HTTP_1_1);
+    }
   }
 }
@@ -84,6 +84,34 @@ public class ConfigMapConsumer implements Map<String, String> {
     return defaultValue;
   }
 
+  /**
+   * read tuning parameter which may not be less than a minimum value. A smaller value is logged and replaced
+   * by the default value.
+   * @param parameter parameter
+   * @param defaultValue default value
+   * @param minimumValue the least valid value
+   * @return parameter value
+   */
+  public long readTuningParameter(String parameter, long defaultValue, long minimumValue) {
+    long value = readTuningParameter(parameter, defaultValue);
+    if (value < minimumValue) {
+      LOGGER.warning(MessageKeys.TUNING_PARAMETER_TOO_SMALL, parameter, value, minimumValue, defaultValue);
+      return defaultValue;
+    }
+    return value;
+  }
+
+  /**
+   * read boolean tuning parameter.
+   * @param parameter parameter
+   * @param defaultValue default value
+   * @return parameter value
+   */
+  public boolean readBooleanTuningParameter(String parameter, boolean defaultValue) {
+    String val = get(parameter);
+    return val == null ? defaultValue : Boolean.parseBoolean(val.trim());
+  }
+
   @Override
   public int size() {
     String[] list = mountPointDir.list();
@@ -14,8 +14,10 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import io.kubernetes.client.openapi.JSON;
 import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
@@ -23,26 +25,38 @@ import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import oracle.kubernetes.weblogic.domain.model.ServerSpec;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 
+import static oracle.kubernetes.operator.helpers.ResourceProjection.projectPod;
+import static oracle.kubernetes.operator.helpers.ResourceProjection.projectService;
+
 /**
  * Operator's mapping between custom resource Domain and runtime details about that domain,
  * including the scan and the Pods and Services for servers.
  */
 public class DomainPresenceInfo {
+  private static final JSON json = new JSON();
+
   private final String namespace;
   private final String domainUid;
   private final AtomicReference<Domain> domain;
   private final AtomicBoolean isDeleting = new AtomicBoolean(false);
   private final AtomicBoolean isPopulated = new AtomicBoolean(false);
+  private final AtomicBoolean isMakeRightComplete = new AtomicBoolean(false);
   private final AtomicInteger retryCount = new AtomicInteger(0);
   private final AtomicReference<Collection<ServerStartupInfo>> serverStartupInfo;
+  private final AtomicReference<DomainStatus> pendingStatus = new AtomicReference<>();
+  private final AtomicBoolean isStatusWriteScheduled = new AtomicBoolean(false);
 
   private final ConcurrentMap<String, ServerKubernetesObjects> servers = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, V1Service> clusters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, CachedModel> models = new ConcurrentHashMap<>();
+  private final AtomicReference<DomainSpec> modelSpec = new AtomicReference<>();
 
   /**
    * Create presence for a domain.
@@ -83,7 +97,7 @@ public class DomainPresenceInfo {
   }
 
   void setServerService(String serverName, V1Service service) {
-    getSko(serverName).getService().set(service);
+    getSko(serverName).getService().set(projectService(service));
   }
 
   private ServerKubernetesObjects getSko(String serverName) {
@@ -106,13 +120,14 @@ public class DomainPresenceInfo {
   }
 
   /**
-   * Specifies the pod associated with an operator-managed server.
+   * Specifies the pod associated with an operator-managed server. Only a projection of the pod is recorded;
+   * see {@link ResourceProjection}.
    *
    * @param serverName the name of the server
    * @param pod the pod
    */
   public void setServerPod(String serverName, V1Pod pod) {
-    getSko(serverName).getPod().set(pod);
+    getSko(serverName).getPod().set(projectPod(pod));
   }
 
   /**
@@ -168,7 +183,7 @@ public class DomainPresenceInfo {
    */
   public void setServerPodFromEvent(String serverName, V1Pod event) {
     updateStatus(serverName, event);
-    getSko(serverName).getPod().accumulateAndGet(event, this::getNewerPod);
+    getSko(serverName).getPod().accumulateAndGet(projectPod(event), this::getNewerPod);
   }
 
   private void updateStatus(String serverName, V1Pod event) {
@@ -188,10 +203,15 @@ public class DomainPresenceInfo {
                   updatedStatus = null;
                 }
               }
-              return updatedStatus;
+              return restartBackoff(updatedStatus);
             });
   }
 
+  // a change to the pod may have changed the server state, so the next status check must read it again
+  private LastKnownStatus restartBackoff(LastKnownStatus status) {
+    return status == null || status.getUnchangedCount() == 0 ? status : new LastKnownStatus(status.getStatus());
+  }
+
   private V1Pod getNewerPod(V1Pod first, V1Pod second) {
     return KubernetesUtils.isFirstNewer(getMetadata(first), getMetadata(second)) ? first : second;
   }
@@ -280,7 +300,7 @@ public class DomainPresenceInfo {
    * @param event the service associated with the event
    */
   void setServerServiceFromEvent(String serverName, V1Service event) {
-    getSko(serverName).getService().accumulateAndGet(event, this::getNewerService);
+    getSko(serverName).getService().accumulateAndGet(projectService(event), this::getNewerService);
   }
 
   /**
@@ -309,7 +329,7 @@ public class DomainPresenceInfo {
   }
 
   void setClusterService(String clusterName, V1Service service) {
-    clusters.put(clusterName, service);
+    clusters.put(clusterName, projectService(service));
   }
 
   void setClusterServiceFromEvent(String clusterName, V1Service event) {
@@ -317,7 +337,7 @@ public class DomainPresenceInfo {
       return;
     }
 
-    clusters.compute(clusterName, (k, s) -> getNewerService(s, event));
+    clusters.compute(clusterName, (k, s) -> getNewerService(s, projectService(event)));
   }
 
   boolean deleteClusterServiceFromEvent(String clusterName, V1Service event) {
@@ -336,11 +356,11 @@ public class DomainPresenceInfo {
   }
 
   void setExternalService(String serverName, V1Service service) {
-    getSko(serverName).getExternalService().set(service);
+    getSko(serverName).getExternalService().set(projectService(service));
   }
 
   void setExternalServiceFromEvent(String serverName, V1Service event) {
-    getSko(serverName).getExternalService().accumulateAndGet(event, this::getNewerService);
+    getSko(serverName).getExternalService().accumulateAndGet(projectService(event), this::getNewerService);
   }
 
   boolean deleteExternalServiceFromEvent(String serverName, V1Service event) {
@@ -370,6 +390,20 @@ public class DomainPresenceInfo {
     isPopulated.set(populated);
   }
 
+  /**
+   * Returns true if the most recent make-right of the domain ran to completion, so that the topology and server
+   * startup information recorded by it are current.
+   *
+   * @return true if the last make-right completed
+   */
+  public boolean isMakeRightComplete() {
+    return isMakeRightComplete.get();
+  }
+
+  public void setMakeRightComplete(boolean makeRightComplete) {
+    isMakeRightComplete.set(makeRightComplete);
+  }
+
   private void resetFailureCount() {
     retryCount.set(0);
   }
@@ -387,6 +421,47 @@ public class DomainPresenceInfo {
     resetFailureCount();
   }
 
+  /**
+   * Returns the most recent status computed for the domain, if it has not yet been written to the domain.
+   *
+   * @return a domain status, or null if there is no unwritten status
+   */
+  public DomainStatus getPendingStatus() {
+    return pendingStatus.get();
+  }
+
+  /**
+   * Records a status computed for the domain, replacing any earlier status which has not yet been written.
+   *
+   * @param status the new status
+   */
+  public void setPendingStatus(DomainStatus status) {
+    pendingStatus.set(status);
+  }
+
+  /**
+   * Discards the pending status after it has been written, unless a newer status has since been computed.
+   *
+   * @param writtenStatus the status which was written
+   */
+  public void clearPendingStatus(DomainStatus writtenStatus) {
+    pendingStatus.compareAndSet(writtenStatus, null);
+  }
+
+  /**
+   * Records that a write of the pending status has been scheduled.
+   *
+   * @return true if no write was already scheduled
+   */
+  public boolean setStatusWriteScheduled() {
+    return isStatusWriteScheduled.compareAndSet(false, true);
+  }
+
+  /** Records that the scheduled write of the pending status has started. */
+  public void clearStatusWriteScheduled() {
+    isStatusWriteScheduled.set(false);
+  }
+
   /**
    * Gets the domain. Except the instance to change frequently based on status updates.
    *
@@ -402,7 +477,66 @@ public class DomainPresenceInfo {
    * @param domain Domain
    */
   public void setDomain(Domain domain) {
-    this.domain.set(domain);
+    Domain oldDomain = this.domain.getAndSet(domain);
+    if (!Objects.equals(getSpec(oldDomain), getSpec(domain))) {
+      invalidateModels();
+    }
+  }
+
+  private static DomainSpec getSpec(Domain domain) {
+    return Optional.ofNullable(domain).map(Domain::getSpec).orElse(null);
+  }
+
+  // The domain's generation is also changed by status updates, so models are keyed on the contents of its spec.
+  // The spec may be modified in place, so that is compared against a copy taken when the models were computed.
+  private DomainSpec getModelSpec(DomainSpec spec) {
+    DomainSpec modelSpec = this.modelSpec.get();
+    if (!spec.equals(modelSpec)) {
+      modelSpec = json.deserialize(json.serialize(spec), DomainSpec.class);
+      this.modelSpec.set(modelSpec);
+    }
+    return modelSpec;
+  }
+
+  /**
+   * Returns the model of a Kubernetes resource which the operator would create for this domain. The model is
+   * computed by the specified factory and cached, and the cached value is returned as long as the domain spec and
+   * the other inputs from which the model is computed are unchanged. If the domain has no spec, models are not
+   * cached. The returned model is shared, so callers must not modify it, nor pass it to code which may retain it;
+   * they should compute a new model for that purpose.
+   *
+   * @param name a name which uniquely identifies the model within the domain, such as "pod:managed-server1"
+   * @param key the inputs, other than the domain spec, from which the model is computed,
+   *            such as the server topology and tuning parameters; compared by equality
+   * @param factory a function to compute the model
+   * @param <T> the type of model
+   * @return the cached model, or a newly computed one
+   */
+  @SuppressWarnings("unchecked")
+  <T> T getModel(String name, List<?> key, Supplier<T> factory) {
+    DomainSpec spec = getSpec(getDomain());
+    if (spec == null) {
+      return factory.get();
+    }
+
+    DomainSpec modelSpec = getModelSpec(spec);
+    CachedModel cached = models.get(name);
+    if (cached != null && cached.spec == modelSpec && cached.key.equals(key)) {
+      return (T) cached.model;
+    }
+
+    T model = factory.get();
+    models.put(name, new CachedModel(modelSpec, key, model));
+    return model;
+  }
+
+  /** Discards all cached models, so that they will be recomputed when next needed. */
+  public void invalidateModels() {
+    models.clear();
+  }
+
+  int getNumCachedModels() {
+    return models.size();
   }
 
   /**
@@ -467,6 +601,18 @@ public class DomainPresenceInfo {
     return sb.toString();
   }
 
+  private static class CachedModel {
+    private final DomainSpec spec;
+    private final List<?> key;
+    private final Object model;
+
+    CachedModel(DomainSpec spec, List<?> key, Object model) {
+      this.spec = spec;
+      this.key = key;
+      this.model = model;
+    }
+  }
+
   /** Details about a specific managed server that will be started up. */
   public static class ServerStartupInfo {
     public final WlsServerConfig serverConfig;
@@ -9,6 +9,7 @@ import javax.json.JsonValue;
 
 import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
+import oracle.kubernetes.operator.calls.RequestPriority;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 
 public class DomainStatusPatch {
@@ -58,7 +59,7 @@ public class DomainStatusPatch {
 
   private void update() {
     try {
-      new CallBuilder().patchDomain(name, namespace, getPatchBody());
+      new CallBuilder().withPriority(RequestPriority.LOW).patchDomain(name, namespace, getPatchBody());
     } catch (ApiException ignored) {
       /* extraneous comment to fool checkstyle into thinking that this is not an empty catch block. */
     }
@@ -29,12 +29,23 @@ public class DomainValidationSteps {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
   private static final String SECRETS = "secrets";
 
+  /**
+   * Creates the steps which validate a domain. The secrets in the domain namespace are listed first, unless
+   * they are available from the {@link SecretCache}.
+   *
+   * @param namespace the domain namespace
+   * @param next the step to run if the domain is valid
+   * @return the validation steps
+   */
   public static Step createDomainValidationSteps(String namespace, Step next) {
+    if (SecretCache.getInstance().isNamespaceCached(namespace)) {
+      return new DomainValidationStep(next);
+    }
     return Step.chain(createListSecretsStep(namespace), new DomainValidationStep(next));
   }
 
   private static Step createListSecretsStep(String domainNamespace) {
-    return new CallBuilder().listSecretsAsync(domainNamespace, new ListSecretsResponseStep());
+    return new CallBuilder().withCoalescing().listSecretsAsync(domainNamespace, new ListSecretsResponseStep());
   }
 
   static class ListSecretsResponseStep extends DefaultResponseStep<V1SecretList> {
@@ -83,7 +94,11 @@ public class DomainValidationSteps {
 
     @Override
     public boolean isSecretExists(String name, String namespace) {
-      return getSecrets(packet).stream().anyMatch(s -> isSpecifiedSecret(s, name, namespace));
+      List<V1Secret> secrets = getSecrets(packet);
+      if (secrets == null) {
+        return SecretCache.getInstance().isSecretExists(namespace, name);
+      }
+      return secrets.stream().anyMatch(s -> isSpecifiedSecret(s, name, namespace));
     }
 
     boolean isSpecifiedSecret(V1Secret secret, String name, String namespace) {
@@ -0,0 +1,27 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+/**
+ * Management interface reporting the saturation of the HTTP client shared by the operator's Kubernetes API
+ * clients: the calls running and queued in its dispatcher, the threads running them, and its connections.
+ */
+public interface HttpClientMXBean {
+
+  int getMaxRequests();
+
+  int getMaxRequestsPerHost();
+
+  int getRunningCallCount();
+
+  int getQueuedCallCount();
+
+  int getThreadCount();
+
+  int getActiveThreadCount();
+
+  int getConnectionCount();
+
+  int getIdleConnectionCount();
+}
@@ -0,0 +1,99 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.lang.management.ManagementFactory;
+import java.util.Optional;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.ToIntFunction;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+/**
+ * Reports the gauges of the HTTP client shared by a {@link ClientPool} as a platform MBean. Each gauge is zero
+ * until the pool has created its client.
+ */
+public class HttpClientMetrics implements HttpClientMXBean {
+  private static final String OBJECT_NAME = "oracle.kubernetes.operator:type=HttpClient";
+
+  private final ClientPool pool;
+
+  public HttpClientMetrics(ClientPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Registers these metrics with the platform MBean server.
+   *
+   * @throws JMException if the registration fails
+   */
+  public void register() throws JMException {
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME));
+  }
+
+  @Override
+  public int getMaxRequests() {
+    return getDispatcherValue(Dispatcher::getMaxRequests);
+  }
+
+  @Override
+  public int getMaxRequestsPerHost() {
+    return getDispatcherValue(Dispatcher::getMaxRequestsPerHost);
+  }
+
+  @Override
+  public int getRunningCallCount() {
+    return getDispatcherValue(Dispatcher::runningCallsCount);
+  }
+
+  @Override
+  public int getQueuedCallCount() {
+    return getDispatcherValue(Dispatcher::queuedCallsCount);
+  }
+
+  @Override
+  public int getThreadCount() {
+    return getExecutorValue(ThreadPoolExecutor::getPoolSize);
+  }
+
+  @Override
+  public int getActiveThreadCount() {
+    return getExecutorValue(ThreadPoolExecutor::getActiveCount);
+  }
+
+  @Override
+  public int getConnectionCount() {
+    return getConnectionPoolValue(ConnectionPool::connectionCount);
+  }
+
+  @Override
+  public int getIdleConnectionCount() {
+    return getConnectionPoolValue(ConnectionPool::idleConnectionCount);
+  }
+
+  private int getDispatcherValue(ToIntFunction<Dispatcher> getter) {
+    return getDispatcher().map(getter::applyAsInt).orElse(0);
+  }
+
+  private int getExecutorValue(ToIntFunction<ThreadPoolExecutor> getter) {
+    return getDispatcher()
+        .map(Dispatcher::executorService)
+        .filter(ThreadPoolExecutor.class::isInstance)
+        .map(ThreadPoolExecutor.class::cast)
+        .map(getter::applyAsInt)
+        .orElse(0);
+  }
+
+  private int getConnectionPoolValue(ToIntFunction<ConnectionPool> getter) {
+    return pool.getHttpClient().map(OkHttpClient::connectionPool).map(getter::applyAsInt).orElse(0);
+  }
+
+  private Optional<Dispatcher> getDispatcher() {
+    return pool.getHttpClient().map(OkHttpClient::dispatcher);
+  }
+}
@@ -3,7 +3,6 @@
 
 package oracle.kubernetes.operator.helpers;
 
-import java.lang.reflect.Field;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -95,16 +94,7 @@ public class KubernetesUtils {
    * @return the metadata, if found; otherwise a newly created one.
    */
   static V1ObjectMeta getResourceMetadata(Object resource) {
-    try {
-      Field metadataField = resource.getClass().getDeclaredField("metadata");
-      metadataField.setAccessible(true);
-      return (V1ObjectMeta) metadataField.get(resource);
-    } catch (NoSuchFieldException
-          | SecurityException
-          | IllegalArgumentException
-          | IllegalAccessException e) {
-      return new V1ObjectMeta();
-    }
+    return Optional.ofNullable(ResourceMetadata.getObjectMeta(resource)).orElseGet(V1ObjectMeta::new);
   }
 
   /**
@@ -40,6 +40,25 @@ public class LastKnownStatus {
     return time;
   }
 
+  /**
+   * Returns the number of seconds after this status was recorded during which it may be reported without
+   * reading the server state again. Once the status has been read unchanged the specified number of times, the
+   * delay starts at the initial delay and doubles with each further unchanged read, up to the maximum delay.
+   *
+   * @param unchangedCountToDelay the number of unchanged reads before the state is no longer read each time
+   * @param initialDelay the first delay, in seconds
+   * @param maxDelay the longest delay, in seconds
+   * @return a delay in seconds, or 0 if the server state should be read each time
+   */
+  public long getRecheckDelaySeconds(int unchangedCountToDelay, long initialDelay, long maxDelay) {
+    if (unchangedCount < unchangedCountToDelay || initialDelay <= 0) {
+      return 0;
+    }
+
+    int doublings = Math.min(unchangedCount - unchangedCountToDelay, Long.numberOfLeadingZeros(initialDelay) - 1);
+    return Math.min(initialDelay << doublings, maxDelay);
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this)
@@ -4,9 +4,15 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1EnvVar;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
@@ -15,6 +21,7 @@ import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.DomainStatusUpdater;
+import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.PodAwaiterStepFactory;
 import oracle.kubernetes.operator.ProcessingConstants;
@@ -31,6 +38,7 @@ import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.weblogic.domain.model.ServerSpec;
 import oracle.kubernetes.weblogic.domain.model.Shutdown;
+import org.joda.time.DateTime;
 
 public class PodHelper {
   static final long DEFAULT_ADDITIONAL_DELETE_TIME = 10;
@@ -115,6 +123,52 @@ public class PodHelper {
     return false;
   }
 
+  /**
+   * Returns the number of times the containers of a pod have restarted.
+   * @param pod pod
+   * @return the sum of the restart counts of its containers
+   */
+  public static int getRestartCount(V1Pod pod) {
+    return Optional.ofNullable(pod.getStatus())
+        .map(V1PodStatus::getContainerStatuses)
+        .orElse(Collections.emptyList())
+        .stream()
+        .map(V1ContainerStatus::getRestartCount)
+        .filter(Objects::nonNull)
+        .mapToInt(Integer::intValue)
+        .sum();
+  }
+
+  /**
+   * Returns the server state recorded in the annotations of a pod by the liveness probe of its WebLogic Server
+   * container. The annotations survive a restart of the container, so a state recorded before the running
+   * container started describes a previous one and is ignored.
+   * @param pod pod
+   * @return the recorded state, or null if the running container has not recorded one
+   */
+  public static String getRecordedServerState(V1Pod pod) {
+    String state = AnnotationHelper.getServerState(pod);
+    DateTime recordedTime = AnnotationHelper.getServerStateTime(pod);
+    DateTime startTime = getServerContainerStartTime(pod);
+    if (state == null || recordedTime == null || startTime == null || recordedTime.isBefore(startTime)) {
+      return null;
+    }
+    return state;
+  }
+
+  private static DateTime getServerContainerStartTime(V1Pod pod) {
+    return Optional.ofNullable(pod.getStatus())
+        .map(V1PodStatus::getContainerStatuses)
+        .orElse(Collections.emptyList())
+        .stream()
+        .filter(s -> KubernetesConstants.CONTAINER_NAME.equals(s.getName()))
+        .findFirst()
+        .map(V1ContainerStatus::getState)
+        .map(V1ContainerState::getRunning)
+        .map(V1ContainerStateRunning::getStartedAt)
+        .orElse(null);
+  }
+
   /**
    * get pod domain UID.
    * @param pod pod
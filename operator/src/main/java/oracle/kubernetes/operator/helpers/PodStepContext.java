@@ -7,6 +7,7 @@ import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -36,6 +37,7 @@ import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.PodAwaiterStepFactory;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.ServerStateSource;
 import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.calls.CallResponse;
@@ -43,6 +45,7 @@ import oracle.kubernetes.operator.calls.UnrecoverableErrorBuilder;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.steps.DefaultResponseStep;
 import oracle.kubernetes.operator.wlsconfig.NetworkAccessPoint;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
@@ -85,7 +88,19 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   void init() {
-    podModel = createPodModel();
+    podModel = info.getModel("pod:" + getServerName(), getModelKey(), this::createPodModel);
+  }
+
+  // The inputs, other than the domain spec, from which the pod model is computed.
+  private List<Object> getModelKey() {
+    return Arrays.asList(
+          getClass(),
+          getClusterName(),
+          getDomainName(),
+          getAsName(),
+          domainTopology.getServerConfig(getAsName()),
+          scan,
+          TuningParameters.getInstance().getPodTuning());
   }
 
   V1Pod getPodModel() {
@@ -283,7 +298,8 @@ public abstract class PodStepContext extends BasePodStepContext {
   }
 
   private Step createPodAsync(ResponseStep<V1Pod> response) {
-    return new CallBuilder().createPodAsync(getNamespace(), getPodModel(), response);
+    // the cached model is shared, so create the pod from a model of its own
+    return new CallBuilder().createPodAsync(getNamespace(), createPodModel(), response);
   }
 
   /**
@@ -313,7 +329,7 @@ public abstract class PodStepContext extends BasePodStepContext {
         patchBuilder,
         "/metadata/annotations/",
         currentPod.getMetadata().getAnnotations(),
-        getPodAnnotations());
+        getRequiredAnnotations());
 
     return new CallBuilder()
         .patchPodAsync(getPodName(), getNamespace(),
@@ -351,12 +367,18 @@ public abstract class PodStepContext extends BasePodStepContext {
   private boolean mustPatchPod(V1Pod currentPod) {
     return KubernetesUtils.isMissingValues(currentPod.getMetadata().getLabels(), getPodLabels())
         || KubernetesUtils.isMissingValues(
-            currentPod.getMetadata().getAnnotations(), getPodAnnotations());
+            currentPod.getMetadata().getAnnotations(), getRequiredAnnotations());
+  }
+
+  // A usable pod whose hash is still a legacy one is given the canonical hash, so that it is not recomputed each time.
+  private Map<String, String> getRequiredAnnotations() {
+    Map<String, String> annotations = new HashMap<>(getPodAnnotations());
+    annotations.put(AnnotationHelper.SHA256_ANNOTATION, AnnotationHelper.getHash(getPodModel()));
+    return annotations;
   }
 
   private boolean canUseCurrentPod(V1Pod currentPod) {
-    boolean useCurrent =
-        AnnotationHelper.getHash(getPodModel()).equals(AnnotationHelper.getHash(currentPod));
+    boolean useCurrent = AnnotationHelper.hasMatchingHash(getPodModel(), currentPod, this::createPodRecipe);
     if (!useCurrent && AnnotationHelper.getDebugString(currentPod).length() > 0) {
       LOGGER.info(
           MessageKeys.POD_DUMP,
@@ -367,6 +389,11 @@ public abstract class PodStepContext extends BasePodStepContext {
     return useCurrent;
   }
 
+  // the recorded pod is only a projection, so the full pod is read to report how it differs from the desired one
+  private Step readPodToRecycle(Step next) {
+    return new CallBuilder().readPodAsync(getPodName(), getNamespace(), new RecyclePodResponseStep(next));
+  }
+
   private String getReasonToRecycle(V1Pod currentPod) {
     PodCompatibility compatibility = new PodCompatibility(getPodModel(), currentPod);
     return compatibility.getIncompatibility();
@@ -590,6 +617,10 @@ public abstract class PodStepContext extends BasePodStepContext {
     if (dataHome != null && !dataHome.isEmpty()) {
       addEnvVar(vars, ServerEnvVars.DATA_HOME, dataHome);
     }
+    if (getDomain().getServerStateSource() == ServerStateSource.PodAnnotation) {
+      addEnvVar(vars, ServerEnvVars.SERVER_STATE_ANNOTATION, AnnotationHelper.SERVER_STATE_ANNOTATION);
+      addEnvVar(vars, ServerEnvVars.SERVER_STATE_TIME_ANNOTATION, AnnotationHelper.SERVER_STATE_TIME_ANNOTATION);
+    }
     if (mockWls()) {
       addEnvVar(vars, "MOCK_WLS", "true");
     }
@@ -754,11 +785,7 @@ public abstract class PodStepContext extends BasePodStepContext {
       if (currentPod == null) {
         return doNext(createNewPod(getNext()), packet);
       } else if (!canUseCurrentPod(currentPod)) {
-        LOGGER.info(
-            MessageKeys.CYCLING_POD,
-            currentPod.getMetadata().getName(),
-            getReasonToRecycle(currentPod));
-        return doNext(replaceCurrentPod(getNext()), packet);
+        return doNext(readPodToRecycle(getNext()), packet);
       } else if (mustPatchPod(currentPod)) {
         return doNext(patchCurrentPod(currentPod, getNext()), packet);
       } else {
@@ -768,6 +795,20 @@ public abstract class PodStepContext extends BasePodStepContext {
     }
   }
 
+  private class RecyclePodResponseStep extends DefaultResponseStep<V1Pod> {
+
+    RecyclePodResponseStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<V1Pod> callResponse) {
+      Optional.ofNullable(callResponse.getResult())
+          .ifPresent(pod -> LOGGER.info(MessageKeys.CYCLING_POD, getPodName(), getReasonToRecycle(pod)));
+      return doNext(replaceCurrentPod(getNext()), packet);
+    }
+  }
+
   private abstract class BaseResponseStep extends ResponseStep<V1Pod> {
     BaseResponseStep(Step next) {
       super(next);
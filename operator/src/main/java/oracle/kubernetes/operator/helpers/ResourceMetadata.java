@@ -0,0 +1,102 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import io.kubernetes.client.common.KubernetesListObject;
+import io.kubernetes.client.common.KubernetesObject;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+
+/**
+ * Typed access to the metadata of Kubernetes resources and lists. Generated Kubernetes models implement
+ * {@link KubernetesObject} or {@link KubernetesListObject} and are read directly; other types, such as the
+ * domain custom resource, use an accessor function which is registered, or resolved once per class, so that
+ * no reflective lookup is needed per object.
+ */
+public class ResourceMetadata {
+
+  private static final Function<Object, Object> NO_METADATA = o -> null;
+
+  private static final Map<Class<?>, Function<Object, Object>> accessors = new ConcurrentHashMap<>();
+
+  static {
+    register(Domain.class, Domain::getMetadata);
+    register(DomainList.class, DomainList::getMetadata);
+  }
+
+  private ResourceMetadata() {
+  }
+
+  /**
+   * Registers the function used to obtain the metadata of resources of the specified type.
+   *
+   * @param type the resource class
+   * @param accessor a function which returns the metadata of a resource
+   * @param <T> the resource type
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> void register(Class<T> type, Function<T, ?> accessor) {
+    accessors.put(type, (Function<Object, Object>) accessor);
+  }
+
+  /**
+   * Returns the object metadata of a resource.
+   *
+   * @param resource a Kubernetes resource
+   * @return the metadata, or null if the resource has none
+   */
+  public static V1ObjectMeta getObjectMeta(Object resource) {
+    if (resource instanceof KubernetesObject) {
+      return ((KubernetesObject) resource).getMetadata();
+    }
+
+    Object metadata = getMetadata(resource);
+    return metadata instanceof V1ObjectMeta ? (V1ObjectMeta) metadata : null;
+  }
+
+  /**
+   * Returns the list metadata of a list of resources.
+   *
+   * @param list the result of a list call
+   * @return the metadata, or null if the list has none
+   */
+  public static V1ListMeta getListMeta(Object list) {
+    if (list instanceof KubernetesListObject) {
+      return ((KubernetesListObject) list).getMetadata();
+    }
+
+    Object metadata = getMetadata(list);
+    return metadata instanceof V1ListMeta ? (V1ListMeta) metadata : null;
+  }
+
+  private static Object getMetadata(Object resource) {
+    return resource == null ? null : accessors.computeIfAbsent(resource.getClass(), ResourceMetadata::resolve)
+          .apply(resource);
+  }
+
+  // Resolves the accessor for a class which was not registered. The reflective lookup is done only once per class.
+  private static Function<Object, Object> resolve(Class<?> type) {
+    try {
+      Method getMetadata = type.getMethod("getMetadata");
+      return o -> invoke(getMetadata, o);
+    } catch (NoSuchMethodException | SecurityException e) {
+      return NO_METADATA;
+    }
+  }
+
+  private static Object invoke(Method getMetadata, Object resource) {
+    try {
+      return getMetadata.invoke(resource);
+    } catch (ReflectiveOperationException | IllegalArgumentException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,140 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+
+/**
+ * Compact copies of the pods and services recorded in a {@link DomainPresenceInfo}. The operator decides whether
+ * a recorded resource is current from the hash annotation it wrote when it created that resource, so it needs
+ * only the fields below; the rest of the spec, all of the container statuses but their restart counts and start
+ * times, and the managed fields are dropped. Code which needs the full resource, such as reporting why a pod must
+ * be replaced, reads it from the API server.
+ */
+public class ResourceProjection {
+
+  private ResourceProjection() {
+    // no instances
+  }
+
+  /**
+   * Returns a projection of a pod, keeping its identity, labels and annotations, the node to which it is assigned,
+   * its phase and readiness conditions, its IP address, and the restart counts and start times of its containers.
+   *
+   * @param pod a pod, which may be null
+   * @return the projection, or null if the pod is null
+   */
+  public static V1Pod projectPod(V1Pod pod) {
+    if (pod == null) {
+      return null;
+    }
+
+    return new V1Pod()
+        .apiVersion(pod.getApiVersion())
+        .kind(pod.getKind())
+        .metadata(projectMetadata(pod.getMetadata()))
+        .spec(projectPodSpec(pod.getSpec()))
+        .status(projectPodStatus(pod.getStatus()));
+  }
+
+  /**
+   * Returns a projection of a service, keeping its identity, labels and annotations, its type, cluster IP and ports.
+   *
+   * @param service a service, which may be null
+   * @return the projection, or null if the service is null
+   */
+  public static V1Service projectService(V1Service service) {
+    if (service == null) {
+      return null;
+    }
+
+    return new V1Service()
+        .apiVersion(service.getApiVersion())
+        .kind(service.getKind())
+        .metadata(projectMetadata(service.getMetadata()))
+        .spec(projectServiceSpec(service.getSpec()));
+  }
+
+  private static V1ObjectMeta projectMetadata(V1ObjectMeta metadata) {
+    if (metadata == null) {
+      return null;
+    }
+
+    return new V1ObjectMeta()
+        .name(metadata.getName())
+        .namespace(metadata.getNamespace())
+        .labels(metadata.getLabels())
+        .annotations(metadata.getAnnotations())
+        .resourceVersion(metadata.getResourceVersion())
+        .creationTimestamp(metadata.getCreationTimestamp())
+        .deletionTimestamp(metadata.getDeletionTimestamp());
+  }
+
+  private static V1PodSpec projectPodSpec(V1PodSpec spec) {
+    return spec == null ? null : new V1PodSpec().nodeName(spec.getNodeName());
+  }
+
+  private static V1PodStatus projectPodStatus(V1PodStatus status) {
+    if (status == null) {
+      return null;
+    }
+
+    return new V1PodStatus()
+        .phase(status.getPhase())
+        .podIP(status.getPodIP())
+        .conditions(projectConditions(status.getConditions()))
+        .containerStatuses(projectContainerStatuses(status.getContainerStatuses()));
+  }
+
+  private static List<V1ContainerStatus> projectContainerStatuses(List<V1ContainerStatus> statuses) {
+    if (statuses == null) {
+      return null;
+    }
+
+    return statuses.stream()
+        .map(s -> new V1ContainerStatus()
+            .name(s.getName())
+            .restartCount(s.getRestartCount())
+            .state(projectContainerState(s.getState())))
+        .collect(Collectors.toList());
+  }
+
+  private static V1ContainerState projectContainerState(V1ContainerState state) {
+    if (state == null || state.getRunning() == null) {
+      return null;
+    }
+
+    return new V1ContainerState().running(new V1ContainerStateRunning().startedAt(state.getRunning().getStartedAt()));
+  }
+
+  private static List<V1PodCondition> projectConditions(List<V1PodCondition> conditions) {
+    if (conditions == null) {
+      return null;
+    }
+
+    return conditions.stream()
+        .map(c -> new V1PodCondition().type(c.getType()).status(c.getStatus()))
+        .collect(Collectors.toList());
+  }
+
+  private static V1ServiceSpec projectServiceSpec(V1ServiceSpec spec) {
+    if (spec == null) {
+      return null;
+    }
+
+    return new V1ServiceSpec().type(spec.getType()).clusterIP(spec.getClusterIP()).ports(spec.getPorts());
+  }
+}
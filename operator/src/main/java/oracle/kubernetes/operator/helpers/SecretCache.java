@@ -0,0 +1,181 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.operator.watcher.WatchListener;
+
+/**
+ * A local store of the secrets in the namespaces managed by the operator, maintained by a secret watch in each
+ * namespace. Domain validation needs only to know which secrets exist, so the secret list and watch ask only for
+ * the metadata of each secret, and the cache normally keeps nothing more. The data of a secret is kept only once it
+ * has been read as a WebLogic credentials secret. A later list or watch event which reports a new version of that
+ * secret discards the cached data, so that the next reader reads the secret again; a changed or deleted secret is
+ * never served from the cache.
+ *
+ * <p>A namespace is served from the cache only after its secrets have been listed. Until then, and in namespaces
+ * which are not watched, callers must read secrets from the API server; watch events for such a namespace are
+ * ignored. A list replaces the secrets of its namespace as a whole, so that readers never see a mix of the old
+ * and new contents.
+ */
+public class SecretCache implements WatchListener<V1Secret> {
+  private static SecretCache INSTANCE = new SecretCache();
+
+  private final Map<String, NamespaceSecrets> namespaces = new ConcurrentHashMap<>();
+  private final Set<String> credentialsSecrets = ConcurrentHashMap.newKeySet();
+
+  SecretCache() {
+  }
+
+  public static SecretCache getInstance() {
+    return INSTANCE;
+  }
+
+  @Override
+  public void receivedResponse(Watch.Response<V1Secret> response) {
+    V1ObjectMeta metadata = Optional.ofNullable(response.object).map(V1Secret::getMetadata).orElse(null);
+    NamespaceSecrets contents = metadata == null ? null : namespaces.get(metadata.getNamespace());
+    if (contents == null) {
+      return;
+    }
+
+    switch (response.type) {
+      case "ADDED":
+      case "MODIFIED":
+        contents.secrets.compute(metadata.getName(), (name, cached) -> update(cached, response.object));
+        break;
+      case "DELETED":
+        contents.secrets.remove(metadata.getName());
+        break;
+      default:
+    }
+  }
+
+  /**
+   * Replaces the cached secrets for a namespace with the result of a list call, after which the namespace is
+   * served from the cache.
+   *
+   * @param namespace the namespace which was listed
+   * @param items the listed secrets
+   */
+  public void replaceNamespace(String namespace, Collection<V1Secret> items) {
+    NamespaceSecrets contents = new NamespaceSecrets();
+    NamespaceSecrets previous = namespaces.get(namespace);
+    for (V1Secret secret : Optional.ofNullable(items).orElse(Collections.emptyList())) {
+      String name = secret.getMetadata().getName();
+      contents.secrets.put(name, update(previous == null ? null : previous.secrets.get(name), secret));
+    }
+    namespaces.put(namespace, contents);
+  }
+
+  /**
+   * Removes all cached secrets for the specified namespace, which will no longer be served from the cache.
+   *
+   * @param namespace the namespace to forget
+   */
+  public void removeNamespace(String namespace) {
+    namespaces.remove(namespace);
+    credentialsSecrets.removeIf(key -> key.startsWith(namespace + "/"));
+  }
+
+  /**
+   * Returns true if the secrets in the specified namespace are served from this cache.
+   *
+   * @param namespace a namespace
+   * @return true if the namespace has been listed and is being watched
+   */
+  public boolean isNamespaceCached(String namespace) {
+    return namespaces.containsKey(namespace);
+  }
+
+  /**
+   * Returns true if the specified secret is known to exist.
+   *
+   * @param namespace the namespace of the secret
+   * @param name the name of the secret
+   * @return true if the secret is cached
+   */
+  public boolean isSecretExists(String namespace, String name) {
+    return getSecret(namespace, name) != null;
+  }
+
+  /**
+   * Returns the cached WebLogic credentials secret with the specified name, including its data.
+   *
+   * @param namespace the namespace of the secret
+   * @param name the name of the secret
+   * @return the secret, or null if its data is not cached
+   */
+  public V1Secret getCredentialsSecret(String namespace, String name) {
+    return Optional.ofNullable(getSecret(namespace, name)).filter(s -> s.getData() != null).orElse(null);
+  }
+
+  private V1Secret getSecret(String namespace, String name) {
+    return Optional.ofNullable(namespaces.get(namespace)).map(contents -> contents.secrets.get(name)).orElse(null);
+  }
+
+  /**
+   * Records a WebLogic credentials secret which was read from the API server. From now on, the data of the
+   * secret is kept in the cache. Has no effect if the namespace of the secret is not served from the cache.
+   *
+   * @param secret the secret which was read
+   */
+  public void addCredentialsSecret(V1Secret secret) {
+    V1ObjectMeta metadata = secret.getMetadata();
+    if (metadata == null || !isNamespaceCached(metadata.getNamespace())) {
+      return;
+    }
+
+    credentialsSecrets.add(toKey(metadata));
+    Optional.ofNullable(namespaces.get(metadata.getNamespace()))
+        .ifPresent(contents -> contents.secrets.put(metadata.getName(), secret));
+  }
+
+  // a reported secret without data, such as one from a metadata-only list or watch, keeps the cached data only
+  // if it is the same version of the secret
+  private V1Secret update(V1Secret cached, V1Secret reported) {
+    if (reported.getData() == null && cached != null && cached.getData() != null && isSameVersion(cached, reported)) {
+      return cached;
+    }
+    return trim(reported);
+  }
+
+  private static boolean isSameVersion(V1Secret first, V1Secret second) {
+    return Objects.equals(getResourceVersion(first), getResourceVersion(second));
+  }
+
+  private static String getResourceVersion(V1Secret secret) {
+    return Optional.ofNullable(secret.getMetadata()).map(V1ObjectMeta::getResourceVersion).orElse(null);
+  }
+
+  private V1Secret trim(V1Secret secret) {
+    if (secret.getMetadata() == null || credentialsSecrets.contains(toKey(secret.getMetadata()))) {
+      return secret;
+    }
+
+    return new V1Secret()
+        .apiVersion(secret.getApiVersion())
+        .kind(secret.getKind())
+        .metadata(secret.getMetadata())
+        .type(secret.getType());
+  }
+
+  private static String toKey(V1ObjectMeta metadata) {
+    return metadata.getNamespace() + "/" + metadata.getName();
+  }
+
+  private static class NamespaceSecrets {
+    private final Map<String, V1Secret> secrets = new ConcurrentHashMap<>();
+  }
+}
@@ -3,11 +3,15 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Secret;
 import oracle.kubernetes.operator.calls.CallResponse;
+import oracle.kubernetes.operator.calls.RequestPriority;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
 import oracle.kubernetes.operator.logging.LoggingFilter;
@@ -19,6 +23,7 @@ import oracle.kubernetes.operator.work.Step;
 /** A Helper Class for retrieving Kubernetes Secrets used by the WebLogic Operator. */
 public class SecretHelper {
   public static final String SECRET_DATA_KEY = "secretData";
+  public static final String SECRET_RESOURCE_VERSION_KEY = "secretResourceVersion";
   // Admin Server Credentials Type Secret
   // has 2 fields (username and password)
   public static final String ADMIN_SERVER_CREDENTIALS_USERNAME = "username";
@@ -50,8 +55,9 @@ public class SecretHelper {
   private static Map<String, byte[]> harvestAdminSecretData(
       V1Secret secret, LoggingFilter loggingFilter) {
     Map<String, byte[]> secretData = new HashMap<>();
-    byte[] usernameBytes = secret.getData().get(ADMIN_SERVER_CREDENTIALS_USERNAME);
-    byte[] passwordBytes = secret.getData().get(ADMIN_SERVER_CREDENTIALS_PASSWORD);
+    // the secret may be cached and shared, so its callers receive copies which they may clear after use
+    byte[] usernameBytes = copyOf(secret.getData().get(ADMIN_SERVER_CREDENTIALS_USERNAME));
+    byte[] passwordBytes = copyOf(secret.getData().get(ADMIN_SERVER_CREDENTIALS_PASSWORD));
 
     if (usernameBytes != null) {
       secretData.put(ADMIN_SERVER_CREDENTIALS_USERNAME, usernameBytes);
@@ -69,6 +75,10 @@ public class SecretHelper {
     return secretData;
   }
 
+  private static byte[] copyOf(byte[] bytes) {
+    return bytes == null ? null : Arrays.copyOf(bytes, bytes.length);
+  }
+
   private static class SecretDataStep extends Step {
     private final SecretType secretType;
     private final String secretName;
@@ -89,9 +99,18 @@ public class SecretHelper {
         throw new IllegalArgumentException("Invalid secret name");
       }
 
+      V1Secret cached = SecretCache.getInstance().getCredentialsSecret(namespace, secretName);
+      if (cached != null) {
+        recordSecretData(packet, cached, packet.getValue(LoggingFilter.LOGGING_FILTER_PACKET_KEY));
+        return doNext(packet);
+      }
+
       LOGGER.fine(MessageKeys.RETRIEVING_SECRET, secretName);
+      // the credentials are read in order to check the health of the servers, which only reports state
       Step read =
           new CallBuilder()
+              .withCoalescing()
+              .withPriority(RequestPriority.LOW)
               .readSecretAsync(secretName, namespace, new SecretResponseStep(packet, getNext()));
 
       return doNext(read, packet);
@@ -116,10 +135,17 @@ public class SecretHelper {
 
       @Override
       public NextAction onSuccess(Packet packet, CallResponse<V1Secret> callResponse) {
-        packet.put(
-            SECRET_DATA_KEY, harvestAdminSecretData(callResponse.getResult(), loggingFilter));
+        SecretCache.getInstance().addCredentialsSecret(callResponse.getResult());
+        recordSecretData(packet, callResponse.getResult(), loggingFilter);
         return doNext(packet);
       }
     }
+
+    private void recordSecretData(Packet packet, V1Secret secret, LoggingFilter loggingFilter) {
+      packet.put(SECRET_DATA_KEY, harvestAdminSecretData(secret, loggingFilter));
+      Optional.ofNullable(secret.getMetadata())
+          .map(V1ObjectMeta::getResourceVersion)
+          .ifPresent(version -> packet.put(SECRET_RESOURCE_VERSION_KEY, version));
+    }
   }
 }
@@ -4,13 +4,17 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import javax.annotation.Nonnull;
+import javax.json.Json;
+import javax.json.JsonPatchBuilder;
 
+import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.models.V1DeleteOptions;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Service;
@@ -84,7 +88,7 @@ public class ServiceHelper {
   }
 
   static V1Service createServerServiceModel(Packet packet) {
-    return new ServerServiceStepContext(false, null, packet).createModel();
+    return new ServerServiceStepContext(false, null, packet).createHashedModel();
   }
 
   public static void addToPresence(DomainPresenceInfo info, V1Service service) {
@@ -158,11 +162,7 @@ public class ServiceHelper {
   }
 
   static V1Service createClusterServiceModel(Packet packet) {
-    return new ClusterStepContext(null, packet).createModel();
-  }
-
-  private static boolean canUseCurrentService(V1Service model, V1Service current) {
-    return AnnotationHelper.getHash(model).equals(AnnotationHelper.getHash(current));
+    return new ClusterStepContext(null, packet).createHashedModel();
   }
 
   /**
@@ -176,7 +176,7 @@ public class ServiceHelper {
   }
 
   static V1Service createExternalServiceModel(Packet packet) {
-    return new ExternalServiceStepContext(null, packet).createModel();
+    return new ExternalServiceStepContext(null, packet).createHashedModel();
   }
 
   private static class ForServerStep extends ServiceHelperStep {
@@ -243,6 +243,13 @@ public class ServiceHelper {
       return version != null && version.isPublishNotReadyAddressesSupported();
     }
 
+    @Override
+    List<Object> getModelKey() {
+      return Arrays.asList(
+            getClass(), getServerName(), getClusterName(), isPreserveServices, isPublishNotReadyAddressesSupported(),
+            scan);
+    }
+
     @Override
     protected V1ObjectMeta createMetadata() {
       V1ObjectMeta metadata =
@@ -395,9 +402,20 @@ public class ServiceHelper {
     }
 
     V1Service createModel() {
+      return info.getModel("service:" + createServiceName(), getModelKey(), this::createHashedModel);
+    }
+
+    private V1Service createHashedModel() {
       return AnnotationHelper.withSha256Hash(createRecipe());
     }
 
+    // The inputs, other than the domain spec, from which the service model is computed.
+    abstract List<Object> getModelKey();
+
+    private boolean canUseCurrentService(V1Service current) {
+      return AnnotationHelper.hasMatchingHash(createModel(), current, this::createRecipe);
+    }
+
     V1Service createRecipe() {
       return serviceType.withTypeLabel(
           new V1Service().spec(createServiceSpec()).metadata(createMetadata()));
@@ -508,9 +526,9 @@ public class ServiceHelper {
       V1Service service = getServiceFromRecord();
       if (service == null) {
         return createNewService(next);
-      } else if (canUseCurrentService(createModel(), service)) {
+      } else if (canUseCurrentService(service)) {
         logServiceExists();
-        return next;
+        return hasCanonicalHash(service) ? next : patchCanonicalHash(next);
       } else {
         removeServiceFromRecord();
         return deleteAndReplaceService(next);
@@ -519,6 +537,20 @@ public class ServiceHelper {
 
     protected abstract void logServiceExists();
 
+    // A usable service whose hash is still a legacy one is given the canonical hash, so that it is not recomputed.
+    private boolean hasCanonicalHash(V1Service service) {
+      return AnnotationHelper.getHash(createModel()).equals(AnnotationHelper.getHash(service));
+    }
+
+    private Step patchCanonicalHash(Step next) {
+      JsonPatchBuilder patchBuilder = Json.createPatchBuilder()
+          .replace("/metadata/annotations/" + AnnotationHelper.SHA256_ANNOTATION,
+              AnnotationHelper.getHash(createModel()));
+      return new CallBuilder()
+          .patchServiceAsync(createServiceName(), getNamespace(),
+              new V1Patch(patchBuilder.build().toString()), new PatchServiceResponse(next));
+    }
+
     private Step createNewService(Step next) {
       return createService(getServiceCreatedMessageKey(), next);
     }
@@ -540,7 +572,7 @@ public class ServiceHelper {
 
     private Step createService(String messageKey, Step next) {
       return new CallBuilder()
-          .createServiceAsync(getNamespace(), createModel(), new CreateResponse(messageKey, next));
+          .createServiceAsync(getNamespace(), createHashedModel(), new CreateResponse(messageKey, next));
     }
 
     private class ConflictStep extends Step {
@@ -594,6 +626,23 @@ public class ServiceHelper {
       }
     }
 
+    private class PatchServiceResponse extends DefaultResponseStep<V1Service> {
+      PatchServiceResponse(Step next) {
+        super(next);
+      }
+
+      @Override
+      public NextAction onSuccess(Packet packet, CallResponse<V1Service> callResponse) {
+        V1Service service = callResponse.getResult();
+        if (service == null) {
+          removeServiceFromRecord();
+        } else {
+          addServiceToRecord(service);
+        }
+        return doNext(packet);
+      }
+    }
+
     private class DeleteServiceResponse extends ResponseStep<V1Status> {
       DeleteServiceResponse(Step next) {
         super(next);
@@ -696,6 +745,11 @@ public class ServiceHelper {
           .putSelectorItem(LabelConstants.CLUSTERNAME_LABEL, clusterName);
     }
 
+    @Override
+    List<Object> getModelKey() {
+      return Arrays.asList(getClass(), clusterName, config.getClusterConfig(clusterName));
+    }
+
     protected List<V1ServicePort> createServicePorts() {
       for (WlsServerConfig server : getServerConfigs(config.getClusterConfig(clusterName))) {
         addServicePorts(server);
@@ -815,6 +869,12 @@ public class ServiceHelper {
       return LegalNames.toExternalServiceName(getDomainUid(), adminServerName);
     }
 
+    @Override
+    List<Object> getModelKey() {
+      return Arrays.asList(
+            getClass(), adminServerName, domainTopology.getServerConfig(domainTopology.getAdminServerName()));
+    }
+
     @Override
     protected String getSpecType() {
       return NODE_PORT_TYPE;
@@ -5,10 +5,14 @@ package oracle.kubernetes.operator.http;
 
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.ws.rs.client.Client;
-import javax.ws.rs.client.ClientBuilder;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
+import javax.ws.rs.client.InvocationCallback;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response;
 
@@ -34,6 +38,9 @@ public class HttpClient {
   private static final String HTTPS_PROTOCOL = "https://";
   private final Client httpClient;
   private final String encodedCredentials;
+  private final AtomicInteger users = new AtomicInteger();
+  private final AtomicBoolean closed = new AtomicBoolean();
+  private volatile boolean retired;
 
   // Please use one of the factory methods to get an instance of HttpClient.
   // Constructor is package access for unit testing
@@ -54,7 +61,7 @@ public class HttpClient {
   public static Step createAuthenticatedClientForServer(
       String namespace, String adminSecretName, Step next) {
     return new AuthenticatedClientForServerStep(
-        namespace, adminSecretName, new WithSecretDataStep(next));
+        namespace, adminSecretName, new WithSecretDataStep(namespace, adminSecretName, next));
   }
 
   /**
@@ -68,16 +75,22 @@ public class HttpClient {
   }
 
   /**
-   * Create authenticated HTTP client.
+   * Returns the pooled HTTP client for the specified credentials secret, creating one if needed.
    *
+   * @param namespace Namespace of the secret
+   * @param secretName Name of the secret
+   * @param resourceVersion Resource version of the secret
    * @param username Username
    * @param password Password
    * @return authenticated client
    */
-  private static HttpClient createAuthenticatedClient(
-      final byte[] username, final byte[] password) {
-    // build client with authentication information.
-    Client client = ClientBuilder.newClient();
+  private static HttpClient getAuthenticatedClient(
+      String namespace, String secretName, String resourceVersion, final byte[] username, final byte[] password) {
+    return HttpClientPool.getInstance()
+        .getClient(namespace, secretName, resourceVersion, () -> encodeCredentials(username, password));
+  }
+
+  private static String encodeCredentials(final byte[] username, final byte[] password) {
     String encodedCredentials = null;
     if (username != null && password != null) {
       byte[] usernameAndPassword = new byte[username.length + password.length + 1];
@@ -85,8 +98,9 @@ public class HttpClient {
       usernameAndPassword[username.length] = (byte) ':';
       System.arraycopy(password, 0, usernameAndPassword, username.length + 1, password.length);
       encodedCredentials = java.util.Base64.getEncoder().encodeToString(usernameAndPassword);
+      clearCredential(usernameAndPassword);
     }
-    return new HttpClient(client, encodedCredentials);
+    return encodedCredentials;
   }
 
   /**
@@ -180,30 +194,120 @@ public class HttpClient {
       String requestUrl, String serviceUrl, String payload, boolean throwOnFailure)
       throws HttpException {
     String url = serviceUrl + requestUrl;
+    Response response = createInvocationBuilder(url).post(Entity.json(payload));
+    return toResult(url, response, throwOnFailure);
+  }
+
+  /**
+   * Constructs a URL using the provided service URL and request URL, and use the resulting URL and
+   * the payload provided to issue an asynchronous HTTP POST request. The calling thread does not wait
+   * for the response, which is awaited on the client's executor; for pooled clients, that is the bounded
+   * executor of {@link HttpClientPool}. The returned future does not complete exceptionally if the HTTP
+   * request returns a failure status code; cancelling it abandons the request.
+   *
+   * @param requestUrl The request URL containing the request of the REST call
+   * @param serviceUrl The service URL containing the host and port of the server where the HTTP
+   *     request is to be sent to
+   * @param payload The payload to be used in the HTTP POST request
+   * @return A future which will be completed with the response from the REST call
+   */
+  public CompletableFuture<Result> executePostUrlOnServiceClusterIPAsync(
+      String requestUrl, String serviceUrl, String payload) {
+    String url = serviceUrl + requestUrl;
+    CompletableFuture<Result> result = new CompletableFuture<>();
+    Future<Response> request =
+        createInvocationBuilder(url)
+            .async()
+            .post(
+                Entity.json(payload),
+                new InvocationCallback<Response>() {
+                  @Override
+                  public void completed(Response response) {
+                    try {
+                      result.complete(toResult(url, response, false));
+                    } catch (HttpException | RuntimeException e) {
+                      result.completeExceptionally(e);
+                    }
+                  }
+
+                  @Override
+                  public void failed(Throwable throwable) {
+                    result.completeExceptionally(throwable);
+                  }
+                });
+    result.whenComplete((r, t) -> cancelIfAbandoned(result, request));
+    return result;
+  }
+
+  private static void cancelIfAbandoned(CompletableFuture<Result> result, Future<Response> request) {
+    if (result.isCancelled()) {
+      request.cancel(true);
+    }
+  }
+
+  private Invocation.Builder createInvocationBuilder(String url) {
     WebTarget target = httpClient.target(url);
-    Invocation.Builder invocationBuilder =
-        target
-            .request()
-            .accept("application/json")
-            .header("Authorization", "Basic " + encodedCredentials)
-            .header("X-Requested-By", "Weblogic Operator");
-    Response response = invocationBuilder.post(Entity.json(payload));
-    LOGGER.finer("Response is  " + response.getStatusInfo());
-    String responseString = null;
-    int status = response.getStatus();
-    boolean successful = false;
-    if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
-      successful = true;
-      if (response.hasEntity()) {
-        responseString = String.valueOf(response.readEntity(String.class));
-      }
-    } else {
-      LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, "POST", url, response.getStatus());
-      if (throwOnFailure) {
-        throw new HttpException(status);
+    return target
+        .request()
+        .accept("application/json")
+        .header("Authorization", "Basic " + encodedCredentials)
+        .header("X-Requested-By", "Weblogic Operator");
+  }
+
+  private Result toResult(String url, Response response, boolean throwOnFailure) throws HttpException {
+    try {
+      LOGGER.finer("Response is  " + response.getStatusInfo());
+      String responseString = null;
+      int status = response.getStatus();
+      boolean successful = false;
+      if (response.getStatusInfo().getFamily() == Response.Status.Family.SUCCESSFUL) {
+        successful = true;
+        if (response.hasEntity()) {
+          responseString = String.valueOf(response.readEntity(String.class));
+        }
+      } else {
+        LOGGER.fine(MessageKeys.HTTP_METHOD_FAILED, "POST", url, response.getStatus());
+        if (throwOnFailure) {
+          throw new HttpException(status);
+        }
       }
+      return new Result(responseString, status, successful);
+    } finally {
+      // releases the connection so that it may be kept alive for the next request
+      response.close();
+    }
+  }
+
+  /** Records that the pool has handed this client to a caller, which must {@link #release()} it when done. */
+  void checkOut() {
+    users.incrementAndGet();
+  }
+
+  /**
+   * Returns a client obtained from the pool once the caller has finished with it. If the pool has since
+   * retired the client, and no other caller holds it, its connections are closed.
+   */
+  public void release() {
+    if (users.decrementAndGet() <= 0 && retired) {
+      closeUnderlyingClient();
+    }
+  }
+
+  /**
+   * Marks this client as no longer pooled. It is closed at once if no caller holds it, and otherwise
+   * when the last caller releases it.
+   */
+  void retire() {
+    retired = true;
+    if (users.get() <= 0) {
+      closeUnderlyingClient();
+    }
+  }
+
+  private void closeUnderlyingClient() {
+    if (closed.compareAndSet(false, true)) {
+      httpClient.close();
     }
-    return new Result(responseString, status, successful);
   }
 
   private static class AuthenticatedClientForServerStep extends Step {
@@ -226,9 +330,13 @@ public class HttpClient {
   }
 
   private static class WithSecretDataStep extends Step {
+    private final String namespace;
+    private final String secretName;
 
-    WithSecretDataStep(Step next) {
+    WithSecretDataStep(String namespace, String secretName, Step next) {
       super(next);
+      this.namespace = namespace;
+      this.secretName = secretName;
     }
 
     @Override
@@ -239,7 +347,8 @@ public class HttpClient {
       if (secretData != null) {
         byte[] username = secretData.get(SecretHelper.ADMIN_SERVER_CREDENTIALS_USERNAME);
         byte[] password = secretData.get(SecretHelper.ADMIN_SERVER_CREDENTIALS_PASSWORD);
-        packet.put(KEY, createAuthenticatedClient(username, password));
+        String resourceVersion = (String) packet.get(SecretHelper.SECRET_RESOURCE_VERSION_KEY);
+        packet.put(KEY, getAuthenticatedClient(namespace, secretName, resourceVersion, username, password));
 
         clearCredential(username);
         clearCredential(password);
@@ -0,0 +1,188 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import javax.ws.rs.client.Client;
+import javax.ws.rs.client.ClientBuilder;
+
+/**
+ * A cache of authenticated HTTP clients, one for each combination of namespace and WebLogic credentials secret.
+ * Reusing a client across health reads preserves its configuration and lets the underlying connections be kept
+ * alive, rather than building and discarding a client on every read.
+ *
+ * <p>A cached client is replaced when the resource version of its secret changes, so that updated credentials
+ * are used. Clients which have not been used for longer than the idle timeout are removed whenever the pool
+ * is accessed. The clients for a secret may also be removed explicitly, as when its domain is deleted.
+ *
+ * <p>Each client returned by {@link #getClient} is checked out to its caller, which must call
+ * {@link HttpClient#release()} when its request is done. A client removed from the pool while checked out
+ * stays open until the last caller releases it, so that a fiber's request in flight is not cut off.
+ *
+ * <p>All pooled clients share one bounded executor for their asynchronous requests, so that many slow servers
+ * queue their reads rather than each occupying a thread of the unbounded pool the client would create itself.
+ */
+public class HttpClientPool {
+  static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(5);
+  static final int ASYNC_THREAD_COUNT = 10;
+  private static final long ASYNC_THREAD_KEEP_ALIVE_SECONDS = 60;
+
+  private static final ExecutorService ASYNC_EXECUTOR = createAsyncExecutor();
+  private static HttpClientPool INSTANCE =
+        new HttpClientPool(HttpClientPool::createClient, System::currentTimeMillis, DEFAULT_IDLE_TIMEOUT_MILLIS);
+
+  private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+  private final Supplier<Client> clientFactory;
+  private final LongSupplier clock;
+  private final long idleTimeoutMillis;
+
+  HttpClientPool(Supplier<Client> clientFactory, LongSupplier clock, long idleTimeoutMillis) {
+    this.clientFactory = clientFactory;
+    this.clock = clock;
+    this.idleTimeoutMillis = idleTimeoutMillis;
+  }
+
+  public static HttpClientPool getInstance() {
+    return INSTANCE;
+  }
+
+  private static Client createClient() {
+    return ClientBuilder.newBuilder().executorService(ASYNC_EXECUTOR).build();
+  }
+
+  private static ExecutorService createAsyncExecutor() {
+    ThreadPoolExecutor executor = new ThreadPoolExecutor(
+          ASYNC_THREAD_COUNT, ASYNC_THREAD_COUNT, ASYNC_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS,
+          new LinkedBlockingQueue<>(), HttpClientPool::createAsyncThread);
+    executor.allowCoreThreadTimeOut(true);
+    return executor;
+  }
+
+  private static Thread createAsyncThread(Runnable runnable) {
+    Thread thread = new Thread(runnable, "WebLogic REST client");
+    thread.setDaemon(true);
+    return thread;
+  }
+
+  /**
+   * Returns the client for the specified secret, creating one if none is cached or if the cached client was
+   * created from a different version of the secret.
+   *
+   * @param namespace the namespace of the secret
+   * @param secretName the name of the WebLogic credentials secret
+   * @param resourceVersion the resource version of the secret. If null, the cached client is reused only if it
+   *                        was created with the same credentials.
+   * @param encodedCredentials a supplier of the basic authentication credentials for the secret
+   * @return an authenticated client, which the caller must release
+   */
+  public HttpClient getClient(
+        String namespace, String secretName, String resourceVersion, Supplier<String> encodedCredentials) {
+    evictIdleClients();
+
+    PooledClient pooled = clients.compute(
+          toKey(namespace, secretName),
+          (k, current) -> checkOut(isUsable(current, resourceVersion, encodedCredentials)
+              ? current : replace(current, resourceVersion, encodedCredentials.get())));
+    return pooled.client;
+  }
+
+  // called within the map's compute, so that a client cannot be retired between its selection and checkout
+  private PooledClient checkOut(PooledClient pooled) {
+    pooled.client.checkOut();
+    pooled.lastUsed = clock.getAsLong();
+    return pooled;
+  }
+
+  private boolean isUsable(PooledClient pooled, String resourceVersion, Supplier<String> encodedCredentials) {
+    return pooled != null && pooled.isValidFor(resourceVersion, encodedCredentials);
+  }
+
+  private PooledClient replace(PooledClient current, String resourceVersion, String encodedCredentials) {
+    retire(current);
+    return new PooledClient(
+          resourceVersion, encodedCredentials, new HttpClient(clientFactory.get(), encodedCredentials),
+          clock.getAsLong());
+  }
+
+  /**
+   * Removes the client for the specified secret, closing it once no caller holds it.
+   *
+   * @param namespace the namespace of the secret
+   * @param secretName the name of the WebLogic credentials secret
+   */
+  public void closeClient(String namespace, String secretName) {
+    retire(clients.remove(toKey(namespace, secretName)));
+  }
+
+  /**
+   * Removes all clients for secrets in the specified namespace, closing each once no caller holds it.
+   *
+   * @param namespace a namespace which is no longer managed
+   */
+  public void closeNamespace(String namespace) {
+    String prefix = namespace + "/";
+    for (String key : clients.keySet()) {
+      if (key.startsWith(prefix)) {
+        retire(clients.remove(key));
+      }
+    }
+  }
+
+  int size() {
+    return clients.size();
+  }
+
+  private void evictIdleClients() {
+    long now = clock.getAsLong();
+    for (String key : clients.keySet()) {
+      clients.computeIfPresent(key, (k, pooled) -> isIdle(pooled, now) ? retire(pooled) : pooled);
+    }
+  }
+
+  private boolean isIdle(PooledClient pooled, long now) {
+    return now - pooled.lastUsed > idleTimeoutMillis;
+  }
+
+  // returns null so that it may be used to remove an entry within the map's compute methods
+  private PooledClient retire(PooledClient pooled) {
+    if (pooled != null) {
+      pooled.client.retire();
+    }
+    return null;
+  }
+
+  private static String toKey(String namespace, String secretName) {
+    return namespace + "/" + secretName;
+  }
+
+  private static class PooledClient {
+    private final String resourceVersion;
+    private final String encodedCredentials;
+    private final HttpClient client;
+    private volatile long lastUsed;
+
+    PooledClient(String resourceVersion, String encodedCredentials, HttpClient client, long created) {
+      this.resourceVersion = resourceVersion;
+      this.encodedCredentials = encodedCredentials;
+      this.client = client;
+      this.lastUsed = created;
+    }
+
+    boolean isValidFor(String resourceVersion, Supplier<String> encodedCredentials) {
+      if (resourceVersion != null) {
+        return resourceVersion.equals(this.resourceVersion);
+      } else {
+        return this.resourceVersion == null && Objects.equals(encodedCredentials.get(), this.encodedCredentials);
+      }
+    }
+  }
+}
@@ -119,6 +119,9 @@ public class MessageKeys {
   public static final String DOMAIN_VALIDATION_FAILED = "WLSKO-0157";
   public static final String NO_INTERNAL_CERTIFICATE = "WLSKO-162";
   public static final String NO_EXTERNAL_CERTIFICATE = "WLSKO-163";
+  public static final String ASYNC_COALESCED = "WLSKO-0164";
+  public static final String POD_READY_WAIT_TIMED_OUT = "WLSKO-0165";
+  public static final String TUNING_PARAMETER_TOO_SMALL = "WLSKO-0166";
 
   // domain status messages
   public static final String DUPLICATE_SERVER_NAME_FOUND = "WLSDO-0001";
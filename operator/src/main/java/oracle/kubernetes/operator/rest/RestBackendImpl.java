@@ -24,6 +24,7 @@ import io.kubernetes.client.custom.V1Patch;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1TokenReviewStatus;
 import io.kubernetes.client.openapi.models.V1UserInfo;
+import oracle.kubernetes.operator.calls.RequestPriority;
 import oracle.kubernetes.operator.helpers.AuthenticationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy;
 import oracle.kubernetes.operator.helpers.AuthorizationProxy.Operation;
@@ -36,6 +37,7 @@ import oracle.kubernetes.operator.logging.MessageKeys;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.operator.work.StepTrace;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainList;
 
@@ -61,6 +63,7 @@ public class RestBackendImpl implements RestBackend {
   private final AuthorizationProxy atz = new AuthorizationProxy();
   private final String principal;
   private final Collection<String> targetNamespaces;
+  private final StepTrace stepTrace;
   private V1UserInfo userInfo;
 
   /**
@@ -74,10 +77,27 @@ public class RestBackendImpl implements RestBackend {
    *     operator manages.
    */
   RestBackendImpl(String principal, String accessToken, Collection<String> targetNamespaces) {
+    this(principal, accessToken, targetNamespaces, null);
+  }
+
+  /**
+   * Construct a RestBackendImpl that is used to handle one WebLogic operator REST request.
+   *
+   * @param principal is the name of the Kubernetes user to use when calling the Kubernetes REST
+   *     api.
+   * @param accessToken is the access token of the Kubernetes service account of the client calling
+   *     the WebLogic operator REST api.
+   * @param targetNamespaces a list of Kubernetes namepaces that contain domains that the WebLogic
+   *     operator manages.
+   * @param stepTrace the trace of the steps run by the operator, or null if none is recorded.
+   */
+  RestBackendImpl(
+      String principal, String accessToken, Collection<String> targetNamespaces, StepTrace stepTrace) {
     LOGGER.entering(principal, targetNamespaces);
     this.principal = principal;
     userInfo = authenticate(accessToken);
     this.targetNamespaces = targetNamespaces;
+    this.stepTrace = stepTrace;
     LOGGER.exiting();
   }
 
@@ -170,6 +190,14 @@ public class RestBackendImpl implements RestBackend {
     return result;
   }
 
+  @Override
+  public StepTrace getStepTrace() {
+    LOGGER.entering();
+    authorize(null, Operation.list);
+    LOGGER.exiting();
+    return stepTrace;
+  }
+
   private List<Domain> getDomainsList() {
     Collection<List<Domain>> c = new ArrayList<>();
     try {
@@ -255,6 +283,7 @@ public class RestBackendImpl implements RestBackend {
       }
 
       new CallBuilder()
+          .withPriority(RequestPriority.HIGH)
           .patchDomain(
               domain.getDomainUid(), domain.getMetadata().getNamespace(),
               new V1Patch(patchBuilder.build().toString()));
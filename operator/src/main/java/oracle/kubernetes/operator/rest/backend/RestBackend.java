@@ -5,6 +5,8 @@ package oracle.kubernetes.operator.rest.backend;
 
 import java.util.Set;
 
+import oracle.kubernetes.operator.work.StepTrace;
+
 /**
  * The RestBackend interface is to implement all of the WebLogic Operator REST resources that need
  * to talk to Kubernetes and WebLogic to get their work done. It separates the jaxrs part of the
@@ -63,4 +65,11 @@ public interface RestBackend {
    * @param managedServerCount - the desired number of WebLogic managed servers.
    */
   public void scaleCluster(String domainUid, String cluster, int managedServerCount);
+
+  /**
+   * Get the trace of the steps most recently run by the WebLogic operator.
+   *
+   * @return the step trace, or null if the operator does not record one.
+   */
+  public StepTrace getStepTrace();
 }
@@ -0,0 +1,79 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.rest.resource;
+
+import java.util.Map;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.Status;
+
+import oracle.kubernetes.operator.logging.LoggingFacade;
+import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.work.StepTrace;
+
+/**
+ * StepTraceResource is a jaxrs resource that implements the REST api for the
+ * /operator/{version}/steptrace path. It can be used to get a trace of the steps most recently run by
+ * the WebLogic operator, either as Chrome trace json or, from the 'collapsed' sub path, as collapsed
+ * stacks for flame graph tools.
+ */
+public class StepTraceResource extends BaseResource {
+
+  private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+
+  /**
+   * Construct a StepTraceResource.
+   *
+   * @param parent - the jaxrs resource that parents this resource.
+   * @param pathSegment - the last path segment in the url to this resource.
+   */
+  public StepTraceResource(BaseResource parent, String pathSegment) {
+    super(parent, pathSegment);
+  }
+
+  /**
+   * Get the recent step executions as a Chrome trace.
+   *
+   * @return a json object in the Chrome trace event format.
+   */
+  @GET
+  @Produces(MediaType.APPLICATION_JSON)
+  public Map<String, Object> get() {
+    LOGGER.entering(href());
+    Map<String, Object> result =
+        Map.of("traceEvents", getStepTrace().toChromeTraceEvents(), "displayTimeUnit", "ms");
+    LOGGER.exiting();
+    return result;
+  }
+
+  /**
+   * Get the recent step executions as collapsed stacks.
+   *
+   * @return one line for each stack, followed by the microseconds spent in it.
+   */
+  @GET
+  @Path("collapsed")
+  @Produces(MediaType.TEXT_PLAIN)
+  public String getCollapsed() {
+    LOGGER.entering(href());
+    String result = getStepTrace().toCollapsedStacks();
+    LOGGER.exiting();
+    return result;
+  }
+
+  private StepTrace getStepTrace() {
+    StepTrace stepTrace = getBackend().getStepTrace();
+    if (stepTrace == null) {
+      WebApplicationException e =
+          new WebApplicationException(Response.status(Status.NOT_FOUND).entity(href()).build());
+      LOGGER.throwing(e);
+      throw e;
+    }
+    return stepTrace;
+  }
+}
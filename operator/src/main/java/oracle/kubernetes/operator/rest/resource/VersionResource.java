@@ -80,6 +80,19 @@ public class VersionResource extends BaseResource {
     return result;
   }
 
+  /**
+   * Construct and return the 'steptrace' jaxrs child resource.
+   *
+   * @return the step trace sub resource.
+   */
+  @Path("steptrace")
+  public StepTraceResource getStepTraceResource() {
+    LOGGER.entering(href());
+    StepTraceResource result = new StepTraceResource(this, "steptrace");
+    LOGGER.exiting(result);
+    return result;
+  }
+
   private String getVersion() {
     return getPathSegment();
   }
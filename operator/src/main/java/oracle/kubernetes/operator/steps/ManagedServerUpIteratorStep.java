@@ -5,17 +5,28 @@ package oracle.kubernetes.operator.steps;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.PodAwaiterStepFactory;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo.ServerStartupInfo;
 import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.helpers.ServiceHelper;
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
+import oracle.kubernetes.operator.logging.MessageKeys;
+import oracle.kubernetes.operator.work.Fiber;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -23,6 +34,7 @@ import oracle.kubernetes.weblogic.domain.model.Domain;
 
 public class ManagedServerUpIteratorStep extends Step {
   private static final LoggingFacade LOGGER = LoggingFactory.getLogger("Operator", "Operator");
+  private static final int DEFAULT_SERVER_POD_READY_TIMEOUT_SECONDS = 1800;
 
   private final Collection<ServerStartupInfo> cols;
 
@@ -43,6 +55,14 @@ public class ManagedServerUpIteratorStep extends Step {
         : ServiceHelper.createForServerStep(PodHelper.createManagedPodStep(next));
   }
 
+  // when the number of servers starting at once is limited, a server is not finished starting
+  // until its pod is ready, so that the next one is not started before then.
+  private static Step bringManagedServerUpAndWait(ServerStartupInfo ssi, Step next) {
+    return ssi.isServiceOnly()
+        ? bringManagedServerUp(ssi, next)
+        : bringManagedServerUp(ssi, new WaitForServerPodReadyStep(ssi.getServerName(), next));
+  }
+
   @Override
   protected String getDetail() {
     List<String> serversToStart = new ArrayList<>();
@@ -54,7 +74,8 @@ public class ManagedServerUpIteratorStep extends Step {
 
   @Override
   public NextAction apply(Packet packet) {
-    Collection<StepAndPacket> startDetails = new ArrayList<>();
+    DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+    Map<String, Collection<StepAndPacket>> startDetailsByCluster = new LinkedHashMap<>();
     Map<String, StepAndPacket> rolling = new ConcurrentHashMap<>();
     packet.put(ProcessingConstants.SERVERS_TO_ROLL, rolling);
 
@@ -66,12 +87,12 @@ public class ManagedServerUpIteratorStep extends Step {
 
       p.put(ProcessingConstants.SERVER_NAME, ssi.serverConfig.getName());
 
-      startDetails.add(new StepAndPacket(bringManagedServerUp(ssi, null), p));
+      startDetailsByCluster
+          .computeIfAbsent(ssi.getClusterName(), k -> new ArrayList<>())
+          .add(new StepAndPacket(createStartupStep(info, ssi), p));
     }
 
     if (LOGGER.isFineEnabled()) {
-      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-
       Domain dom = info.getDomain();
 
       Collection<String> serverList = new ArrayList<>();
@@ -85,9 +106,116 @@ public class ManagedServerUpIteratorStep extends Step {
               + serverList);
     }
 
-    if (startDetails.isEmpty()) {
+    if (startDetailsByCluster.isEmpty()) {
       return doNext(packet);
+    } else if (startDetailsByCluster.size() == 1) {
+      Map.Entry<String, Collection<StepAndPacket>> entry = startDetailsByCluster.entrySet().iterator().next();
+      return doForkJoin(
+          new ManagedServerUpAfterStep(getNext()),
+          packet,
+          entry.getValue(),
+          getMaxConcurrentStartup(info, entry.getKey()));
+    }
+
+    Collection<StepAndPacket> clusterStartDetails = new ArrayList<>();
+    for (Map.Entry<String, Collection<StepAndPacket>> entry : startDetailsByCluster.entrySet()) {
+      clusterStartDetails.add(
+          new StepAndPacket(
+              new StartServerGroupStep(entry.getValue(), getMaxConcurrentStartup(info, entry.getKey())),
+              packet.clone()));
+    }
+    return doForkJoin(new ManagedServerUpAfterStep(getNext()), packet, clusterStartDetails);
+  }
+
+  private Step createStartupStep(DomainPresenceInfo info, ServerStartupInfo ssi) {
+    return getMaxConcurrentStartup(info, ssi.getClusterName()) > 0
+        ? bringManagedServerUpAndWait(ssi, null)
+        : bringManagedServerUp(ssi, null);
+  }
+
+  private int getMaxConcurrentStartup(DomainPresenceInfo info, String clusterName) {
+    return info.getDomain().getMaxConcurrentStartup(clusterName);
+  }
+
+  /** Starts the servers in a single cluster, or the non-clustered servers, with limited concurrency. */
+  private static class StartServerGroupStep extends Step {
+    private final Collection<StepAndPacket> startDetails;
+    private final int maxConcurrentStartup;
+
+    StartServerGroupStep(Collection<StepAndPacket> startDetails, int maxConcurrentStartup) {
+      super(null);
+      this.startDetails = startDetails;
+      this.maxConcurrentStartup = maxConcurrentStartup;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doForkJoin(getNext(), packet, startDetails, maxConcurrentStartup);
+    }
+  }
+
+  /**
+   * Waits for the pod of a starting server to be ready, but no longer than the server pod ready timeout, after which
+   * the server gives up its startup slot so that a server whose pod never becomes ready cannot stall the others.
+   */
+  private static class WaitForServerPodReadyStep extends Step {
+    private final String serverName;
+
+    WaitForServerPodReadyStep(String serverName, Step next) {
+      super(next);
+      this.serverName = serverName;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      V1Pod pod = packet.getSpi(DomainPresenceInfo.class).getServerPod(serverName);
+      PodAwaiterStepFactory podAwaiter = packet.getSpi(PodAwaiterStepFactory.class);
+      if (pod == null || podAwaiter == null) {
+        return doNext(packet);
+      }
+      return doSuspend(fiber -> waitForReady(fiber, podAwaiter.waitForReady(pod, null), packet));
+    }
+
+    // runs the wait on a child fiber, resuming this fiber when the wait completes or the timeout expires,
+    // whichever is first.
+    private void waitForReady(Fiber fiber, Step waitStep, Packet packet) {
+      AtomicBoolean didResume = new AtomicBoolean(false);
+      Fiber waiter = fiber.createChildFiber();
+      int timeoutSeconds = getServerPodReadyTimeoutSeconds();
+      ScheduledFuture<?> timeout = fiber.owner.getExecutor().schedule(
+          () -> {
+            if (didResume.compareAndSet(false, true)) {
+              LOGGER.info(MessageKeys.POD_READY_WAIT_TIMED_OUT, serverName, timeoutSeconds);
+              waiter.cancel(false);
+              fiber.resume(packet);
+            }
+          },
+          timeoutSeconds,
+          TimeUnit.SECONDS);
+
+      waiter.start(waitStep, packet.clone(), new CompletionCallback() {
+        @Override
+        public void onCompletion(Packet p) {
+          if (didResume.compareAndSet(false, true)) {
+            timeout.cancel(false);
+            fiber.resume(packet);
+          }
+        }
+
+        @Override
+        public void onThrowable(Packet p, Throwable throwable) {
+          if (didResume.compareAndSet(false, true)) {
+            timeout.cancel(false);
+            fiber.terminate(throwable, packet);
+          }
+        }
+      });
+    }
+
+    private int getServerPodReadyTimeoutSeconds() {
+      return Optional.ofNullable(TuningParameters.getInstance())
+          .map(parameters -> parameters.getMainTuning().serverPodReadyTimeoutSeconds)
+          .orElse(DEFAULT_SERVER_POD_READY_TIMEOUT_SECONDS);
     }
-    return doForkJoin(new ManagedServerUpAfterStep(getNext()), packet, startDetails);
   }
 }
@@ -7,8 +7,15 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -17,8 +24,10 @@ import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.Pair;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.WebLogicConstants;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.PodHelper;
 import oracle.kubernetes.operator.http.HttpClient;
 import oracle.kubernetes.operator.http.Result;
 import oracle.kubernetes.operator.logging.LoggingFacade;
@@ -30,6 +39,7 @@ import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.Fiber;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -62,6 +72,18 @@ public class ReadHealthStep extends Step {
     return new ReadHealthStep(next);
   }
 
+  /**
+   * Creates asynchronous {@link Step} to read the state and health of every running server in the domain with a
+   * single request to the admin server. Servers which the admin server reports are added to the server state and
+   * health maps in the packet; those it cannot see are left for the caller to read individually.
+   *
+   * @param next Next processing step
+   * @return asynchronous step
+   */
+  public static Step createReadDomainHealthStep(Step next) {
+    return new ReadDomainHealthStep(next);
+  }
+
   private static String getRetrieveHealthSearchUrl() {
     return "/management/weblogic/latest/serverRuntime/search";
   }
@@ -70,6 +92,101 @@ public class ReadHealthStep extends Step {
     return "{ fields: [ 'state', 'overallHealthState', 'activationTime' ], links: [] }";
   }
 
+  private static String getRetrieveDomainHealthSearchUrl() {
+    return "/management/weblogic/latest/domainRuntime/search";
+  }
+
+  private static String getRetrieveDomainHealthSearchPayload() {
+    return "{ links: [], fields: [], children: { serverRuntimes: "
+        + "{ links: [], fields: [ 'name', 'state', 'overallHealthState', 'activationTime' ] } } }";
+  }
+
+  private static WlsDomainConfig getDomainConfig(Packet packet, DomainPresenceInfo info) {
+    WlsDomainConfig domainConfig = (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
+    if (domainConfig == null) {
+      Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
+      domainConfig = scan == null ? null : scan.getWlsDomainConfig();
+    }
+    return domainConfig;
+  }
+
+  // Sends a request without waiting for the response. Once the response arrives, records it and resumes the fiber.
+  // If no response is received within the timeout, the request is abandoned and the fiber resumed.
+  // Either way, the pooled client is released before the fiber resumes.
+  private static void sendRequest(
+      Fiber fiber, Packet packet, HttpClient httpClient,
+      Function<HttpClient, CompletableFuture<Result>> sender, ResponseRecorder recorder) {
+    AtomicBoolean didResume = new AtomicBoolean(false);
+    CompletableFuture<Result> request;
+    try {
+      request = sender.apply(httpClient);
+    } catch (Throwable t) {
+      recorder.recordFailure(packet, t);
+      httpClient.release();
+      fiber.resume(packet);
+      return;
+    }
+
+    ScheduledFuture<?> timeout =
+        fiber
+            .owner
+            .getExecutor()
+            .schedule(
+                () -> {
+                  if (didResume.compareAndSet(false, true)) {
+                    request.cancel(true);
+                    recorder.recordFailure(packet, new TimeoutException());
+                    httpClient.release();
+                    fiber.resume(packet);
+                  }
+                },
+                getTimeoutSeconds(),
+                TimeUnit.SECONDS);
+
+    request.whenComplete(
+        (result, throwable) -> {
+          if (didResume.compareAndSet(false, true)) {
+            timeout.cancel(false);
+            if (throwable != null) {
+              recorder.recordFailure(packet, throwable);
+            } else {
+              recorder.recordResult(packet, result);
+            }
+            httpClient.release();
+            fiber.resume(packet);
+          }
+        });
+  }
+
+  private static long getTimeoutSeconds() {
+    return TuningParameters.getInstance().getMainTuning().statusUpdateTimeoutSeconds;
+  }
+
+  private static void recordServerHealth(Packet packet, String serverName, Pair<String, ServerHealth> pair) {
+    DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+    String state = pair.getLeft();
+    if (state != null && !state.isEmpty()) {
+      @SuppressWarnings("unchecked")
+      ConcurrentMap<String, String> serverStateMap =
+          (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
+      info.updateLastKnownServerStatus(serverName, state);
+      serverStateMap.put(serverName, state);
+    }
+
+    @SuppressWarnings("unchecked")
+    ConcurrentMap<String, ServerHealth> serverHealthMap =
+        (ConcurrentMap<String, ServerHealth>)
+            packet.get(ProcessingConstants.SERVER_HEALTH_MAP);
+
+    serverHealthMap.put(serverName, pair.getRight());
+  }
+
+  private interface ResponseRecorder {
+    void recordResult(Packet packet, Result result);
+
+    void recordFailure(Packet packet, Throwable throwable);
+  }
+
   // overallHealthState, healthState
 
   @Override
@@ -95,6 +212,104 @@ public class ReadHealthStep extends Step {
     return doNext(packet);
   }
 
+  private static final class ReadDomainHealthStep extends Step {
+    ReadDomainHealthStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
+      WlsDomainConfig domainConfig = getDomainConfig(packet, info);
+      if (domainConfig == null) {
+        return doNext(packet);
+      }
+
+      String adminServerName = domainConfig.getAdminServerName();
+      WlsServerConfig adminConfig = domainConfig.getServerConfig(adminServerName);
+      V1Service service = info.getServerService(adminServerName);
+      V1Pod pod = info.getServerPod(adminServerName);
+      if (adminConfig == null || service == null || pod == null || !PodHelper.getReadyStatus(pod)) {
+        return doNext(packet);
+      }
+
+      Domain dom = info.getDomain();
+      Step getClient =
+          HttpClient.createAuthenticatedClientForServer(
+              dom.getMetadata().getNamespace(),
+              dom.getWebLogicCredentialsSecretName(),
+              new ReadDomainHealthWithHttpClientStep(service, pod, adminConfig, getNext()));
+      return doNext(getClient, packet);
+    }
+  }
+
+  static final class ReadDomainHealthWithHttpClientStep extends Step implements ResponseRecorder {
+    private final V1Service service;
+    private final V1Pod pod;
+    private final WlsServerConfig adminConfig;
+
+    ReadDomainHealthWithHttpClientStep(V1Service service, V1Pod pod, WlsServerConfig adminConfig, Step next) {
+      super(next);
+      this.service = service;
+      this.pod = pod;
+      this.adminConfig = adminConfig;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      HttpClient httpClient = (HttpClient) packet.get(HttpClient.KEY);
+      if (httpClient == null) {
+        return doNext(packet);
+      }
+
+      String serviceUrl =
+          HttpClient.getServiceUrl(
+              service, pod, adminConfig.getAdminProtocolChannelName(), adminConfig.getListenPort());
+      if (serviceUrl == null) {
+        httpClient.release();
+        return doNext(packet);
+      }
+
+      return doSuspend(
+          fiber -> sendRequest(
+              fiber,
+              packet,
+              httpClient,
+              client -> client.executePostUrlOnServiceClusterIPAsync(
+                  getRetrieveDomainHealthSearchUrl(), serviceUrl, getRetrieveDomainHealthSearchPayload()),
+              this));
+    }
+
+    @Override
+    public void recordResult(Packet packet, Result result) {
+      if (!result.isSuccessful() || result.getResponse() == null) {
+        return;
+      }
+
+      try {
+        JsonNode serverRuntimes = new ObjectMapper().readTree(result.getResponse()).path("serverRuntimes");
+        for (JsonNode serverRuntime : serverRuntimes.path("items")) {
+          String serverName = serverRuntime.path("name").asText(null);
+          if (serverName != null) {
+            recordServerHealth(packet, serverName, parseServerHealth(serverRuntime));
+          }
+        }
+      } catch (Throwable t) {
+        recordFailure(packet, t);
+      }
+    }
+
+    // the servers will be read individually instead
+    @Override
+    public void recordFailure(Packet packet, Throwable throwable) {
+      LOGGER.info(
+          (LoggingFilter) packet.get(LoggingFilter.LOGGING_FILTER_PACKET_KEY),
+          MessageKeys.WLS_HEALTH_READ_FAILED,
+          adminConfig.getName(),
+          throwable);
+    }
+  }
+
   static final class ReadHealthWithHttpClientStep extends Step {
     private final V1Service service;
     private final V1Pod pod;
@@ -107,15 +322,10 @@ public class ReadHealthStep extends Step {
 
     @Override
     public NextAction apply(Packet packet) {
+      HttpClient httpClient = (HttpClient) packet.get(HttpClient.KEY);
       try {
-        HttpClient httpClient = (HttpClient) packet.get(HttpClient.KEY);
         DomainPresenceInfo info = packet.getSpi(DomainPresenceInfo.class);
-        WlsDomainConfig domainConfig =
-            (WlsDomainConfig) packet.get(ProcessingConstants.DOMAIN_TOPOLOGY);
-        if (domainConfig == null) {
-          Scan scan = ScanCache.INSTANCE.lookupScan(info.getNamespace(), info.getDomainUid());
-          domainConfig = scan.getWlsDomainConfig();
-        }
+        WlsDomainConfig domainConfig = getDomainConfig(packet, info);
         String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
         WlsServerConfig serverConfig = domainConfig.getServerConfig(serverName);
 
@@ -140,47 +350,60 @@ public class ReadHealthStep extends Step {
                   serverConfig.getAdminProtocolChannelName(),
                   serverConfig.getListenPort());
           if (serviceUrl != null) {
-            Result result =
-                httpClient.executePostUrlOnServiceClusterIP(
-                    getRetrieveHealthSearchUrl(),
-                    serviceUrl,
-                    getRetrieveHealthSearchPayload(),
-                    false);
-
-            Pair<String, ServerHealth> pair = createServerHealthFromResult(result);
-
-            String state = pair.getLeft();
-            if (state != null && !state.isEmpty()) {
-              ConcurrentMap<String, String> serverStateMap =
-                  (ConcurrentMap<String, String>) packet.get(SERVER_STATE_MAP);
-              info.updateLastKnownServerStatus(serverName, state);
-              serverStateMap.put(serverName, state);
-            }
-
-            @SuppressWarnings("unchecked")
-            ConcurrentMap<String, ServerHealth> serverHealthMap =
-                (ConcurrentMap<String, ServerHealth>)
-                    packet.get(ProcessingConstants.SERVER_HEALTH_MAP);
-
-            serverHealthMap.put(
-                (String) packet.get(ProcessingConstants.SERVER_NAME), pair.getRight());
-            AtomicInteger remainingServersHealthToRead =
-                packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
-            remainingServersHealthToRead.getAndDecrement();
+            return doSuspend(fiber -> readHealth(fiber, packet, httpClient, serviceUrl));
           }
+          httpClient.release();
         }
         return doNext(packet);
       } catch (Throwable t) {
         // do not retry for health check
-        LOGGER.info(
-            (LoggingFilter) packet.get(LoggingFilter.LOGGING_FILTER_PACKET_KEY),
-            MessageKeys.WLS_HEALTH_READ_FAILED,
-            packet.get(ProcessingConstants.SERVER_NAME),
-            t);
+        logHealthReadFailed(packet, t);
+        Optional.ofNullable(httpClient).ifPresent(HttpClient::release);
         return doNext(packet);
       }
     }
 
+    private void readHealth(Fiber fiber, Packet packet, HttpClient httpClient, String serviceUrl) {
+      sendRequest(
+          fiber,
+          packet,
+          httpClient,
+          client -> client.executePostUrlOnServiceClusterIPAsync(
+              getRetrieveHealthSearchUrl(), serviceUrl, getRetrieveHealthSearchPayload()),
+          new ResponseRecorder() {
+            @Override
+            public void recordResult(Packet packet, Result result) {
+              recordHealth(packet, result);
+            }
+
+            @Override
+            public void recordFailure(Packet packet, Throwable throwable) {
+              logHealthReadFailed(packet, throwable);
+            }
+          });
+    }
+
+    private void recordHealth(Packet packet, Result result) {
+      try {
+        String serverName = (String) packet.get(ProcessingConstants.SERVER_NAME);
+        recordServerHealth(packet, serverName, createServerHealthFromResult(result));
+
+        AtomicInteger remainingServersHealthToRead =
+            packet.getValue(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ);
+        remainingServersHealthToRead.getAndDecrement();
+      } catch (Throwable t) {
+        logHealthReadFailed(packet, t);
+      }
+    }
+
+    private void logHealthReadFailed(Packet packet, Throwable throwable) {
+      LOGGER.info(
+          (LoggingFilter) packet.get(LoggingFilter.LOGGING_FILTER_PACKET_KEY),
+          MessageKeys.WLS_HEALTH_READ_FAILED,
+          packet.get(ProcessingConstants.SERVER_NAME),
+          throwable);
+    }
+
     private Pair<String, ServerHealth> createServerHealthFromResult(Result restResult)
         throws IOException {
       if (restResult.isSuccessful()) {
@@ -200,58 +423,59 @@ public class ReadHealthStep extends Step {
         return null;
       }
 
-      ObjectMapper mapper = new ObjectMapper();
-      JsonNode root = mapper.readTree(jsonResult);
-
-      JsonNode healthState = null;
-      JsonNode subsystemName = null;
-      JsonNode symptoms = null;
-      JsonNode overallHealthState = root.path("overallHealthState");
-      if (overallHealthState != null) {
-        healthState = overallHealthState.path("state");
-        subsystemName = overallHealthState.path("subsystemName");
-        symptoms = overallHealthState.path("symptoms");
-      }
-      JsonNode activationTime = root.path("activationTime");
+      return parseServerHealth(new ObjectMapper().readTree(jsonResult));
+    }
+  }
 
-      List<String> sym = new ArrayList<>();
-      if (symptoms != null) {
-        Iterator<JsonNode> it = symptoms.elements();
-        while (it.hasNext()) {
-          sym.add(it.next().asText());
-        }
-      }
+  private static Pair<String, ServerHealth> parseServerHealth(JsonNode root) {
+    JsonNode healthState = null;
+    JsonNode subsystemName = null;
+    JsonNode symptoms = null;
+    JsonNode overallHealthState = root.path("overallHealthState");
+    if (overallHealthState != null) {
+      healthState = overallHealthState.path("state");
+      subsystemName = overallHealthState.path("subsystemName");
+      symptoms = overallHealthState.path("symptoms");
+    }
+    JsonNode activationTime = root.path("activationTime");
 
-      String subName = null;
-      if (subsystemName != null) {
-        String s = subsystemName.asText();
-        if (s != null && !"null".equals(s)) {
-          subName = s;
-        }
+    List<String> sym = new ArrayList<>();
+    if (symptoms != null) {
+      Iterator<JsonNode> it = symptoms.elements();
+      while (it.hasNext()) {
+        sym.add(it.next().asText());
       }
+    }
 
-      ServerHealth health =
-          new ServerHealth()
-              .withOverallHealth(healthState != null ? healthState.asText() : null)
-              .withActivationTime(
-                  activationTime != null ? new DateTime(activationTime.asLong()) : null);
-      if (subName != null) {
-        health
-            .getSubsystems()
-            .add(new SubsystemHealth().withSubsystemName(subName).withSymptoms(sym));
+    String subName = null;
+    if (subsystemName != null) {
+      String s = subsystemName.asText();
+      if (s != null && !"null".equals(s)) {
+        subName = s;
       }
+    }
 
-      JsonNode state = root.path("state");
+    ServerHealth health =
+        new ServerHealth()
+            .withOverallHealth(healthState != null ? healthState.asText() : null)
+            .withActivationTime(
+                activationTime != null ? new DateTime(activationTime.asLong()) : null);
+    if (subName != null) {
+      health
+          .getSubsystems()
+          .add(new SubsystemHealth().withSubsystemName(subName).withSymptoms(sym));
+    }
 
-      String stateVal = null;
-      if (state != null) {
-        String s = state.asText();
-        if (s != null && !"null".equals(s)) {
-          stateVal = s;
-        }
-      }
+    JsonNode state = root.path("state");
 
-      return new Pair<>(stateVal, health);
+    String stateVal = null;
+    if (state != null) {
+      String s = state.asText();
+      if (s != null && !"null".equals(s)) {
+        stateVal = s;
+      }
     }
+
+    return new Pair<>(stateVal, health);
   }
 }
@@ -6,8 +6,8 @@ package oracle.kubernetes.operator.utils;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
+import java.util.Optional;
 
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -132,13 +132,11 @@ public class WlsDomainConfigSupport {
   public WlsDomainConfig createDomainConfig() {
     // reconcile static clusters
     for (WlsClusterConfig cluster : wlsClusters.values()) {
-      ListIterator<WlsServerConfig> servers = cluster.getServers().listIterator();
-      while (servers.hasNext()) {
-        WlsServerConfig existing = wlsServers.get(servers.next().getName());
-        if (existing != null) {
-          servers.set(existing);
-        }
+      List<WlsServerConfig> servers = new ArrayList<>();
+      for (WlsServerConfig server : cluster.getServers()) {
+        servers.add(Optional.ofNullable(wlsServers.get(server.getName())).orElse(server));
       }
+      cluster.setServers(servers);
     }
     return new WlsDomainConfig(
         domain, adminServerName, wlsClusters, wlsServers, templates, machineConfigs);
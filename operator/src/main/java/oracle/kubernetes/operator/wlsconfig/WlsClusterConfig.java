@@ -3,9 +3,13 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -140,7 +144,8 @@ public class WlsClusterConfig {
    * @return true or false
    */
   public boolean hasNamedServer(String serverName) {
-    return getServerConfigs().stream().anyMatch(c -> serverName.equals(c.getName()));
+    return servers.stream().anyMatch(c -> serverName.equals(c.getName()))
+        || Optional.ofNullable(dynamicServersConfig).map(c -> c.hasServer(serverName)).orElse(false);
   }
 
   /**
@@ -152,9 +157,14 @@ public class WlsClusterConfig {
    */
   public synchronized WlsClusterConfig addServerConfig(WlsServerConfig wlsServerConfig) {
     servers.add(wlsServerConfig);
+    topologyChanged();
     return this;
   }
 
+  private void topologyChanged() {
+    Optional.ofNullable(wlsDomainConfig).ifPresent(WlsDomainConfig::topologyChanged);
+  }
+
   /**
    * Returns the number of servers that are statically configured in this cluster.
    *
@@ -196,6 +206,7 @@ public class WlsClusterConfig {
 
   public void setDynamicServersConfig(WlsDynamicServersConfig dynamicServersConfig) {
     this.dynamicServersConfig = dynamicServersConfig;
+    topologyChanged();
   }
 
   /**
@@ -227,21 +238,49 @@ public class WlsClusterConfig {
    */
   public synchronized List<WlsServerConfig> getServerConfigs() {
     if (dynamicServersConfig != null) {
-      List<WlsServerConfig> result =
-          new ArrayList<>(dynamicServersConfig.getDynamicClusterSize() + servers.size());
-      result.addAll(dynamicServersConfig.getServerConfigs());
-      result.addAll(servers);
-      return result;
+      return new CombinedServerConfigs(
+          Optional.ofNullable(dynamicServersConfig.getServerConfigs()).orElse(Collections.emptyList()), servers);
     }
     return servers;
   }
 
+  // a read-only view of the dynamic servers followed by the static servers, so that neither list is copied
+  private static class CombinedServerConfigs extends AbstractList<WlsServerConfig> implements RandomAccess {
+    private final List<WlsServerConfig> dynamicServers;
+    private final List<WlsServerConfig> staticServers;
+
+    CombinedServerConfigs(List<WlsServerConfig> dynamicServers, List<WlsServerConfig> staticServers) {
+      this.dynamicServers = dynamicServers;
+      this.staticServers = staticServers;
+    }
+
+    @Override
+    public WlsServerConfig get(int index) {
+      return index < dynamicServers.size()
+          ? dynamicServers.get(index)
+          : staticServers.get(index - dynamicServers.size());
+    }
+
+    @Override
+    public int size() {
+      return dynamicServers.size() + staticServers.size();
+    }
+  }
+
+  /**
+   * Returns the statically configured servers of this cluster. The list may not be modified; use
+   * {@link #setServers(List)} or {@link #addServerConfig(WlsServerConfig)}, so that the lookup tables of the
+   * domain are rebuilt.
+   *
+   * @return an unmodifiable list of servers, or null
+   */
   public List<WlsServerConfig> getServers() {
-    return this.servers;
+    return WlsDomainConfig.unmodifiable(this.servers);
   }
 
   public void setServers(List<WlsServerConfig> servers) {
     this.servers = servers;
+    topologyChanged();
   }
 
   /**
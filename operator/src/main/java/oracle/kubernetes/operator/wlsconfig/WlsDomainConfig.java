@@ -4,9 +4,12 @@
 package oracle.kubernetes.operator.wlsconfig;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 
@@ -38,6 +41,9 @@ public class WlsDomainConfig implements WlsDomain {
   // Contains all configured machines in the WLS domain
   private Map<String, WlsMachineConfig> wlsMachineConfigs = new HashMap<>();
 
+  // Lookup tables derived from the lists above. Built on first use and discarded whenever the topology changes.
+  private volatile TopologyIndex topologyIndex;
+
   public WlsDomainConfig() {
   }
 
@@ -236,11 +242,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @return cluster name
    */
   public String getClusterName(String serverName) {
-    return getConfiguredClusters().stream()
-        .filter(c -> c.hasNamedServer(serverName))
-        .findFirst()
-        .map(WlsClusterConfig::getClusterName)
-        .orElse(null);
+    return serverName == null ? null : getTopologyIndex().serverClusterNames.get(serverName);
   }
 
   /**
@@ -271,20 +273,24 @@ public class WlsDomainConfig implements WlsDomain {
    * @return A Map of WlsClusterConfig, keyed by name, containing server configurations for all
    *     clusters found in the WLS domain
    */
-  public synchronized Map<String, WlsClusterConfig> getClusterConfigs() {
-    Map<String, WlsClusterConfig> clusterConfigs = new HashMap<>();
-    for (WlsClusterConfig clusterConfig : configuredClusters) {
-      clusterConfigs.put(clusterConfig.getClusterName(), clusterConfig);
-    }
-    return clusterConfigs;
+  public Map<String, WlsClusterConfig> getClusterConfigs() {
+    return getTopologyIndex().clusterConfigs;
   }
 
+  /**
+   * Returns the configured clusters. The list may not be modified; use {@link #setConfiguredClusters(List)} or
+   * {@link #withCluster(WlsClusterConfig)}, so that the lookup tables are rebuilt.
+   *
+   * @return an unmodifiable list of clusters, or null
+   */
   public List<WlsClusterConfig> getConfiguredClusters() {
-    return this.configuredClusters;
+    return unmodifiable(this.configuredClusters);
   }
 
   public void setConfiguredClusters(List<WlsClusterConfig> configuredClusters) {
     this.configuredClusters = configuredClusters;
+    Optional.ofNullable(configuredClusters).ifPresent(l -> l.forEach(c -> c.setWlsDomainConfig(this)));
+    topologyChanged();
   }
 
   /**
@@ -294,20 +300,27 @@ public class WlsDomainConfig implements WlsDomain {
    *
    * @return A Map of WlsServerConfig, keyed by name, for each server configured the WLS domain
    */
-  public synchronized Map<String, WlsServerConfig> getServerConfigs() {
-    Map<String, WlsServerConfig> serverConfigs = new HashMap<>();
-    for (WlsServerConfig serverConfig : servers) {
-      serverConfigs.put(serverConfig.getName(), serverConfig);
-    }
-    return serverConfigs;
+  public Map<String, WlsServerConfig> getServerConfigs() {
+    return getTopologyIndex().serverConfigs;
   }
 
+  /**
+   * Returns the statically configured servers which are not in a cluster. The list may not be modified; use
+   * {@link #setServers(List)} or {@link #addWlsServer(String, String, int)}, so that the lookup tables are rebuilt.
+   *
+   * @return an unmodifiable list of servers, or null
+   */
   public List<WlsServerConfig> getServers() {
-    return this.servers;
+    return unmodifiable(this.servers);
+  }
+
+  static <T> List<T> unmodifiable(List<T> list) {
+    return list == null ? null : Collections.unmodifiableList(list);
   }
 
   public void setServers(List<WlsServerConfig> servers) {
     this.servers = servers;
+    topologyChanged();
   }
 
   public List<WlsServerConfig> getServerTemplates() {
@@ -323,7 +336,7 @@ public class WlsDomainConfig implements WlsDomain {
    *
    * @return A Map of WlsMachineConfig, keyed by name, for each machine configured the WLS domain
    */
-  public synchronized Map<String, WlsMachineConfig> getMachineConfigs() {
+  public Map<String, WlsMachineConfig> getMachineConfigs() {
     return wlsMachineConfigs;
   }
 
@@ -335,16 +348,8 @@ public class WlsDomainConfig implements WlsDomain {
    *     name. This methods return an empty WlsClusterConfig object even if no WLS configuration is
    *     found for the given cluster name.
    */
-  public synchronized WlsClusterConfig getClusterConfig(String clusterName) {
-    WlsClusterConfig result = null;
-    if (clusterName != null) {
-      for (WlsClusterConfig clusterConfig : configuredClusters) {
-        if (clusterConfig.getClusterName().equals(clusterName)) {
-          result = clusterConfig;
-          break;
-        }
-      }
-    }
+  public WlsClusterConfig getClusterConfig(String clusterName) {
+    WlsClusterConfig result = clusterName == null ? null : getClusterConfigs().get(clusterName);
     if (result == null) {
       // create an empty WlsClusterConfig, but do not add to configuredClusters
       result = new WlsClusterConfig(clusterName);
@@ -360,17 +365,8 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given
    *     name. This methods return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
-    WlsServerConfig result = null;
-    if (serverName != null && servers != null) {
-      for (WlsServerConfig serverConfig : servers) {
-        if (serverConfig.getName().equals(serverName)) {
-          result = serverConfig;
-          break;
-        }
-      }
-    }
-    return result;
+  public WlsServerConfig getServerConfig(String serverName) {
+    return serverName == null ? null : getServerConfigs().get(serverName);
   }
 
   /**
@@ -380,7 +376,7 @@ public class WlsDomainConfig implements WlsDomain {
    * @return The WlsMachineConfig object containing configuration of the WLS machine with the given
    *     name. This methods return null if no WLS machine is configured with the given name.
    */
-  public synchronized WlsMachineConfig getMachineConfig(String machineName) {
+  public WlsMachineConfig getMachineConfig(String machineName) {
     WlsMachineConfig result = null;
     if (machineName != null && wlsMachineConfigs != null) {
       result = wlsMachineConfigs.get(machineName);
@@ -443,11 +439,7 @@ public class WlsDomainConfig implements WlsDomain {
 
   @Override
   public int getReplicaLimit(String clusterName) {
-    if (!getClusterConfigs().containsKey(clusterName)) {
-      return 0;
-    }
-
-    return getClusterConfigs().get(clusterName).getMaxClusterSize();
+    return Optional.ofNullable(getClusterConfigs().get(clusterName)).map(WlsClusterConfig::getMaxClusterSize).orElse(0);
   }
 
   /**
@@ -463,13 +455,28 @@ public class WlsDomainConfig implements WlsDomain {
     return this;
   }
 
+  /**
+   * Adds a statically configured server.
+   * @param name server name
+   * @param listenAddress listen address
+   * @param port port
+   * @return domain config
+   */
   public WlsDomainConfig addWlsServer(String name, String listenAddress, int port) {
-    getServers().add(new WlsServerConfig(name, listenAddress, port));
+    servers.add(new WlsServerConfig(name, listenAddress, port));
+    topologyChanged();
     return this;
   }
 
+  /**
+   * Adds a cluster.
+   * @param clusterConfig cluster configuration
+   * @return domain config
+   */
   public WlsDomainConfig withCluster(WlsClusterConfig clusterConfig) {
     configuredClusters.add(clusterConfig);
+    clusterConfig.setWlsDomainConfig(this);
+    topologyChanged();
     return this;
   }
 
@@ -586,6 +593,24 @@ public class WlsDomainConfig implements WlsDomain {
         }
       }
     }
+    // the topology is complete once the dynamic servers are known, so index it now rather than on first lookup
+    topologyIndex = new TopologyIndex(servers, configuredClusters);
+  }
+
+  /**
+   * Discards the lookup tables, which will be rebuilt from the current topology on the next lookup. Called
+   * whenever this configuration, or one of its clusters, is changed.
+   */
+  void topologyChanged() {
+    topologyIndex = null;
+  }
+
+  private TopologyIndex getTopologyIndex() {
+    TopologyIndex result = topologyIndex;
+    if (result == null) {
+      topologyIndex = result = new TopologyIndex(servers, configuredClusters);
+    }
+    return result;
   }
 
   WlsServerConfig getServerTemplate(String serverTemplateName) {
@@ -597,6 +622,53 @@ public class WlsDomainConfig implements WlsDomain {
     return null;
   }
 
+  /**
+   * An immutable snapshot of the lookup tables for a domain topology, which allows servers and clusters to be
+   * found without locking or scanning. Because it is replaced rather than updated, a reader always sees a
+   * consistent set of tables.
+   */
+  private static class TopologyIndex {
+    private final Map<String, WlsServerConfig> serverConfigs;
+    private final Map<String, WlsClusterConfig> clusterConfigs;
+    private final Map<String, String> serverClusterNames;
+
+    TopologyIndex(List<WlsServerConfig> servers, List<WlsClusterConfig> clusters) {
+      Map<String, WlsServerConfig> serverConfigs = new HashMap<>();
+      for (WlsServerConfig serverConfig : nonNull(servers)) {
+        serverConfigs.putIfAbsent(serverConfig.getName(), serverConfig);
+      }
+
+      Map<String, WlsClusterConfig> clusterConfigs = new LinkedHashMap<>();
+      Map<String, String> serverClusterNames = new HashMap<>();
+      for (WlsClusterConfig clusterConfig : nonNull(clusters)) {
+        clusterConfigs.putIfAbsent(clusterConfig.getClusterName(), clusterConfig);
+        for (String serverName : getMemberNames(clusterConfig)) {
+          serverClusterNames.putIfAbsent(serverName, clusterConfig.getClusterName());
+        }
+      }
+
+      this.serverConfigs = Collections.unmodifiableMap(serverConfigs);
+      this.clusterConfigs = Collections.unmodifiableMap(clusterConfigs);
+      this.serverClusterNames = Collections.unmodifiableMap(serverClusterNames);
+    }
+
+    // only the names of dynamic servers are needed, so none of their configurations is derived here
+    private static List<String> getMemberNames(WlsClusterConfig clusterConfig) {
+      List<String> memberNames = new ArrayList<>();
+      for (WlsServerConfig serverConfig : nonNull(clusterConfig.getServers())) {
+        memberNames.add(serverConfig.getName());
+      }
+      Optional.ofNullable(clusterConfig.getDynamicServersConfig())
+          .map(WlsDynamicServersConfig::getServerNames)
+          .ifPresent(memberNames::addAll);
+      return memberNames;
+    }
+
+    private static <T> List<T> nonNull(List<T> list) {
+      return Optional.ofNullable(list).orElse(Collections.emptyList());
+    }
+  }
+
   /**
    * Object used by the {@link #parseJson(String)} method to return multiple parsed objects.
    */
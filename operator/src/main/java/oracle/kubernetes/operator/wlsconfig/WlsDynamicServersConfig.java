@@ -3,9 +3,15 @@
 
 package oracle.kubernetes.operator.wlsconfig;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import oracle.kubernetes.operator.logging.LoggingFacade;
 import oracle.kubernetes.operator.logging.LoggingFactory;
@@ -32,6 +38,9 @@ public class WlsDynamicServersConfig {
   String machineNameMatchExpression;
   List<WlsServerConfig> serverConfigs;
 
+  // positions in serverConfigs keyed by server name, built on first lookup after serverConfigs is set
+  private volatile Map<String, Integer> serverPositions;
+
   public WlsDynamicServersConfig() {
   }
 
@@ -134,7 +143,7 @@ public class WlsDynamicServersConfig {
    * @param clusterName Name of the WLS cluster that this dynamic servers configuration belongs to
    * @param domainName Name of the WLS domain that this WLS cluster belongs to
    * @param calculatedListenPorts whether listen ports are fixed or calculated based on server index
-   * @return A list of WlsServerConfig objects for dynamic servers
+   * @return A list of WlsServerConfig objects for dynamic servers, or null if there are no server names
    */
   static List<WlsServerConfig> createServerConfigsFromTemplate(
       List<String> serverNames,
@@ -142,26 +151,11 @@ public class WlsDynamicServersConfig {
       String clusterName,
       String domainName,
       boolean calculatedListenPorts) {
-    List<WlsServerConfig> serverConfigs = null;
-    if (serverNames != null && !serverNames.isEmpty()) {
-      serverConfigs = new ArrayList<>(serverNames.size());
-      int index = 0;
-      int startingServerIndex =
-          1; // hard coded to 1 for the time being. This will be configurable in later version of
-      // WLS
-      for (String serverName : serverNames) {
-        serverConfigs.add(
-            WlsDynamicServerConfig.create(
-                serverName,
-                index + startingServerIndex,
-                clusterName,
-                domainName,
-                calculatedListenPorts,
-                serverTemplate));
-        index++;
-      }
+    if (serverNames == null || serverNames.isEmpty()) {
+      return null;
     }
-    return serverConfigs;
+    return new ServerConfigsFromTemplate(
+        serverNames, serverTemplate, clusterName, domainName, calculatedListenPorts);
   }
 
   /**
@@ -250,6 +244,7 @@ public class WlsDynamicServersConfig {
 
   public void setServerConfigs(List<WlsServerConfig> serverConfigs) {
     this.serverConfigs = serverConfigs;
+    this.serverPositions = null;
   }
 
   /**
@@ -259,19 +254,71 @@ public class WlsDynamicServersConfig {
    * @return The WlsServerConfig object containing configuration of the WLS server with the given
    *     name. This methods return null if no WLS configuration is found for the given server name.
    */
-  public synchronized WlsServerConfig getServerConfig(String serverName) {
-    WlsServerConfig result = null;
-    if (serverName != null && serverConfigs != null) {
-      for (WlsServerConfig serverConfig : serverConfigs) {
-        if (serverConfig.getName().equals(serverName)) {
-          result = serverConfig;
-          break;
-        }
-      }
+  public WlsServerConfig getServerConfig(String serverName) {
+    Integer position = serverName == null ? null : getServerPositions().get(serverName);
+    return position == null ? null : serverConfigs.get(position);
+  }
+
+  private Map<String, Integer> getServerPositions() {
+    Map<String, Integer> result = serverPositions;
+    if (result == null) {
+      serverPositions = result = indexByName(serverConfigs);
     }
     return result;
   }
 
+  private static Map<String, Integer> indexByName(List<WlsServerConfig> serverConfigs) {
+    Map<String, Integer> result = new HashMap<>();
+    List<WlsServerConfig> configs = Optional.ofNullable(serverConfigs).orElse(Collections.emptyList());
+    for (int i = 0; i < configs.size(); i++) {
+      result.putIfAbsent(getServerName(configs, i), i);
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  // reads the name of a derived server without deriving its configuration
+  private static String getServerName(List<WlsServerConfig> configs, int index) {
+    return configs instanceof ServerConfigsFromTemplate
+        ? ((ServerConfigsFromTemplate) configs).serverNames.get(index)
+        : configs.get(index).getName();
+  }
+
+  /**
+   * Returns the names of the dynamic servers, in order, without deriving their configurations.
+   *
+   * @return a list of server names, which is empty if there are no dynamic servers
+   */
+  public List<String> getServerNames() {
+    List<WlsServerConfig> configs = Optional.ofNullable(serverConfigs).orElse(Collections.emptyList());
+    if (configs instanceof ServerConfigsFromTemplate) {
+      return Collections.unmodifiableList(((ServerConfigsFromTemplate) configs).serverNames);
+    }
+
+    List<String> result = new ArrayList<>();
+    for (WlsServerConfig config : configs) {
+      result.add(config.getName());
+    }
+    return result;
+  }
+
+  /** Returns the number of dynamic server configurations derived so far. For unit testing only. */
+  int getNumDerivedServers() {
+    return serverConfigs instanceof ServerConfigsFromTemplate
+        ? ((ServerConfigsFromTemplate) serverConfigs).getNumDerived()
+        : 0;
+  }
+
+  /**
+   * Returns true if one of the dynamic servers has the specified name.
+   *
+   * @param serverName the name to look for
+   * @return true or false
+   */
+  public boolean hasServer(String serverName) {
+    return serverName != null && getServerPositions().containsKey(serverName);
+  }
+
+
   /**
    * Return the server template associated with this dynamic servers configuration.
    *
@@ -326,9 +373,9 @@ public class WlsDynamicServersConfig {
   public void generateDynamicServerConfigs(
       WlsServerConfig serverTemplate, String clusterName, String domainName) {
     List<String> dynamicServerNames = generateDynamicServerNames();
-    serverConfigs =
+    setServerConfigs(
         createServerConfigsFromTemplate(
-            dynamicServerNames, serverTemplate, clusterName, domainName, calculatedListenPorts);
+            dynamicServerNames, serverTemplate, clusterName, domainName, calculatedListenPorts));
   }
 
   private List<String> generateDynamicServerNames() {
@@ -339,6 +386,72 @@ public class WlsDynamicServersConfig {
     return serverNames;
   }
 
+  /**
+   * A read-only list of dynamic server configurations which are derived from the server template the first time
+   * they are requested, and kept thereafter. Until then it holds nothing for each server but its name, so a large
+   * dynamic cluster costs little memory, no matter how few of its servers are running.
+   */
+  private static class ServerConfigsFromTemplate extends AbstractList<WlsServerConfig> implements RandomAccess {
+    // hard coded to 1 for the time being. This will be configurable in later version of WLS
+    private static final int STARTING_SERVER_INDEX = 1;
+
+    private final List<String> serverNames;
+    private final WlsServerConfig serverTemplate;
+    private final String clusterName;
+    private final String domainName;
+    private final boolean calculatedListenPorts;
+    private final AtomicReferenceArray<WlsServerConfig> derived;
+
+    ServerConfigsFromTemplate(
+        List<String> serverNames,
+        WlsServerConfig serverTemplate,
+        String clusterName,
+        String domainName,
+        boolean calculatedListenPorts) {
+      this.serverNames = new ArrayList<>(serverNames);
+      this.serverTemplate = serverTemplate;
+      this.clusterName = clusterName;
+      this.domainName = domainName;
+      this.calculatedListenPorts = calculatedListenPorts;
+      this.derived = new AtomicReferenceArray<>(this.serverNames.size());
+    }
+
+    @Override
+    public WlsServerConfig get(int index) {
+      WlsServerConfig config = derived.get(index);
+      if (config == null) {
+        derived.compareAndSet(index, null, derive(index));
+        config = derived.get(index);
+      }
+      return config;
+    }
+
+    private WlsServerConfig derive(int index) {
+      return WlsDynamicServerConfig.create(
+          serverNames.get(index),
+          index + STARTING_SERVER_INDEX,
+          clusterName,
+          domainName,
+          calculatedListenPorts,
+          serverTemplate);
+    }
+
+    @Override
+    public int size() {
+      return serverNames.size();
+    }
+
+    int getNumDerived() {
+      int result = 0;
+      for (int i = 0; i < derived.length(); i++) {
+        if (derived.get(i) != null) {
+          result++;
+        }
+      }
+      return result;
+    }
+  }
+
   @Override
   public String toString() {
     return new ToStringBuilder(this)
@@ -5,17 +5,15 @@ package oracle.kubernetes.operator.work;
 
 import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledThreadPoolExecutor;
-import java.util.concurrent.ThreadFactory;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Collection of {@link Fiber}s. Owns an {@link Executor} to run them.
  */
 public class Engine {
-  private static final int DEFAULT_THREAD_COUNT = 10;
   private final AtomicReference<ScheduledExecutorService> threadPool = new AtomicReference();
+  private final StepRunTimes stepRunTimes = new StepRunTimes();
+  private final StepTrace stepTrace = new StepTrace();
 
   /**
    * Creates engine with the specified executor.
@@ -42,14 +40,18 @@ public class Engine {
    * @return executor service
    */
   public static ScheduledExecutorService wrappedExecutorService(String id, Container container) {
-    ScheduledThreadPoolExecutor threadPool =
-        new ScheduledThreadPoolExecutor(DEFAULT_THREAD_COUNT, new DaemonThreadFactory(id));
-    threadPool.setRemoveOnCancelPolicy(true);
-    return wrap(container, threadPool);
+    return wrappedExecutorService(new EngineExecutor(id), container);
   }
 
-  private static ScheduledExecutorService wrap(Container container, ScheduledExecutorService ex) {
-    return container != null ? ContainerResolver.getDefault().wrapExecutor(container, ex) : ex;
+  /**
+   * Wraps the specified executor so that its tasks run in the specified container.
+   * @param executor executor
+   * @param container container
+   * @return executor service
+   */
+  public static ScheduledExecutorService wrappedExecutorService(
+        ScheduledExecutorService executor, Container container) {
+    return container != null ? ContainerResolver.getDefault().wrapExecutor(container, executor) : executor;
   }
 
   /**
@@ -61,6 +63,24 @@ public class Engine {
     return threadPool.get();
   }
 
+  /**
+   * Returns the accumulated run times of the steps executed by fibers of this engine.
+   *
+   * @return step run times
+   */
+  public StepRunTimes getStepRunTimes() {
+    return stepRunTimes;
+  }
+
+  /**
+   * Returns the trace of the steps most recently executed by fibers of this engine.
+   *
+   * @return step trace
+   */
+  public StepTrace getStepTrace() {
+    return stepTrace;
+  }
+
   void addRunnable(Fiber fiber) {
     getExecutor().execute(fiber);
   }
@@ -80,25 +100,4 @@ public class Engine {
   Fiber createChildFiber(Fiber parent) {
     return new Fiber(this, parent);
   }
-
-  private static class DaemonThreadFactory implements ThreadFactory {
-    final AtomicInteger threadNumber = new AtomicInteger(1);
-    final String namePrefix;
-
-    DaemonThreadFactory(String id) {
-      namePrefix = "engine-" + id + "-thread-";
-    }
-
-    public Thread newThread(Runnable r) {
-      Thread t = new Thread(r);
-      t.setName(namePrefix + threadNumber.getAndIncrement());
-      if (!t.isDaemon()) {
-        t.setDaemon(true);
-      }
-      if (t.getPriority() != Thread.NORM_PRIORITY) {
-        t.setPriority(Thread.NORM_PRIORITY);
-      }
-      return t;
-    }
-  }
 }
@@ -0,0 +1,364 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The executor used by an {@link Engine}. Fibers and other submitted tasks run on a pool of worker threads,
+ * which are started as work is queued, up to the configured count, and stopped again after they have been idle
+ * for the keep-alive time. Once that many threads are busy, further tasks wait in a queue; when the queue has
+ * reached its threshold depth, additional threads are started, up to the configured maximum. Delayed and
+ * periodic tasks are timed by a separate {@link TimerWheel} and handed to the worker pool when they are due, so
+ * that a backlog of fibers cannot delay timers from firing, and so that the many timeouts which are canceled
+ * before they expire cost little to schedule and cancel.
+ *
+ * <p>A periodic task whose previous run has not yet completed skips its next run, rather than
+ * running concurrently with itself. The future of a delayed task completes when the task has run on a worker
+ * thread; canceling it prevents the task from running if it has not yet started.
+ *
+ * <p>The worker queue is not bounded, as rejecting a fiber would lose its work: once the maximum number of
+ * threads are busy, tasks are queued beyond the threshold. The current depth of the queue and the greatest depth
+ * it has reached are reported, so that a growing backlog can be seen.
+ */
+public class EngineExecutor extends AbstractExecutorService implements ScheduledExecutorService {
+  static final int DEFAULT_WORKER_THREAD_COUNT = 10;
+  static final long TIMER_TICK_MILLIS = 10;
+  static final long DEFAULT_KEEP_ALIVE_SECONDS = 60;
+  static final int DEFAULT_QUEUE_THRESHOLD = 100;
+
+  private final WorkerQueue queue = new WorkerQueue();
+  private final ThreadPoolExecutor workers;
+  private final TimerWheel timer;
+  private final AtomicInteger maximumQueueDepth = new AtomicInteger();
+
+  /**
+   * Creates an executor with the default thread counts.
+   *
+   * @param id the id of the engine, used to name its threads
+   */
+  public EngineExecutor(String id) {
+    this(id, DEFAULT_WORKER_THREAD_COUNT, DEFAULT_KEEP_ALIVE_SECONDS);
+  }
+
+  /**
+   * Creates an executor.
+   *
+   * @param id the id of the engine, used to name its threads
+   * @param workerThreadCount the maximum number of threads which run fibers
+   * @param keepAliveSeconds the time after which an idle worker thread is stopped
+   */
+  public EngineExecutor(String id, int workerThreadCount, long keepAliveSeconds) {
+    checkConfiguration(workerThreadCount, workerThreadCount, DEFAULT_QUEUE_THRESHOLD, keepAliveSeconds);
+    workers = new ThreadPoolExecutor(
+          workerThreadCount, workerThreadCount, keepAliveSeconds, TimeUnit.SECONDS,
+          queue, new DaemonThreadFactory("engine-" + id + "-thread-"), this::queueBeyondThreshold);
+    workers.allowCoreThreadTimeOut(true);
+    timer = new TimerWheel("engine-" + id + "-timer", TIMER_TICK_MILLIS);
+  }
+
+  /**
+   * Changes the thread counts and queue threshold of this executor. Running tasks are not affected; surplus
+   * threads stop as they become idle.
+   *
+   * @param workerThreadCount the number of threads which run fibers before further fibers are queued
+   * @param maximumWorkerThreadCount the number of threads which run fibers once the queue reaches its threshold
+   * @param queueThreshold the number of queued tasks at which additional threads are started
+   * @param keepAliveSeconds the time after which an idle worker thread is stopped
+   * @throws IllegalArgumentException if a thread count or the keep-alive time is less than one, the maximum
+   *     thread count is less than the thread count, or the queue threshold is negative
+   */
+  public synchronized void configure(
+        int workerThreadCount, int maximumWorkerThreadCount, int queueThreshold, long keepAliveSeconds) {
+    checkConfiguration(workerThreadCount, maximumWorkerThreadCount, queueThreshold, keepAliveSeconds);
+    if (maximumWorkerThreadCount > workers.getMaximumPoolSize()) {
+      workers.setMaximumPoolSize(maximumWorkerThreadCount);
+      workers.setCorePoolSize(workerThreadCount);
+    } else {
+      workers.setCorePoolSize(workerThreadCount);
+      workers.setMaximumPoolSize(maximumWorkerThreadCount);
+    }
+    workers.setKeepAliveTime(keepAliveSeconds, TimeUnit.SECONDS);
+    queue.threshold = queueThreshold;
+  }
+
+  // checked before any setting is changed, so that invalid values leave the executor as it was
+  private static void checkConfiguration(
+        int workerThreadCount, int maximumWorkerThreadCount, int queueThreshold, long keepAliveSeconds) {
+    if (workerThreadCount < 1 || maximumWorkerThreadCount < workerThreadCount
+          || queueThreshold < 0 || keepAliveSeconds < 1) {
+      throw new IllegalArgumentException(
+            String.format("Invalid engine configuration: %d threads, %d maximum, queue threshold %d, keep-alive %ds",
+                  workerThreadCount, maximumWorkerThreadCount, queueThreshold, keepAliveSeconds));
+    }
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    workers.execute(command);
+    maximumQueueDepth.accumulateAndGet(workers.getQueue().size(), Math::max);
+  }
+
+  // called when the queue has reached its threshold and the maximum number of threads are running
+  private void queueBeyondThreshold(Runnable command, ThreadPoolExecutor executor) {
+    if (executor.isShutdown()) {
+      throw new RejectedExecutionException("Engine executor has been shut down");
+    }
+    queue.enqueue(command);
+    if (executor.getPoolSize() == 0) {
+      executor.prestartCoreThread();
+    }
+  }
+
+  @Override
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return schedule(Executors.callable(command), delay, unit);
+  }
+
+  @Override
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    FutureTask<V> task = new FutureTask<>(callable);
+    return new DelayedHandoff<>(task, timer.schedule(() -> execute(task), delay, unit));
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+    return timer.scheduleAtFixedRate(new PeriodicHandoff(command), initialDelay, period, unit);
+  }
+
+  @Override
+  public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    return timer.scheduleWithFixedDelay(new PeriodicHandoff(command), initialDelay, delay, unit);
+  }
+
+  @Override
+  public void shutdown() {
+    timer.shutdown();
+    workers.shutdown();
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    List<Runnable> pending = new ArrayList<>();
+    try {
+      pending.addAll(timer.shutdownNow());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    pending.addAll(workers.shutdownNow());
+    return pending;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return timer.isShutdown() && workers.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return timer.isTerminated() && workers.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    return timer.awaitTermination(timeout, unit)
+          && workers.awaitTermination(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Returns the number of worker threads currently started.
+   *
+   * @return a thread count
+   */
+  public int getWorkerThreadCount() {
+    return workers.getPoolSize();
+  }
+
+  /**
+   * Returns the maximum number of worker threads.
+   *
+   * @return a thread count
+   */
+  public int getMaximumWorkerThreadCount() {
+    return workers.getMaximumPoolSize();
+  }
+
+  /**
+   * Returns the approximate number of worker threads currently running tasks.
+   *
+   * @return a thread count
+   */
+  public int getActiveWorkerThreadCount() {
+    return workers.getActiveCount();
+  }
+
+  /**
+   * Returns the number of tasks waiting for a worker thread.
+   *
+   * @return a task count
+   */
+  public int getQueueDepth() {
+    return workers.getQueue().size();
+  }
+
+  /**
+   * Returns the greatest number of tasks which have waited for a worker thread at one time.
+   *
+   * @return a task count
+   */
+  public int getMaximumQueueDepth() {
+    return maximumQueueDepth.get();
+  }
+
+  /**
+   * Returns the number of delayed and periodic tasks waiting for their time to run.
+   *
+   * @return a task count
+   */
+  public int getScheduledTaskCount() {
+    return timer.size();
+  }
+
+  /**
+   * Returns the approximate number of tasks completed by the worker threads.
+   *
+   * @return a task count
+   */
+  public long getCompletedTaskCount() {
+    return workers.getCompletedTaskCount();
+  }
+
+  // the future of a delayed task: timed by the timer, and completed when the task has run on a worker thread
+  private static class DelayedHandoff<V> implements ScheduledFuture<V> {
+    private final FutureTask<V> task;
+    private final ScheduledFuture<?> timerFuture;
+
+    DelayedHandoff(FutureTask<V> task, ScheduledFuture<?> timerFuture) {
+      this.task = task;
+      this.timerFuture = timerFuture;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return timerFuture.getDelay(unit);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      timerFuture.cancel(false);
+      return task.cancel(mayInterruptIfRunning);
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return task.isCancelled();
+    }
+
+    @Override
+    public boolean isDone() {
+      return task.isDone();
+    }
+
+    @Override
+    public V get() throws InterruptedException, ExecutionException {
+      return task.get();
+    }
+
+    @Override
+    public V get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+      return task.get(timeout, unit);
+    }
+  }
+
+  // Declines a task offered once the threshold is reached and more threads may be started, so that the executor
+  // starts one to run it; a task which the executor then cannot run is queued beyond the threshold.
+  private class WorkerQueue extends LinkedBlockingQueue<Runnable> {
+    private volatile int threshold = DEFAULT_QUEUE_THRESHOLD;
+
+    @Override
+    public boolean offer(Runnable task) {
+      if (size() >= threshold && workers.getPoolSize() < workers.getMaximumPoolSize()) {
+        return false;
+      }
+      return super.offer(task);
+    }
+
+    void enqueue(Runnable task) {
+      super.offer(task);
+    }
+  }
+
+  private class PeriodicHandoff implements Runnable {
+    private final Runnable command;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    PeriodicHandoff(Runnable command) {
+      this.command = command;
+    }
+
+    @Override
+    public void run() {
+      if (running.compareAndSet(false, true)) {
+        try {
+          execute(this::runCommand);
+        } catch (RejectedExecutionException e) {
+          running.set(false);
+          throw e;
+        }
+      }
+    }
+
+    private void runCommand() {
+      try {
+        command.run();
+      } finally {
+        running.set(false);
+      }
+    }
+  }
+
+  private static class DaemonThreadFactory implements ThreadFactory {
+    final AtomicInteger threadNumber = new AtomicInteger(1);
+    final String namePrefix;
+
+    DaemonThreadFactory(String namePrefix) {
+      this.namePrefix = namePrefix;
+    }
+
+    public Thread newThread(Runnable r) {
+      Thread t = new Thread(r);
+      t.setName(namePrefix + threadNumber.getAndIncrement());
+      if (!t.isDaemon()) {
+        t.setDaemon(true);
+      }
+      if (t.getPriority() != Thread.NORM_PRIORITY) {
+        t.setPriority(Thread.NORM_PRIORITY);
+      }
+      return t;
+    }
+  }
+}
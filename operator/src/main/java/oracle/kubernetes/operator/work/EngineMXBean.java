@@ -0,0 +1,33 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+
+/**
+ * Management interface reporting the saturation of an {@link Engine}: the state of its worker pool and timer,
+ * and the time spent running each class of step.
+ */
+public interface EngineMXBean {
+
+  int getWorkerThreadCount();
+
+  int getMaximumWorkerThreadCount();
+
+  int getActiveWorkerThreadCount();
+
+  int getQueueDepth();
+
+  int getMaximumQueueDepth();
+
+  int getScheduledTaskCount();
+
+  long getCompletedTaskCount();
+
+  Map<String, Long> getStepRunCounts();
+
+  Map<String, Long> getStepRunTimeNanos();
+
+  Map<String, Long> getStepMaxRunTimeNanos();
+}
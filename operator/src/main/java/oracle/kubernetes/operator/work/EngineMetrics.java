@@ -0,0 +1,84 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Reports the gauges of an {@link Engine} and its {@link EngineExecutor} as a platform MBean.
+ */
+public class EngineMetrics implements EngineMXBean {
+  private static final String OBJECT_NAME_PREFIX = "oracle.kubernetes.operator:type=Engine,name=";
+
+  private final EngineExecutor executor;
+  private final StepRunTimes stepRunTimes;
+
+  public EngineMetrics(EngineExecutor executor, StepRunTimes stepRunTimes) {
+    this.executor = executor;
+    this.stepRunTimes = stepRunTimes;
+  }
+
+  /**
+   * Registers these metrics with the platform MBean server.
+   *
+   * @param id the id of the engine
+   * @throws JMException if the registration fails
+   */
+  public void register(String id) throws JMException {
+    ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(OBJECT_NAME_PREFIX + id));
+  }
+
+  @Override
+  public int getWorkerThreadCount() {
+    return executor.getWorkerThreadCount();
+  }
+
+  @Override
+  public int getMaximumWorkerThreadCount() {
+    return executor.getMaximumWorkerThreadCount();
+  }
+
+  @Override
+  public int getActiveWorkerThreadCount() {
+    return executor.getActiveWorkerThreadCount();
+  }
+
+  @Override
+  public int getQueueDepth() {
+    return executor.getQueueDepth();
+  }
+
+  @Override
+  public int getMaximumQueueDepth() {
+    return executor.getMaximumQueueDepth();
+  }
+
+  @Override
+  public int getScheduledTaskCount() {
+    return executor.getScheduledTaskCount();
+  }
+
+  @Override
+  public long getCompletedTaskCount() {
+    return executor.getCompletedTaskCount();
+  }
+
+  @Override
+  public Map<String, Long> getStepRunCounts() {
+    return stepRunTimes.getCounts();
+  }
+
+  @Override
+  public Map<String, Long> getStepRunTimeNanos() {
+    return stepRunTimes.getTotalNanos();
+  }
+
+  @Override
+  public Map<String, Long> getStepMaxRunTimeNanos() {
+    return stepRunTimes.getMaxNanos();
+  }
+}
@@ -9,7 +9,6 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CancellationException;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -62,6 +61,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   public final Engine owner;
   private final Fiber parent;
   private final int id;
+  private final String tracePath;
   /**
    * Replace uses of synchronized(this) with this lock so that we can control unlocking for resume
    * use cases.
@@ -69,7 +69,8 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private final ReentrantLock lock = new ReentrantLock();
   private final Condition condition = lock.newCondition();
   private final AtomicInteger status = new AtomicInteger(NOT_COMPLETE);
-  private final Map<String, Component> components = new ConcurrentHashMap<>();
+  private final SpiIndex spiIndex = new SpiIndex();
+  private final LayeredMap<Component> components = new LayeredMap<>(spiIndex::invalidate);
   /** The next action for this Fiber. */
   private NextAction na;
   private ClassLoader contextClassLoader;
@@ -80,6 +81,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
   private Collection<Fiber> children = null;
   // Will only be populated if log level is at least FINE
   private List<BreadCrumb> breadCrumbs = null;
+  /** The step most recently applied by this fiber, and the time at which it suspended the fiber, if it did. */
+  private Step currentStep;
+  private long suspendedNanos;
 
   Fiber(Engine engine) {
     this(engine, null);
@@ -89,6 +93,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     this.owner = engine;
     this.parent = parent;
     id = iotaGen.incrementAndGet();
+    tracePath = createTracePath(parent);
 
     // if this is run from another fiber, then we naturally inherit its context
     // classloader,
@@ -96,6 +101,16 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     contextClassLoader = Thread.currentThread().getContextClassLoader();
   }
 
+  private static String createTracePath(Fiber parent) {
+    if (parent == null) {
+      return "fiber";
+    } else if (parent.currentStep == null) {
+      return parent.tracePath;
+    } else {
+      return parent.tracePath + ";" + StepTrace.toFrame(parent.currentStep.getName());
+    }
+  }
+
   /**
    * Gets the current fiber that's running. This works like {@link Thread#currentThread()}. This
    * method only works when invoked from {@link Step}.
@@ -596,6 +611,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
       addBreadCrumb(na);
 
       NextAction result;
+      long started = System.nanoTime();
+      recordSuspension(started);
+      currentStep = na.next;
       try {
         result = na.next.apply(na.packet);
       } catch (Throwable t) {
@@ -605,6 +623,9 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
 
         addBreadCrumb(na);
         return false;
+      } finally {
+        // steps which throw are recorded too, as they also occupied the thread
+        recordRun(started, System.nanoTime() - started);
       }
 
       if (LOGGER.isFinerEnabled()) {
@@ -623,6 +644,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
           break;
         case SUSPEND:
           addBreadCrumb(new SuspendMarkerBreadCrumb());
+          suspendedNanos = owner.getStepTrace().isEnabled() ? System.nanoTime() : 0;
           if (suspend(isRequireUnlock, result.onExit)) {
             return true; // explicitly exiting control loop
           }
@@ -641,6 +663,30 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
     return false;
   }
 
+  private void recordRun(long startNanos, long elapsedNanos) {
+    owner.getStepRunTimes().record(currentStep, elapsedNanos);
+    if (owner.getStepTrace().isEnabled()) {
+      owner.getStepTrace().recordRun(this, currentStep, startNanos, elapsedNanos);
+    }
+  }
+
+  private void recordSuspension(long resumedNanos) {
+    if (suspendedNanos != 0) {
+      if (owner.getStepTrace().isEnabled()) {
+        owner.getStepTrace().recordSuspension(this, currentStep, suspendedNanos, resumedNanos - suspendedNanos);
+      }
+      suspendedNanos = 0;
+    }
+  }
+
+  int getId() {
+    return id;
+  }
+
+  String getTracePath() {
+    return tracePath;
+  }
+
   private boolean isReady() {
     return na.kind != Kind.SUSPEND;
   }
@@ -807,13 +853,7 @@ public final class Fiber implements Runnable, Future<Void>, ComponentRegistry {
 
   @Override
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S spi = c.getSpi(spiType);
-      if (spi != null) {
-        return spi;
-      }
-    }
-    return null;
+    return spiIndex.getSpi(spiType, type -> components.findFirst(c -> c.getSpi(type)));
   }
 
   @Override
@@ -0,0 +1,349 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A map which can be copied in constant time. Its entries are held in a chain of frozen layers, shared with its
+ * copies, under a local layer which receives all changes. Copying the map freezes its local layer; the copy and
+ * the original each then start a new, empty local layer on top of the shared chain, so that neither sees changes
+ * made to the other afterwards.
+ *
+ * <p>A key removed from the map while present in a frozen layer is hidden by a marker in the local layer. When the
+ * chain grows too deep, or holds more hidden entries than visible ones, it is merged into a single layer holding
+ * only the visible entries. Null keys and values are not supported. A listener, if one is specified, is run after
+ * each change to the map.
+ *
+ * @param <V> the type of the values
+ */
+class LayeredMap<V> extends AbstractMap<String, V> {
+  // the longest chain of frozen layers kept; a longer chain is merged into a single layer when frozen
+  private static final int MAX_DEPTH = 8;
+  private static final Object REMOVED = new Object();
+
+  // updated before the local layer when freezing, so that a reader which sees the new local layer sees this too
+  private volatile Layer base;
+  private volatile Map<String, Object> local = new ConcurrentHashMap<>();
+  private final Runnable changeListener;
+
+  LayeredMap() {
+    this(null, null);
+  }
+
+  LayeredMap(Runnable changeListener) {
+    this(null, changeListener);
+  }
+
+  private LayeredMap(Layer base, Runnable changeListener) {
+    this.base = base;
+    this.changeListener = changeListener;
+  }
+
+  /**
+   * Returns a copy of this map, sharing its current entries without copying them.
+   *
+   * @param changeListener a listener to run after each change to the copy, or null
+   * @return a new map with the same entries
+   */
+  synchronized LayeredMap<V> copy(Runnable changeListener) {
+    if (!local.isEmpty()) {
+      base = mustMerge() ? new Layer(getVisibleEntries(), null) : new Layer(local, base);
+      local = new ConcurrentHashMap<>();
+    }
+    return new LayeredMap<>(base, changeListener);
+  }
+
+  // merges when the chain is too deep, or when most of its entries are shadowed or removal markers
+  private boolean mustMerge() {
+    return base != null && (base.depth >= MAX_DEPTH || base.numEntries + local.size() > 2 * size());
+  }
+
+  private void changed() {
+    if (changeListener != null) {
+      changeListener.run();
+    }
+  }
+
+  /**
+   * Returns the first non-null result of applying the specified function to the values in this map, without
+   * creating a copy of its entries.
+   *
+   * @param function a function to apply to each value
+   * @param <R> the type of the result
+   * @return the first non-null result, or null if there is none
+   */
+  <R> R findFirst(Function<V, R> function) {
+    Map<String, Object> top = local;
+    Layer frozen = base;
+    for (Map.Entry<String, Object> entry : top.entrySet()) {
+      R result = applyIfValue(function, entry.getValue());
+      if (result != null) {
+        return result;
+      }
+    }
+
+    for (Layer layer = frozen; layer != null; layer = layer.parent) {
+      for (Map.Entry<String, Object> entry : layer.values.entrySet()) {
+        if (isVisible(entry.getKey(), top, frozen, layer)) {
+          R result = applyIfValue(function, entry.getValue());
+          if (result != null) {
+            return result;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <R> R applyIfValue(Function<V, R> function, Object value) {
+    return value == REMOVED ? null : function.apply((V) value);
+  }
+
+  // an entry in a frozen layer is visible unless its key is in the local layer or a more recent frozen layer
+  private boolean isVisible(String key, Map<String, Object> top, Layer frozen, Layer layer) {
+    if (top.containsKey(key)) {
+      return false;
+    }
+    for (Layer l = frozen; l != layer; l = l.parent) {
+      if (l.values.containsKey(key)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private Object lookup(Object key) {
+    Object value = local.get(key);
+    for (Layer layer = base; value == null && layer != null; layer = layer.parent) {
+      value = layer.values.get(key);
+    }
+    return value == REMOVED ? null : value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    return (V) lookup(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return lookup(key) != null;
+  }
+
+  @Override
+  public int size() {
+    Map<String, Object> top = local;
+    Layer frozen = base;
+    int size = 0;
+    for (Object value : top.values()) {
+      if (value != REMOVED) {
+        size++;
+      }
+    }
+
+    for (Layer layer = frozen; layer != null; layer = layer.parent) {
+      for (Map.Entry<String, Object> entry : layer.values.entrySet()) {
+        if (entry.getValue() != REMOVED && isVisible(entry.getKey(), top, frozen, layer)) {
+          size++;
+        }
+      }
+    }
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return findFirst(Function.identity()) == null;
+  }
+
+  @Override
+  public V putIfAbsent(String key, V value) {
+    synchronized (this) {
+      V old = get(key);
+      if (old != null) {
+        return old;
+      }
+      local.put(key, value);
+    }
+    changed();
+    return null;
+  }
+
+  @Override
+  public V computeIfAbsent(String key, Function<? super String, ? extends V> mappingFunction) {
+    V value;
+    synchronized (this) {
+      V old = get(key);
+      if (old != null) {
+        return old;
+      }
+      value = mappingFunction.apply(key);
+      if (value == null) {
+        return null;
+      }
+      local.put(key, value);
+    }
+    changed();
+    return value;
+  }
+
+  @Override
+  public V compute(String key, BiFunction<? super String, ? super V, ? extends V> remappingFunction) {
+    V value;
+    synchronized (this) {
+      V old = get(key);
+      value = remappingFunction.apply(key, old);
+      if (value != null) {
+        local.put(key, value);
+      } else if (old != null) {
+        removeKey(key);
+      } else {
+        return null;
+      }
+    }
+    changed();
+    return value;
+  }
+
+  @Override
+  public V put(String key, V value) {
+    V old;
+    synchronized (this) {
+      old = get(key);
+      local.put(key, value);
+    }
+    changed();
+    return old;
+  }
+
+  @Override
+  public V remove(Object key) {
+    V old;
+    synchronized (this) {
+      old = get(key);
+      if (old == null) {
+        return null;
+      }
+      removeKey(key);
+    }
+    changed();
+    return old;
+  }
+
+  private void removeKey(Object key) {
+    if (isInFrozenLayer(key)) {
+      local.put((String) key, REMOVED);
+    } else {
+      local.remove(key);
+    }
+  }
+
+  private boolean isInFrozenLayer(Object key) {
+    for (Layer layer = base; layer != null; layer = layer.parent) {
+      if (layer.values.containsKey(key)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public void clear() {
+    synchronized (this) {
+      base = null;
+      local = new ConcurrentHashMap<>();
+    }
+    changed();
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  // returns the entries currently visible, with the most recent value for each key
+  private Map<String, Object> getVisibleEntries() {
+    Map<String, Object> top = local;
+    Map<String, Object> result = new HashMap<>(top);
+    for (Layer layer = base; layer != null; layer = layer.parent) {
+      layer.values.forEach(result::putIfAbsent);
+    }
+    result.values().removeIf(value -> value == REMOVED);
+    return result;
+  }
+
+  private static class Layer {
+    private final Map<String, Object> values;
+    private final Layer parent;
+    private final int depth;
+    // the number of entries in this layer and its parents, including shadowed ones and removal markers
+    private final int numEntries;
+
+    Layer(Map<String, Object> values, Layer parent) {
+      this.values = values;
+      this.parent = parent;
+      this.depth = parent == null ? 1 : parent.depth + 1;
+      this.numEntries = parent == null ? values.size() : parent.numEntries + values.size();
+    }
+  }
+
+  private class EntrySet extends AbstractSet<Entry<String, V>> {
+    @Override
+    public Iterator<Entry<String, V>> iterator() {
+      Iterator<Map.Entry<String, Object>> entries = getVisibleEntries().entrySet().iterator();
+      return new Iterator<>() {
+        private Map.Entry<String, Object> current;
+
+        @Override
+        public boolean hasNext() {
+          return entries.hasNext();
+        }
+
+        @Override
+        public Entry<String, V> next() {
+          current = entries.next();
+          return new LayeredEntry(current);
+        }
+
+        @Override
+        public void remove() {
+          if (current == null) {
+            throw new IllegalStateException();
+          }
+          LayeredMap.this.remove(current.getKey());
+          current = null;
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return LayeredMap.this.size();
+    }
+  }
+
+  private class LayeredEntry extends SimpleEntry<String, V> {
+    @SuppressWarnings("unchecked")
+    LayeredEntry(Map.Entry<String, Object> entry) {
+      super(entry.getKey(), (V) entry.getValue());
+    }
+
+    @Override
+    public V setValue(V value) {
+      super.setValue(value);
+      return put(getKey(), value);
+    }
+  }
+}
@@ -7,25 +7,36 @@ import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
-/** Context of a single processing flow. Acts as a map and as a registry of components. */
+/**
+ * Context of a single processing flow. Acts as a map and as a registry of components.
+ *
+ * <p>Packets are cloned for every child fiber of a fork, so a clone shares the values and components of the
+ * original rather than copying them. Changes made to either packet after the clone are recorded in a layer of its
+ * own and are not seen by the other.
+ */
 public class Packet extends AbstractMap<String, Object> implements ComponentRegistry, ComponentEx {
-  private final ConcurrentMap<String, Component> components =
-      new ConcurrentHashMap<String, Component>();
-  private final ConcurrentMap<String, Object> delegate = new ConcurrentHashMap<String, Object>();
+  private final SpiIndex spiIndex;
+  private final LayeredMap<Component> components;
+  private final LayeredMap<Object> delegate;
 
   public Packet() {
+    spiIndex = new SpiIndex();
+    components = new LayeredMap<>(spiIndex::invalidate);
+    delegate = new LayeredMap<>();
   }
 
   private Packet(Packet that) {
-    components.putAll(that.components);
-    delegate.putAll(that.delegate);
+    spiIndex = that.spiIndex.share();
+    components = that.components.copy(spiIndex::invalidate);
+    delegate = that.delegate.copy(null);
   }
 
   /**
-   * Clones a packet so that the new packet starts with identical values and components.
+   * Clones a packet so that the new packet starts with identical values and components. The clone takes
+   * constant time, regardless of the number of values and components.
    *
    * @return Cloned packet
    */
@@ -40,13 +51,7 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
    * @return implementation object
    */
   public <S> S getSpi(Class<S> spiType) {
-    for (Component c : components.values()) {
-      S s = c.getSpi(spiType);
-      if (s != null) {
-        return s;
-      }
-    }
-    return null;
+    return spiIndex.getSpi(spiType, type -> components.findFirst(c -> c.getSpi(type)));
   }
 
   @Override
@@ -63,6 +68,51 @@ public class Packet extends AbstractMap<String, Object> implements ComponentRegi
     return Collections.emptySet();
   }
 
+  @Override
+  public Object get(Object key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return delegate.containsKey(key);
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return delegate.isEmpty();
+  }
+
+  @Override
+  public Object putIfAbsent(String key, Object value) {
+    return value != null ? delegate.putIfAbsent(key, value) : get(key);
+  }
+
+  @Override
+  public Object computeIfAbsent(String key, Function<? super String, ? extends Object> mappingFunction) {
+    return delegate.computeIfAbsent(key, mappingFunction);
+  }
+
+  @Override
+  public Object compute(String key, BiFunction<? super String, ? super Object, ? extends Object> remappingFunction) {
+    return delegate.compute(key, remappingFunction);
+  }
+
+  @Override
+  public Object remove(Object key) {
+    return delegate.remove(key);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
   @Override
   public Set<Entry<String, Object>> entrySet() {
     return delegate.entrySet();
@@ -0,0 +1,71 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * An index of the SPI implementations provided by the components of a {@link ComponentRegistry}, keyed by SPI
+ * type, so that each lookup after the first is a single map probe. The owner must {@link #invalidate()} the index
+ * whenever its components change.
+ *
+ * <p>An index may be shared with a copy of its owner which has the same components. Invalidating it replaces the
+ * map of the invalidating owner only, so that the entries remain valid for the other. As with the fiber which
+ * owns a packet, the thread which changes the components of an owner is expected to be the one which looks up its SPIs.
+ */
+class SpiIndex {
+  // recorded for SPI types which no component provides
+  private static final Object NONE = new Object();
+
+  private volatile Map<Class<?>, Object> index;
+
+  SpiIndex() {
+    index = new ConcurrentHashMap<>();
+  }
+
+  private SpiIndex(Map<Class<?>, Object> index) {
+    this.index = index;
+  }
+
+  /**
+   * Returns an index sharing the entries of this one, for a copy of the owner of this index.
+   *
+   * @return a new index
+   */
+  SpiIndex share() {
+    return new SpiIndex(index);
+  }
+
+  /**
+   * Discards the indexed SPI implementations, after a change to the components of the owner.
+   */
+  void invalidate() {
+    index = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Returns the indexed implementation of the specified SPI, searching the components with the specified function
+   * if the SPI type is not yet indexed.
+   *
+   * @param spiType the SPI type
+   * @param search a function which searches the components of the owner for an implementation of an SPI
+   * @param <S> the SPI type
+   * @return the implementation, or null if no component provides one
+   */
+  <S> S getSpi(Class<S> spiType, Function<Class<S>, S> search) {
+    Map<Class<?>, Object> current = index;
+    Object spi = current.get(spiType);
+    if (spi == null) {
+      S found = search.apply(spiType);
+      spi = found != null ? found : NONE;
+      // if the components changed during the search, the result may not be valid for the other owners
+      if (index == current) {
+        current.put(spiType, spi);
+      }
+    }
+    return spi == NONE ? null : spiType.cast(spi);
+  }
+}
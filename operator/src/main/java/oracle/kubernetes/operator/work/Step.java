@@ -6,6 +6,8 @@ package oracle.kubernetes.operator.work;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -249,14 +251,7 @@ public abstract class Step {
                 @Override
                 public void onCompletion(Packet p) {
                   if (count.decrementAndGet() == 0) {
-                    // no need to synchronize throwables as all fibers are done
-                    if (throwables.isEmpty()) {
-                      fiber.resume(packet);
-                    } else if (throwables.size() == 1) {
-                      fiber.terminate(throwables.get(0), packet);
-                    } else {
-                      fiber.terminate(new MultiThrowable(throwables), packet);
-                    }
+                    resumeOrTerminate();
                   }
                 }
               };
@@ -267,6 +262,63 @@ public abstract class Step {
         });
   }
 
+  /**
+   * Create a {@link NextAction} that suspends the current {@link Fiber} and that starts child
+   * fibers for each step and packet pair, running no more than the specified number of them at a
+   * time. Each time a child fiber completes, the next not-yet-started one is started, in order. When
+   * all of the child fibers have completed, this fiber is resumed with the indicated step and packet.
+   *
+   * @param step Step to invoke next when resumed after child fibers complete
+   * @param packet Resume packet
+   * @param startDetails Pairs of step and packet to use when starting child fibers
+   * @param maxConcurrency The maximum number of child fibers to run at once; if zero or negative,
+   *     all child fibers are started at once. If there are no pairs, this fiber continues
+   *     immediately.
+   * @return Next action
+   */
+  protected NextAction doForkJoin(
+      Step step, Packet packet, Collection<StepAndPacket> startDetails, int maxConcurrency) {
+    if (startDetails.isEmpty()) {
+      return doNext(step, packet);
+    } else if (maxConcurrency <= 0 || maxConcurrency >= startDetails.size()) {
+      return doForkJoin(step, packet, startDetails);
+    }
+
+    return doSuspend(
+        step,
+        (fiber) -> {
+          Queue<StepAndPacket> pending = new ConcurrentLinkedQueue<>(startDetails);
+          CompletionCallback callback =
+              new JoinCompletionCallback(fiber, packet, startDetails.size()) {
+                @Override
+                public void onCompletion(Packet p) {
+                  if (count.decrementAndGet() == 0) {
+                    resumeOrTerminate();
+                  } else {
+                    startNext(fiber, pending, this);
+                  }
+                }
+
+                @Override
+                public void onThrowable(Packet p, Throwable throwable) {
+                  super.onThrowable(p, throwable);
+                  startNext(fiber, pending, this);
+                }
+              };
+          // start the first window of forked fibers
+          for (int i = 0; i < maxConcurrency; i++) {
+            startNext(fiber, pending, callback);
+          }
+        });
+  }
+
+  private static void startNext(Fiber fiber, Queue<StepAndPacket> pending, CompletionCallback callback) {
+    StepAndPacket sp = pending.poll();
+    if (sp != null) {
+      fiber.createChildFiber().start(sp.step, sp.packet, callback);
+    }
+  }
+
   /**
    * Create a {@link NextAction} that suspends the current {@link Fiber} and that starts child
    * fibers for each step and packet pair. When at least one of the created child fibers completes,
@@ -342,12 +394,18 @@ public abstract class Step {
         throwables.add(throwable);
       }
       if (count.decrementAndGet() == 0) {
-        // no need to synchronize throwables as all fibers are done
-        if (throwables.size() == 1) {
-          fiber.terminate(throwable, packet);
-        } else {
-          fiber.terminate(new MultiThrowable(throwables), packet);
-        }
+        resumeOrTerminate();
+      }
+    }
+
+    void resumeOrTerminate() {
+      // no need to synchronize throwables as all fibers are done
+      if (throwables.isEmpty()) {
+        fiber.resume(packet);
+      } else if (throwables.size() == 1) {
+        fiber.terminate(throwables.get(0), packet);
+      } else {
+        fiber.terminate(new MultiThrowable(throwables), packet);
       }
     }
   }
@@ -0,0 +1,68 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Accumulates the time spent in the apply method of each class of step, across all fibers of an {@link Engine}.
+ */
+public class StepRunTimes {
+  private final ConcurrentMap<String, RunTime> runTimes = new ConcurrentHashMap<>();
+
+  void record(Step step, long elapsedNanos) {
+    runTimes.computeIfAbsent(step.getClass().getName(), k -> new RunTime()).add(elapsedNanos);
+  }
+
+  /**
+   * Returns the number of times each class of step has been run.
+   *
+   * @return a map of step class names to counts
+   */
+  public Map<String, Long> getCounts() {
+    return collect(r -> r.count.sum());
+  }
+
+  /**
+   * Returns the total time spent running each class of step.
+   *
+   * @return a map of step class names to nanoseconds
+   */
+  public Map<String, Long> getTotalNanos() {
+    return collect(r -> r.totalNanos.sum());
+  }
+
+  /**
+   * Returns the longest single run of each class of step.
+   *
+   * @return a map of step class names to nanoseconds
+   */
+  public Map<String, Long> getMaxNanos() {
+    return collect(r -> r.maxNanos.get());
+  }
+
+  private Map<String, Long> collect(Function<RunTime, Long> value) {
+    Map<String, Long> result = new TreeMap<>();
+    runTimes.forEach((name, runTime) -> result.put(name, value.apply(runTime)));
+    return result;
+  }
+
+  private static class RunTime {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    void add(long elapsedNanos) {
+      count.increment();
+      totalNanos.add(elapsedNanos);
+      maxNanos.accumulate(elapsedNanos);
+    }
+  }
+}
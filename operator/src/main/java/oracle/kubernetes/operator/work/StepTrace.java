@@ -0,0 +1,156 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded record of the most recent step executions by the fibers of an {@link Engine}. For each step, it records
+ * the fiber which ran it, when its apply method started and how long it ran; for a step which suspended its fiber,
+ * it also records how long the fiber remained suspended. Once the buffer is full, each new entry replaces the
+ * oldest one, so that recording never blocks and the memory used does not grow.
+ *
+ * <p>Recording is disabled by default, as it adds to the cost of every step; fibers record nothing until it is
+ * enabled.
+ *
+ * <p>The recorded entries may be exported in the Chrome trace event format, for viewing in chrome://tracing or
+ * Perfetto, or as collapsed stacks, for flame graph tools. In both, a child fiber is shown beneath the step
+ * which created it.
+ */
+public class StepTrace {
+  static final int DEFAULT_CAPACITY = 8192;
+  private static final String SUSPENDED = "(suspended)";
+
+  private final AtomicReferenceArray<Entry> entries;
+  private final AtomicLong nextIndex = new AtomicLong();
+  private volatile boolean enabled;
+
+  public StepTrace() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  public StepTrace(int capacity) {
+    entries = new AtomicReferenceArray<>(capacity);
+  }
+
+  /**
+   * Returns true if fibers should record the steps they run.
+   *
+   * @return true if recording is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Enables or disables recording. Entries already recorded are kept.
+   *
+   * @param enabled true if fibers should record the steps they run
+   */
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  void recordRun(Fiber fiber, Step step, long startNanos, long elapsedNanos) {
+    add(new Entry(fiber, step, false, startNanos, elapsedNanos));
+  }
+
+  void recordSuspension(Fiber fiber, Step step, long startNanos, long elapsedNanos) {
+    add(new Entry(fiber, step, true, startNanos, elapsedNanos));
+  }
+
+  private void add(Entry entry) {
+    if (entries.length() > 0) {
+      entries.set((int) (nextIndex.getAndIncrement() % entries.length()), entry);
+    }
+  }
+
+  private List<Entry> getEntries() {
+    List<Entry> result = new ArrayList<>(entries.length());
+    for (int i = 0; i < entries.length(); i++) {
+      Entry entry = entries.get(i);
+      if (entry != null) {
+        result.add(entry);
+      }
+    }
+    result.sort(Comparator.comparingLong(e -> e.startNanos));
+    return result;
+  }
+
+  /**
+   * Returns the recorded entries as Chrome trace events. Each fiber is shown as a separate thread, and each step
+   * run or suspension as a complete event, with its times in microseconds.
+   *
+   * @return a list of trace events, each represented as a map of event properties
+   */
+  public List<Map<String, Object>> toChromeTraceEvents() {
+    List<Map<String, Object>> events = new ArrayList<>();
+    for (Entry entry : getEntries()) {
+      Map<String, Object> event = new LinkedHashMap<>();
+      event.put("name", entry.getName());
+      event.put("cat", entry.suspended ? "suspend" : "step");
+      event.put("ph", "X");
+      event.put("ts", TimeUnit.NANOSECONDS.toMicros(entry.startNanos));
+      event.put("dur", TimeUnit.NANOSECONDS.toMicros(entry.elapsedNanos));
+      event.put("pid", 1);
+      event.put("tid", entry.fiberId);
+      event.put("args", Map.of("fiber", entry.fiberPath));
+      events.add(event);
+    }
+    return events;
+  }
+
+  /**
+   * Returns the recorded entries in collapsed stack format: one line for each distinct stack, followed by the
+   * total microseconds spent in it. Time spent suspended appears in a frame beneath the suspending step.
+   *
+   * @return the collapsed stacks, separated by newlines
+   */
+  public String toCollapsedStacks() {
+    Map<String, Long> stacks = new TreeMap<>();
+    for (Entry entry : getEntries()) {
+      String stack = entry.fiberPath + ";" + toFrame(entry.stepName) + (entry.suspended ? ";" + SUSPENDED : "");
+      stacks.merge(stack, TimeUnit.NANOSECONDS.toMicros(entry.elapsedNanos), Long::sum);
+    }
+
+    StringBuilder sb = new StringBuilder();
+    stacks.forEach((stack, micros) -> sb.append(stack).append(' ').append(micros).append('\n'));
+    return sb.toString();
+  }
+
+  static String toFrame(String stepName) {
+    return stepName.replace(';', ',');
+  }
+
+  // holds only the name of the step, so that the trace does not keep the step, and the steps which follow it, alive
+  private static class Entry {
+    private final int fiberId;
+    private final String fiberPath;
+    private final String stepName;
+    private final boolean suspended;
+    private final long startNanos;
+    private final long elapsedNanos;
+
+    Entry(Fiber fiber, Step step, boolean suspended, long startNanos, long elapsedNanos) {
+      this.fiberId = fiber.getId();
+      this.fiberPath = fiber.getTracePath();
+      this.stepName = step.getName();
+      this.suspended = suspended;
+      this.startNanos = startNanos;
+      this.elapsedNanos = elapsedNanos;
+    }
+
+    String getName() {
+      return suspended ? stepName + " " + SUSPENDED : stepName;
+    }
+  }
+}
@@ -0,0 +1,488 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * A hierarchical timer wheel, which times delayed and periodic tasks at a fixed tick resolution. Scheduling and
+ * canceling a task take constant time, regardless of the number of tasks outstanding, which makes the wheel suited
+ * to the many short-lived timeouts and retry delays of the operator's fibers, most of which are canceled or
+ * superseded long before they expire.
+ *
+ * <p>The wheel has several levels of {@value #WHEEL_SIZE} buckets each. A bucket on the lowest level holds the tasks
+ * due in a single tick; a bucket on each higher level spans a whole turn of the level below it, and its tasks are
+ * moved down a level as the wheel reaches it. Tasks due beyond the span of the highest level wait in its last bucket
+ * until they come within range.
+ *
+ * <p>The buckets are only touched by the thread which advances the wheel. Other threads hand it new and canceled
+ * tasks through lock-free queues. Due tasks run on that thread, so they should do no more than hand work off to
+ * another executor. A task is never run before its delay has passed, and normally runs within one tick after.
+ * Between ticks, the thread sleeps until the next bucket which holds tasks is due, or until a task is scheduled
+ * to run before then; it does not wake on every tick while the wheel is idle.
+ */
+public class TimerWheel {
+  private static final int WHEEL_BITS = 6;
+  static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  private static final int NUM_LEVELS = 4;
+  private static final long MAX_SPAN_TICKS = 1L << (WHEEL_BITS * NUM_LEVELS);
+
+  private final long tickNanos;
+  private final LongSupplier clock;
+  private final long startNanos;
+  private final Bucket[][] levels = new Bucket[NUM_LEVELS][WHEEL_SIZE];
+  private final Queue<Timer<?>> added = new ConcurrentLinkedQueue<>();
+  private final Queue<Timer<?>> canceled = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final CountDownLatch terminated = new CountDownLatch(1);
+  private final Thread ticker;
+  private final List<Runnable> unrun = new ArrayList<>();
+  private volatile boolean shutdown;
+
+  // the time until which the ticker is parked, or Long.MIN_VALUE while it is running
+  private volatile long parkedUntilNanos = Long.MIN_VALUE;
+
+  // the last tick whose tasks have been run; only accessed by the thread advancing the wheel
+  private long currentTick;
+
+  /**
+   * Creates a timer wheel and starts the daemon thread which advances it.
+   *
+   * @param threadName the name of the thread which advances the wheel
+   * @param tickMillis the resolution of the wheel, in milliseconds
+   */
+  public TimerWheel(String threadName, long tickMillis) {
+    this(TimeUnit.MILLISECONDS.toNanos(tickMillis), System::nanoTime, threadName);
+  }
+
+  /**
+   * Creates a timer wheel without a thread to advance it. The owner must call {@link #expireTimers()} instead.
+   *
+   * @param tickNanos the resolution of the wheel, in nanoseconds
+   * @param clock the source of the current time, in nanoseconds
+   */
+  TimerWheel(long tickNanos, LongSupplier clock) {
+    this(tickNanos, clock, null);
+  }
+
+  private TimerWheel(long tickNanos, LongSupplier clock, String threadName) {
+    if (tickNanos <= 0) {
+      throw new IllegalArgumentException("tick must be positive");
+    }
+    this.tickNanos = tickNanos;
+    this.clock = clock;
+    this.startNanos = clock.getAsLong();
+    for (Bucket[] level : levels) {
+      for (int i = 0; i < WHEEL_SIZE; i++) {
+        level[i] = new Bucket();
+      }
+    }
+
+    if (threadName == null) {
+      ticker = null;
+    } else {
+      ticker = new Thread(this::advance, threadName);
+      ticker.setDaemon(true);
+      ticker.start();
+    }
+  }
+
+  /**
+   * Schedules a command to run once, after the specified delay.
+   *
+   * @param command the command to run
+   * @param delay the delay
+   * @param unit the unit of the delay
+   * @return a future which may be used to cancel the command
+   */
+  public ScheduledFuture<?> schedule(Runnable command, long delay, TimeUnit unit) {
+    return add(new Timer<Void>(command, null, triggerTime(delay, unit), 0));
+  }
+
+  /**
+   * Schedules a callable to run once, after the specified delay.
+   *
+   * @param callable the callable to run
+   * @param delay the delay
+   * @param unit the unit of the delay
+   * @param <V> the type of the result of the callable
+   * @return a future which may be used to obtain the result or cancel the callable
+   */
+  public <V> ScheduledFuture<V> schedule(Callable<V> callable, long delay, TimeUnit unit) {
+    return add(new Timer<>(callable, triggerTime(delay, unit)));
+  }
+
+  /**
+   * Schedules a command to run periodically, at a fixed rate, after an initial delay.
+   *
+   * @param command the command to run
+   * @param initialDelay the delay before the first run
+   * @param period the time between the starts of successive runs
+   * @param unit the unit of the delays
+   * @return a future which may be used to cancel the command
+   */
+  public ScheduledFuture<?> scheduleAtFixedRate(Runnable command, long initialDelay, long period, TimeUnit unit) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("period must be positive");
+    }
+    return add(new Timer<Void>(command, null, triggerTime(initialDelay, unit), unit.toNanos(period)));
+  }
+
+  /**
+   * Schedules a command to run periodically, with a fixed delay between runs, after an initial delay.
+   *
+   * @param command the command to run
+   * @param initialDelay the delay before the first run
+   * @param delay the time between the end of one run and the start of the next
+   * @param unit the unit of the delays
+   * @return a future which may be used to cancel the command
+   */
+  public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+    if (delay <= 0) {
+      throw new IllegalArgumentException("delay must be positive");
+    }
+    return add(new Timer<Void>(command, null, triggerTime(initialDelay, unit), -unit.toNanos(delay)));
+  }
+
+  private long triggerTime(long delay, TimeUnit unit) {
+    return clock.getAsLong() + Math.max(0, unit.toNanos(delay));
+  }
+
+  private <V> Timer<V> add(Timer<V> timer) {
+    if (shutdown) {
+      throw new RejectedExecutionException("timer wheel is shut down");
+    }
+    size.incrementAndGet();
+    added.add(timer);
+    if (ticker != null && timer.time < parkedUntilNanos) {
+      LockSupport.unpark(ticker);
+    }
+    return timer;
+  }
+
+  /**
+   * Returns the number of tasks waiting for their time to run.
+   *
+   * @return a task count
+   */
+  public int size() {
+    return size.get();
+  }
+
+  /**
+   * Stops the wheel. Tasks not yet run will not be run.
+   */
+  public void shutdown() {
+    shutdown = true;
+    if (ticker == null) {
+      terminate();
+    } else {
+      LockSupport.unpark(ticker);
+    }
+  }
+
+  /**
+   * Stops the wheel, and returns the tasks which will not be run. Waits for a running task to complete.
+   *
+   * @return a list of tasks
+   * @throws InterruptedException if interrupted while waiting for the wheel to stop
+   */
+  public List<Runnable> shutdownNow() throws InterruptedException {
+    shutdown();
+    terminated.await();
+    synchronized (unrun) {
+      return new ArrayList<>(unrun);
+    }
+  }
+
+  /**
+   * Returns true if the wheel has been shut down.
+   *
+   * @return true if shut down
+   */
+  public boolean isShutdown() {
+    return shutdown;
+  }
+
+  /**
+   * Returns true if the wheel has stopped after being shut down.
+   *
+   * @return true if stopped
+   */
+  public boolean isTerminated() {
+    return terminated.getCount() == 0;
+  }
+
+  /**
+   * Waits for the wheel to stop after being shut down.
+   *
+   * @param timeout the maximum time to wait
+   * @param unit the unit of the timeout
+   * @return true if the wheel stopped, false if the timeout expired first
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return terminated.await(timeout, unit);
+  }
+
+  private void advance() {
+    while (!shutdown) {
+      expireTimers();
+      long nextTick = getNextOccupiedTick();
+      parkedUntilNanos = nextTick < 0 ? Long.MAX_VALUE : startNanos + nextTick * tickNanos;
+      // a task added after the deadline was computed either is seen here, or sees the deadline and unparks
+      if (added.isEmpty() && !shutdown) {
+        park(parkedUntilNanos);
+      }
+      parkedUntilNanos = Long.MIN_VALUE;
+    }
+    terminate();
+  }
+
+  private void park(long untilNanos) {
+    if (untilNanos == Long.MAX_VALUE) {
+      LockSupport.park(this);
+    } else {
+      long wait = untilNanos - clock.getAsLong();
+      if (wait > 0) {
+        LockSupport.parkNanos(this, wait);
+      }
+    }
+  }
+
+  /**
+   * Returns the next tick at which the wheel reaches a bucket holding tasks, either to run them or to move them
+   * down a level, or -1 if the wheel holds no tasks. Tasks not yet transferred from other threads are ignored.
+   *
+   * @return a tick number
+   */
+  long getNextOccupiedTick() {
+    long next = -1;
+    for (int level = 0; level < NUM_LEVELS; level++) {
+      int shift = WHEEL_BITS * level;
+      for (long turn = 1; turn <= WHEEL_SIZE; turn++) {
+        long tick = ((currentTick >>> shift) + turn) << shift;
+        if (next >= 0 && tick >= next) {
+          break;
+        } else if (levels[level][(int) ((tick >>> shift) & WHEEL_MASK)].head != null) {
+          next = tick;
+          break;
+        }
+      }
+    }
+    return next;
+  }
+
+  private void terminate() {
+    synchronized (unrun) {
+      transferAdded();
+      removeCanceled();
+      for (Bucket[] level : levels) {
+        for (Bucket bucket : level) {
+          for (Timer<?> timer = bucket.clear(); timer != null; timer = timer.next) {
+            unrun.add(timer);
+          }
+        }
+      }
+      size.set(0);
+    }
+    terminated.countDown();
+  }
+
+  /**
+   * Advances the wheel to the current time, running any tasks which have become due. Called only by the thread
+   * which advances the wheel.
+   */
+  void expireTimers() {
+    long targetTick = (clock.getAsLong() - startNanos) / tickNanos;
+    transferAdded();
+    removeCanceled();
+    while (currentTick < targetTick && !shutdown) {
+      currentTick++;
+      cascade();
+      runDue(levels[0][(int) (currentTick & WHEEL_MASK)].clear());
+    }
+  }
+
+  private void transferAdded() {
+    for (Timer<?> timer = added.poll(); timer != null; timer = added.poll()) {
+      if (timer.isCancelled()) {
+        size.decrementAndGet();
+      } else {
+        place(timer, currentTick + 1);
+      }
+    }
+  }
+
+  private void removeCanceled() {
+    for (Timer<?> timer = canceled.poll(); timer != null; timer = canceled.poll()) {
+      if (timer.bucket != null) {
+        timer.bucket.remove(timer);
+        size.decrementAndGet();
+      }
+    }
+  }
+
+  // moves the tasks of each higher-level bucket which the wheel has reached down to lower levels
+  private void cascade() {
+    for (int level = NUM_LEVELS - 1; level > 0; level--) {
+      int shift = WHEEL_BITS * level;
+      if ((currentTick & ((1L << shift) - 1)) == 0) {
+        Timer<?> timer = levels[level][(int) ((currentTick >>> shift) & WHEEL_MASK)].clear();
+        while (timer != null) {
+          Timer<?> next = timer.next;
+          place(timer, currentTick);
+          timer = next;
+        }
+      }
+    }
+  }
+
+  private void runDue(Timer<?> timer) {
+    while (timer != null) {
+      Timer<?> next = timer.next;
+      timer.next = null;
+      if (!timer.isPeriodic()) {
+        size.decrementAndGet();
+        timer.run();
+      } else if (timer.runPeriodic()) {
+        place(timer, currentTick + 1);
+      } else {
+        size.decrementAndGet();
+      }
+      timer = next;
+    }
+  }
+
+  // places the timer in the bucket for its deadline, or for the earliest tick it may still run if that is later
+  private void place(Timer<?> timer, long earliestTick) {
+    long deadlineTick = Math.max(earliestTick, toTick(timer.time));
+    long delta = deadlineTick - currentTick;
+    if (delta >= MAX_SPAN_TICKS) {
+      deadlineTick = currentTick + MAX_SPAN_TICKS - 1;
+      delta = MAX_SPAN_TICKS - 1;
+    }
+
+    int level = 0;
+    while (delta >= 1L << (WHEEL_BITS * (level + 1))) {
+      level++;
+    }
+    levels[level][(int) ((deadlineTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)].add(timer);
+  }
+
+  // returns the first tick at or after the specified time
+  private long toTick(long time) {
+    long elapsed = time - startNanos;
+    return elapsed <= 0 ? 0 : (elapsed + tickNanos - 1) / tickNanos;
+  }
+
+  private static class Bucket {
+    private Timer<?> head;
+
+    void add(Timer<?> timer) {
+      timer.bucket = this;
+      timer.prev = null;
+      timer.next = head;
+      if (head != null) {
+        head.prev = timer;
+      }
+      head = timer;
+    }
+
+    void remove(Timer<?> timer) {
+      if (timer.prev != null) {
+        timer.prev.next = timer.next;
+      } else {
+        head = timer.next;
+      }
+      if (timer.next != null) {
+        timer.next.prev = timer.prev;
+      }
+      timer.bucket = null;
+      timer.prev = timer.next = null;
+    }
+
+    // detaches and returns the tasks of this bucket, still linked through their next fields
+    Timer<?> clear() {
+      Timer<?> first = head;
+      for (Timer<?> timer = first; timer != null; timer = timer.next) {
+        timer.bucket = null;
+        timer.prev = null;
+      }
+      head = null;
+      return first;
+    }
+  }
+
+  private class Timer<V> extends FutureTask<V> implements RunnableScheduledFuture<V> {
+    // positive for a fixed rate, negative for a fixed delay, zero for a task which runs once
+    private final long period;
+    private volatile long time;
+
+    // only accessed by the thread advancing the wheel
+    private Bucket bucket;
+    private Timer<?> prev;
+    private Timer<?> next;
+
+    Timer(Runnable command, V result, long time, long period) {
+      super(command, result);
+      this.time = time;
+      this.period = period;
+    }
+
+    Timer(Callable<V> callable, long time) {
+      super(callable);
+      this.time = time;
+      this.period = 0;
+    }
+
+    @Override
+    public boolean isPeriodic() {
+      return period != 0;
+    }
+
+    // runs the task and computes its next time, returning false if it should not run again
+    boolean runPeriodic() {
+      if (!runAndReset()) {
+        return false;
+      }
+      time = period > 0 ? time + period : clock.getAsLong() - period;
+      return true;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+      boolean cancelled = super.cancel(mayInterruptIfRunning);
+      if (cancelled) {
+        canceled.add(this);
+      }
+      return cancelled;
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+      return unit.convert(time - clock.getAsLong(), TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+      return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+    }
+  }
+}
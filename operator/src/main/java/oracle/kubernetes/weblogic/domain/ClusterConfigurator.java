@@ -16,6 +16,8 @@ public interface ClusterConfigurator extends ServiceConfigurator {
 
   ClusterConfigurator withMaxUnavailable(int maxUnavailable);
 
+  ClusterConfigurator withMaxConcurrentStartup(int maxConcurrentStartup);
+
   ClusterConfigurator withDesiredState(String state);
 
   ClusterConfigurator withEnvironmentVariable(String name, String value);
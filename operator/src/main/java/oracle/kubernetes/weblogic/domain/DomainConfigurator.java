@@ -14,6 +14,7 @@ import io.kubernetes.client.openapi.models.V1PodReadinessGate;
 import io.kubernetes.client.openapi.models.V1PodSecurityContext;
 import io.kubernetes.client.openapi.models.V1SecurityContext;
 import io.kubernetes.client.openapi.models.V1Toleration;
+import oracle.kubernetes.operator.ServerStateSource;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 
@@ -69,6 +70,10 @@ public abstract class DomainConfigurator {
     getDomainSpec().setReplicas(replicas);
   }
 
+  public void withDefaultMaxConcurrentStartup(int maxConcurrentStartup) {
+    getDomainSpec().setMaxConcurrentStartup(maxConcurrentStartup);
+  }
+
   /**
    * Sets the default image for the domain.
    *
@@ -322,6 +327,14 @@ public abstract class DomainConfigurator {
    */
   public abstract DomainConfigurator withRestartVersion(String restartVersion);
 
+  /**
+   * Specifies how the operator reads the state of servers whose pods are not ready.
+   *
+   * @param serverStateSource the source of the server state
+   * @return this object
+   */
+  public abstract DomainConfigurator withServerStateSource(ServerStateSource serverStateSource);
+
   /**
    * Defines a secret reference for the domain.
    * @param secretName the name of the secret
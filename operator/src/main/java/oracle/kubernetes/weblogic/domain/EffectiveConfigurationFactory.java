@@ -27,6 +27,8 @@ public interface EffectiveConfigurationFactory {
 
   int getMaxUnavailable(String clusterName);
 
+  int getMaxConcurrentStartup(String clusterName);
+
   boolean isShuttingDown();
 
   List<String> getAdminServerChannelNames();
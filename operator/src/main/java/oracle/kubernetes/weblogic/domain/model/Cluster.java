@@ -52,6 +52,13 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
   @Range(minimum = 1)
   private Integer maxUnavailable;
 
+  @Description(
+      "The maximum number of cluster members that the operator will start at the same time. "
+          + "A value of 0 means that all members are started at once. "
+          + "Defaults to the domain-level maxConcurrentStartup.")
+  @Range(minimum = 0)
+  private Integer maxConcurrentStartup;
+
   @Description("Customization affecting ClusterIP Kubernetes services for the WebLogic cluster.")
   @SerializedName("clusterService")
   @Expose
@@ -128,6 +135,14 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
     this.maxUnavailable = maxUnavailable;
   }
 
+  Integer getMaxConcurrentStartup() {
+    return maxConcurrentStartup;
+  }
+
+  void setMaxConcurrentStartup(Integer maxConcurrentStartup) {
+    this.maxConcurrentStartup = maxConcurrentStartup;
+  }
+
   void fillInFrom(Cluster other) {
     if (other == null) {
       return;
@@ -145,6 +160,7 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
         .append("serverStartPolicy", serverStartPolicy)
         .append("clusterService", clusterService)
         .append("maxUnavailable", maxUnavailable)
+        .append("maxConcurrentStartup", maxConcurrentStartup)
         .toString();
   }
 
@@ -167,6 +183,7 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
         .append(serverStartPolicy, cluster.serverStartPolicy)
         .append(clusterService, cluster.clusterService)
         .append(maxUnavailable, cluster.maxUnavailable)
+        .append(maxConcurrentStartup, cluster.maxConcurrentStartup)
         .isEquals();
   }
 
@@ -179,6 +196,7 @@ public class Cluster extends BaseConfiguration implements Comparable<Cluster> {
         .append(serverStartPolicy)
         .append(clusterService)
         .append(maxUnavailable)
+        .append(maxConcurrentStartup)
         .toHashCode();
   }
 
@@ -26,6 +26,7 @@ import io.kubernetes.client.openapi.models.V1SecretReference;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
 import oracle.kubernetes.json.Description;
 import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.ServerStateSource;
 import oracle.kubernetes.operator.VersionConstants;
 import oracle.kubernetes.operator.helpers.SecretType;
 import oracle.kubernetes.weblogic.domain.EffectiveConfigurationFactory;
@@ -277,6 +278,17 @@ public class Domain {
     return getEffectiveConfigurationFactory().getMaxUnavailable(clusterName);
   }
 
+  /**
+   * Returns the maximum number of managed servers to start at the same time in the specified cluster,
+   * or among the non-clustered servers if the cluster name is null.
+   *
+   * @param clusterName the name of the cluster, or null
+   * @return the result of applying any configurations for this value; 0 if there is no limit
+   */
+  public int getMaxConcurrentStartup(String clusterName) {
+    return getEffectiveConfigurationFactory().getMaxConcurrentStartup(clusterName);
+  }
+
   /**
    * Returns the minimum number of replicas for the specified cluster.
    *
@@ -392,6 +404,10 @@ public class Domain {
     return spec.getIstioReadinessPort();
   }
 
+  public ServerStateSource getServerStateSource() {
+    return spec.getServerStateSource();
+  }
+
   /**
    * Returns the domain home.
    *
@@ -15,6 +15,7 @@ import io.kubernetes.client.openapi.models.V1SecretReference;
 import io.kubernetes.client.openapi.models.V1SecurityContext;
 import io.kubernetes.client.openapi.models.V1Toleration;
 import oracle.kubernetes.operator.KubernetesConstants;
+import oracle.kubernetes.operator.ServerStateSource;
 import oracle.kubernetes.weblogic.domain.AdminServerConfigurator;
 import oracle.kubernetes.weblogic.domain.ClusterConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
@@ -209,6 +210,12 @@ public class DomainCommonConfigurator extends DomainConfigurator {
     return this;
   }
 
+  @Override
+  public DomainConfigurator withServerStateSource(ServerStateSource serverStateSource) {
+    getDomainSpec().getOrCreateExperimental().setServerStateSource(serverStateSource.name());
+    return this;
+  }
+
   @Override
   public DomainConfigurator withWebLogicCredentialsSecret(String secretName, String namespace) {
     getDomainSpec().setWebLogicCredentialsSecret(new V1SecretReference().name(secretName).namespace(namespace));
@@ -501,6 +508,12 @@ public class DomainCommonConfigurator extends DomainConfigurator {
       return this;
     }
 
+    @Override
+    public ClusterConfigurator withMaxConcurrentStartup(int maxConcurrentStartup) {
+      cluster.setMaxConcurrentStartup(maxConcurrentStartup);
+      return this;
+    }
+
     @Override
     public ClusterConfigurator withDesiredState(String state) {
       cluster.setServerStartState(state);
@@ -5,6 +5,7 @@ package oracle.kubernetes.weblogic.domain.model;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +23,7 @@ import oracle.kubernetes.json.Range;
 import oracle.kubernetes.operator.ImagePullPolicy;
 import oracle.kubernetes.operator.KubernetesConstants;
 import oracle.kubernetes.operator.ServerStartPolicy;
+import oracle.kubernetes.operator.ServerStateSource;
 import oracle.kubernetes.weblogic.domain.EffectiveConfigurationFactory;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -156,6 +158,18 @@ public class DomainSpec extends BaseConfiguration {
   @Range(minimum = 0)
   private Integer replicas;
 
+  /**
+   * The maximum number of managed servers in each WebLogic cluster that is not explicitly configured
+   * in a cluster specification, and of non-clustered managed servers, that the operator will start at
+   * the same time.
+   */
+  @Description(
+      "The maximum number of managed servers that the operator will start at the same time, "
+          + "in each cluster that does not specify a maxConcurrentStartup and among the non-clustered "
+          + "managed servers. A value of 0 means that all servers are started at once. Defaults to 0.")
+  @Range(minimum = 0)
+  private Integer maxConcurrentStartup;
+
   /**
    * Whether the domain home is part of the image.
    *
@@ -505,6 +519,26 @@ public class DomainSpec extends BaseConfiguration {
     return this;
   }
 
+  /**
+   * The maximum number of managed servers that the operator will start at the same time in each
+   * WebLogic cluster that is not explicitly configured in clusters, and among the non-clustered servers.
+   *
+   * @return the maximum number, or null if not specified
+   */
+  public Integer getMaxConcurrentStartup() {
+    return maxConcurrentStartup;
+  }
+
+  /**
+   * The maximum number of managed servers that the operator will start at the same time in each
+   * WebLogic cluster that is not explicitly configured in clusters, and among the non-clustered servers.
+   *
+   * @param maxConcurrentStartup the maximum number; 0 to start all at once
+   */
+  public void setMaxConcurrentStartup(Integer maxConcurrentStartup) {
+    this.maxConcurrentStartup = maxConcurrentStartup;
+  }
+
   @Nullable
   String getConfigOverrides() {
     return configOverrides;
@@ -552,6 +586,30 @@ public class DomainSpec extends BaseConfiguration {
         .orElse(8888);
   }
 
+  Experimental getOrCreateExperimental() {
+    if (experimental == null) {
+      experimental = new Experimental();
+    }
+    return experimental;
+  }
+
+  /**
+   * The source from which the operator reads the state of servers whose pods are not ready. An unrecognized
+   * value is treated as the default, Exec.
+   *
+   * @return serverStateSource
+   */
+  ServerStateSource getServerStateSource() {
+    return Optional.ofNullable(experimental)
+        .map(Experimental::getServerStateSource)
+        .flatMap(DomainSpec::toServerStateSource)
+        .orElse(ServerStateSource.Exec);
+  }
+
+  private static Optional<ServerStateSource> toServerStateSource(String name) {
+    return Arrays.stream(ServerStateSource.values()).filter(s -> s.name().equals(name)).findFirst();
+  }
+
   @Override
   public String toString() {
     ToStringBuilder builder =
@@ -569,6 +627,7 @@ public class DomainSpec extends BaseConfiguration {
             .append("managedServers", managedServers)
             .append("clusters", clusters)
             .append("replicas", replicas)
+            .append("maxConcurrentStartup", maxConcurrentStartup)
             .append("logHome", logHome)
             .append("logHomeEnabled", logHomeEnabled)
             .append("includeServerOutInPodLog", includeServerOutInPodLog)
@@ -596,6 +655,7 @@ public class DomainSpec extends BaseConfiguration {
             .append(managedServers)
             .append(clusters)
             .append(replicas)
+            .append(maxConcurrentStartup)
             .append(logHome)
             .append(logHomeEnabled)
             .append(includeServerOutInPodLog)
@@ -631,6 +691,7 @@ public class DomainSpec extends BaseConfiguration {
             .append(managedServers, rhs.managedServers)
             .append(clusters, rhs.clusters)
             .append(replicas, rhs.replicas)
+            .append(maxConcurrentStartup, rhs.maxConcurrentStartup)
             .append(logHome, rhs.logHome)
             .append(logHomeEnabled, rhs.logHomeEnabled)
             .append(includeServerOutInPodLog, rhs.includeServerOutInPodLog)
@@ -681,6 +742,16 @@ public class DomainSpec extends BaseConfiguration {
     return cluster != null && cluster.getMaxUnavailable() != null;
   }
 
+  private int getMaxConcurrentStartupFor(Cluster cluster) {
+    return hasMaxConcurrentStartup(cluster)
+        ? cluster.getMaxConcurrentStartup()
+        : Optional.ofNullable(maxConcurrentStartup).orElse(0);
+  }
+
+  private boolean hasMaxConcurrentStartup(Cluster cluster) {
+    return cluster != null && cluster.getMaxConcurrentStartup() != null;
+  }
+
   public AdminServer getAdminServer() {
     return adminServer;
   }
@@ -741,6 +812,11 @@ public class DomainSpec extends BaseConfiguration {
       return getMaxUnavailableFor(getCluster(clusterName));
     }
 
+    @Override
+    public int getMaxConcurrentStartup(String clusterName) {
+      return getMaxConcurrentStartupFor(getCluster(clusterName));
+    }
+
     @Override
     public List<String> getAdminServerChannelNames() {
       return adminServer != null ? adminServer.getChannelNames() : Collections.emptyList();
@@ -4,6 +4,8 @@
 package oracle.kubernetes.weblogic.domain.model;
 
 import oracle.kubernetes.json.Description;
+import oracle.kubernetes.json.EnumClass;
+import oracle.kubernetes.operator.ServerStateSource;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
 import org.apache.commons.lang3.builder.ToStringBuilder;
@@ -13,6 +15,14 @@ public class Experimental {
   @Description("Istio service mesh integration configuration.")
   private Istio istio;
 
+  @Description(
+      "How the operator reads the state of a WebLogic Server instance whose pod is not ready. Legal values are "
+          + "Exec, which runs a script in the pod, and PodAnnotation, which uses the state that the pod's liveness "
+          + "probe records in a pod annotation and falls back to Exec until that annotation is present. "
+          + "PodAnnotation requires that the pod's service account be permitted to patch pods. Defaults to Exec.")
+  @EnumClass(ServerStateSource.class)
+  private String serverStateSource;
+
   /**
    * Istio service mesh integration configuration.
    *
@@ -42,11 +52,41 @@ public class Experimental {
     return this;
   }
 
+  /**
+   * How the operator reads the state of a server whose pod is not ready.
+   *
+   * @return the name of a {@link ServerStateSource}, or null for the default.
+   */
+  public String getServerStateSource() {
+    return serverStateSource;
+  }
+
+  /**
+   * How the operator reads the state of a server whose pod is not ready.
+   *
+   * @param serverStateSource the name of a {@link ServerStateSource}
+   */
+  public void setServerStateSource(String serverStateSource) {
+    this.serverStateSource = serverStateSource;
+  }
+
+  /**
+   * How the operator reads the state of a server whose pod is not ready.
+   *
+   * @param serverStateSource the name of a {@link ServerStateSource}
+   * @return this
+   */
+  public Experimental withServerStateSource(String serverStateSource) {
+    this.serverStateSource = serverStateSource;
+    return this;
+  }
+
   @Override
   public String toString() {
     ToStringBuilder builder =
         new ToStringBuilder(this)
-            .append("istio", istio);
+            .append("istio", istio)
+            .append("serverStateSource", serverStateSource);
 
     return builder.toString();
   }
@@ -55,7 +95,8 @@ public class Experimental {
   public int hashCode() {
     HashCodeBuilder builder =
         new HashCodeBuilder()
-            .append(istio);
+            .append(istio)
+            .append(serverStateSource);
 
     return builder.toHashCode();
   }
@@ -72,7 +113,8 @@ public class Experimental {
     Experimental rhs = ((Experimental) other);
     EqualsBuilder builder =
         new EqualsBuilder()
-            .append(istio, rhs.istio);
+            .append(istio, rhs.istio)
+            .append(serverStateSource, rhs.serverStateSource);
 
     return builder.isEquals();
   }
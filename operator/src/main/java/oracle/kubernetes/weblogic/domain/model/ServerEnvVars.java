@@ -49,10 +49,16 @@ public class ServerEnvVars {
   /** 'true' or 'false' to indicate whether the server output should be included in the pod log. */
   public static final String SERVER_OUT_IN_POD_LOG = "SERVER_OUT_IN_POD_LOG";
 
+  /** If set, the name of the pod annotation in which the liveness probe records the server state. */
+  public static final String SERVER_STATE_ANNOTATION = "SERVER_STATE_ANNOTATION";
+
+  /** If set, the name of the pod annotation in which the liveness probe records when it recorded the state. */
+  public static final String SERVER_STATE_TIME_ANNOTATION = "SERVER_STATE_TIME_ANNOTATION";
+
   private static final List<String> RESERVED_NAMES = Arrays.asList(
         DOMAIN_UID, DOMAIN_NAME, DOMAIN_HOME, NODEMGR_HOME, SERVER_NAME, SERVICE_NAME,
         ADMIN_NAME, AS_SERVICE_NAME, ADMIN_PORT, ADMIN_PORT_SECURE,
-        LOG_HOME, SERVER_OUT_IN_POD_LOG);
+        LOG_HOME, SERVER_OUT_IN_POD_LOG, SERVER_STATE_ANNOTATION, SERVER_STATE_TIME_ANNOTATION);
 
   static boolean isReserved(String name) {
     return RESERVED_NAMES.contains(name);
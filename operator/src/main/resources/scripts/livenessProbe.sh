@@ -32,6 +32,9 @@ if [ "${MOCK_WLS}" != 'true' ]; then
     exit $RETVAL
   fi
 fi
+if [ -f ${STATEFILE} ]; then
+  recordServerStateAnnotation "`cut -f 1 -d ':' ${STATEFILE}`"
+fi
 if [ -f ${STATEFILE} ] && [ `grep -c "FAILED_NOT_RESTARTABLE" ${STATEFILE}` -eq 1 ]; then
   trace SEVERE "WebLogic Server state is FAILED_NOT_RESTARTABLE."
   exit $RETVAL
@@ -702,3 +702,42 @@ function adjustPath() {
     fi
   fi
 }
+
+#
+# recordServerStateAnnotation
+#   purpose: If SERVER_STATE_ANNOTATION is set, records the specified server state
+#            in the pod annotation it names, so that the operator can read the state
+#            without running a command in the pod, and the current time in the
+#            annotation named by SERVER_STATE_TIME_ANNOTATION, so that the operator
+#            can tell a state recorded by this container from one recorded before
+#            it restarted. The pod is only patched when the state differs from the
+#            one last recorded by this container. Requires that the pod's
+#            service account be permitted to patch pods; failures are traced and
+#            otherwise ignored, in which case the operator falls back to readState.sh.
+#
+function recordServerStateAnnotation() {
+  local state="$1"
+  local recordedFile=/tmp/weblogic-recorded-server-state
+  local saDir=/var/run/secrets/kubernetes.io/serviceaccount
+
+  [ -z "${SERVER_STATE_ANNOTATION}" ] && return 0
+  [ -z "${state}" ] && return 0
+  [ -f ${recordedFile} ] && [ "`cat ${recordedFile}`" = "${state}" ] && return 0
+  [ ! -f ${saDir}/token ] && return 0
+
+  local podUrl="https://${KUBERNETES_SERVICE_HOST}:${KUBERNETES_SERVICE_PORT}/api/v1/namespaces/`cat ${saDir}/namespace`/pods/`hostname`"
+  local time="`date -u +%Y-%m-%dT%H:%M:%SZ`"
+  local annotations="\"${SERVER_STATE_ANNOTATION}\":\"${state}\",\"${SERVER_STATE_TIME_ANNOTATION}\":\"${time}\""
+  local patch="{\"metadata\":{\"annotations\":{${annotations}}}}"
+
+  if curl --silent --fail --max-time 3 \
+          --cacert ${saDir}/ca.crt \
+          --header "Authorization: Bearer `cat ${saDir}/token`" \
+          --header "Content-Type: application/merge-patch+json" \
+          --request PATCH --data "${patch}" "${podUrl}" > /dev/null 2>&1 ; then
+    echo "${state}" > ${recordedFile}
+  else
+    trace WARNING "Unable to record server state '${state}' in pod annotation '${SERVER_STATE_ANNOTATION}'."
+  fi
+  return 0
+}
@@ -26,6 +26,7 @@ import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
 import oracle.kubernetes.operator.helpers.LegalNames;
 import oracle.kubernetes.operator.helpers.OperatorServiceType;
+import oracle.kubernetes.operator.helpers.SecretCache;
 import oracle.kubernetes.operator.work.ThreadFactorySingleton;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -37,6 +38,8 @@ import org.junit.Test;
 
 import static oracle.kubernetes.operator.LabelConstants.SERVERNAME_LABEL;
 import static oracle.kubernetes.operator.VersionConstants.DEFAULT_DOMAIN_VERSION;
+import static oracle.kubernetes.operator.helpers.ResourceProjection.projectPod;
+import static oracle.kubernetes.operator.helpers.ResourceProjection.projectService;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
@@ -90,6 +93,7 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
   public void tearDown() throws Exception {
     isNamespaceStopping.computeIfAbsent(NS, k -> new AtomicBoolean(true)).set(true);
     shutDownThreads();
+    SecretCache.getInstance().removeNamespace(NS);
 
     for (Memento memento : mementos) {
       memento.revert();
@@ -174,7 +178,7 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
 
     readExistingResources();
 
-    assertThat(getDomainPresenceInfo(dp, UID).getServerService("admin"), equalTo(service));
+    assertThat(getDomainPresenceInfo(dp, UID).getServerService("admin"), equalTo(projectService(service)));
   }
 
   @Test
@@ -188,7 +192,7 @@ public class DomainPresenceTest extends ThreadFactoryTestBase {
 
     readExistingResources();
 
-    assertThat(getDomainPresenceInfo(dp, UID).getServerPod("admin"), equalTo(pod));
+    assertThat(getDomainPresenceInfo(dp, UID).getServerPod("admin"), equalTo(projectPod(pod)));
   }
 
   private V1Pod createPodResource(String uid, String namespace, String serverName) {
@@ -53,6 +53,11 @@ public abstract class DomainProcessorDelegateStub implements DomainProcessorDele
     return testSupport.createFiberGate();
   }
 
+  @Override
+  public void runSteps(Step firstStep) {
+    testSupport.runSteps(firstStep);
+  }
+
   @Override
   public ScheduledFuture<?> scheduleWithFixedDelay(
       Runnable command, long initialDelay, long delay, TimeUnit unit) {
@@ -14,12 +14,18 @@ import java.util.stream.Stream;
 
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.openapi.models.V1SubjectRulesReviewStatus;
+import oracle.kubernetes.operator.builders.WatchEvent;
 import oracle.kubernetes.operator.helpers.AnnotationHelper;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
@@ -33,16 +39,19 @@ import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.wlsconfig.WlsClusterConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.wlsconfig.WlsServerConfig;
+import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainStatus;
 import oracle.kubernetes.weblogic.domain.model.ManagedServer;
+import org.joda.time.DateTime;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static com.meterware.simplestub.Stub.createStrictStub;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
 import static oracle.kubernetes.operator.LabelConstants.CREATEDBYOPERATOR_LABEL;
 import static oracle.kubernetes.operator.LabelConstants.DOMAINNAME_LABEL;
@@ -64,6 +73,8 @@ public class DomainProcessorTest {
   private static final String CLUSTER = "cluster";
   private static final int MAX_SERVERS = 5;
   private static final String MS_PREFIX = "managed-server";
+  private static final String SERVER_STATE_ANNOTATION = "weblogic.serverState";
+  private static final String SERVER_STATE_TIME_ANNOTATION = "weblogic.serverStateTime";
   private static final int MIN_REPLICAS = 2;
   private static final int NUM_ADMIN_SERVERS = 1;
   private static final int NUM_JOB_PODS = 1;
@@ -284,6 +295,84 @@ public class DomainProcessorTest {
     assertThat(serverName + " pod", info.getServerPod(serverName), notNullValue());
   }
 
+  @Test
+  public void whenServerStateAnnotationChanged_recheckDomainStatus() {
+    RecheckCountingDelegateStub delegate = createStrictStub(RecheckCountingDelegateStub.class, testSupport);
+    DomainProcessorImpl processor = new DomainProcessorImpl(delegate);
+    processor.makeRightDomainPresence(new DomainPresenceInfo(domain), true, false, false);
+    int numRechecks = delegate.numRulesReviewReads;
+
+    processor.dispatchPodWatch(
+        WatchEvent.createModifiedEvent(withRecordedServerState(getRunningPod(ADMIN_NAME), "RUNNING"))
+            .toWatchResponse());
+
+    assertThat(delegate.numRulesReviewReads, equalTo(numRechecks + 1));
+  }
+
+  @Test
+  public void whenOtherPodAnnotationChanged_dontRecheckDomainStatus() {
+    RecheckCountingDelegateStub delegate = createStrictStub(RecheckCountingDelegateStub.class, testSupport);
+    DomainProcessorImpl processor = new DomainProcessorImpl(delegate);
+    processor.makeRightDomainPresence(new DomainPresenceInfo(domain), true, false, false);
+    int numRechecks = delegate.numRulesReviewReads;
+
+    processor.dispatchPodWatch(
+        WatchEvent.createModifiedEvent(withAnnotation(getRunningPod(ADMIN_NAME), "other", "value"))
+            .toWatchResponse());
+
+    assertThat(delegate.numRulesReviewReads, equalTo(numRechecks));
+  }
+
+  private V1Pod getRunningPod(String serverName) {
+    return getRunningPods().stream()
+        .filter(pod -> serverName.equals(pod.getMetadata().getLabels().get(SERVERNAME_LABEL)))
+        .findFirst()
+        .orElseThrow();
+  }
+
+  // the state is recorded by the liveness probe of the running container, after that container started
+  private V1Pod withRecordedServerState(V1Pod pod, String state) {
+    DateTime startTime = DateTime.now();
+    V1Pod annotatedPod = withAnnotation(
+        withAnnotation(pod, SERVER_STATE_ANNOTATION, state),
+        SERVER_STATE_TIME_ANNOTATION, startTime.plusSeconds(1).toString());
+    return annotatedPod.status(
+        new V1PodStatus().addContainerStatusesItem(
+            new V1ContainerStatus()
+                .name(KubernetesConstants.CONTAINER_NAME)
+                .state(new V1ContainerState().running(new V1ContainerStateRunning().startedAt(startTime)))));
+  }
+
+  // the recorded pod shares its annotations with the pod from which it was made, so the event gets its own copy
+  private V1Pod withAnnotation(V1Pod pod, String name, String value) {
+    Map<String, String> annotations = new HashMap<>(pod.getMetadata().getAnnotations());
+    annotations.put(name, value);
+    return new V1Pod()
+        .metadata(
+            new V1ObjectMeta()
+                .name(pod.getMetadata().getName())
+                .namespace(pod.getMetadata().getNamespace())
+                .labels(pod.getMetadata().getLabels())
+                .annotations(annotations))
+        .spec(pod.getSpec())
+        .status(pod.getStatus());
+  }
+
+  public abstract static class RecheckCountingDelegateStub extends DomainProcessorDelegateStub {
+    private int numRulesReviewReads;
+
+    public RecheckCountingDelegateStub(FiberTestSupport testSupport) {
+      super(testSupport);
+    }
+
+    // each recheck of the domain status begins by reading the rules review of the namespace
+    @Override
+    public V1SubjectRulesReviewStatus getSubjectRulesReviewStatus(String namespace) {
+      numRulesReviewReads++;
+      return null;
+    }
+  }
+
   @Test
   public void whenDomainIsNotValid_dontBringUpServers() {
     defineDuplicateServerNames();
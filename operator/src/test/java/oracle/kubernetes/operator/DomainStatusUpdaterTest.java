@@ -8,6 +8,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.collect.ImmutableMap;
 import com.meterware.simplestub.Memento;
@@ -17,6 +18,7 @@ import io.kubernetes.client.openapi.models.V1PodSpec;
 import io.kubernetes.client.openapi.models.V1PodStatus;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.utils.RandomStringGenerator;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
 import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
@@ -35,6 +37,7 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
 import static oracle.kubernetes.operator.DomainConditionMatcher.hasCondition;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.NS;
 import static oracle.kubernetes.operator.DomainProcessorTestSetup.UID;
@@ -541,6 +544,80 @@ public class DomainStatusUpdaterTest {
 
   }
 
+  @Test
+  public void whenStatusUpdateWindowSet_dontUpdateDomainUntilWindowEnds() throws NoSuchFieldException {
+    setStatusUpdateWindowSeconds(5);
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(getRecordedDomain(), not(hasCondition(Progressing)));
+    testSupport.setTime(5, TimeUnit.SECONDS);
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withStatus("True").withReason(reason));
+  }
+
+  @Test
+  public void whenStatusChangesWithinUpdateWindow_updateDomainOnceWithLatestStatus() throws NoSuchFieldException {
+    setStatusUpdateWindowSeconds(5);
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    testSupport.runSteps(DomainStatusUpdater.createAvailableStep("Test complete", endStep));
+    testSupport.clearNumCalls();
+    testSupport.setTime(5, TimeUnit.SECONDS);
+
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+    assertThat(getRecordedDomain(), hasCondition(Available).withStatus("True").withReason("Test complete"));
+    assertThat(getRecordedDomain(), not(hasCondition(Progressing)));
+  }
+
+  @Test
+  public void whenStatusUpdateWindowSet_updateDomainWithFailureImmediately() throws NoSuchFieldException {
+    setStatusUpdateWindowSeconds(5);
+
+    testSupport.runSteps(DomainStatusUpdater.createFailedStep(failure, endStep));
+
+    assertThat(getRecordedDomain(), hasCondition(Failed).withStatus("True").withMessage(message));
+  }
+
+  @Test
+  public void whenDomainDeletedWithinUpdateWindow_dontUpdateDomain() throws NoSuchFieldException {
+    setStatusUpdateWindowSeconds(5);
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+    info.setDeleting(true);
+    testSupport.clearNumCalls();
+    testSupport.setTime(5, TimeUnit.SECONDS);
+
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+  }
+
+  @Test
+  public void whenStatusComputedBeforeWatchEventForLastWrite_dontRevertLastWrite() throws NoSuchFieldException {
+    setStatusUpdateWindowSeconds(5);
+
+    testSupport.runSteps(DomainStatusUpdater.createAvailableStep("Test complete", endStep));
+    testSupport.setTime(5, TimeUnit.SECONDS);
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, true, endStep));
+    info.setDomain(getRecordedDomain());
+    testSupport.setTime(10, TimeUnit.SECONDS);
+
+    assertThat(getRecordedDomain(), hasCondition(Available).withStatus("True").withReason("Test complete"));
+    assertThat(getRecordedDomain(), hasCondition(Progressing).withStatus("True").withReason(reason));
+  }
+
+  @Test
+  public void whenStatusPatchFails_discardPendingStatus() {
+    testSupport.failOnResource(KubernetesTestSupport.DOMAIN, NAME, NS, HTTP_NOT_FOUND);
+
+    testSupport.runSteps(DomainStatusUpdater.createProgressingStep(reason, false, endStep));
+
+    assertThat(info.getPendingStatus(), nullValue());
+  }
+
+  private void setStatusUpdateWindowSeconds(int windowSeconds) throws NoSuchFieldException {
+    mementos.add(TuningParametersStub.install());
+    TuningParametersStub.setStatusUpdateWindowSeconds(windowSeconds);
+  }
+
   // 1. response step must call onFailure to repeat the initiating step on a 500 error, in order to recompute the patch;
   //    potentially, multiple repeats may be needed, but that should be rare. Maybe 3 tries?
   // 2. will still need to update the packet for this to work. That probably needs to happen on as part of this.
@@ -11,6 +11,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
@@ -18,6 +20,9 @@ import com.meterware.pseudoserver.HttpUserAgentTest;
 import com.meterware.simplestub.Memento;
 import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiClient;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
@@ -33,9 +38,12 @@ import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
+import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import oracle.kubernetes.weblogic.domain.model.DomainSpec;
+import oracle.kubernetes.weblogic.domain.model.ServerHealth;
 import org.hamcrest.Matchers;
+import org.joda.time.DateTime;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -51,9 +59,14 @@ import static org.hamcrest.junit.MatcherAssert.assertThat;
 public class ServerStatusReaderTest extends HttpUserAgentTest {
   private static final String NS = "namespace";
   private static final String UID = "uid";
+  private static final String SERVER_STATE_ANNOTATION = "weblogic.serverState";
+  private static final String SERVER_STATE_TIME_ANNOTATION = "weblogic.serverStateTime";
+  private static final DateTime CREATION_TIME = DateTime.now();
+  private static final DateTime CONTAINER_START_TIME = CREATION_TIME.plusMinutes(1);
   private final TerminalStep endStep = new TerminalStep();
   private final KubernetesExecFactoryFake execFactory = new KubernetesExecFactoryFake();
   private final ReadServerHealthStepFactoryFake stepFactory = new ReadServerHealthStepFactoryFake();
+  private final ReadDomainHealthStepFactoryFake domainStepFactory = new ReadDomainHealthStepFactoryFake();
   private FiberTestSupport testSupport = new FiberTestSupport();
   private List<Memento> mementos = new ArrayList<>();
   private Domain domain =
@@ -68,7 +81,10 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
   public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "EXEC_FACTORY", execFactory));
+    mementos.add(StaticStubSupport.install(ServerStatusReader.class, "EXEC_WAITER", (Executor) Runnable::run));
     mementos.add(StaticStubSupport.install(ServerStatusReader.class, "STEP_FACTORY", stepFactory));
+    mementos.add(
+        StaticStubSupport.install(ServerStatusReader.class, "DOMAIN_HEALTH_STEP_FACTORY", domainStepFactory));
     mementos.add(TuningParametersStub.install());
 
     testSupport.addDomainPresenceInfo(info);
@@ -130,6 +146,117 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(serverStates, hasEntry("server2", "server2 status"));
   }
 
+  @Test
+  public void whenDomainUsesPodAnnotationAndPodHasStateAnnotation_recordItWithoutExec() {
+    DomainConfiguratorFactory.forDomain(domain).withServerStateSource(ServerStateSource.PodAnnotation);
+    info.setServerPod("server1", createAnnotatedPod("server1", CONTAINER_START_TIME.plusSeconds(5), "STARTING"));
+    execFactory.defineResponse("server1", "server1 status");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "STARTING"));
+    assertThat(execFactory.numExecs, is(0));
+  }
+
+  @Test
+  public void whenDomainUsesPodAnnotationAndPodLacksStateAnnotation_recordNodeManagerStatus() {
+    DomainConfiguratorFactory.forDomain(domain).withServerStateSource(ServerStateSource.PodAnnotation);
+    info.setServerPod("server1", createPod("server1"));
+    execFactory.defineResponse("server1", "server1 status");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "server1 status"));
+    assertThat(execFactory.numExecs, is(1));
+  }
+
+  @Test
+  public void whenStateAnnotationLacksRecordedTime_recordNodeManagerStatus() {
+    DomainConfiguratorFactory.forDomain(domain).withServerStateSource(ServerStateSource.PodAnnotation);
+    info.setServerPod("server1", createAnnotatedPod("server1", null, "RUNNING"));
+    execFactory.defineResponse("server1", "server1 status");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "server1 status"));
+    assertThat(execFactory.numExecs, is(1));
+  }
+
+  @Test
+  public void whenStateAnnotationPredatesContainerRestart_recordNodeManagerStatus() {
+    DomainConfiguratorFactory.forDomain(domain).withServerStateSource(ServerStateSource.PodAnnotation);
+    info.setServerPod("server1", createAnnotatedPod("server1", CONTAINER_START_TIME.minusSeconds(5), "RUNNING"));
+    execFactory.defineResponse("server1", "server1 status");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "server1 status"));
+    assertThat(execFactory.numExecs, is(1));
+  }
+
+  @Test
+  public void whenRestartedContainerRecordsSameStateAsPreviousOne_recordItWithoutExec() {
+    DomainConfiguratorFactory.forDomain(domain).withServerStateSource(ServerStateSource.PodAnnotation);
+    info.setServerPod("server1", createAnnotatedPod("server1", "1", CONTAINER_START_TIME.minusSeconds(5), "RUNNING"));
+    info.setServerPodFromEvent(
+        "server1", createAnnotatedPod("server1", "2", CONTAINER_START_TIME.plusSeconds(5), "RUNNING"));
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "RUNNING"));
+    assertThat(execFactory.numExecs, is(0));
+  }
+
+  private V1Pod createAnnotatedPod(String serverName, DateTime recordedTime, String state) {
+    return createAnnotatedPod(serverName, "1", recordedTime, state);
+  }
+
+  private V1Pod createAnnotatedPod(String serverName, String resourceVersion, DateTime recordedTime, String state) {
+    V1Pod pod = createPod(serverName);
+    pod.getMetadata()
+        .creationTimestamp(CREATION_TIME)
+        .resourceVersion(resourceVersion)
+        .putAnnotationsItem(SERVER_STATE_ANNOTATION, state);
+    if (recordedTime != null) {
+      pod.getMetadata().putAnnotationsItem(SERVER_STATE_TIME_ANNOTATION, recordedTime.toString());
+    }
+    return pod.status(
+        new V1PodStatus().addContainerStatusesItem(
+            new V1ContainerStatus()
+                .name(KubernetesConstants.CONTAINER_NAME)
+                .restartCount(1)
+                .state(new V1ContainerState().running(new V1ContainerStateRunning().startedAt(CONTAINER_START_TIME)))));
+  }
+
+  @Test
+  public void whenDomainUsesExecAndPodHasStateAnnotation_recordNodeManagerStatus() {
+    info.setServerPod("server1", createPod("server1"));
+    info.getServerPod("server1").getMetadata().putAnnotationsItem(SERVER_STATE_ANNOTATION, "STARTING");
+    execFactory.defineResponse("server1", "server1 status");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "server1 status"));
+  }
+
+  @Test
+  public void whenExecDoesNotCompleteBeforeTimeout_recordStartingState() {
+    info.setServerPod("server1", createPod("server1"));
+    execFactory.defineNoExit("server1");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 5, endStep));
+    testSupport.setTime(5, TimeUnit.SECONDS);
+
+    assertThat(getServerStates(packet), hasEntry("server1", WebLogicConstants.STARTING_STATE));
+  }
+
   @Test
   public void createDomainStatusReaderStep_initializesRemainingServersHealthRead_withNumServers() {
     info.setServerPod("server1", createPod("server1"));
@@ -181,6 +308,60 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
     assertThat(stepFactory.serverNames, contains("server1"));
   }
 
+  @Test
+  public void whenReadingHealthFromAdminServer_readOnlyServersItDoesNotReport() {
+    TuningParametersStub.setStatusUpdateReadHealthFromAdminServer(true);
+    info.setServerPod("server1", createPod("server1"));
+    info.setServerPod("server2", createPod("server2"));
+    domainStepFactory.defineHealth("server1", "RUNNING");
+    execFactory.defineResponse("server2", "server2 status");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "RUNNING"));
+    assertThat(getServerStates(packet), hasEntry("server2", "server2 status"));
+    assertThat(execFactory.numExecs, is(1));
+    assertThat(
+        ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(),
+        is(1));
+  }
+
+  @Test
+  public void whenNotReadingHealthFromAdminServer_dontRunDomainHealthStep() {
+    domainStepFactory.defineHealth("server1", "RUNNING");
+    info.setServerPod("server1", createPod("server1"));
+    execFactory.defineResponse("server1", "server1 status");
+
+    Packet packet =
+        testSupport.runSteps(ServerStatusReader.createDomainStatusReaderStep(info, 0, endStep));
+
+    assertThat(getServerStates(packet), hasEntry("server1", "server1 status"));
+  }
+
+  static class ReadDomainHealthStepFactoryFake implements Function<Step, Step> {
+    private Map<String, String> states = new HashMap<>();
+
+    void defineHealth(String serverName, String state) {
+      states.put(serverName, state);
+    }
+
+    @Override
+    public Step apply(Step next) {
+      return new Step(next) {
+        @Override
+        @SuppressWarnings("unchecked")
+        public NextAction apply(Packet packet) {
+          states.forEach((name, state) -> {
+            ((Map<String, String>) packet.get(SERVER_STATE_MAP)).put(name, state);
+            ((Map<String, ServerHealth>) packet.get(SERVER_HEALTH_MAP)).put(name, new ServerHealth());
+          });
+          return doNext(packet);
+        }
+      };
+    }
+  }
+
   static class ReadServerHealthStepFactoryFake implements Function<Step, Step> {
     List<String> serverNames = new ArrayList<>();
 
@@ -198,17 +379,25 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
 
   static class KubernetesExecFactoryFake implements KubernetesExecFactory {
     private Map<String, String> responses = new HashMap<>();
+    private List<String> neverExiting = new ArrayList<>();
+    private int numExecs;
 
     void defineResponse(String serverName, String response) {
       responses.put(LegalNames.toPodName(UID, serverName), response);
     }
 
+    void defineNoExit(String serverName) {
+      neverExiting.add(LegalNames.toPodName(UID, serverName));
+    }
+
     @Override
     public KubernetesExec create(ApiClient client, V1Pod pod, String containerName) {
       return new KubernetesExec() {
         @Override
         public Process exec(String... command) {
-          return createStub(ProcessStub.class, getResponse(pod.getMetadata().getName()));
+          numExecs++;
+          String name = pod.getMetadata().getName();
+          return createStub(ProcessStub.class, getResponse(name), !neverExiting.contains(name));
         }
 
         private String getResponse(String name) {
@@ -220,9 +409,16 @@ public class ServerStatusReaderTest extends HttpUserAgentTest {
 
   abstract static class ProcessStub extends Process {
     private String response;
+    private boolean exits;
 
-    public ProcessStub(String response) {
+    public ProcessStub(String response, boolean exits) {
       this.response = response;
+      this.exits = exits;
+    }
+
+    @Override
+    public boolean waitFor(long timeout, TimeUnit unit) {
+      return exits;
     }
 
     @Override
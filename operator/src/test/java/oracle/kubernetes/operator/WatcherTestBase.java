@@ -119,6 +119,10 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     return WatchEvent.createDeleteEvent(object).toWatchResponse();
   }
 
+  private <T> Watch.Response createBookmarkResponse(T object) {
+    return WatchEvent.createBookmarkEvent(object).toWatchResponse();
+  }
+
   private Watch.Response createHttpGoneErrorResponse(int nextResourceVersion) {
     return WatchEvent.createErrorEvent(HTTP_GONE, nextResourceVersion).toWatchResponse();
   }
@@ -142,6 +146,16 @@ public abstract class WatcherTestBase extends ThreadFactoryTestBase implements A
     assertThat(callBacks, contains(addEvent(object1), modifyEvent(object2)));
   }
 
+  @Test
+  public void bookmarkEvents_areNotSentToListeners() {
+    Object object1 = createObjectWithMetaData();
+    StubWatchFactory.addCallResponses(createBookmarkResponse(createObjectWithMetaData()), createAddResponse(object1));
+
+    createAndRunWatcher(NAMESPACE, stopping, INITIAL_RESOURCE_VERSION);
+
+    assertThat(callBacks, contains(addEvent(object1)));
+  }
+
   @SuppressWarnings({"rawtypes", "unchecked"})
   @Test
   public void afterFirstSetOfEvents_nextRequestSendsLastResourceVersion() {
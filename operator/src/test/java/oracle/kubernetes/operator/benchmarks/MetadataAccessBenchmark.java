@@ -0,0 +1,87 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import oracle.kubernetes.operator.helpers.ResourceMetadata;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the per-event cost of obtaining the resource version of a watched object, and the continue token
+ * of a list response, by reflection (as the watcher and async request step formerly did) and by
+ * {@link ResourceMetadata}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetadataAccessBenchmark {
+
+  private final V1Pod pod = new V1Pod().metadata(new V1ObjectMeta().name("pod").resourceVersion("1234"));
+  private final Domain domain = new Domain().withMetadata(new V1ObjectMeta().name("domain").resourceVersion("42"));
+  private final V1PodList podList = new V1PodList().metadata(new V1ListMeta()._continue("token"));
+
+  /**
+   * Runs the benchmarks in this class.
+   *
+   * @param args ignored
+   * @throws RunnerException if the benchmarks fail
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(MetadataAccessBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  @Benchmark
+  public String podResourceVersionByReflection() throws ReflectiveOperationException {
+    Method getMetadata = pod.getClass().getDeclaredMethod("getMetadata");
+    return ((V1ObjectMeta) getMetadata.invoke(pod)).getResourceVersion();
+  }
+
+  @Benchmark
+  public String podResourceVersionByAccessor() {
+    return ResourceMetadata.getObjectMeta(pod).getResourceVersion();
+  }
+
+  @Benchmark
+  public String domainResourceVersionByReflection() throws ReflectiveOperationException {
+    Method getMetadata = domain.getClass().getDeclaredMethod("getMetadata");
+    return ((V1ObjectMeta) getMetadata.invoke(domain)).getResourceVersion();
+  }
+
+  @Benchmark
+  public String domainResourceVersionByAccessor() {
+    return ResourceMetadata.getObjectMeta(domain).getResourceVersion();
+  }
+
+  @Benchmark
+  public String listContinueByReflection() throws ReflectiveOperationException {
+    Method getMetadata = podList.getClass().getMethod("getMetadata");
+    return ((V1ListMeta) getMetadata.invoke(podList)).getContinue();
+  }
+
+  @Benchmark
+  public String listContinueByAccessor() {
+    return ResourceMetadata.getListMeta(podList).getContinue();
+  }
+}
@@ -0,0 +1,102 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Packet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cost of forking a packet for each managed server of a domain, as the operator does when starting
+ * servers or reading their status, by cloning a {@link Packet} and by copying its maps as older operator versions
+ * did. Each child then records the name of its server, as the fork steps do. The GC profiler reports the
+ * allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PacketCloneBenchmark {
+
+  private static final String SERVER_NAME = "serverName";
+
+  @Param({"20", "120"})
+  private int numServers;
+
+  private Packet packet;
+  private Map<String, Component> components;
+  private Map<String, Object> values;
+
+  /**
+   * Runs the benchmarks in this class.
+   *
+   * @param args ignored
+   * @throws RunnerException if the benchmarks fail
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder()
+            .include(PacketCloneBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+        .run();
+  }
+
+  /**
+   * Creates a packet with values and components typical of a make-right fiber.
+   */
+  @Setup
+  public void setUp() {
+    packet = new Packet();
+    for (int i = 0; i < 30; i++) {
+      packet.put("value" + i, "v" + i);
+    }
+    packet.getComponents().put("domain", Component.createFor(new Object()));
+    packet.getComponents().put("response", Component.createFor(Integer.valueOf(0)));
+
+    components = new ConcurrentHashMap<>(packet.getComponents());
+    values = new ConcurrentHashMap<>(packet);
+  }
+
+  @Benchmark
+  public void forkByClone(Blackhole blackhole) {
+    for (int i = 0; i < numServers; i++) {
+      Packet child = packet.clone();
+      child.put(SERVER_NAME, "managed-server" + i);
+      blackhole.consume(child);
+    }
+  }
+
+  @Benchmark
+  public void forkByCopy(Blackhole blackhole) {
+    for (int i = 0; i < numServers; i++) {
+      Map<String, Component> childComponents = new ConcurrentHashMap<>(components);
+      Map<String, Object> child = new ConcurrentHashMap<>(values);
+      child.put(SERVER_NAME, "managed-server" + i);
+      blackhole.consume(childComponents);
+      blackhole.consume(child);
+    }
+  }
+}
@@ -0,0 +1,158 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1Pod;
+import oracle.kubernetes.operator.DomainProcessorTestSetup;
+import oracle.kubernetes.operator.LabelConstants;
+import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
+import oracle.kubernetes.operator.helpers.KubernetesTestSupport;
+import oracle.kubernetes.operator.helpers.PodHelper;
+import oracle.kubernetes.operator.helpers.ResourceProjection;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
+import oracle.kubernetes.operator.helpers.UnitTestHash;
+import oracle.kubernetes.operator.utils.InMemoryCertificates;
+import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of recording the pods of a list in {@link DomainPresenceInfo}, which now keeps only their
+ * projections. The pods are created by the operator's own pod steps, run against the in-memory Kubernetes of the
+ * unit tests, and are then copied through JSON into a number of domains and namespaces, so that, as with pods read
+ * by the operator, their strings are not shared. The runner adds the JMH GC profiler, whose normalized allocation
+ * rate shows the memory taken by the recorded projections.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PresenceHeapBenchmark {
+  private static final int PODS_PER_DOMAIN = 20;
+  private static final String ADMIN_SERVER = "admin-server";
+
+  @Param({"1000", "6000"})
+  private int numPods;
+
+  private List<V1Pod> pods;
+
+  /**
+   * Runs the benchmarks in this class.
+   *
+   * @param args ignored
+   * @throws RunnerException if the benchmarks fail
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder()
+            .include(PresenceHeapBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+        .run();
+  }
+
+  /**
+   * Creates the pods of a list.
+   *
+   * @throws Exception if the test stubs cannot be installed
+   */
+  @Setup
+  public void setUp() throws Exception {
+    List<V1Pod> serverPods = createServerPods();
+
+    JSON json = new JSON();
+    pods = new ArrayList<>();
+    for (int i = 1; i <= numPods; i++) {
+      int domain = i / PODS_PER_DOMAIN;
+      V1Pod pod = json.deserialize(json.serialize(serverPods.get(i % PODS_PER_DOMAIN)), V1Pod.class);
+      pod.getMetadata()
+          .namespace("ns" + (domain % 3))
+          .name("domain" + domain + "-" + PodHelper.getPodServerName(pod))
+          .putLabelsItem(LabelConstants.DOMAINUID_LABEL, "domain" + domain);
+      pods.add(pod);
+    }
+  }
+
+  // creates the pods of the servers of a single domain, as the operator would
+  private static List<V1Pod> createServerPods() throws Exception {
+    KubernetesTestSupport testSupport = new KubernetesTestSupport();
+    List<Memento> mementos = new ArrayList<>();
+    mementos.add(testSupport.install());
+    mementos.add(TuningParametersStub.install());
+    mementos.add(UnitTestHash.install());
+    mementos.add(InMemoryCertificates.install());
+
+    try {
+      WlsDomainConfigSupport configSupport =
+          new WlsDomainConfigSupport(DomainProcessorTestSetup.UID).withAdminServerName(ADMIN_SERVER);
+      configSupport.addWlsServer(ADMIN_SERVER, 7001);
+      for (int i = 1; i <= PODS_PER_DOMAIN; i++) {
+        configSupport.addWlsServer("managed-server" + i, 8001);
+      }
+      WlsDomainConfig domainTopology = configSupport.createDomainConfig();
+
+      Domain domain = DomainProcessorTestSetup.createTestDomain();
+      testSupport.defineResources(domain);
+      testSupport
+          .addToPacket(ProcessingConstants.DOMAIN_TOPOLOGY, domainTopology)
+          .addDomainPresenceInfo(new DomainPresenceInfo(domain));
+      for (int i = 1; i <= PODS_PER_DOMAIN; i++) {
+        testSupport.addToPacket(ProcessingConstants.SERVER_SCAN, domainTopology.getServerConfig("managed-server" + i));
+        testSupport.runSteps(PodHelper.createManagedPodStep(null));
+      }
+
+      return testSupport.getResources(KubernetesTestSupport.POD);
+    } finally {
+      mementos.forEach(Memento::revert);
+    }
+  }
+
+  private List<DomainPresenceInfo> recordPods(List<V1Pod> pods) {
+    List<DomainPresenceInfo> domains = new ArrayList<>();
+    DomainPresenceInfo info = null;
+    for (V1Pod pod : pods) {
+      String domainUid = PodHelper.getPodDomainUid(pod);
+      if (info == null || !info.getDomainUid().equals(domainUid)) {
+        info = new DomainPresenceInfo(pod.getMetadata().getNamespace(), domainUid);
+        domains.add(info);
+      }
+      info.setServerPod(PodHelper.getPodServerName(pod), pod);
+    }
+    return domains;
+  }
+
+  @Benchmark
+  public List<DomainPresenceInfo> recordPods() {
+    return recordPods(pods);
+  }
+
+  @Benchmark
+  public V1Pod projectPod() {
+    return ResourceProjection.projectPod(pods.get(0));
+  }
+}
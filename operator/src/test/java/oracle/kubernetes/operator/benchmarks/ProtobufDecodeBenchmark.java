@@ -0,0 +1,123 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.proto.V1;
+import oracle.kubernetes.operator.calls.ProtobufCodec;
+import oracle.kubernetes.operator.calls.ProtobufTestSupport;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static oracle.kubernetes.operator.calls.ProtobufTestSupport.createServerPod;
+
+/**
+ * Compares the cost of decoding a list of WebLogic server pods from the JSON response body the operator reads by
+ * default, and from the protobuf response body it reads when {@code callProtobufEnabled} is set. Each pod carries
+ * the environment, volumes, probes, labels and status of a pod created by the operator. The runner adds the JMH GC
+ * profiler, whose normalized allocation rate shows the garbage left by each decoding. The bytes of the response
+ * bodies decoded, which are the bytes read from the API server, are reported as secondary results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProtobufDecodeBenchmark {
+
+  @Param({"10", "100"})
+  private int numPods;
+
+  private final JSON json = new JSON();
+  private final ProtobufCodec codec = new ProtobufCodec(json);
+  private byte[] jsonBody;
+  private byte[] protobufBody;
+
+  /**
+   * Runs the benchmarks in this class.
+   *
+   * @param args ignored
+   * @throws RunnerException if the benchmarks fail
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+        new OptionsBuilder()
+            .include(ProtobufDecodeBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build())
+        .run();
+  }
+
+  /**
+   * Encodes a list of server pods as the API server would send it in each encoding.
+   */
+  @Setup
+  public void setUp() {
+    V1PodList podList =
+        new V1PodList().apiVersion("v1").kind("PodList").metadata(new V1ListMeta().resourceVersion("1"));
+    for (int i = 1; i <= numPods; i++) {
+      podList.addItemsItem(createServerPod("ns" + (i % 3), "domain" + (i % 5), "managed-server" + i));
+    }
+
+    ProtobufTestSupport support = new ProtobufTestSupport();
+    jsonBody = support.encodeJson(podList);
+    protobufBody = support.encode(podList, V1.PodList.newBuilder(), "v1", "PodList");
+  }
+
+  @Benchmark
+  public V1PodList decodeJson(BytesRead bytesRead) {
+    bytesRead.record(jsonBody);
+    return json.deserialize(new String(jsonBody, StandardCharsets.UTF_8), V1PodList.class);
+  }
+
+  @Benchmark
+  public V1PodList decodeProtobuf(BytesRead bytesRead) throws InvalidProtocolBufferException {
+    bytesRead.record(protobufBody);
+    return codec.decode(protobufBody, V1PodList.class);
+  }
+
+  /**
+   * Counts the bytes of the response bodies decoded, and the number of bodies; their quotient is the size of the
+   * pod list in the encoding of the benchmark.
+   */
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  @State(Scope.Thread)
+  public static class BytesRead {
+    public long bytes;
+    public long bodies;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      bytes = 0;
+      bodies = 0;
+    }
+
+    void record(byte[] body) {
+      bytes += body.length;
+      bodies++;
+    }
+  }
+}
@@ -0,0 +1,170 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1ExecAction;
+import io.kubernetes.client.openapi.models.V1HTTPGetAction;
+import io.kubernetes.client.openapi.models.V1Handler;
+import io.kubernetes.client.openapi.models.V1Lifecycle;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSecurityContext;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1SecretVolumeSource;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.util.Yaml;
+import oracle.kubernetes.operator.helpers.CanonicalHash;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the cost of hashing managed server pod and service recipes, similar to those the operator creates,
+ * by dumping them as YAML (as older operator versions did for every make-right) and by {@link CanonicalHash}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecipeHashBenchmark {
+
+  private static final String DOMAIN_UID = "domain1";
+  private static final String SERVER_NAME = "managed-server1";
+
+  private final V1Pod pod = createPodRecipe();
+  private final V1Service service = createServiceRecipe();
+
+  /**
+   * Runs the benchmarks in this class.
+   *
+   * @param args ignored
+   * @throws RunnerException if the benchmarks fail
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(RecipeHashBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  @Benchmark
+  public String podHashByYaml() {
+    return DigestUtils.sha256Hex(Yaml.dump(pod));
+  }
+
+  @Benchmark
+  public String podHashByCanonicalHash() {
+    return CanonicalHash.sha256Hex(pod);
+  }
+
+  @Benchmark
+  public String serviceHashByYaml() {
+    return DigestUtils.sha256Hex(Yaml.dump(service));
+  }
+
+  @Benchmark
+  public String serviceHashByCanonicalHash() {
+    return CanonicalHash.sha256Hex(service);
+  }
+
+  private static V1ObjectMeta createMetadata() {
+    return new V1ObjectMeta()
+        .name(DOMAIN_UID + "-" + SERVER_NAME)
+        .namespace("domain-namespace")
+        .putLabelsItem("weblogic.createdByOperator", "true")
+        .putLabelsItem("weblogic.domainUID", DOMAIN_UID)
+        .putLabelsItem("weblogic.domainName", "base_domain")
+        .putLabelsItem("weblogic.serverName", SERVER_NAME)
+        .putLabelsItem("weblogic.clusterName", "cluster-1")
+        .putLabelsItem("weblogic.domainRestartVersion", "1")
+        .putAnnotationsItem("prometheus.io/port", "8001")
+        .putAnnotationsItem("prometheus.io/path", "/wls-exporter/metrics")
+        .putAnnotationsItem("prometheus.io/scrape", "true");
+  }
+
+  private static V1Pod createPodRecipe() {
+    return new V1Pod().metadata(createMetadata()).spec(createPodSpec());
+  }
+
+  private static V1PodSpec createPodSpec() {
+    return new V1PodSpec()
+        .addContainersItem(createContainer())
+        .securityContext(new V1PodSecurityContext().runAsUser(1000L).fsGroup(1000L))
+        .addVolumesItem(new V1Volume().name("weblogic-scripts-cm-volume"))
+        .addVolumesItem(new V1Volume().name("weblogic-domain-debug-cm-volume"))
+        .addVolumesItem(new V1Volume().name("weblogic-credentials-volume")
+            .secret(new V1SecretVolumeSource().secretName(DOMAIN_UID + "-weblogic-credentials")
+                .defaultMode(420)));
+  }
+
+  private static V1Container createContainer() {
+    V1Container container = new V1Container()
+        .name("weblogic-server")
+        .image("container-registry.oracle.com/middleware/weblogic:12.2.1.4")
+        .imagePullPolicy("IfNotPresent")
+        .addCommandItem("/weblogic-operator/scripts/startServer.sh")
+        .addPortsItem(new V1ContainerPort().name("default").containerPort(8001).protocol("TCP"))
+        .addPortsItem(new V1ContainerPort().name("default-secure").containerPort(8002).protocol("TCP"))
+        .resources(new V1ResourceRequirements()
+            .putLimitsItem("cpu", new Quantity("2"))
+            .putLimitsItem("memory", new Quantity("4Gi"))
+            .putRequestsItem("cpu", new Quantity("500m"))
+            .putRequestsItem("memory", new Quantity("768Mi")))
+        .lifecycle(new V1Lifecycle().preStop(new V1Handler().exec(
+            new V1ExecAction().addCommandItem("/weblogic-operator/scripts/stopServer.sh"))))
+        .livenessProbe(new V1Probe()
+            .initialDelaySeconds(30).timeoutSeconds(5).periodSeconds(45).failureThreshold(1)
+            .exec(new V1ExecAction().addCommandItem("/weblogic-operator/scripts/livenessProbe.sh")))
+        .readinessProbe(new V1Probe()
+            .initialDelaySeconds(30).timeoutSeconds(5).periodSeconds(5).failureThreshold(1)
+            .httpGet(new V1HTTPGetAction().path("/weblogic/ready").port(new IntOrString(8001))))
+        .addVolumeMountsItem(new V1VolumeMount().name("weblogic-scripts-cm-volume")
+            .mountPath("/weblogic-operator/scripts").readOnly(true))
+        .addVolumeMountsItem(new V1VolumeMount().name("weblogic-domain-debug-cm-volume")
+            .mountPath("/weblogic-operator/debug").readOnly(true))
+        .addVolumeMountsItem(new V1VolumeMount().name("weblogic-credentials-volume")
+            .mountPath("/weblogic-operator/secrets").readOnly(true));
+
+    for (int i = 0; i < 20; i++) {
+      container.addEnvItem(new V1EnvVar().name("ENV_VARIABLE_" + i).value("/u01/oracle/user_projects/value" + i));
+    }
+    return container;
+  }
+
+  private static V1Service createServiceRecipe() {
+    return new V1Service()
+        .metadata(createMetadata())
+        .spec(new V1ServiceSpec()
+            .type("ClusterIP")
+            .clusterIP("None")
+            .publishNotReadyAddresses(true)
+            .putSelectorItem("weblogic.domainUID", DOMAIN_UID)
+            .putSelectorItem("weblogic.serverName", SERVER_NAME)
+            .putSelectorItem("weblogic.createdByOperator", "true")
+            .addPortsItem(new V1ServicePort().name("default").port(8001).protocol("TCP"))
+            .addPortsItem(new V1ServicePort().name("default-secure").port(8002).protocol("TCP")));
+  }
+}
@@ -0,0 +1,143 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Packet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_COMPONENT_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.FIBER_COMPONENT_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.MAIN_COMPONENT_NAME;
+import static oracle.kubernetes.operator.ProcessingConstants.PODWATCHER_COMPONENT_NAME;
+import static oracle.kubernetes.operator.calls.AsyncRequestStep.RESPONSE_COMPONENT_NAME;
+
+/**
+ * Compares the cost of SPI lookups during a sequence of steps like those of a domain plan, using the indexed lookup
+ * of {@link Packet} and the scan of every component which older operator versions performed. Each step looks up
+ * the domain presence info and the Kubernetes version; every third step also makes an API call, replacing the
+ * response component and then looking up the call response and its retry strategy, as the response steps do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SpiLookupBenchmark {
+
+  @Param({"30", "150"})
+  private int numSteps;
+
+  private Packet packet;
+  private Map<String, Component> components;
+
+  /**
+   * Runs the benchmarks in this class.
+   *
+   * @param args ignored
+   * @throws RunnerException if the benchmarks fail
+   */
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SpiLookupBenchmark.class.getSimpleName()).build()).run();
+  }
+
+  /**
+   * Creates a packet with the components typical of a make-right fiber.
+   */
+  @Setup
+  public void setUp() {
+    packet = new Packet();
+    addComponents(packet.getComponents());
+
+    components = new ConcurrentHashMap<>();
+    addComponents(components);
+  }
+
+  private void addComponents(Map<String, Component> components) {
+    components.put(MAIN_COMPONENT_NAME, Component.createFor(new MainSpi()));
+    components.put(FIBER_COMPONENT_NAME, Component.createFor(new FiberSpi()));
+    components.put(PODWATCHER_COMPONENT_NAME, Component.createFor(new PodAwaiterSpi()));
+    components.put(DOMAIN_COMPONENT_NAME, Component.createFor(new DomainSpi(), new VersionSpi()));
+  }
+
+  @Benchmark
+  public void indexedLookup(Blackhole blackhole) {
+    for (int i = 0; i < numSteps; i++) {
+      blackhole.consume(packet.getSpi(DomainSpi.class));
+      blackhole.consume(packet.getSpi(VersionSpi.class));
+      if (i % 3 == 0) {
+        packet.getComponents().put(RESPONSE_COMPONENT_NAME, Component.createFor(new ResponseSpi(), new RetrySpi()));
+        blackhole.consume(packet.getSpi(ResponseSpi.class));
+        blackhole.consume(packet.getSpi(RetrySpi.class));
+        blackhole.consume(packet.getSpi(DomainSpi.class));
+        packet.getComponents().remove(RESPONSE_COMPONENT_NAME);
+      }
+    }
+  }
+
+  @Benchmark
+  public void scanningLookup(Blackhole blackhole) {
+    for (int i = 0; i < numSteps; i++) {
+      blackhole.consume(scan(DomainSpi.class));
+      blackhole.consume(scan(VersionSpi.class));
+      if (i % 3 == 0) {
+        components.put(RESPONSE_COMPONENT_NAME, Component.createFor(new ResponseSpi(), new RetrySpi()));
+        blackhole.consume(scan(ResponseSpi.class));
+        blackhole.consume(scan(RetrySpi.class));
+        blackhole.consume(scan(DomainSpi.class));
+        components.remove(RESPONSE_COMPONENT_NAME);
+      }
+    }
+  }
+
+  private <S> S scan(Class<S> spiType) {
+    for (Component c : components.values()) {
+      S spi = c.getSpi(spiType);
+      if (spi != null) {
+        return spi;
+      }
+    }
+    return null;
+  }
+
+  static class MainSpi {
+  }
+
+  static class FiberSpi {
+  }
+
+  static class PodAwaiterSpi {
+  }
+
+  static class DomainSpi {
+  }
+
+  static class VersionSpi {
+  }
+
+  static class ResponseSpi {
+  }
+
+  static class RetrySpi {
+  }
+}
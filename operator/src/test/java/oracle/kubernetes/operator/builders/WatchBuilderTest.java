@@ -19,8 +19,10 @@ import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.ApiClient;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1Service;
 import oracle.kubernetes.operator.KubernetesConstants;
+import oracle.kubernetes.operator.calls.MetadataCall;
 import oracle.kubernetes.operator.helpers.ClientPool;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
@@ -63,6 +65,7 @@ public class WatchBuilderTest extends HttpUserAgentTest {
           + "/domains";
   private static final String SERVICE_RESOURCE = "/api/v1/namespaces/" + NAMESPACE + "/services";
   private static final String POD_RESOURCE = "/api/v1/namespaces/" + NAMESPACE + "/pods";
+  private static final String SECRET_RESOURCE = "/api/v1/namespaces/" + NAMESPACE + "/secrets";
   private static final String EOL = "\n";
   private static final int INITIAL_RESOURCE_VERSION = 123;
   private static final JsonServletAction NO_RESPONSES = new JsonServletAction();
@@ -223,6 +226,20 @@ public class WatchBuilderTest extends HttpUserAgentTest {
     assertThat(podWatch, contains(addEvent(pod)));
   }
 
+  @Test
+  public void whenSecretWatchCreated_requestOnlyMetadata() throws Exception {
+    V1Secret secret =
+        new V1Secret().apiVersion("meta.k8s.io/v1").kind("PartialObjectMetadata")
+            .metadata(createMetaData("secret1", NAMESPACE));
+    defineHttpResponse(
+        SECRET_RESOURCE,
+        withResponses(createAddedResponse(secret)).andExpectedAccept(MetadataCall.ACCEPT));
+
+    WatchI<V1Secret> secretWatch = new WatchBuilder().createSecretWatch(NAMESPACE);
+
+    assertThat(secretWatch, contains(addEvent(secret)));
+  }
+
   @Test
   public void whenPodWatchFindsNoData_hasNextReturnsFalse() throws Exception {
     defineHttpResponse(POD_RESOURCE, NO_RESPONSES);
@@ -294,6 +311,7 @@ public class WatchBuilderTest extends HttpUserAgentTest {
 
   static class JsonServletAction {
     private ParameterValidation[] validations = new ParameterValidation[0];
+    private String expectedAccept;
     private WebResource webResource;
 
     private JsonServletAction(String... responses) {
@@ -308,6 +326,11 @@ public class WatchBuilderTest extends HttpUserAgentTest {
       this.validations = validations;
       return this;
     }
+
+    JsonServletAction andExpectedAccept(String expectedAccept) {
+      this.expectedAccept = expectedAccept;
+      return this;
+    }
   }
 
   static class JsonServlet extends PseudoServlet {
@@ -328,9 +351,20 @@ public class WatchBuilderTest extends HttpUserAgentTest {
       for (ParameterValidation validation : action.validations) {
         validation.verify(getParameter(validation.parameterName));
       }
+      if (action.expectedAccept != null) {
+        verifyAccept(action.expectedAccept);
+      }
 
       return action.webResource;
     }
+
+    private void verifyAccept(String expectedAccept) {
+      try {
+        assertThat("Accept header", getHeader("Accept"), equalTo(expectedAccept));
+      } catch (AssertionError e) {
+        validationErrors.add(e);
+      }
+    }
   }
 
   static class ClientPoolStub extends ClientPool {
@@ -0,0 +1,210 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateTerminated;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import io.kubernetes.client.openapi.models.V1PodSecurityContext;
+import io.kubernetes.client.openapi.models.V1Status;
+import io.kubernetes.client.proto.Meta;
+import io.kubernetes.client.proto.Runtime;
+import io.kubernetes.client.proto.V1;
+import io.kubernetes.client.util.Watch;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.calls.ProtobufTestSupport.createServerPod;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ProtobufCodecTest {
+  private static final String NS = "namespace";
+  private static final String UID = "domain1";
+  private static final Set<String> TIMESTAMP_FIELDS =
+      Set.of("creationTimestamp", "startTime", "lastTransitionTime", "startedAt");
+
+  private final JSON json = new JSON();
+  private final Gson gson = json.getGson();
+  private final ProtobufCodec codec = new ProtobufCodec(json);
+  private final ProtobufTestSupport support = new ProtobufTestSupport();
+
+  // timestamps are compared separately, as Joda times are decoded in the local time zone
+  private JsonElement withoutTimestamps(V1Pod pod) {
+    return removeTimestamps(gson.toJsonTree(pod));
+  }
+
+  private JsonElement removeTimestamps(JsonElement element) {
+    if (element.isJsonObject()) {
+      element.getAsJsonObject().entrySet().removeIf(e -> TIMESTAMP_FIELDS.contains(e.getKey()));
+      element.getAsJsonObject().entrySet().forEach(e -> removeTimestamps(e.getValue()));
+    } else if (element.isJsonArray()) {
+      element.getAsJsonArray().forEach(this::removeTimestamps);
+    }
+    return element;
+  }
+
+  private byte[] encodePod(V1Pod pod) {
+    return support.encode(pod, V1.Pod.newBuilder(), "v1", "Pod");
+  }
+
+  @Test
+  public void onlyCoreResources_areSupported() {
+    assertThat(ProtobufCodec.isSupported(V1Pod.class), is(true));
+    assertThat(ProtobufCodec.isSupported(Domain.class), is(false));
+  }
+
+  @Test
+  public void decodedServerPod_matchesOriginal() throws InvalidProtocolBufferException {
+    V1Pod pod = createServerPod(NS, UID, "managed-server1");
+
+    V1Pod decoded = codec.decode(encodePod(pod), V1Pod.class);
+
+    assertThat(withoutTimestamps(decoded), equalTo(withoutTimestamps(pod)));
+  }
+
+  @Test
+  public void decodedTimestamps_matchOriginal() throws InvalidProtocolBufferException {
+    V1Pod pod = createServerPod(NS, UID, "managed-server1");
+
+    V1Pod decoded = codec.decode(encodePod(pod), V1Pod.class);
+
+    assertThat(decoded.getMetadata().getCreationTimestamp().getMillis(),
+        equalTo(pod.getMetadata().getCreationTimestamp().getMillis()));
+    assertThat(decoded.getStatus().getStartTime().getMillis(), equalTo(pod.getStatus().getStartTime().getMillis()));
+  }
+
+  @Test
+  public void decodedPodList_hasKindAndItems() throws InvalidProtocolBufferException {
+    V1PodList list = new V1PodList()
+        .metadata(new V1ListMeta().resourceVersion("1000"))
+        .addItemsItem(createServerPod(NS, UID, "managed-server1"))
+        .addItemsItem(createServerPod(NS, UID, "managed-server2"));
+
+    V1PodList decoded = codec.decode(support.encode(list, V1.PodList.newBuilder(), "v1", "PodList"), V1PodList.class);
+
+    assertThat(decoded.getKind(), equalTo("PodList"));
+    assertThat(decoded.getMetadata().getResourceVersion(), equalTo("1000"));
+    assertThat(decoded.getItems().get(1).getMetadata().getName(), equalTo(UID + "-managed-server2"));
+  }
+
+  @Test
+  public void zeroScalarFields_decodeAsNull() throws InvalidProtocolBufferException {
+    V1.Pod message = V1.Pod.newBuilder()
+        .setSpec(V1.PodSpec.newBuilder()
+            .addContainers(V1.Container.newBuilder()
+                .setName("weblogic-server")
+                .addPorts(V1.ContainerPort.newBuilder().setContainerPort(8001).setHostPort(0).setHostIP(""))))
+        .build();
+
+    V1Pod decoded = codec.decode(support.toResponseBody(message, "v1", "Pod"), V1Pod.class);
+
+    V1ContainerPort port = decoded.getSpec().getContainers().get(0).getPorts().get(0);
+    assertThat(port.getContainerPort(), equalTo(8001));
+    assertThat(port.getHostPort(), nullValue());
+    assertThat(port.getHostIP(), nullValue());
+  }
+
+  @Test
+  public void zeroScalarFieldsWithoutOmitEmpty_decodeAsZero() throws InvalidProtocolBufferException {
+    V1Pod pod = createServerPod(NS, UID, "managed-server1");
+    pod.getStatus().getContainerStatuses().get(0)
+        .ready(false)
+        .restartCount(0)
+        .state(new V1ContainerState().terminated(new V1ContainerStateTerminated().exitCode(0).reason("Completed")));
+
+    V1Pod decoded = codec.decode(encodePod(pod), V1Pod.class);
+
+    V1ContainerStatus status = decoded.getStatus().getContainerStatuses().get(0);
+    assertThat(status.getReady(), is(false));
+    assertThat(status.getRestartCount(), equalTo(0));
+    assertThat(status.getState().getTerminated().getExitCode(), equalTo(0));
+    assertThat(withoutTimestamps(decoded), equalTo(withoutTimestamps(pod)));
+  }
+
+  @Test
+  public void optionalFieldsSetToZero_decodeAsFromJson() throws InvalidProtocolBufferException {
+    V1Pod pod = createServerPod(NS, UID, "managed-server1");
+    pod.getMetadata().deletionGracePeriodSeconds(0L);
+    pod.getSpec()
+        .automountServiceAccountToken(false)
+        .securityContext(new V1PodSecurityContext().runAsUser(0L).runAsNonRoot(false))
+        .getVolumes().get(1).getConfigMap().optional(false);
+
+    V1Pod decoded = codec.decode(encodePod(pod), V1Pod.class);
+
+    V1Pod decodedFromJson =
+        json.deserialize(new String(support.encodeJson(pod), StandardCharsets.UTF_8), V1Pod.class);
+    assertThat(decoded.getSpec().getAutomountServiceAccountToken(), is(false));
+    assertThat(decoded.getSpec().getSecurityContext().getRunAsUser(), equalTo(0L));
+    assertThat(decoded.getMetadata().getDeletionGracePeriodSeconds(), equalTo(0L));
+    assertThat(withoutTimestamps(decoded), equalTo(withoutTimestamps(decodedFromJson)));
+  }
+
+  @Test
+  public void decodeWatchEvent() throws InvalidProtocolBufferException {
+    byte[] frame = Meta.WatchEvent.newBuilder()
+        .setType("MODIFIED")
+        .setObject(Runtime.RawExtension.newBuilder()
+            .setRaw(ByteString.copyFrom(encodePod(createServerPod(NS, UID, "admin-server")))))
+        .build()
+        .toByteArray();
+
+    Watch.Response<V1Pod> response = codec.decodeWatchEvent(frame, V1Pod.class);
+
+    assertThat(response.type, equalTo("MODIFIED"));
+    assertThat(response.object.getMetadata().getName(), equalTo(UID + "-admin-server"));
+  }
+
+  @Test
+  public void decodeErrorWatchEvent_returnsStatus() throws InvalidProtocolBufferException {
+    Meta.Status status = Meta.Status.newBuilder().setCode(410).setReason("Expired").setMessage("too old").build();
+    byte[] frame = Meta.WatchEvent.newBuilder()
+        .setType("ERROR")
+        .setObject(Runtime.RawExtension.newBuilder()
+            .setRaw(ByteString.copyFrom(support.toResponseBody(status, "v1", "Status"))))
+        .build()
+        .toByteArray();
+
+    Watch.Response<V1Pod> response = codec.decodeWatchEvent(frame, V1Pod.class);
+
+    assertThat(response.status.getCode(), equalTo(410));
+  }
+
+  @Test
+  public void decodeFailureStatus_asJson() throws InvalidProtocolBufferException {
+    Meta.Status status = Meta.Status.newBuilder().setCode(404).setReason("NotFound").build();
+
+    String text = codec.decodeStatusAsJson(support.toResponseBody(status, "v1", "Status"));
+
+    assertThat(gson.fromJson(text, V1Status.class).getReason(), equalTo("NotFound"));
+  }
+
+  @Test(expected = InvalidProtocolBufferException.class)
+  public void whenBodyLacksEnvelope_throwException() throws InvalidProtocolBufferException {
+    codec.decode(support.encodeJson(createServerPod(NS, UID, "admin-server")), V1Pod.class);
+  }
+
+  @Test
+  public void protobufEncoding_isSmallerThanJson() {
+    V1Pod pod = createServerPod(NS, UID, "managed-server1");
+
+    assertThat(encodePod(pod).length, lessThan(support.encodeJson(pod).length));
+  }
+}
@@ -0,0 +1,333 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.JSON;
+import io.kubernetes.client.openapi.models.V1ConfigMapKeySelector;
+import io.kubernetes.client.openapi.models.V1ConfigMapVolumeSource;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ContainerPort;
+import io.kubernetes.client.openapi.models.V1ContainerState;
+import io.kubernetes.client.openapi.models.V1ContainerStateRunning;
+import io.kubernetes.client.openapi.models.V1ContainerStatus;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1EnvVarSource;
+import io.kubernetes.client.openapi.models.V1ExecAction;
+import io.kubernetes.client.openapi.models.V1HTTPGetAction;
+import io.kubernetes.client.openapi.models.V1Handler;
+import io.kubernetes.client.openapi.models.V1Lifecycle;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodCondition;
+import io.kubernetes.client.openapi.models.V1PodSecurityContext;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import io.kubernetes.client.openapi.models.V1SecretVolumeSource;
+import io.kubernetes.client.openapi.models.V1Volume;
+import io.kubernetes.client.openapi.models.V1VolumeMount;
+import io.kubernetes.client.proto.Runtime;
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+
+/**
+ * Encodes model objects in the protobuf encoding used by the API server, for use in tests and benchmarks. The
+ * object is first converted to JSON, whose fields are then copied into the corresponding protobuf message.
+ */
+public class ProtobufTestSupport {
+  private static final byte[] MAGIC = {0x6b, 0x38, 0x73, 0x00};
+
+  private static final Set<String> INLINE_FIELDS = Set.of(
+      "k8s.io.api.core.v1.Probe.handler",
+      "k8s.io.api.core.v1.Volume.volumeSource",
+      "k8s.io.api.core.v1.PersistentVolumeSpec.persistentVolumeSource",
+      "k8s.io.api.core.v1.EphemeralContainer.ephemeralContainerCommon");
+
+  private final Gson gson = new JSON().getGson();
+
+  /**
+   * Returns the protobuf message equivalent to the specified model object.
+   *
+   * @param object a model object
+   * @param builder a builder for the corresponding message type
+   * @return the message
+   */
+  public Message toMessage(Object object, Message.Builder builder) {
+    fill(builder, gson.toJsonTree(object).getAsJsonObject());
+    return builder.build();
+  }
+
+  /**
+   * Returns the specified message wrapped in the envelope the API server sends.
+   *
+   * @param message the message
+   * @param apiVersion the API version of the resource
+   * @param kind the kind of the resource
+   * @return the response body
+   */
+  public byte[] toResponseBody(Message message, String apiVersion, String kind) {
+    Runtime.Unknown envelope = Runtime.Unknown.newBuilder()
+        .setTypeMeta(Runtime.TypeMeta.newBuilder().setApiVersion(apiVersion).setKind(kind))
+        .setRaw(message.toByteString())
+        .build();
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.writeBytes(MAGIC);
+    out.writeBytes(envelope.toByteArray());
+    return out.toByteArray();
+  }
+
+  /**
+   * Returns the protobuf encoding of the specified model object, wrapped in the envelope the API server sends.
+   *
+   * @param object a model object
+   * @param builder a builder for the corresponding message type
+   * @param apiVersion the API version of the resource
+   * @param kind the kind of the resource
+   * @return the response body
+   */
+  public byte[] encode(Object object, Message.Builder builder, String apiVersion, String kind) {
+    return toResponseBody(toMessage(object, builder), apiVersion, kind);
+  }
+
+  /**
+   * Returns the JSON encoding of the specified model object.
+   *
+   * @param object a model object
+   * @return the response body
+   */
+  public byte[] encodeJson(Object object) {
+    return gson.toJson(object).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Creates a pod like those the operator runs for WebLogic servers, as the API server would report it.
+   *
+   * @param namespace the namespace of the pod
+   * @param domainUid the UID of the domain
+   * @param serverName the name of the server
+   * @return the pod
+   */
+  public static V1Pod createServerPod(String namespace, String domainUid, String serverName) {
+    String podName = domainUid + "-" + serverName;
+    DateTime created = new DateTime(2020, 5, 1, 10, 0, DateTimeZone.UTC);
+    return new V1Pod()
+        .apiVersion("v1")
+        .kind("Pod")
+        .metadata(new V1ObjectMeta()
+            .name(podName)
+            .namespace(namespace)
+            .uid("5d1e4b3a-8c4e-4d7e-9a4e-" + Integer.toHexString(podName.hashCode()))
+            .resourceVersion("123456")
+            .creationTimestamp(created)
+            .putLabelsItem("weblogic.createdByOperator", "true")
+            .putLabelsItem("weblogic.domainUID", domainUid)
+            .putLabelsItem("weblogic.domainName", "base_domain")
+            .putLabelsItem("weblogic.domainRestartVersion", "1")
+            .putLabelsItem("weblogic.serverName", serverName)
+            .putLabelsItem("weblogic.clusterName", "cluster-1")
+            .putAnnotationsItem("weblogic.sha256", "7f8a3c5d9e2b1a4f6c8d0e3b5a7f9c1d3e5b7a9f1c3d5e7b9a1f3c5d7e9b1a3f")
+            .putAnnotationsItem("prometheus.io/port", "8001")
+            .putAnnotationsItem("prometheus.io/path", "/wls-exporter/metrics")
+            .putAnnotationsItem("prometheus.io/scrape", "true"))
+        .spec(new V1PodSpec()
+            .hostname(podName)
+            .nodeName("worker-node-3")
+            .serviceAccountName("default")
+            .restartPolicy("Always")
+            .dnsPolicy("ClusterFirst")
+            .schedulerName("default-scheduler")
+            .terminationGracePeriodSeconds(40L)
+            .securityContext(new V1PodSecurityContext().runAsUser(1000L).fsGroup(1000L))
+            .addContainersItem(new V1Container()
+                .name("weblogic-server")
+                .image("container-registry.oracle.com/middleware/weblogic:12.2.1.4")
+                .imagePullPolicy("IfNotPresent")
+                .addCommandItem("/weblogic-operator/scripts/startServer.sh")
+                .env(createEnvironment(domainUid, serverName))
+                .addPortsItem(new V1ContainerPort().name("default").containerPort(8001).protocol("TCP"))
+                .resources(new V1ResourceRequirements()
+                    .putRequestsItem("cpu", Quantity.fromString("250m"))
+                    .putRequestsItem("memory", Quantity.fromString("768Mi"))
+                    .putLimitsItem("cpu", Quantity.fromString("2"))
+                    .putLimitsItem("memory", Quantity.fromString("2Gi")))
+                .lifecycle(new V1Lifecycle()
+                    .preStop(new V1Handler()
+                        .exec(new V1ExecAction().addCommandItem("/weblogic-operator/scripts/stopServer.sh"))))
+                .livenessProbe(new V1Probe()
+                    .initialDelaySeconds(30).timeoutSeconds(5).periodSeconds(45).failureThreshold(1)
+                    .exec(new V1ExecAction().addCommandItem("/weblogic-operator/scripts/livenessProbe.sh")))
+                .readinessProbe(new V1Probe()
+                    .initialDelaySeconds(30).timeoutSeconds(5).periodSeconds(5).failureThreshold(1)
+                    .httpGet(new V1HTTPGetAction().path("/weblogic/ready").port(new IntOrString(8001))))
+                .addVolumeMountsItem(new V1VolumeMount().name("weblogic-scripts-cm-volume")
+                    .mountPath("/weblogic-operator/scripts").readOnly(true))
+                .addVolumeMountsItem(new V1VolumeMount().name("weblogic-domain-debug-cm-volume")
+                    .mountPath("/weblogic-operator/debug").readOnly(true))
+                .addVolumeMountsItem(new V1VolumeMount().name("weblogic-domain-introspect-cm-volume")
+                    .mountPath("/weblogic-operator/introspector"))
+                .addVolumeMountsItem(new V1VolumeMount().name("default-token-x7k2p")
+                    .mountPath("/var/run/secrets/kubernetes.io/serviceaccount").readOnly(true)))
+            .addVolumesItem(new V1Volume().name("weblogic-scripts-cm-volume")
+                .configMap(new V1ConfigMapVolumeSource().name("weblogic-scripts-cm").defaultMode(365)))
+            .addVolumesItem(new V1Volume().name("weblogic-domain-debug-cm-volume")
+                .configMap(new V1ConfigMapVolumeSource().name(domainUid + "-weblogic-domain-debug-cm")
+                    .defaultMode(365).optional(true)))
+            .addVolumesItem(new V1Volume().name("weblogic-domain-introspect-cm-volume")
+                .configMap(new V1ConfigMapVolumeSource().name(domainUid + "-weblogic-domain-introspect-cm")
+                    .defaultMode(365)))
+            .addVolumesItem(new V1Volume().name("default-token-x7k2p")
+                .secret(new V1SecretVolumeSource().secretName("default-token-x7k2p").defaultMode(420))))
+        .status(new V1PodStatus()
+            .phase("Running")
+            .hostIP("10.0.0.13")
+            .podIP("10.244.2.17")
+            .qosClass("Burstable")
+            .startTime(created)
+            .addConditionsItem(new V1PodCondition().type("Initialized").status("True")
+                .lastTransitionTime(created))
+            .addConditionsItem(new V1PodCondition().type("Ready").status("True")
+                .lastTransitionTime(created.plusMinutes(2)))
+            .addConditionsItem(new V1PodCondition().type("ContainersReady").status("True")
+                .lastTransitionTime(created.plusMinutes(2)))
+            .addConditionsItem(new V1PodCondition().type("PodScheduled").status("True")
+                .lastTransitionTime(created))
+            .addContainerStatusesItem(new V1ContainerStatus()
+                .name("weblogic-server")
+                .ready(true)
+                .started(true)
+                .restartCount(1)
+                .image("container-registry.oracle.com/middleware/weblogic:12.2.1.4")
+                .imageID("docker-pullable://container-registry.oracle.com/middleware/weblogic@sha256:"
+                    + "3c5d9e2b1a4f6c8d0e3b5a7f9c1d3e5b7a9f1c3d5e7b9a1f3c5d7e9b1a3f7f8a")
+                .containerID("docker://9e2b1a4f6c8d0e3b5a7f9c1d3e5b7a9f1c3d5e7b9a1f3c5d7e9b1a3f7f8a3c5d")
+                .state(new V1ContainerState()
+                    .running(new V1ContainerStateRunning().startedAt(created.plusSeconds(5))))));
+  }
+
+  private static List<V1EnvVar> createEnvironment(String domainUid, String serverName) {
+    List<V1EnvVar> env = new ArrayList<>();
+    env.add(new V1EnvVar().name("DOMAIN_NAME").value("base_domain"));
+    env.add(new V1EnvVar().name("DOMAIN_HOME").value("/u01/oracle/user_projects/domains/base_domain"));
+    env.add(new V1EnvVar().name("ADMIN_NAME").value("admin-server"));
+    env.add(new V1EnvVar().name("ADMIN_PORT").value("7001"));
+    env.add(new V1EnvVar().name("SERVER_NAME").value(serverName));
+    env.add(new V1EnvVar().name("DOMAIN_UID").value(domainUid));
+    env.add(new V1EnvVar().name("NODEMGR_HOME").value("/u01/nodemanager"));
+    env.add(new V1EnvVar().name("LOG_HOME").value("/shared/logs/" + domainUid));
+    env.add(new V1EnvVar().name("SERVER_OUT_IN_POD_LOG").value("true"));
+    env.add(new V1EnvVar().name("SERVICE_NAME").value(domainUid + "-" + serverName));
+    env.add(new V1EnvVar().name("AS_SERVICE_NAME").value(domainUid + "-admin-server"));
+    env.add(new V1EnvVar().name("USER_MEM_ARGS").value("-Djava.security.egd=file:/dev/./urandom -Xms256m -Xmx512m"));
+    env.add(new V1EnvVar().name("JAVA_OPTIONS").value("-Dweblogic.StdoutDebugEnabled=false"));
+    env.add(new V1EnvVar().name("INTROSPECT_HOME").value("/weblogic-operator/introspector"));
+    env.add(new V1EnvVar().name("DYNAMIC_CONFIG_OVERRIDE").value("true"));
+    env.add(new V1EnvVar().name("KUBERNETES_PLATFORM").valueFrom(new V1EnvVarSource()
+        .configMapKeyRef(new V1ConfigMapKeySelector().name("weblogic-operator-cm").key("platform").optional(true))));
+    return env;
+  }
+
+  private void fill(Message.Builder builder, JsonObject json) {
+    for (FieldDescriptor field : builder.getDescriptorForType().getFields()) {
+      JsonElement value = json.get(field.getName());
+      if (INLINE_FIELDS.contains(field.getFullName())) {
+        Message.Builder inline = builder.newBuilderForField(field);
+        fill(inline, json);
+        builder.setField(field, inline.build());
+      } else if (value == null || value.isJsonNull()) {
+        continue;
+      } else if (field.isMapField()) {
+        for (Map.Entry<String, JsonElement> entry : value.getAsJsonObject().entrySet()) {
+          Message.Builder mapEntry = builder.newBuilderForField(field);
+          FieldDescriptor keyField = mapEntry.getDescriptorForType().findFieldByNumber(1);
+          FieldDescriptor valueField = mapEntry.getDescriptorForType().findFieldByNumber(2);
+          mapEntry.setField(keyField, entry.getKey());
+          mapEntry.setField(valueField, toValue(mapEntry, valueField, entry.getValue()));
+          builder.addRepeatedField(field, mapEntry.build());
+        }
+      } else if (field.isRepeated()) {
+        for (JsonElement element : value.getAsJsonArray()) {
+          builder.addRepeatedField(field, toValue(builder, field, element));
+        }
+      } else {
+        builder.setField(field, toValue(builder, field, value));
+      }
+    }
+  }
+
+  private Object toValue(Message.Builder parent, FieldDescriptor field, JsonElement value) {
+    switch (field.getJavaType()) {
+      case MESSAGE:
+        return toMessage(parent.newBuilderForField(field), value);
+      case BYTE_STRING:
+        return ByteString.copyFrom(Base64.getDecoder().decode(value.getAsString()));
+      case BOOLEAN:
+        return value.getAsBoolean();
+      case STRING:
+        return value.getAsString();
+      case INT:
+        return value.getAsInt();
+      case LONG:
+        return value.getAsLong();
+      case FLOAT:
+        return value.getAsFloat();
+      case DOUBLE:
+        return value.getAsDouble();
+      default:
+        return field.getEnumType().findValueByName(value.getAsString());
+    }
+  }
+
+  private Message toMessage(Message.Builder builder, JsonElement value) {
+    switch (builder.getDescriptorForType().getName()) {
+      case "Time":
+      case "MicroTime":
+        Instant instant = OffsetDateTime.parse(value.getAsString()).toInstant();
+        setField(builder, "seconds", instant.getEpochSecond());
+        setField(builder, "nanos", instant.getNano());
+        break;
+      case "Quantity":
+        setField(builder, "string", value.getAsString());
+        break;
+      case "IntOrString":
+        if (value.getAsJsonPrimitive().isNumber()) {
+          setField(builder, "type", 0L);
+          setField(builder, "intVal", value.getAsInt());
+        } else {
+          setField(builder, "type", 1L);
+          setField(builder, "strVal", value.getAsString());
+        }
+        break;
+      case "RawExtension":
+      case "FieldsV1":
+        builder.setField(builder.getDescriptorForType().getFields().get(0), ByteString.copyFromUtf8(value.toString()));
+        break;
+      default:
+        fill(builder, value.getAsJsonObject());
+    }
+    return builder.build();
+  }
+
+  private void setField(Message.Builder builder, String name, Object value) {
+    builder.setField(builder.getDescriptorForType().findFieldByName(name), value);
+  }
+}
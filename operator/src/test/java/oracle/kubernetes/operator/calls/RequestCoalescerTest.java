@@ -0,0 +1,173 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.meterware.simplestub.Memento;
+import io.kubernetes.client.openapi.ApiCallback;
+import io.kubernetes.client.openapi.ApiClient;
+import oracle.kubernetes.operator.helpers.ClientPool;
+import oracle.kubernetes.operator.helpers.ResponseStep;
+import oracle.kubernetes.operator.work.FiberTestSupport;
+import oracle.kubernetes.operator.work.NextAction;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.utils.TestUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class RequestCoalescerTest {
+  private static final int TIMEOUT_SECONDS = 10;
+  // with no immediate retries, a timed-out read does not rejoin the shared call before the test checks it
+  private static final int MAX_RETRY_COUNT = 0;
+
+  private final RequestCoalescer coalescer = new RequestCoalescer();
+  private final CallFactoryStub callFactory = new CallFactoryStub();
+  private final List<Memento> mementos = new ArrayList<>();
+
+  @Before
+  public void setUp() {
+    mementos.add(TestUtils.silenceOperatorLogger());
+  }
+
+  @After
+  public void tearDown() {
+    mementos.forEach(Memento::revert);
+  }
+
+  private TestStep startRead(String name) {
+    return startRead(new FiberTestSupport(), name);
+  }
+
+  private TestStep startRead(FiberTestSupport testSupport, String name) {
+    TestStep responseStep = new TestStep();
+    testSupport.runSteps(
+        new AsyncRequestStep<>(
+            responseStep,
+            new RequestParams("readTest", "junit", name, null),
+            callFactory,
+            ClientPool.getInstance(),
+            TIMEOUT_SECONDS,
+            MAX_RETRY_COUNT,
+            null,
+            null,
+            null,
+            coalescer));
+    return responseStep;
+  }
+
+  @Test
+  public void onlyReadsAndListsAreCoalescible() {
+    assertThat(RequestCoalescer.isCoalescible(new RequestParams("readPod", "ns", "name", null)), is(true));
+    assertThat(RequestCoalescer.isCoalescible(new RequestParams("listPod", "ns", null, null)), is(true));
+    assertThat(RequestCoalescer.isCoalescible(new RequestParams("createPod", "ns", null, "body")), is(false));
+  }
+
+  @Test
+  public void whenIdenticalReadsInProgress_issueOnlyOneCall() {
+    startRead("name");
+    startRead("name");
+
+    assertThat(callFactory.numCalls, equalTo(1));
+    assertThat(coalescer.getIssuedCount(), equalTo(1L));
+    assertThat(coalescer.getCoalescedCount(), equalTo(1L));
+  }
+
+  @Test
+  public void whenDifferentReadsInProgress_issueSeparateCalls() {
+    startRead("name1");
+    startRead("name2");
+
+    assertThat(callFactory.numCalls, equalTo(2));
+    assertThat(coalescer.getCoalescedCount(), equalTo(0L));
+  }
+
+  @Test
+  public void whenSharedCallSucceeds_allReadsReceiveResult() {
+    TestStep first = startRead("name");
+    TestStep second = startRead("name");
+
+    callFactory.sendSuccessfulCallback(17);
+
+    assertThat(first.result, equalTo(17));
+    assertThat(second.result, equalTo(17));
+  }
+
+  @Test
+  public void afterSharedCallCompletes_nextReadIssuesNewCall() {
+    startRead("name");
+    callFactory.sendSuccessfulCallback(17);
+
+    startRead("name");
+
+    assertThat(callFactory.numCalls, equalTo(2));
+  }
+
+  @Test
+  public void whenOneReadTimesOut_sharedCallContinuesForOthers() {
+    FiberTestSupport firstSupport = new FiberTestSupport();
+    startRead(firstSupport, "name");
+    TestStep second = startRead("name");
+
+    firstSupport.setTime(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    callFactory.sendSuccessfulCallback(17);
+
+    assertThat(callFactory.numCanceled, equalTo(0));
+    assertThat(second.result, equalTo(17));
+  }
+
+  @Test
+  public void whenAllReadsTimeOut_cancelSharedCall() {
+    FiberTestSupport firstSupport = new FiberTestSupport();
+    FiberTestSupport secondSupport = new FiberTestSupport();
+    startRead(firstSupport, "name");
+    startRead(secondSupport, "name");
+
+    firstSupport.setTime(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    secondSupport.setTime(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+    assertThat(callFactory.numCanceled, equalTo(1));
+  }
+
+  static class TestStep extends ResponseStep<Integer> {
+    private Integer result;
+
+    TestStep() {
+      super(null);
+    }
+
+    @Override
+    public NextAction onSuccess(Packet packet, CallResponse<Integer> callResponse) {
+      result = callResponse.getResult();
+      return null;
+    }
+  }
+
+  static class CallFactoryStub implements CallFactory<Integer> {
+    private int numCalls;
+    private int numCanceled;
+    private ApiCallback<Integer> callback;
+
+    void sendSuccessfulCallback(Integer callbackValue) {
+      callback.onSuccess(callbackValue, HttpURLConnection.HTTP_OK, Collections.emptyMap());
+    }
+
+    @Override
+    public CancellableCall generate(
+        RequestParams requestParams, ApiClient client, String cont, ApiCallback<Integer> callback) {
+      this.numCalls++;
+      this.callback = callback;
+      return () -> numCanceled++;
+    }
+  }
+}
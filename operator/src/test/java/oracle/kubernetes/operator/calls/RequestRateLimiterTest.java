@@ -0,0 +1,173 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.calls;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.kubernetes.client.openapi.ApiException;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class RequestRateLimiterTest {
+  private static final long PERMIT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  private long nanoTime;
+  private final List<Runnable> scheduled = new ArrayList<>();
+  private final RequestRateLimiter limiter =
+      new RequestRateLimiter(() -> nanoTime, (command, delayNanos) -> scheduled.add(command));
+  private final List<String> started = new ArrayList<>();
+
+  private void acquire(String call, String namespace, String label) {
+    limiter.acquire(new RequestParams(call, namespace, null, null), Runnable::run, () -> started.add(label));
+  }
+
+  // advances the time by the interval between permits, and grants any permits then available
+  private void grantNextPermit() {
+    nanoTime += PERMIT_INTERVAL_NANOS;
+    List<Runnable> drains = new ArrayList<>(scheduled);
+    scheduled.clear();
+    drains.forEach(Runnable::run);
+  }
+
+  @Test
+  public void whenNotConfigured_startCallsImmediately() {
+    for (int i = 0; i < 100; i++) {
+      acquire("readPod", "ns1", "call" + i);
+    }
+
+    assertThat(started.size(), equalTo(100));
+  }
+
+  @Test
+  public void withinBurst_startCallsImmediately() {
+    limiter.configure(10, 3);
+
+    acquire("readPod", "ns1", "call1");
+    acquire("readPod", "ns1", "call2");
+    acquire("readPod", "ns1", "call3");
+
+    assertThat(started, contains("call1", "call2", "call3"));
+  }
+
+  @Test
+  public void beyondBurst_queueCalls() {
+    limiter.configure(10, 1);
+
+    acquire("readPod", "ns1", "call1");
+    acquire("readPod", "ns1", "call2");
+
+    assertThat(started, contains("call1"));
+    assertThat(limiter.getQueueDepths(), hasEntry("NORMAL", 1));
+  }
+
+  @Test
+  public void whenPermitAvailable_startQueuedCall() {
+    limiter.configure(10, 1);
+    acquire("readPod", "ns1", "call1");
+    acquire("readPod", "ns1", "call2");
+
+    grantNextPermit();
+
+    assertThat(started, contains("call1", "call2"));
+    assertThat(limiter.getGrantedCounts(), hasEntry("NORMAL", 1L));
+    assertThat(limiter.getWaitTimeNanos(), hasEntry("NORMAL", PERMIT_INTERVAL_NANOS));
+  }
+
+  @Test
+  public void whenLimitRemoved_startAllQueuedCalls() {
+    limiter.configure(10, 1);
+    acquire("readPod", "ns1", "call1");
+    acquire("readPod", "ns1", "call2");
+    acquire("readPod", "ns1", "call3");
+
+    limiter.configure(0, 1);
+
+    assertThat(started, contains("call1", "call2", "call3"));
+  }
+
+  @Test
+  public void queuedHigherPriorityCall_startsFirst() {
+    limiter.configure(10, 1);
+    acquire("readPod", "ns1", "first");
+    acquire("replaceDomainStatus", "ns1", "status");
+    acquire("deletePod", "ns1", "delete");
+
+    grantNextPermit();
+
+    assertThat(started, contains("first", "delete"));
+  }
+
+  @Test
+  public void whenHigherPriorityLaneBusy_lowerLaneStillServed() {
+    limiter.configure(10, 1);
+    acquire("readPod", "ns1", "first");
+    for (int i = 0; i < 10; i++) {
+      acquire("deletePod", "ns1", "delete" + i);
+    }
+    acquire("replaceDomainStatus", "ns2", "status");
+
+    for (int i = 0; i < 5; i++) {
+      grantNextPermit();
+    }
+
+    assertThat(started, hasItem("status"));
+  }
+
+  @Test
+  public void withinLane_namespacesTakeTurns() {
+    limiter.configure(10, 1);
+    acquire("readPod", "ns1", "first");
+    acquire("readPod", "ns1", "ns1-a");
+    acquire("readPod", "ns1", "ns1-b");
+    acquire("readPod", "ns1", "ns1-c");
+    acquire("readPod", "ns2", "ns2-a");
+
+    grantNextPermit();
+    grantNextPermit();
+
+    assertThat(started, contains("first", "ns1-a", "ns2-a"));
+  }
+
+  @Test
+  public void explicitPriority_overridesDefaultForCall() {
+    limiter.configure(10, 1);
+    acquire("readPod", "ns1", "first");
+    limiter.acquire(new RequestParams("readPod", "ns1", null, null).withPriority(RequestPriority.LOW),
+        Runnable::run, () -> started.add("low"));
+
+    assertThat(limiter.getQueueDepths(), hasEntry("LOW", 1));
+  }
+
+  @Test
+  public void defaultPriorities_dependOnCall() {
+    assertThat(RequestPriority.forCall("deletePod"), equalTo(RequestPriority.HIGH));
+    assertThat(RequestPriority.forCall("patchPod"), equalTo(RequestPriority.NORMAL));
+    assertThat(RequestPriority.forCall("replaceDomainStatus"), equalTo(RequestPriority.LOW));
+  }
+
+  @Test(expected = ApiException.class)
+  public void whenNoPermitGrantedWithinTimeout_blockingAcquireFails() throws ApiException {
+    limiter.configure(10, 1);
+    acquire("readPod", "ns1", "call1");
+
+    limiter.acquireBlocking(new RequestParams("readPod", "ns1", null, null), 0);
+  }
+
+  @Test
+  public void whenNoCallsQueued_scheduleNothing() {
+    limiter.configure(10, 1);
+
+    acquire("readPod", "ns1", "call1");
+
+    assertThat(scheduled, empty());
+  }
+}
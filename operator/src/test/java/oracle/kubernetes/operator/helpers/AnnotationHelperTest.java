@@ -0,0 +1,112 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import io.kubernetes.client.util.Yaml;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.CANONICAL_HASH_PREFIX;
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.SHA256_ANNOTATION;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class AnnotationHelperTest {
+
+  private V1Pod createPodRecipe(String image) {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name("ms1").namespace("ns1"))
+        .spec(new V1PodSpec().addContainersItem(new V1Container().name("weblogic-server").image(image)));
+  }
+
+  private V1Service createServiceRecipe(String type) {
+    return new V1Service()
+        .metadata(new V1ObjectMeta().name("ms1").namespace("ns1"))
+        .spec(new V1ServiceSpec().type(type));
+  }
+
+  private V1Pod withLegacyHash(V1Pod pod) {
+    pod.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, DigestUtils.sha256Hex(Yaml.dump(pod)));
+    return pod;
+  }
+
+  private V1Service withLegacyHash(V1Service service) {
+    service.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, DigestUtils.sha256Hex(Yaml.dump(service)));
+    return service;
+  }
+
+  @Test
+  public void hashAnnotation_usesCanonicalHashOfRecipe() {
+    String expectedHash = CANONICAL_HASH_PREFIX + CanonicalHash.sha256Hex(createPodRecipe("image:1"));
+
+    V1Pod pod = AnnotationHelper.withSha256Hash(createPodRecipe("image:1"));
+
+    assertThat(AnnotationHelper.getHash(pod), equalTo(expectedHash));
+  }
+
+  @Test
+  public void serviceHashAnnotation_hasCanonicalPrefix() {
+    V1Service service = AnnotationHelper.withSha256Hash(createServiceRecipe("ClusterIP"));
+
+    assertThat(AnnotationHelper.getHash(service), startsWith(CANONICAL_HASH_PREFIX));
+  }
+
+  @Test
+  public void whenPodsCreatedFromSameRecipe_hashesMatch() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createPodRecipe("image:1"));
+    V1Pod current = AnnotationHelper.withSha256Hash(createPodRecipe("image:1"));
+
+    assertThat(AnnotationHelper.hasMatchingHash(model, current, () -> createPodRecipe("image:1")), is(true));
+  }
+
+  @Test
+  public void whenPodsCreatedFromDifferentRecipes_hashesDoNotMatch() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createPodRecipe("image:2"));
+    V1Pod current = AnnotationHelper.withSha256Hash(createPodRecipe("image:1"));
+
+    assertThat(AnnotationHelper.hasMatchingHash(model, current, () -> createPodRecipe("image:2")), is(false));
+  }
+
+  @Test
+  public void whenExistingPodHasLegacyHashOfSameRecipe_hashesMatch() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createPodRecipe("image:1"));
+    V1Pod current = withLegacyHash(createPodRecipe("image:1"));
+
+    assertThat(AnnotationHelper.hasMatchingHash(model, current, () -> createPodRecipe("image:1")), is(true));
+  }
+
+  @Test
+  public void whenExistingPodHasLegacyHashOfDifferentRecipe_hashesDoNotMatch() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createPodRecipe("image:2"));
+    V1Pod current = withLegacyHash(createPodRecipe("image:1"));
+
+    assertThat(AnnotationHelper.hasMatchingHash(model, current, () -> createPodRecipe("image:2")), is(false));
+  }
+
+  @Test
+  public void whenExistingPodHasNoHash_hashesDoNotMatch() {
+    V1Pod model = AnnotationHelper.withSha256Hash(createPodRecipe("image:1"));
+
+    assertThat(
+        AnnotationHelper.hasMatchingHash(model, createPodRecipe("image:1"), () -> createPodRecipe("image:1")),
+        is(false));
+  }
+
+  @Test
+  public void whenExistingServiceHasLegacyHashOfSameRecipe_hashesMatch() {
+    V1Service model = AnnotationHelper.withSha256Hash(createServiceRecipe("ClusterIP"));
+    V1Service current = withLegacyHash(createServiceRecipe("ClusterIP"));
+
+    assertThat(
+        AnnotationHelper.hasMatchingHash(model, current, () -> createServiceRecipe("ClusterIP")), is(true));
+  }
+}
@@ -0,0 +1,103 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import io.kubernetes.client.custom.IntOrString;
+import io.kubernetes.client.custom.Quantity;
+import io.kubernetes.client.openapi.models.V1Container;
+import io.kubernetes.client.openapi.models.V1EnvVar;
+import io.kubernetes.client.openapi.models.V1HTTPGetAction;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodSpec;
+import io.kubernetes.client.openapi.models.V1Probe;
+import io.kubernetes.client.openapi.models.V1ResourceRequirements;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class CanonicalHashTest {
+
+  private V1Pod createPod() {
+    return new V1Pod()
+        .metadata(new V1ObjectMeta().name("domain1-ms1").namespace("ns1").putLabelsItem("weblogic.domainUID", "uid1"))
+        .spec(new V1PodSpec()
+            .addContainersItem(new V1Container()
+                .name("weblogic-server")
+                .image("container-registry.oracle.com/middleware/weblogic:12.2.1.4")
+                .addEnvItem(new V1EnvVar().name("SERVER_NAME").value("ms1"))
+                .resources(new V1ResourceRequirements().putLimitsItem("memory", new Quantity("768Mi")))
+                .readinessProbe(new V1Probe().httpGet(new V1HTTPGetAction().path("/weblogic/ready")
+                    .port(new IntOrString(8001))))));
+  }
+
+  @Test
+  public void hashIsSha256HexString() {
+    assertThat(CanonicalHash.sha256Hex(createPod()).matches("[0-9a-f]{64}"), is(true));
+  }
+
+  @Test
+  public void equalObjects_haveEqualHashes() {
+    assertThat(CanonicalHash.sha256Hex(createPod()), equalTo(CanonicalHash.sha256Hex(createPod())));
+  }
+
+  @Test
+  public void changedNestedValue_changesHash() {
+    V1Pod changed = createPod();
+    changed.getSpec().getContainers().get(0).getEnv().get(0).setValue("ms2");
+
+    assertThat(CanonicalHash.sha256Hex(changed), not(equalTo(CanonicalHash.sha256Hex(createPod()))));
+  }
+
+  @Test
+  public void changedQuantity_changesHash() {
+    V1Pod changed = createPod();
+    changed.getSpec().getContainers().get(0).getResources().putLimitsItem("memory", new Quantity("1Gi"));
+
+    assertThat(CanonicalHash.sha256Hex(changed), not(equalTo(CanonicalHash.sha256Hex(createPod()))));
+  }
+
+  @Test
+  public void intAndStringPorts_haveDifferentHashes() {
+    V1Pod namedPort = createPod();
+    namedPort.getSpec().getContainers().get(0).getReadinessProbe().getHttpGet().port(new IntOrString("8001"));
+
+    assertThat(CanonicalHash.sha256Hex(namedPort), not(equalTo(CanonicalHash.sha256Hex(createPod()))));
+  }
+
+  @Test
+  public void mapHash_isIndependentOfInsertionOrder() {
+    Map<String, String> first = new HashMap<>();
+    first.put("a", "1");
+    first.put("b", "2");
+    Map<String, String> second = new TreeMap<>(Collections.reverseOrder());
+    second.put("a", "1");
+    second.put("b", "2");
+
+    assertThat(CanonicalHash.sha256Hex(first), equalTo(CanonicalHash.sha256Hex(second)));
+  }
+
+  @Test
+  public void emptyAndNullLists_haveDifferentHashes() {
+    V1Pod withEmptyVolumes = createPod();
+    withEmptyVolumes.getSpec().setVolumes(Collections.emptyList());
+
+    assertThat(CanonicalHash.sha256Hex(withEmptyVolumes), not(equalTo(CanonicalHash.sha256Hex(createPod()))));
+  }
+
+  @Test
+  public void stringsSplitDifferently_haveDifferentHashes() {
+    assertThat(
+        CanonicalHash.sha256Hex(Collections.singletonMap("ab", "c")),
+        not(equalTo(CanonicalHash.sha256Hex(Collections.singletonMap("a", "bc")))));
+  }
+}
@@ -5,14 +5,21 @@ package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import com.meterware.simplestub.Memento;
 import io.kubernetes.client.openapi.ApiClient;
+import okhttp3.Dispatcher;
+import okhttp3.Protocol;
+import oracle.kubernetes.operator.TuningParameters.HttpClientTuning;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
@@ -25,8 +32,9 @@ public class ClientPoolTest {
    * Setup test.
    */
   @Before
-  public void setUp() {
+  public void setUp() throws NoSuchFieldException {
     mementos.add(TestUtils.silenceOperatorLogger());
+    mementos.add(TuningParametersStub.install());
   }
 
   /**
@@ -51,4 +59,59 @@ public class ClientPoolTest {
 
     assertThat(ClientPool.getInstance().take(), sameInstance(apiClient));
   }
+
+  @Test
+  public void sharedHttpClient_boundsConcurrentCalls() {
+    ApiClient apiClient = new ClientPool().take();
+
+    assertThat(apiClient.getHttpClient().dispatcher().getMaxRequests(), equalTo(128));
+    assertThat(apiClient.getHttpClient().dispatcher().getMaxRequestsPerHost(), equalTo(128));
+  }
+
+  @Test
+  public void sharedHttpClient_queuesCallsBeyondThreadCount() {
+    ApiClient apiClient = new ClientPool().take();
+    ThreadPoolExecutor executor = (ThreadPoolExecutor) apiClient.getHttpClient().dispatcher().executorService();
+
+    assertThat(executor.getMaximumPoolSize(), equalTo(64));
+    assertThat(executor.getQueue(), instanceOf(LinkedBlockingQueue.class));
+  }
+
+  @Test
+  public void sharedHttpClient_mayUseHttp2() {
+    ApiClient apiClient = new ClientPool().take();
+
+    assertThat(apiClient.getHttpClient().protocols(), hasItem(Protocol.HTTP_2));
+  }
+
+  @Test
+  public void metrics_reportDispatcherLimits() {
+    ClientPool pool = new ClientPool();
+    pool.take();
+
+    assertThat(new HttpClientMetrics(pool).getMaxRequests(), equalTo(128));
+  }
+
+  @Test
+  public void whenThreadCountInvalid_useDefaultThreadCount() {
+    TuningParametersStub.setHttpClientTuning(new HttpClientTuning(128, 128, 0, 20, 300, true));
+
+    ApiClient apiClient = new ClientPool().take();
+    ThreadPoolExecutor executor = (ThreadPoolExecutor) apiClient.getHttpClient().dispatcher().executorService();
+
+    assertThat(executor.getMaximumPoolSize(), equalTo(64));
+  }
+
+  @Test
+  public void whenReconfiguredWithInvalidCounts_useDefaults() {
+    ClientPool pool = new ClientPool();
+    Dispatcher dispatcher = pool.take().getHttpClient().dispatcher();
+    TuningParametersStub.setHttpClientTuning(new HttpClientTuning(0, -1, 0, 20, 300, true));
+
+    pool.configure();
+
+    assertThat(dispatcher.getMaxRequests(), equalTo(128));
+    assertThat(dispatcher.getMaxRequestsPerHost(), equalTo(128));
+    assertThat(((ThreadPoolExecutor) dispatcher.executorService()).getMaximumPoolSize(), equalTo(64));
+  }
 }
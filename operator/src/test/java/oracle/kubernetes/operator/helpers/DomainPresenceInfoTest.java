@@ -3,10 +3,24 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1Service;
+import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.openapi.models.V1ServiceSpec;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainSpec;
 import org.junit.Test;
 
+import static oracle.kubernetes.operator.calls.ProtobufTestSupport.createServerPod;
+import static oracle.kubernetes.operator.helpers.ResourceProjection.projectPod;
+import static oracle.kubernetes.operator.helpers.ResourceProjection.projectService;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
@@ -24,7 +38,7 @@ public class DomainPresenceInfoTest {
     V1Service service = new V1Service();
     info.setClusterService("cluster", service);
 
-    assertThat(info.getClusterService("cluster"), sameInstance(service));
+    assertThat(info.getClusterService("cluster"), equalTo(projectService(service)));
   }
 
   @Test
@@ -37,7 +51,7 @@ public class DomainPresenceInfoTest {
     V1Service service = new V1Service();
     info.setServerService("admin", service);
 
-    assertThat(info.getServerService("admin"), sameInstance(service));
+    assertThat(info.getServerService("admin"), equalTo(projectService(service)));
   }
 
   @Test
@@ -50,7 +64,7 @@ public class DomainPresenceInfoTest {
     V1Service service = new V1Service();
     info.setExternalService("admin", service);
 
-    assertThat(info.getExternalService("admin"), sameInstance(service));
+    assertThat(info.getExternalService("admin"), equalTo(projectService(service)));
   }
 
   @Test
@@ -63,6 +77,155 @@ public class DomainPresenceInfoTest {
     V1Pod pod = new V1Pod();
     info.setServerPod("myserver", pod);
 
-    assertThat(info.getServerPod("myserver"), sameInstance(pod));
+    assertThat(info.getServerPod("myserver"), equalTo(projectPod(pod)));
+  }
+
+  @Test
+  public void recordedServerPod_omitsContainersAndContainerStatuses() {
+    info.setServerPod("ms1", createServerPod("ns", "domain", "ms1"));
+
+    assertThat(info.getServerPod("ms1").getSpec().getContainers(), nullValue());
+    assertThat(info.getServerPod("ms1").getStatus().getContainerStatuses(), nullValue());
+  }
+
+  @Test
+  public void recordedServerPod_retainsFieldsReadByOperator() {
+    V1Pod pod = createServerPod("ns", "domain", "ms1");
+    info.setServerPod("ms1", pod);
+
+    V1Pod recorded = info.getServerPod("ms1");
+    assertThat(recorded.getMetadata().getAnnotations().get(AnnotationHelper.SHA256_ANNOTATION),
+        equalTo(pod.getMetadata().getAnnotations().get(AnnotationHelper.SHA256_ANNOTATION)));
+    assertThat(recorded.getMetadata().getResourceVersion(), equalTo(pod.getMetadata().getResourceVersion()));
+    assertThat(PodHelper.getPodServerName(recorded), equalTo("ms1"));
+    assertThat(PodHelper.getReadyStatus(recorded), is(true));
+    assertThat(recorded.getSpec().getNodeName(), equalTo(pod.getSpec().getNodeName()));
+    assertThat(recorded.getStatus().getPodIP(), equalTo(pod.getStatus().getPodIP()));
+  }
+
+  @Test
+  public void serverPodFromEvent_isRecordedAsProjection() {
+    V1Pod pod = createServerPod("ns", "domain", "ms1");
+    info.setServerPodFromEvent("ms1", pod);
+
+    assertThat(info.getServerPod("ms1"), equalTo(projectPod(pod)));
+  }
+
+  @Test
+  public void recordedServerService_retainsPorts() {
+    V1Service service = new V1Service()
+        .spec(new V1ServiceSpec().type("ClusterIP").clusterIP("None")
+            .addPortsItem(new V1ServicePort().name("default").port(8001)));
+    info.setServerService("ms1", service);
+
+    assertThat(info.getServerService("ms1").getSpec().getPorts(), equalTo(service.getSpec().getPorts()));
+  }
+
+  private Domain createDomain(long generation, String image) {
+    return new Domain()
+        .withMetadata(new V1ObjectMeta().namespace("ns").name("domain").generation(generation))
+        .withSpec(new DomainSpec().withDomainUid("domain").withImage(image));
+  }
+
+  private Domain createDomain() {
+    return createDomain(1L, "image:1");
+  }
+
+  @Test
+  public void whenDomainHasSpec_getModelReturnsCachedModel() {
+    info.setDomain(createDomain());
+    V1Pod model = info.getModel("pod:ms1", Collections.singletonList("topology"), V1Pod::new);
+
+    assertThat(info.getModel("pod:ms1", Collections.singletonList("topology"), V1Pod::new), sameInstance(model));
+  }
+
+  @Test
+  public void whenDomainHasNoSpec_getModelDoesNotCache() {
+    info.setDomain(new Domain().withMetadata(new V1ObjectMeta().namespace("ns").name("domain")));
+    V1Pod model = info.getModel("pod:ms1", Collections.singletonList("topology"), V1Pod::new);
+
+    assertThat(info.getModel("pod:ms1", Collections.singletonList("topology"), V1Pod::new), not(sameInstance(model)));
+  }
+
+  @Test
+  public void whenModelKeyChanges_getModelComputesNewModel() {
+    info.setDomain(createDomain());
+    V1Pod model = info.getModel("pod:ms1", Arrays.asList("topology", 1), V1Pod::new);
+
+    assertThat(info.getModel("pod:ms1", Arrays.asList("topology", 2), V1Pod::new), not(sameInstance(model)));
+  }
+
+  @Test
+  public void modelsWithDifferentNames_areCachedSeparately() {
+    info.setDomain(createDomain());
+    V1Pod model1 = info.getModel("pod:ms1", Collections.emptyList(), V1Pod::new);
+    V1Pod model2 = info.getModel("pod:ms2", Collections.emptyList(), V1Pod::new);
+
+    assertThat(model2, not(sameInstance(model1)));
+    assertThat(info.getModel("pod:ms1", Collections.emptyList(), V1Pod::new), sameInstance(model1));
+  }
+
+  @Test
+  public void whenDomainSpecChanges_cachedModelsAreDiscarded() {
+    info.setDomain(createDomain(1L, "image:1"));
+    V1Pod model = info.getModel("pod:ms1", Collections.emptyList(), V1Pod::new);
+
+    info.setDomain(createDomain(2L, "image:2"));
+
+    assertThat(info.getNumCachedModels(), equalTo(0));
+    assertThat(info.getModel("pod:ms1", Collections.emptyList(), V1Pod::new), not(sameInstance(model)));
+  }
+
+  @Test
+  public void whenDomainSpecModifiedInPlace_getModelComputesNewModel() {
+    Domain domain = createDomain();
+    info.setDomain(domain);
+    V1Pod model = info.getModel("pod:ms1", Collections.emptyList(), V1Pod::new);
+
+    domain.getSpec().setImage("image:2");
+
+    assertThat(info.getModel("pod:ms1", Collections.emptyList(), V1Pod::new), not(sameInstance(model)));
+  }
+
+  @Test
+  public void whenDomainSpecChangesWithoutChangingItsHash_getModelComputesNewModel() {
+    Domain domain = createDomain(1L, "Aa");
+    info.setDomain(domain);
+    V1Pod model = info.getModel("pod:ms1", Collections.emptyList(), V1Pod::new);
+
+    domain.getSpec().setImage("BB");
+
+    assertThat(info.getModel("pod:ms1", Collections.emptyList(), V1Pod::new), not(sameInstance(model)));
+  }
+
+  @Test
+  public void whenOnlyDomainGenerationChanges_cachedModelsAreKept() {
+    info.setDomain(createDomain(1L, "image:1"));
+    V1Pod model = info.getModel("pod:ms1", Collections.emptyList(), V1Pod::new);
+
+    info.setDomain(createDomain(2L, "image:1"));
+
+    assertThat(info.getModel("pod:ms1", Collections.emptyList(), V1Pod::new), sameInstance(model));
+  }
+
+  @Test
+  public void afterInvalidateModels_getModelComputesNewModel() {
+    info.setDomain(createDomain());
+    V1Pod model = info.getModel("pod:ms1", Collections.emptyList(), V1Pod::new);
+
+    info.invalidateModels();
+
+    assertThat(info.getModel("pod:ms1", Collections.emptyList(), V1Pod::new), not(sameInstance(model)));
+  }
+
+  @Test
+  public void afterServerPodEvent_unchangedStatusCountIsRestarted() {
+    info.updateLastKnownServerStatus("ms1", "STARTING");
+    info.updateLastKnownServerStatus("ms1", "STARTING");
+
+    info.setServerPodFromEvent("ms1", new V1Pod().metadata(new V1ObjectMeta().name("ms1")));
+
+    assertThat(info.getLastKnownServerStatus("ms1").getStatus(), equalTo("STARTING"));
+    assertThat(info.getLastKnownServerStatus("ms1").getUnchangedCount(), equalTo(0));
   }
 }
@@ -4,11 +4,13 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.logging.LogRecord;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
 import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Secret;
 import io.kubernetes.client.openapi.models.V1SecretReference;
@@ -53,6 +55,7 @@ public class DomainValidationStepTest {
     consoleControl = TestUtils.silenceOperatorLogger().collectLogMessages(logRecords, DOMAIN_VALIDATION_FAILED);
     mementos.add(consoleControl);
     mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(SecretCache.class, "INSTANCE", new SecretCache()));
 
     testSupport.defineResources(domain);
     testSupport.addDomainPresenceInfo(info);
@@ -152,4 +155,27 @@ public class DomainValidationStepTest {
 
     assertThat(terminalStep.wasRun(), is(true));
   }
+
+  @Test
+  public void whenSecretsCached_useCacheInsteadOfListingSecrets() {
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name("name"));
+    SecretCache.getInstance().replaceNamespace(
+        NS, Collections.singletonList(new V1Secret().metadata(new V1ObjectMeta().name("name").namespace(NS))));
+
+    testSupport.runStepsToCompletion(DomainValidationSteps.createDomainValidationSteps(NS, terminalStep));
+
+    assertThat(terminalStep.wasRun(), is(true));
+  }
+
+  @Test
+  public void whenSecretsCached_andDomainRefersToUnknownSecret_dontRunNextStep() {
+    consoleControl.ignoreMessage(DOMAIN_VALIDATION_FAILED);
+    domain.getSpec().withWebLogicCredentialsSecret(new V1SecretReference().name("name"));
+    testSupport.defineResources(new V1Secret().metadata(new V1ObjectMeta().name("name").namespace(NS)));
+    SecretCache.getInstance().replaceNamespace(NS, Collections.emptyList());
+
+    testSupport.runStepsToCompletion(DomainValidationSteps.createDomainValidationSteps(NS, terminalStep));
+
+    assertThat(terminalStep.wasRun(), is(false));
+  }
 }
@@ -0,0 +1,40 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class LastKnownStatusTest {
+  private static final int UNCHANGED_COUNT_TO_DELAY = 3;
+  private static final long INITIAL_DELAY = 3;
+  private static final long MAX_DELAY = 30;
+
+  private long getRecheckDelaySeconds(int unchangedCount) {
+    return new LastKnownStatus("RUNNING", unchangedCount)
+        .getRecheckDelaySeconds(UNCHANGED_COUNT_TO_DELAY, INITIAL_DELAY, MAX_DELAY);
+  }
+
+  @Test
+  public void whenUnchangedCountBelowThreshold_dontDelayRecheck() {
+    assertThat(getRecheckDelaySeconds(UNCHANGED_COUNT_TO_DELAY - 1), equalTo(0L));
+  }
+
+  @Test
+  public void whenUnchangedCountReachesThreshold_delayRecheckByInitialDelay() {
+    assertThat(getRecheckDelaySeconds(UNCHANGED_COUNT_TO_DELAY), equalTo(INITIAL_DELAY));
+  }
+
+  @Test
+  public void whenUnchangedCountExceedsThreshold_doubleDelayForEachUnchangedRead() {
+    assertThat(getRecheckDelaySeconds(UNCHANGED_COUNT_TO_DELAY + 2), equalTo(4 * INITIAL_DELAY));
+  }
+
+  @Test
+  public void whenUnchangedCountVeryLarge_limitDelayToMaximum() {
+    assertThat(getRecheckDelaySeconds(Integer.MAX_VALUE), equalTo(MAX_DELAY));
+  }
+}
@@ -48,6 +48,7 @@ import io.kubernetes.client.openapi.models.V1WeightedPodAffinityTerm;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.PodAwaiterStepFactory;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.ServerStateSource;
 import oracle.kubernetes.operator.VersionConstants;
 import oracle.kubernetes.operator.calls.unprocessable.UnprocessableEntityBuilder;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
@@ -91,6 +92,7 @@ import static oracle.kubernetes.operator.helpers.Matchers.hasPvClaimVolume;
 import static oracle.kubernetes.operator.helpers.Matchers.hasResourceQuantity;
 import static oracle.kubernetes.operator.helpers.Matchers.hasVolume;
 import static oracle.kubernetes.operator.helpers.Matchers.hasVolumeMount;
+import static oracle.kubernetes.operator.helpers.ResourceProjection.projectPod;
 import static oracle.kubernetes.operator.helpers.StepContextConstants.SIT_CONFIG_MAP_VOLUME_SUFFIX;
 import static oracle.kubernetes.operator.helpers.TuningParametersStub.LIVENESS_INITIAL_DELAY;
 import static oracle.kubernetes.operator.helpers.TuningParametersStub.LIVENESS_PERIOD;
@@ -113,6 +115,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings({"SameParameterValue", "ConstantConditions", "OctalInteger", "unchecked"})
@@ -533,6 +536,22 @@ public abstract class PodHelperTestBase {
     assertThat(getCreatedPodSpecContainer().getEnv(), hasEnvVar("LOG_HOME", LOG_HOME + "/" + UID));
   }
 
+  @Test
+  public void whenDomainReadsServerStateFromPodAnnotation_hasServerStateAnnotationEnvVariable() {
+    configureDomain().withServerStateSource(ServerStateSource.PodAnnotation);
+
+    assertThat(
+        getCreatedPodSpecContainer().getEnv(),
+        hasEnvVar(ServerEnvVars.SERVER_STATE_ANNOTATION, AnnotationHelper.SERVER_STATE_ANNOTATION));
+  }
+
+  @Test
+  public void whenDomainReadsServerStateWithExec_lacksServerStateAnnotationEnvVariable() {
+    assertThat(
+        getCreatedPodSpecContainer().getEnv(),
+        not(hasEnvVar(ServerEnvVars.SERVER_STATE_ANNOTATION, AnnotationHelper.SERVER_STATE_ANNOTATION)));
+  }
+
   private static final String OVERRIDE_DATA_DIR = "/u01/data";
   private static final String OVERRIDE_DATA_HOME = OVERRIDE_DATA_DIR + File.separator + UID;
 
@@ -696,6 +715,34 @@ public abstract class PodHelperTestBase {
     return createPod(testSupport.getPacket());
   }
 
+  @Test
+  public void whenDomainGenerationUnchanged_reusePodModel() {
+    domain.getMetadata().setGeneration(1L);
+    V1Pod model = createPodModel();
+
+    assertThat(createPodModel(), sameInstance(model));
+  }
+
+  @Test
+  public void whenDomainGenerationChanged_recomputePodModel() {
+    domain.getMetadata().setGeneration(1L);
+    V1Pod model = createPodModel();
+
+    domain.getMetadata().setGeneration(2L);
+
+    assertThat(createPodModel(), not(sameInstance(model)));
+  }
+
+  @Test
+  public void whenServerTopologyChanged_recomputePodModel() {
+    domain.getMetadata().setGeneration(1L);
+    V1Pod model = createPodModel();
+
+    testSupport.addToPacket(SERVER_SCAN, new WlsServerConfig(getServerName(), "localhost", listenPort + 1));
+
+    assertThat(createPodModel(), not(sameInstance(model)));
+  }
+
   @Test
   public void whenPodHasUnknownCustomerAnnotations_ignoreIt() {
     verifyPodNotReplacedWhen(pod -> pod.getMetadata().putAnnotationsItem("annotation", "value"));
@@ -901,7 +948,7 @@ public abstract class PodHelperTestBase {
     testSupport.runSteps(getStepFactory(), terminalStep);
 
     assertThat(logRecords, containsFine(getExistsMessageKey()));
-    assertThat(domainPresenceInfo.getServerPod(serverName), equalTo(createPodModel()));
+    assertThat(domainPresenceInfo.getServerPod(serverName), equalTo(projectPod(createPodModel())));
   }
 
   abstract String getExistsMessageKey();
@@ -4,10 +4,13 @@
 package oracle.kubernetes.operator.helpers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 import com.google.common.collect.ImmutableMap;
 import com.meterware.simplestub.Memento;
@@ -16,16 +19,24 @@ import io.kubernetes.client.openapi.models.V1ObjectMeta;
 import io.kubernetes.client.openapi.models.V1Pod;
 import io.kubernetes.client.openapi.models.V1PodCondition;
 import io.kubernetes.client.openapi.models.V1PodStatus;
+import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.util.Watch;
 import oracle.kubernetes.operator.DomainProcessorDelegateStub;
 import oracle.kubernetes.operator.DomainProcessorImpl;
 import oracle.kubernetes.operator.DomainProcessorTestSetup;
 import oracle.kubernetes.operator.builders.WatchEvent;
+import oracle.kubernetes.operator.rest.Scan;
+import oracle.kubernetes.operator.rest.ScanCache;
 import oracle.kubernetes.operator.rest.ScanCacheStub;
 import oracle.kubernetes.operator.utils.InMemoryCertificates;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.wlsconfig.WlsDomainConfig;
 import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.Fiber.CompletionCallback;
+import oracle.kubernetes.operator.work.FiberGate;
+import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.Step;
 import oracle.kubernetes.utils.TestUtils;
 import oracle.kubernetes.weblogic.domain.model.Domain;
 import org.hamcrest.junit.MatcherAssert;
@@ -46,11 +57,15 @@ import static oracle.kubernetes.operator.ProcessingConstants.SERVER_SCAN;
 import static oracle.kubernetes.operator.WebLogicConstants.RUNNING_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SHUTDOWN_STATE;
 import static oracle.kubernetes.operator.WebLogicConstants.SUSPENDING_STATE;
+import static oracle.kubernetes.operator.helpers.ResourceProjection.projectPod;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.hamcrest.Matchers.nullValue;
-import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class PodPresenceTest {
@@ -63,6 +78,7 @@ public class PodPresenceTest {
   private DomainPresenceInfo info = new DomainPresenceInfo(NS, UID);
   private List<Memento> mementos = new ArrayList<>();
   private Map<String, Map<String, DomainPresenceInfo>> domains = new HashMap<>();
+  private Map<String, FiberGate> makeRightFiberGates = new HashMap<>();
   private KubernetesTestSupport testSupport = new KubernetesTestSupport();
   private DomainProcessorImpl processor =
       new DomainProcessorImpl(DomainProcessorDelegateStub.createDelegate(testSupport));
@@ -83,6 +99,7 @@ public class PodPresenceTest {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
     mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "DOMAINS", domains));
+    mementos.add(StaticStubSupport.install(DomainProcessorImpl.class, "makeRightFiberGates", makeRightFiberGates));
     mementos.add(TuningParametersStub.install());
     mementos.add(InMemoryCertificates.install());
     mementos.add(UnitTestHash.install());
@@ -231,7 +248,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(newPod));
+    assertThat(info.getServerPod(SERVER), equalTo(projectPod(newPod)));
   }
 
   @Test
@@ -243,7 +260,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(newerPod));
+    assertThat(info.getServerPod(SERVER), equalTo(projectPod(newerPod)));
   }
 
   @Test
@@ -255,7 +272,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(currentPod));
+    assertThat(info.getServerPod(SERVER), equalTo(projectPod(currentPod)));
   }
 
   @Test
@@ -265,7 +282,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(pod));
+    assertThat(info.getServerPod(SERVER), equalTo(projectPod(pod)));
   }
 
   @Test
@@ -277,7 +294,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(newPod));
+    assertThat(info.getServerPod(SERVER), equalTo(projectPod(newPod)));
   }
 
   @Test
@@ -289,7 +306,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(currentPod));
+    assertThat(info.getServerPod(SERVER), equalTo(projectPod(currentPod)));
   }
 
   @Test
@@ -350,7 +367,7 @@ public class PodPresenceTest {
 
     processor.dispatchPodWatch(event);
 
-    assertThat(info.getServerPod(SERVER), sameInstance(currentPod));
+    assertThat(info.getServerPod(SERVER), equalTo(projectPod(currentPod)));
   }
 
   @Test
@@ -401,15 +418,197 @@ public class PodPresenceTest {
     assertThat(info.getServerPod(SERVER), notNullValue());
   }
 
+  @Test
+  public void afterDeleteEventWithRecordedTopology_restoreOnlyDeletedServerPod() {
+    recordRepairableDomain();
+    V1Pod currentPod = createServerPod();
+    info.setServerPod(SERVER, currentPod);
+    Watch.Response<V1Pod> event = WatchEvent.createDeleteEvent(currentPod).toWatchResponse();
+
+    processor.dispatchPodWatch(event);
+
+    assertThat(getServerPodNames(), contains(SERVER));
+  }
+
+  @Test
+  public void afterAdminPodDeleteEventWithRecordedTopology_restoreOnlyAdminServerPod() {
+    recordRepairableDomain();
+    V1Pod currentPod = createAdminServerPod();
+    info.setServerPod(ADMIN_SERVER_NAME, currentPod);
+    Watch.Response<V1Pod> event = WatchEvent.createDeleteEvent(currentPod).toWatchResponse();
+
+    processor.dispatchPodWatch(event);
+
+    assertThat(getServerPodNames(), contains(ADMIN_SERVER_NAME));
+  }
+
+  @Test
+  public void afterServerServiceDeleteEventWithRecordedTopology_restoreOnlyThatServer() {
+    recordRepairableDomain();
+    V1Service currentService = withTimeAndVersion(ServiceHelper.createServerServiceModel(packet));
+    info.setServerService(SERVER, currentService);
+    Watch.Response<V1Service> event = WatchEvent.createDeleteEvent(currentService).toWatchResponse();
+
+    processor.dispatchServiceWatch(event);
+
+    assertThat(getServiceNames(), contains(LegalNames.toServerServiceName(UID, SERVER)));
+    assertThat(getServerPodNames(), contains(SERVER));
+  }
+
+  @Test
+  public void afterClusterServiceDeleteEventWithRecordedTopology_restoreOnlyClusterService() {
+    recordRepairableDomain();
+    V1Service currentService = withTimeAndVersion(ServiceHelper.createClusterServiceModel(packet));
+    info.setClusterService(CLUSTER, currentService);
+    Watch.Response<V1Service> event = WatchEvent.createDeleteEvent(currentService).toWatchResponse();
+
+    processor.dispatchServiceWatch(event);
+
+    assertThat(getServiceNames(), contains(LegalNames.toClusterServiceName(UID, CLUSTER)));
+    assertThat(getServerPodNames(), empty());
+  }
+
+  @Test
+  public void whenLastMakeRightDidNotComplete_deleteEventRunsFullMakeRight() {
+    recordRepairableDomain();
+    info.setMakeRightComplete(false);
+    V1Pod currentPod = createServerPod();
+    info.setServerPod(SERVER, currentPod);
+    Watch.Response<V1Pod> event = WatchEvent.createDeleteEvent(currentPod).toWatchResponse();
+
+    processor.dispatchPodWatch(event);
+
+    assertThat(getServerPodNames(), hasItems(ADMIN_SERVER_NAME, SERVER));
+  }
+
+  @Test
+  public void whenNoTopologyRecorded_deleteEventRunsFullMakeRight() {
+    recordCompletedMakeRight(createRecordedTopology());
+    V1Pod currentPod = createServerPod();
+    info.setServerPod(SERVER, currentPod);
+    Watch.Response<V1Pod> event = WatchEvent.createDeleteEvent(currentPod).toWatchResponse();
+
+    processor.dispatchPodWatch(event);
+
+    assertThat(getServerPodNames(), hasItems(ADMIN_SERVER_NAME, SERVER));
+  }
+
+  @Test
+  public void whenMakeRightFiberRunning_deleteEventRunsFullMakeRight() {
+    recordRepairableDomain();
+    startSuspendedMakeRightFiber();
+    V1Pod currentPod = createServerPod();
+    info.setServerPod(SERVER, currentPod);
+    Watch.Response<V1Pod> event = WatchEvent.createDeleteEvent(currentPod).toWatchResponse();
+
+    processor.dispatchPodWatch(event);
+
+    assertThat(getServerPodNames(), hasItem(ADMIN_SERVER_NAME));
+  }
+
+  @Test
+  public void whenRepairFails_runFullMakeRight() {
+    recordRepairableDomain();
+    testSupport.failOnCreate(KubernetesTestSupport.POD, LegalNames.toPodName(UID, SERVER), NS, 401);
+    V1Pod currentPod = createServerPod();
+    info.setServerPod(SERVER, currentPod);
+    Watch.Response<V1Pod> event = WatchEvent.createDeleteEvent(currentPod).toWatchResponse();
+
+    processor.dispatchPodWatch(event);
+
+    assertThat(getServerPodNames(), hasItem(ADMIN_SERVER_NAME));
+  }
+
+  private void recordRepairableDomain() {
+    WlsDomainConfig topology = createRecordedTopology();
+    ScanCache.INSTANCE.registerScan(NS, UID, new Scan(topology, new DateTime()));
+    recordCompletedMakeRight(topology);
+  }
+
+  private WlsDomainConfig createRecordedTopology() {
+    WlsDomainConfigSupport configSupport =
+        new WlsDomainConfigSupport(UID).withAdminServerName(ADMIN_SERVER_NAME);
+    configSupport.addWlsServer(ADMIN_SERVER_NAME, 8001);
+    configSupport.addWlsServer(SERVER, 7001);
+    configSupport.addWlsServer("server2", 7001);
+    configSupport.addWlsCluster(CLUSTER);
+    return configSupport.createDomainConfig();
+  }
+
+  private void recordCompletedMakeRight(WlsDomainConfig topology) {
+    enableDomainProcessing();
+    info.setServerStartupInfo(Arrays.asList(createStartupInfo(topology, SERVER),
+        createStartupInfo(topology, "server2")));
+    info.setMakeRightComplete(true);
+  }
+
+  // a fiber which never completes, standing in for a make-right which is still in progress
+  private void startSuspendedMakeRightFiber() {
+    FiberGate gate = testSupport.createFiberGate();
+    makeRightFiberGates.put(NS, gate);
+    gate.startFiber(UID, new SuspendingStep(), new Packet(), new NoOpCompletionCallback());
+  }
+
+  private static class SuspendingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      return doSuspend(fiber -> { });
+    }
+  }
+
+  private static class NoOpCompletionCallback implements CompletionCallback {
+    @Override
+    public void onCompletion(Packet packet) {
+      // no-op
+    }
+
+    @Override
+    public void onThrowable(Packet packet, Throwable throwable) {
+      // no-op
+    }
+  }
+
+  private DomainPresenceInfo.ServerStartupInfo createStartupInfo(WlsDomainConfig domainConfig, String serverName) {
+    return new DomainPresenceInfo.ServerStartupInfo(
+        domainConfig.getServerConfig(serverName), null, info.getDomain().getServer(serverName, null));
+  }
+
+  private List<String> getServerPodNames() {
+    return testSupport.<V1Pod>getResources(KubernetesTestSupport.POD).stream()
+        .map(PodHelper::getPodServerName)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList());
+  }
+
+  private List<String> getServiceNames() {
+    return testSupport.<V1Service>getResources(KubernetesTestSupport.SERVICE).stream()
+        .map(service -> service.getMetadata().getName())
+        .collect(Collectors.toList());
+  }
+
   private V1Pod createServerPod() {
     return withTimeAndVersion(PodHelper.createManagedServerPodModel(packet));
   }
 
+  private V1Pod createAdminServerPod() {
+    return withTimeAndVersion(
+        new V1Pod()
+            .metadata(
+                KubernetesUtils.withOperatorLabels(UID,
+                    new V1ObjectMeta().name(LegalNames.toPodName(UID, ADMIN_SERVER_NAME)).namespace(NS))
+                    .putLabelsItem(SERVERNAME_LABEL, ADMIN_SERVER_NAME)));
+  }
+
   private V1Pod withTimeAndVersion(V1Pod pod) {
     pod.getMetadata().creationTimestamp(getDateTime()).resourceVersion(RESOURCE_VERSION);
     return pod;
   }
 
+  private V1Service withTimeAndVersion(V1Service service) {
+    service.getMetadata().creationTimestamp(getDateTime()).resourceVersion(RESOURCE_VERSION);
+    return service;
+  }
+
   private DateTime getDateTime() {
     return new DateTime(++clock);
   }
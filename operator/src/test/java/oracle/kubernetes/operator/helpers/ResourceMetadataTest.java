@@ -0,0 +1,63 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import io.kubernetes.client.openapi.models.V1DeleteOptions;
+import io.kubernetes.client.openapi.models.V1ListMeta;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Pod;
+import io.kubernetes.client.openapi.models.V1PodList;
+import oracle.kubernetes.weblogic.domain.model.Domain;
+import oracle.kubernetes.weblogic.domain.model.DomainList;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class ResourceMetadataTest {
+
+  @Test
+  public void getObjectMeta_returnsMetadataOfKubernetesModel() {
+    V1ObjectMeta metadata = new V1ObjectMeta().name("pod");
+
+    assertThat(ResourceMetadata.getObjectMeta(new V1Pod().metadata(metadata)), sameInstance(metadata));
+  }
+
+  @Test
+  public void getObjectMeta_returnsMetadataOfDomain() {
+    V1ObjectMeta metadata = new V1ObjectMeta().name("domain");
+
+    assertThat(ResourceMetadata.getObjectMeta(new Domain().withMetadata(metadata)), sameInstance(metadata));
+  }
+
+  @Test
+  public void getObjectMeta_whenTypeHasNoMetadata_returnsNull() {
+    assertThat(ResourceMetadata.getObjectMeta(new V1DeleteOptions()), nullValue());
+  }
+
+  @Test
+  public void getObjectMeta_whenResourceIsNull_returnsNull() {
+    assertThat(ResourceMetadata.getObjectMeta(null), nullValue());
+  }
+
+  @Test
+  public void getListMeta_returnsMetadataOfKubernetesList() {
+    V1ListMeta metadata = new V1ListMeta()._continue("next");
+
+    assertThat(ResourceMetadata.getListMeta(new V1PodList().metadata(metadata)), sameInstance(metadata));
+  }
+
+  @Test
+  public void getListMeta_returnsMetadataOfDomainList() {
+    V1ListMeta metadata = new V1ListMeta()._continue("next");
+
+    assertThat(ResourceMetadata.getListMeta(new DomainList().withMetadata(metadata)), sameInstance(metadata));
+  }
+
+  @Test
+  public void getListMeta_whenResultIsNotAList_returnsNull() {
+    assertThat(ResourceMetadata.getListMeta(new V1Pod().metadata(new V1ObjectMeta())), nullValue());
+  }
+}
@@ -0,0 +1,181 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.helpers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.builders.WatchEvent.createAddedEvent;
+import static oracle.kubernetes.operator.builders.WatchEvent.createDeleteEvent;
+import static oracle.kubernetes.operator.builders.WatchEvent.createModifiedEvent;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class SecretCacheTest {
+  private static final String NS = "namespace";
+  private static final String NAME = "credentials";
+
+  private final SecretCache cache = new SecretCache();
+
+  private V1Secret createSecret(String name, String resourceVersion, String password) {
+    return new V1Secret()
+        .metadata(new V1ObjectMeta().namespace(NS).name(name).resourceVersion(resourceVersion))
+        .putDataItem("password", password.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private V1Secret createSecretMetadata(String name, String resourceVersion) {
+    return new V1Secret()
+        .metadata(new V1ObjectMeta().namespace(NS).name(name).resourceVersion(resourceVersion));
+  }
+
+  private void listNamespace(V1Secret... secrets) {
+    cache.replaceNamespace(NS, Arrays.asList(secrets));
+  }
+
+  private String getCachedPassword() {
+    return new String(cache.getCredentialsSecret(NS, NAME).getData().get("password"), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void beforeNamespaceListed_namespaceIsNotCached() {
+    assertThat(cache.isNamespaceCached(NS), is(false));
+  }
+
+  @Test
+  public void afterNamespaceListed_namespaceIsCached() {
+    cache.replaceNamespace(NS, Collections.emptyList());
+
+    assertThat(cache.isNamespaceCached(NS), is(true));
+  }
+
+  @Test
+  public void afterNamespaceListed_listedSecretsExist() {
+    listNamespace(createSecret(NAME, "1", "secret"));
+
+    assertThat(cache.isSecretExists(NS, NAME), is(true));
+    assertThat(cache.isSecretExists(NS, "other"), is(false));
+  }
+
+  @Test
+  public void beforeNamespaceListed_ignoreEvents() {
+    cache.receivedResponse(createAddedEvent(createSecret(NAME, "2", "secret")).toWatchResponse());
+
+    assertThat(cache.isNamespaceCached(NS), is(false));
+    assertThat(cache.isSecretExists(NS, NAME), is(false));
+  }
+
+  @Test
+  public void afterNamespaceListedAgain_secretsMatchNewList() {
+    listNamespace(createSecret(NAME, "1", "secret"), createSecret("other", "1", "secret"));
+
+    listNamespace(createSecret("other", "1", "secret"), createSecret("added", "2", "secret"));
+
+    assertThat(cache.isSecretExists(NS, NAME), is(false));
+    assertThat(cache.isSecretExists(NS, "other"), is(true));
+    assertThat(cache.isSecretExists(NS, "added"), is(true));
+  }
+
+  @Test
+  public void afterNamespaceListed_secretDataIsNotKept() {
+    listNamespace(createSecret(NAME, "1", "secret"));
+
+    assertThat(cache.getCredentialsSecret(NS, NAME), nullValue());
+  }
+
+  @Test
+  public void afterCredentialsSecretAdded_returnItsData() {
+    listNamespace(createSecret(NAME, "1", "secret"));
+
+    cache.addCredentialsSecret(createSecret(NAME, "1", "secret"));
+
+    assertThat(getCachedPassword(), equalTo("secret"));
+  }
+
+  @Test
+  public void whenNamespaceNotListed_ignoreCredentialsSecret() {
+    cache.addCredentialsSecret(createSecret(NAME, "1", "secret"));
+
+    assertThat(cache.getCredentialsSecret(NS, NAME), nullValue());
+  }
+
+  @Test
+  public void whenCredentialsSecretModified_returnNewData() {
+    listNamespace(createSecret(NAME, "1", "secret"));
+    cache.addCredentialsSecret(createSecret(NAME, "1", "secret"));
+
+    cache.receivedResponse(createModifiedEvent(createSecret(NAME, "2", "changed")).toWatchResponse());
+
+    assertThat(getCachedPassword(), equalTo("changed"));
+  }
+
+  @Test
+  public void whenCredentialsSecretModifiedWithoutData_forgetItsData() {
+    listNamespace(createSecretMetadata(NAME, "1"));
+    cache.addCredentialsSecret(createSecret(NAME, "1", "secret"));
+
+    cache.receivedResponse(createModifiedEvent(createSecretMetadata(NAME, "2")).toWatchResponse());
+
+    assertThat(cache.isSecretExists(NS, NAME), is(true));
+    assertThat(cache.getCredentialsSecret(NS, NAME), nullValue());
+  }
+
+  @Test
+  public void afterNamespaceListedAgainWithSameSecretVersion_keepCredentialsData() {
+    listNamespace(createSecretMetadata(NAME, "1"));
+    cache.addCredentialsSecret(createSecret(NAME, "1", "secret"));
+
+    listNamespace(createSecretMetadata(NAME, "1"));
+
+    assertThat(getCachedPassword(), equalTo("secret"));
+  }
+
+  @Test
+  public void afterNamespaceListedAgainWithNewSecretVersion_forgetCredentialsData() {
+    listNamespace(createSecretMetadata(NAME, "1"));
+    cache.addCredentialsSecret(createSecret(NAME, "1", "secret"));
+
+    listNamespace(createSecretMetadata(NAME, "2"));
+
+    assertThat(cache.getCredentialsSecret(NS, NAME), nullValue());
+  }
+
+  @Test
+  public void whenCredentialsSecretDeleted_forgetIt() {
+    listNamespace(createSecret(NAME, "1", "secret"));
+    cache.addCredentialsSecret(createSecret(NAME, "1", "secret"));
+
+    cache.receivedResponse(createDeleteEvent(createSecret(NAME, "2", "secret")).toWatchResponse());
+
+    assertThat(cache.isSecretExists(NS, NAME), is(false));
+    assertThat(cache.getCredentialsSecret(NS, NAME), nullValue());
+  }
+
+  @Test
+  public void whenOtherSecretAdded_recordOnlyItsExistence() {
+    listNamespace();
+
+    cache.receivedResponse(createAddedEvent(createSecret("other", "2", "secret")).toWatchResponse());
+
+    assertThat(cache.isSecretExists(NS, "other"), is(true));
+    assertThat(cache.getCredentialsSecret(NS, "other"), nullValue());
+  }
+
+  @Test
+  public void afterNamespaceRemoved_namespaceIsNotCached() {
+    listNamespace(createSecret(NAME, "1", "secret"));
+    cache.addCredentialsSecret(createSecret(NAME, "1", "secret"));
+
+    cache.removeNamespace(NS);
+
+    assertThat(cache.isNamespaceCached(NS), is(false));
+    assertThat(cache.isSecretExists(NS, NAME), is(false));
+  }
+}
@@ -3,15 +3,34 @@
 
 package oracle.kubernetes.operator.helpers;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import com.meterware.simplestub.Memento;
+import com.meterware.simplestub.StaticStubSupport;
+import io.kubernetes.client.openapi.models.V1ObjectMeta;
+import io.kubernetes.client.openapi.models.V1Secret;
+import oracle.kubernetes.operator.work.Packet;
+import oracle.kubernetes.operator.work.TerminalStep;
 import oracle.kubernetes.utils.TestUtils;
 import org.junit.After;
 import org.junit.Before;
+import org.junit.Test;
+
+import static oracle.kubernetes.operator.helpers.SecretHelper.ADMIN_SERVER_CREDENTIALS_PASSWORD;
+import static oracle.kubernetes.operator.helpers.SecretHelper.ADMIN_SERVER_CREDENTIALS_USERNAME;
+import static oracle.kubernetes.operator.helpers.SecretHelper.SECRET_DATA_KEY;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 public class SecretHelperTest {
+  private static final String NS = "namespace";
+  private static final String SECRET_NAME = "credentials";
+
   KubernetesTestSupport testSupport = new KubernetesTestSupport();
   List<Memento> mementos = new ArrayList<>();
 
@@ -19,10 +38,70 @@ public class SecretHelperTest {
   public void setUp() throws Exception {
     mementos.add(TestUtils.silenceOperatorLogger());
     mementos.add(testSupport.install());
+    mementos.add(StaticStubSupport.install(SecretCache.class, "INSTANCE", new SecretCache()));
+
+    testSupport.defineResources(createSecret("1"));
   }
 
   @After
   public void tearDown() {
     mementos.forEach(Memento::revert);
   }
-}
\ No newline at end of file
+
+  private V1Secret createSecret(String resourceVersion) {
+    return new V1Secret()
+        .metadata(new V1ObjectMeta().namespace(NS).name(SECRET_NAME).resourceVersion(resourceVersion))
+        .putDataItem(ADMIN_SERVER_CREDENTIALS_USERNAME, "user".getBytes(StandardCharsets.UTF_8))
+        .putDataItem(ADMIN_SERVER_CREDENTIALS_PASSWORD, "password".getBytes(StandardCharsets.UTF_8));
+  }
+
+  private Packet readSecretData() {
+    return testSupport.runSteps(
+        SecretHelper.getSecretData(SecretType.WebLogicCredentials, SECRET_NAME, NS, new TerminalStep()));
+  }
+
+  @SuppressWarnings("unchecked")
+  private String getUserName(Packet packet) {
+    Map<String, byte[]> secretData = (Map<String, byte[]>) packet.get(SECRET_DATA_KEY);
+    return new String(secretData.get(ADMIN_SERVER_CREDENTIALS_USERNAME), StandardCharsets.UTF_8);
+  }
+
+  // clears the credentials as an authenticated client does once it has encoded them
+  @SuppressWarnings("unchecked")
+  private void clearCredentials(Packet packet) {
+    Map<String, byte[]> secretData = (Map<String, byte[]>) packet.get(SECRET_DATA_KEY);
+    secretData.values().forEach(credential -> Arrays.fill(credential, (byte) 0));
+  }
+
+  @Test
+  public void whenNamespaceNotCached_readSecretEachTime() {
+    readSecretData();
+    testSupport.clearNumCalls();
+
+    readSecretData();
+
+    assertThat(testSupport.getNumCalls(), equalTo(1));
+  }
+
+  @Test
+  public void whenNamespaceCached_readSecretOnlyOnce() {
+    SecretCache.getInstance().replaceNamespace(NS, Collections.singletonList(createSecret("1")));
+    readSecretData();
+    testSupport.clearNumCalls();
+
+    Packet packet = readSecretData();
+
+    assertThat(testSupport.getNumCalls(), equalTo(0));
+    assertThat(getUserName(packet), equalTo("user"));
+  }
+
+  @Test
+  public void whenNamespaceCached_clearingCredentialsAfterReadDoesNotAlterCachedSecret() {
+    SecretCache.getInstance().replaceNamespace(NS, Collections.singletonList(createSecret("1")));
+    clearCredentials(readSecretData());
+
+    Packet packet = readSecretData();
+
+    assertThat(getUserName(packet), equalTo("user"));
+  }
+}
@@ -21,6 +21,7 @@ import javax.annotation.Nonnull;
 import io.kubernetes.client.openapi.ApiException;
 import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
+import io.kubernetes.client.util.Yaml;
 import oracle.kubernetes.operator.LabelConstants;
 import oracle.kubernetes.operator.calls.unprocessable.UnprocessableEntityBuilder;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
@@ -35,6 +36,7 @@ import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainConfiguratorFactory;
 import oracle.kubernetes.weblogic.domain.ServiceConfigurator;
 import oracle.kubernetes.weblogic.domain.model.Domain;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.hamcrest.Description;
 import org.hamcrest.Matcher;
 import org.junit.After;
@@ -50,6 +52,7 @@ import static oracle.kubernetes.operator.ProcessingConstants.CLUSTER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.DOMAIN_TOPOLOGY;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_NAME;
 import static oracle.kubernetes.operator.ProcessingConstants.SERVER_SCAN;
+import static oracle.kubernetes.operator.helpers.AnnotationHelper.SHA256_ANNOTATION;
 import static oracle.kubernetes.operator.helpers.DomainStatusMatcher.hasStatus;
 import static oracle.kubernetes.operator.helpers.KubernetesTestSupport.SERVICE;
 import static oracle.kubernetes.operator.helpers.ServiceHelperTest.NodePortMatcher.nodePort;
@@ -348,6 +351,28 @@ public class ServiceHelperTest extends ServiceHelperTestBase {
     assertThat(logRecords, containsFine(testFacade.getServiceExistsLogMessage()));
   }
 
+  @Test
+  public void whenMatchingServiceHasLegacyHash_patchCanonicalHash() {
+    String canonicalHash = AnnotationHelper.getHash(testFacade.createServiceModel(testSupport.getPacket()));
+    V1Service legacyService = withLegacyHash(testFacade.createServiceModel(testSupport.getPacket()));
+    testSupport.defineResources(legacyService);
+    testFacade.recordService(domainPresenceInfo, legacyService);
+
+    runServiceHelper();
+
+    assertThat(AnnotationHelper.getHash(getCreatedService()), equalTo(canonicalHash));
+    assertThat(AnnotationHelper.getHash(testFacade.getRecordedService(domainPresenceInfo)), equalTo(canonicalHash));
+  }
+
+  // replaces the canonical hash of a service model with the hash computed by earlier operator versions
+  private V1Service withLegacyHash(V1Service service) {
+    Map<String, String> annotations = service.getMetadata().getAnnotations();
+    annotations.remove(SHA256_ANNOTATION);
+    service.getMetadata().setAnnotations(annotations.isEmpty() ? null : annotations);
+    service.getMetadata().putAnnotationsItem(SHA256_ANNOTATION, DigestUtils.sha256Hex(Yaml.dump(service)));
+    return service;
+  }
+
   @Test
   public void whenConfiguredLabelAdded_replaceService() {
     verifyServiceReplaced(this::configureNewLabel);
@@ -21,7 +21,11 @@ public abstract class TuningParametersStub implements TuningParameters {
   static final int LIVENESS_PERIOD = 6;
   static final int LIVENESS_TIMEOUT = 5;
   static final long INTROSPECTOR_JOB_ACTIVE_DEADLINE_SECONDS = 180L;
+  static final int SERVER_POD_READY_TIMEOUT_SECONDS = 60;
   static Map<String, String> namedParameters;
+  static int statusUpdateWindowSeconds;
+  static boolean statusUpdateReadHealthFromAdminServer;
+  static HttpClientTuning httpClientTuning;
 
   /**
    * Install memento.
@@ -30,6 +34,9 @@ public abstract class TuningParametersStub implements TuningParameters {
    */
   public static Memento install() throws NoSuchFieldException {
     namedParameters = new HashMap<>();
+    statusUpdateWindowSeconds = 0;
+    statusUpdateReadHealthFromAdminServer = false;
+    httpClientTuning = null;
     return StaticStubSupport.install(
         TuningParametersImpl.class, "INSTANCE", createStrictStub(TuningParametersStub.class));
   }
@@ -48,7 +55,20 @@ public abstract class TuningParametersStub implements TuningParameters {
 
   @Override
   public MainTuning getMainTuning() {
-    return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L);
+    return new MainTuning(2, 2, 2, 2, 2, 2, 2L, 2L, statusUpdateWindowSeconds, statusUpdateReadHealthFromAdminServer,
+        SERVER_POD_READY_TIMEOUT_SECONDS);
+  }
+
+  public static void setStatusUpdateWindowSeconds(int windowSeconds) {
+    statusUpdateWindowSeconds = windowSeconds;
+  }
+
+  public static void setStatusUpdateReadHealthFromAdminServer(boolean readHealthFromAdminServer) {
+    statusUpdateReadHealthFromAdminServer = readHealthFromAdminServer;
+  }
+
+  public static void setHttpClientTuning(HttpClientTuning tuning) {
+    httpClientTuning = tuning;
   }
 
   @Override
@@ -56,6 +76,16 @@ public abstract class TuningParametersStub implements TuningParameters {
     return null;
   }
 
+  @Override
+  public EngineTuning getEngineTuning() {
+    return new EngineTuning(2, 2, 100, 60L, false);
+  }
+
+  @Override
+  public HttpClientTuning getHttpClientTuning() {
+    return httpClientTuning;
+  }
+
   @Override
   public String get(Object key) {
     return namedParameters.get(key);
@@ -0,0 +1,159 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.ws.rs.client.Client;
+
+import com.meterware.simplestub.Stub;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class HttpClientPoolTest {
+  private static final String NS = "namespace";
+  private static final String SECRET = "weblogic-credentials";
+  private static final long IDLE_TIMEOUT = 1000;
+
+  private final List<ClientStub> createdClients = new ArrayList<>();
+  private long now = 0;
+  private final HttpClientPool pool = new HttpClientPool(this::createClient, () -> now, IDLE_TIMEOUT);
+
+  private Client createClient() {
+    ClientStub client = Stub.createStub(ClientStub.class);
+    createdClients.add(client);
+    return client;
+  }
+
+  private HttpClient getClient(String resourceVersion, String credentials) {
+    return pool.getClient(NS, SECRET, resourceVersion, () -> credentials);
+  }
+
+  @Test
+  public void whenSecretVersionUnchanged_reuseClient() {
+    HttpClient client = getClient("1", "creds");
+
+    assertThat(getClient("1", "creds"), sameInstance(client));
+    assertThat(createdClients.size(), equalTo(1));
+  }
+
+  @Test
+  public void whenSecretVersionChanged_replaceAndCloseClient() {
+    HttpClient client = getClient("1", "creds");
+    client.release();
+
+    assertThat(getClient("2", "newCreds"), not(sameInstance(client)));
+    assertThat(createdClients.get(0).closed, is(true));
+    assertThat(pool.size(), equalTo(1));
+  }
+
+  @Test
+  public void whenReplacedClientIsCheckedOut_closeItOnlyWhenReleased() {
+    HttpClient client = getClient("1", "creds");
+
+    getClient("2", "newCreds");
+    assertThat(createdClients.get(0).closed, is(false));
+
+    client.release();
+    assertThat(createdClients.get(0).closed, is(true));
+  }
+
+  @Test
+  public void whenClientCheckedOutTwice_closeItOnlyWhenBothReleased() {
+    HttpClient client = getClient("1", "creds");
+    getClient("1", "creds");
+    pool.closeClient(NS, SECRET);
+
+    client.release();
+    assertThat(createdClients.get(0).closed, is(false));
+
+    client.release();
+    assertThat(createdClients.get(0).closed, is(true));
+  }
+
+  @Test
+  public void whenSecretVersionUnknown_reuseClientOnlyForSameCredentials() {
+    HttpClient client = getClient(null, "creds");
+
+    assertThat(getClient(null, "creds"), sameInstance(client));
+    assertThat(getClient(null, "newCreds"), not(sameInstance(client)));
+  }
+
+  @Test
+  public void clientsForDifferentSecrets_areDistinct() {
+    HttpClient client = getClient("1", "creds");
+
+    assertThat(pool.getClient("otherNamespace", SECRET, "1", () -> "creds"), not(sameInstance(client)));
+    assertThat(pool.size(), equalTo(2));
+  }
+
+  @Test
+  public void whenClientIdleLongerThanTimeout_closeAndEvictIt() {
+    getClient("1", "creds").release();
+
+    now += IDLE_TIMEOUT + 1;
+    pool.getClient("otherNamespace", SECRET, "1", () -> "creds");
+
+    assertThat(createdClients.get(0).closed, is(true));
+    assertThat(pool.size(), equalTo(1));
+  }
+
+  @Test
+  public void whenIdleClientIsStillCheckedOut_evictItButLeaveItOpen() {
+    getClient("1", "creds");
+
+    now += IDLE_TIMEOUT + 1;
+    pool.getClient("otherNamespace", SECRET, "1", () -> "creds");
+
+    assertThat(createdClients.get(0).closed, is(false));
+    assertThat(pool.size(), equalTo(1));
+  }
+
+  @Test
+  public void whenClientUsedWithinTimeout_keepIt() {
+    HttpClient client = getClient("1", "creds");
+
+    now += IDLE_TIMEOUT;
+    getClient("1", "creds");
+    now += IDLE_TIMEOUT;
+
+    assertThat(getClient("1", "creds"), sameInstance(client));
+  }
+
+  @Test
+  public void afterCloseClient_clientIsClosedAndRemoved() {
+    getClient("1", "creds").release();
+
+    pool.closeClient(NS, SECRET);
+
+    assertThat(createdClients.get(0).closed, is(true));
+    assertThat(pool.size(), equalTo(0));
+  }
+
+  @Test
+  public void afterCloseNamespace_onlyClientsInNamespaceAreClosed() {
+    getClient("1", "creds").release();
+    pool.getClient("otherNamespace", SECRET, "1", () -> "creds").release();
+
+    pool.closeNamespace(NS);
+
+    assertThat(createdClients.get(0).closed, is(true));
+    assertThat(createdClients.get(1).closed, is(false));
+    assertThat(pool.size(), equalTo(1));
+  }
+
+  abstract static class ClientStub implements Client {
+    private boolean closed;
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
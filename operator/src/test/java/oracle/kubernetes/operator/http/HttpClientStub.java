@@ -3,11 +3,14 @@
 
 package oracle.kubernetes.operator.http;
 
+import java.util.concurrent.CompletableFuture;
+
 public abstract class HttpClientStub extends HttpClient {
 
   String response = "{}";
   int status = 200;
   boolean successful = true;
+  boolean respond = true;
 
   public HttpClientStub() {
     super(null, null);
@@ -20,6 +23,18 @@ public abstract class HttpClientStub extends HttpClient {
     return new Result(response, status, successful);
   }
 
+  @Override
+  public CompletableFuture<Result> executePostUrlOnServiceClusterIPAsync(
+      String requestUrl, String serviceUrl, String payload) {
+    return respond ? CompletableFuture.completedFuture(new Result(response, status, successful))
+                   : new CompletableFuture<>();
+  }
+
+  public HttpClientStub withNoResponse() {
+    this.respond = false;
+    return this;
+  }
+
   public HttpClientStub withResponse(String response) {
     this.response = response;
     return this;
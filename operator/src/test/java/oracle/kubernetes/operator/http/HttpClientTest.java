@@ -5,12 +5,16 @@ package oracle.kubernetes.operator.http;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
+import javax.ws.rs.client.AsyncInvoker;
 import javax.ws.rs.client.Client;
 import javax.ws.rs.client.Entity;
 import javax.ws.rs.client.Invocation;
 import javax.ws.rs.client.Invocation.Builder;
+import javax.ws.rs.client.InvocationCallback;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -29,6 +33,8 @@ import org.junit.Test;
 import static oracle.kubernetes.operator.logging.MessageKeys.HTTP_METHOD_FAILED;
 import static oracle.kubernetes.utils.LogMatcher.containsFine;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 
 public class HttpClientTest {
@@ -77,6 +83,21 @@ public class HttpClientTest {
         FAKE_URL, FAKE_URL, WlsDomainConfig.getRetrieveServersSearchPayload(), throwOnFailure);
   }
 
+  @Test
+  public void whenAsyncPostCompletes_futureContainsResult() throws Exception {
+    ClientStub clientStub =
+        Stub.createStub(ClientStub.class)
+            .withResponse(Stub.createStub(ResponseStub.class, Status.NOT_FOUND, null));
+    HttpClient httpClient = new HttpClient(clientStub, "");
+
+    Result result = httpClient.executePostUrlOnServiceClusterIPAsync(
+        FAKE_URL, FAKE_URL, WlsDomainConfig.getRetrieveServersSearchPayload()).get();
+
+    assertThat(result.getStatus(), equalTo(Status.NOT_FOUND.getStatusCode()));
+    assertThat(result.isSuccessful(), is(false));
+    assertThat(logRecords, containsFine(HTTP_METHOD_FAILED, Status.NOT_FOUND.getStatusCode()));
+  }
+
   private void ignoreMessage(String message) {
     consoleControl.ignoreMessage(message);
   }
@@ -152,6 +173,21 @@ public class HttpClientTest {
     public Response post(Entity<?> entity) {
       return ClientStub.mockResponse;
     }
+
+    @Override
+    public AsyncInvoker async() {
+      return Stub.createStub(AsyncInvokerStub.class);
+    }
+  }
+
+  abstract static class AsyncInvokerStub implements AsyncInvoker {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Future<T> post(Entity<?> entity, InvocationCallback<T> callback) {
+      callback.completed((T) ClientStub.mockResponse);
+      return CompletableFuture.completedFuture((T) ClientStub.mockResponse);
+    }
   }
 
   abstract static class ResponseStub extends Response {
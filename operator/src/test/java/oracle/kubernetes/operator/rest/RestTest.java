@@ -25,6 +25,7 @@ import com.google.gson.Gson;
 import com.meterware.simplestub.Memento;
 import oracle.kubernetes.operator.rest.backend.RestBackend;
 import oracle.kubernetes.operator.rest.model.ScaleClusterParamsModel;
+import oracle.kubernetes.operator.work.StepTrace;
 import oracle.kubernetes.utils.TestUtils;
 import org.glassfish.jersey.test.JerseyTest;
 import org.glassfish.jersey.test.inmemory.InMemoryTestContainerFactory;
@@ -39,10 +40,12 @@ import org.junit.Test;
 import static com.jayway.jsonpath.matchers.JsonPathMatchers.hasJsonPath;
 import static com.meterware.simplestub.Stub.createStrictStub;
 import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
 import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static oracle.kubernetes.operator.rest.AuthenticationFilter.ACCESS_TOKEN_PREFIX;
 import static oracle.kubernetes.operator.rest.RestTest.JsonArrayMatcher.withValues;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
 import static org.hamcrest.junit.MatcherAssert.assertThat;
 
 @SuppressWarnings("SameParameterValue")
@@ -55,6 +58,7 @@ public class RestTest extends JerseyTest {
   private static final String V1_SWAGGER_HREF = V1_HREF + "/swagger";
   private static final String V1_DOMAINS_HREF = V1_HREF + "/domains";
   private static final String SWAGGER_HREF = LATEST_HREF + "/swagger";
+  private static final String STEP_TRACE_HREF = LATEST_HREF + "/steptrace";
   private static final String DOMAINS_HREF = LATEST_HREF + "/domains";
   private static final String DOMAIN1_HREF = DOMAINS_HREF + "/uid1";
   private static final String DOMAIN2_HREF = DOMAINS_HREF + "/uid2";
@@ -179,6 +183,29 @@ public class RestTest extends JerseyTest {
     assertThat(result, hasJsonPath("$.paths./operator.get.tags", withValues("Version")));
   }
 
+  @Test
+  public void stepTraceEndPoint_returnsChromeTrace() {
+    Map result = getJsonResponse(STEP_TRACE_HREF);
+
+    assertThat(result, hasJsonPath("$.displayTimeUnit", equalTo("ms")));
+    assertThat(result, hasJsonPath("$.traceEvents"));
+  }
+
+  @Test
+  public void collapsedStepTraceEndPoint_returnsText() {
+    Response response = createRequest(STEP_TRACE_HREF + "/collapsed").get();
+
+    assertThat(response.getStatus(), equalTo(HTTP_OK));
+    assertThat(response.getMediaType().toString(), startsWith(MediaType.TEXT_PLAIN));
+  }
+
+  @Test
+  public void whenOperatorHasNoStepTrace_stepTraceEndPointFails() {
+    restBackend.stepTrace = null;
+
+    assertThat(getResponseStatus(STEP_TRACE_HREF), equalTo(HTTP_NOT_FOUND));
+  }
+
   @Test
   public void domainsEndPoint_returnsListOfDomainsAndLinks() {
     defineDomains("uid1", "uid2");
@@ -386,6 +413,7 @@ public class RestTest extends JerseyTest {
 
   abstract static class RestBackendStub implements RestBackend {
     private Map<String, List<ClusterState>> domainClusters = new HashMap<>();
+    private StepTrace stepTrace = new StepTrace();
 
     void addDomain(String domain, String... clusterNames) {
       domainClusters.put(
@@ -426,6 +454,11 @@ public class RestTest extends JerseyTest {
       getClusterStateStream(domainUid, cluster).forEach(cs -> cs.setScale(managedServerCount));
     }
 
+    @Override
+    public StepTrace getStepTrace() {
+      return stepTrace;
+    }
+
     Stream<ClusterState> getClusterStateStream(String domainUid, String cluster) {
       return domainClusters.get(domainUid).stream().filter(cs -> cs.hasClusterName(cluster));
     }
@@ -7,6 +7,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
@@ -17,13 +19,18 @@ import io.kubernetes.client.openapi.models.V1Service;
 import io.kubernetes.client.openapi.models.V1ServicePort;
 import io.kubernetes.client.openapi.models.V1ServiceSpec;
 import oracle.kubernetes.operator.ProcessingConstants;
+import oracle.kubernetes.operator.TuningParameters;
 import oracle.kubernetes.operator.helpers.DomainPresenceInfo;
 import oracle.kubernetes.operator.helpers.KubernetesVersion;
+import oracle.kubernetes.operator.helpers.TuningParametersStub;
 import oracle.kubernetes.operator.http.HttpClient;
 import oracle.kubernetes.operator.http.HttpClientStub;
+import oracle.kubernetes.operator.steps.ReadHealthStep.ReadDomainHealthWithHttpClientStep;
 import oracle.kubernetes.operator.steps.ReadHealthStep.ReadHealthWithHttpClientStep;
 import oracle.kubernetes.operator.utils.WlsDomainConfigSupport;
+import oracle.kubernetes.operator.work.CompletionCallback;
 import oracle.kubernetes.operator.work.Component;
+import oracle.kubernetes.operator.work.FiberTestSupport;
 import oracle.kubernetes.operator.work.NextAction;
 import oracle.kubernetes.operator.work.Packet;
 import oracle.kubernetes.operator.work.Step;
@@ -52,6 +59,25 @@ public class ReadHealthStepTest {
           + "    \"state\": \"RUNNING\",\n"
           + "    \"activationTime\": 1556759105378\n"
           + "}";
+  static final String DOMAIN_RESPONSE =
+      "{\n"
+          + "    \"serverRuntimes\": {\n"
+          + "        \"items\": [\n"
+          + "            {\n"
+          + "                \"name\": \"admin-server\",\n"
+          + "                \"state\": \"RUNNING\",\n"
+          + "                \"overallHealthState\": { \"state\": \"ok\", \"symptoms\": [] },\n"
+          + "                \"activationTime\": 1556759105378\n"
+          + "            },\n"
+          + "            {\n"
+          + "                \"name\": \"managed-server1\",\n"
+          + "                \"state\": \"ADMIN\",\n"
+          + "                \"overallHealthState\": { \"state\": \"warn\", \"symptoms\": [] },\n"
+          + "                \"activationTime\": 1556759105378\n"
+          + "            }\n"
+          + "        ]\n"
+          + "    }\n"
+          + "}";
   // The log messages to be checked during this test
   private static final String[] LOG_KEYS = {
     WLS_HEALTH_READ_FAILED, WLS_HEALTH_READ_FAILED_NO_HTTPCLIENT
@@ -74,18 +100,22 @@ public class ReadHealthStepTest {
   HttpClientStub httpClientStub;
   ReadHealthWithHttpClientStep withHttpClientStep;
   private List<LogRecord> logRecords = new ArrayList<>();
-  private Memento consoleControl;
+  private List<Memento> mementos = new ArrayList<>();
+  private TestUtils.ConsoleHandlerMemento consoleControl;
+  private FiberTestSupport testSupport = new FiberTestSupport();
 
   /**
    * Setup test.
    */
   @Before
-  public void setup() {
+  public void setup() throws NoSuchFieldException {
     consoleControl =
         TestUtils.silenceOperatorLogger()
             .collectLogMessages(logRecords, LOG_KEYS)
             .ignoringLoggedExceptions(CLASSCAST_EXCEPTION)
             .withLogLevel(Level.FINE);
+    mementos.add(consoleControl);
+    mementos.add(TuningParametersStub.install());
     service = Stub.createStub(V1ServiceStub.class);
     next = new MockStep(null);
     httpClientStub = Stub.createStub(HttpClientStub.class);
@@ -94,7 +124,11 @@ public class ReadHealthStepTest {
 
   @After
   public void tearDown() {
-    consoleControl.revert();
+    mementos.forEach(Memento::revert);
+  }
+
+  private void runStep(Step step, Packet packet) {
+    testSupport.getEngine().createFiber().start(step, packet, Stub.createStub(CompletionCallback.class));
   }
 
   @Test
@@ -104,7 +138,7 @@ public class ReadHealthStepTest {
             .withServerName(ADMIN_NAME)
             .withGetKeyThrowsException(true);
 
-    withHttpClientStep.apply(packet);
+    runStep(withHttpClientStep, packet);
 
     assertThat(logRecords, containsInfo(WLS_HEALTH_READ_FAILED, ADMIN_NAME));
   }
@@ -115,7 +149,7 @@ public class ReadHealthStepTest {
         Stub.createStub(PacketStub.class).withServerName(ADMIN_NAME).withGetKeyReturnValue(null);
     packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, new AtomicInteger(1));
 
-    withHttpClientStep.apply(packet);
+    runStep(withHttpClientStep, packet);
 
     assertThat(logRecords, containsInfo(WLS_HEALTH_READ_FAILED_NO_HTTPCLIENT, ADMIN_NAME));
     assertThat(
@@ -133,7 +167,7 @@ public class ReadHealthStepTest {
         ProcessingConstants.SERVER_HEALTH_MAP, new ConcurrentHashMap<String, ServerHealth>());
     packet.put(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ, new AtomicInteger(1));
 
-    withHttpClientStep.apply(packet);
+    runStep(withHttpClientStep, packet);
 
     assertThat(
         ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(),
@@ -156,11 +190,11 @@ public class ReadHealthStepTest {
 
     Packet packet1 = packet.clone();
     packet1.put(ProcessingConstants.SERVER_NAME, ADMIN_NAME);
-    withHttpClientStep1.apply(packet1);
+    runStep(withHttpClientStep1, packet1);
 
     Packet packet2 = packet.clone();
     packet2.put(ProcessingConstants.SERVER_NAME, MANAGED_SERVER1);
-    withHttpClientStep2.apply(packet2);
+    runStep(withHttpClientStep2, packet2);
 
     assertThat(
         ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(),
@@ -173,7 +207,7 @@ public class ReadHealthStepTest {
 
     Packet packet = createPacketForTest();
 
-    withHttpClientStep.apply(packet);
+    runStep(withHttpClientStep, packet);
 
     Map<String, ServerHealth> serverHealthMap =
         packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP);
@@ -189,7 +223,7 @@ public class ReadHealthStepTest {
 
     Packet packet = createPacketForTest();
 
-    withHttpClientStep.apply(packet);
+    runStep(withHttpClientStep, packet);
 
     Map<String, ServerHealth> serverHealthMap =
         packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP);
@@ -206,7 +240,7 @@ public class ReadHealthStepTest {
 
     Packet packet = createPacketForTest();
 
-    withHttpClientStep.apply(packet);
+    runStep(withHttpClientStep, packet);
 
     Map<String, ServerHealth> serverHealthMap =
         packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP);
@@ -216,6 +250,67 @@ public class ReadHealthStepTest {
     assertThat(serverStateMap.get(MANAGED_SERVER1), is("UNKNOWN"));
   }
 
+  @Test
+  public void withHttpClientStep_whenNoResponseBeforeTimeout_logFailureAndContinue() {
+    consoleControl.ignoringLoggedExceptions(TimeoutException.class);
+    httpClientStub.withNoResponse();
+
+    Packet packet = createPacketForTest();
+
+    runStep(withHttpClientStep, packet);
+    testSupport.setTime(TuningParameters.getInstance().getMainTuning().statusUpdateTimeoutSeconds, TimeUnit.SECONDS);
+
+    assertThat(logRecords, containsInfo(WLS_HEALTH_READ_FAILED, MANAGED_SERVER1));
+    assertThat(((MockStep) next).invoked, is(true));
+    assertThat(
+        ((AtomicInteger) packet.get(ProcessingConstants.REMAINING_SERVERS_HEALTH_TO_READ)).get(),
+        is(1));
+  }
+
+  @Test
+  public void withHttpClientStep_whenResponseReceived_continueWithNextStep() {
+    httpClientStub.withResponse(OK_RESPONSE);
+
+    runStep(withHttpClientStep, createPacketForTest());
+
+    assertThat(((MockStep) next).invoked, is(true));
+  }
+
+  @Test
+  public void withDomainHealthStep_recordStateAndHealthOfEachServerReported() {
+    httpClientStub.withResponse(DOMAIN_RESPONSE);
+    Packet packet = createPacketForTest();
+    packet.put(HttpClient.KEY, httpClientStub);
+
+    runStep(createReadDomainHealthWithHttpClientStep(), packet);
+
+    Map<String, ServerHealth> serverHealthMap = packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP);
+    Map<String, String> serverStateMap = packet.getValue(SERVER_STATE_MAP);
+    assertThat(serverHealthMap.get(ADMIN_NAME).getOverallHealth(), is("ok"));
+    assertThat(serverHealthMap.get(MANAGED_SERVER1).getOverallHealth(), is("warn"));
+    assertThat(serverStateMap.get(ADMIN_NAME), is("RUNNING"));
+    assertThat(serverStateMap.get(MANAGED_SERVER1), is("ADMIN"));
+    assertThat(((MockStep) next).invoked, is(true));
+  }
+
+  @Test
+  public void withDomainHealthStep_whenRequestFails_recordNothing() {
+    httpClientStub.withStatus(500).withSuccessful(false);
+    Packet packet = createPacketForTest();
+    packet.put(HttpClient.KEY, httpClientStub);
+
+    runStep(createReadDomainHealthWithHttpClientStep(), packet);
+
+    Map<String, ServerHealth> serverHealthMap = packet.getValue(ProcessingConstants.SERVER_HEALTH_MAP);
+    assertThat(serverHealthMap.isEmpty(), is(true));
+    assertThat(((MockStep) next).invoked, is(true));
+  }
+
+  private Step createReadDomainHealthWithHttpClientStep() {
+    return new ReadDomainHealthWithHttpClientStep(
+        service, null, configSupport.createDomainConfig().getServerConfig(ADMIN_NAME), next);
+  }
+
   Packet createPacketForTest() {
     Packet packet =
         Stub.createStub(PacketStub.class)
@@ -284,13 +379,16 @@ public class ReadHealthStepTest {
   }
 
   static class MockStep extends Step {
+    boolean invoked;
+
     public MockStep(Step next) {
       super(next);
     }
 
     @Override
     public NextAction apply(Packet packet) {
-      return null;
+      invoked = true;
+      return doNext(packet);
     }
   }
 }
@@ -25,6 +25,7 @@ import static oracle.kubernetes.operator.logging.MessageKeys.NO_WLS_SERVER_IN_CL
 import static oracle.kubernetes.operator.logging.MessageKeys.REPLICA_MORE_THAN_WLS_SERVERS;
 import static oracle.kubernetes.utils.LogMatcher.containsWarning;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -214,6 +215,43 @@ public class WlsClusterConfigTest {
     assertTrue(containsServer(wlsClusterConfig, "static-1"));
   }
 
+  @Test
+  public void verifyDynamicServerConfigsEqualThoseCreatedFromTemplate() {
+    WlsDynamicServersConfig dynamicServersConfig = createDynamicServersConfig(2, 5, "ms-", "cluster1");
+    WlsServerConfig serverTemplate = dynamicServersConfig.getServerTemplate();
+
+    List<WlsServerConfig> expected = new ArrayList<>();
+    expected.add(WlsDynamicServerConfig.create("ms-1", 1, "cluster1", "base-domain", false, serverTemplate));
+    expected.add(WlsDynamicServerConfig.create("ms-2", 2, "cluster1", "base-domain", false, serverTemplate));
+
+    assertThat(dynamicServersConfig.getServerConfigs(), equalTo(expected));
+  }
+
+  @Test
+  public void verifyDynamicServerConfigFoundByName() {
+    WlsDynamicServersConfig dynamicServersConfig = createDynamicServersConfig(500, 500, "ms-", "cluster1");
+
+    assertThat(dynamicServersConfig.getServerConfig("ms-321").getName(), equalTo("ms-321"));
+    assertNull(dynamicServersConfig.getServerConfig("ms-501"));
+  }
+
+  @Test
+  public void verifyDynamicServerConfigDerivedOnlyOnce() {
+    WlsDynamicServersConfig dynamicServersConfig = createDynamicServersConfig(3, 5, "ms-", "cluster1");
+
+    assertThat(dynamicServersConfig.getServerConfig("ms-2"),
+        sameInstance(dynamicServersConfig.getServerConfigs().get(1)));
+  }
+
+  @Test
+  public void verifyNamedDynamicServerFoundInCluster() {
+    WlsClusterConfig wlsClusterConfig =
+        new WlsClusterConfig("cluster1", createDynamicServersConfig(500, 500, "ms-", "cluster1"));
+
+    assertTrue(wlsClusterConfig.hasNamedServer("ms-321"));
+    assertFalse(wlsClusterConfig.hasNamedServer("ms-501"));
+  }
+
   private boolean containsServer(WlsClusterConfig wlsClusterConfig, String serverName) {
     List<WlsServerConfig> serverConfigs = wlsClusterConfig.getServerConfigs();
     for (WlsServerConfig serverConfig : serverConfigs) {
@@ -4,6 +4,7 @@
 package oracle.kubernetes.operator.wlsconfig;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -34,6 +35,8 @@ import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -673,6 +676,59 @@ public class WlsDomainConfigTest {
     assertTrue(logRecords.isEmpty());
   }
 
+  @Test
+  public void whenDomainConfigLoaded_findClusterOfStaticAndDynamicServers() {
+    createDomainConfig(JSON_STRING_MIXED_CLUSTER);
+
+    assertThat(wlsDomainConfig.getClusterName("ms-0"), equalTo("DockerCluster"));
+    assertThat(wlsDomainConfig.getClusterName("dynamic-2"), equalTo("DockerCluster"));
+    assertThat(wlsDomainConfig.getClusterName("AdminServer"), nullValue());
+  }
+
+  @Test
+  public void afterDynamicClustersProcessed_findClusterOfDynamicServerWithoutDerivingServers() {
+    WlsDynamicServersConfig dynamicServersConfig = new WlsDynamicServersConfig();
+    dynamicServersConfig.setServerTemplateName("template1");
+    dynamicServersConfig.setDynamicClusterSize(500);
+    dynamicServersConfig.setServerNamePrefix("ms-");
+    WlsDomainConfig domainConfig = new WlsDomainConfig("test-domain")
+        .withCluster(new WlsClusterConfig("cluster1", dynamicServersConfig));
+    domainConfig.setServerTemplates(Collections.singletonList(new WlsServerConfig("template1", "host", 8001)));
+
+    domainConfig.processDynamicClusters();
+
+    assertThat(domainConfig.getClusterName("ms-321"), equalTo("cluster1"));
+    assertThat(dynamicServersConfig.getNumDerivedServers(), equalTo(0));
+  }
+
+  @Test
+  public void whenDomainConfigUnchanged_reuseServerConfigMap() {
+    createDomainConfig(JSON_STRING_1_CLUSTER);
+
+    assertThat(wlsDomainConfig.getServerConfigs(), sameInstance(wlsDomainConfig.getServerConfigs()));
+  }
+
+  @Test
+  public void afterServerAdded_findIt() {
+    WlsDomainConfig domainConfig = new WlsDomainConfig("test-domain").withAdminServer("admin", "host", 7001);
+    domainConfig.getServerConfig("admin");
+
+    domainConfig.addWlsServer("ms1", "host1", 8001);
+
+    assertThat(domainConfig.getServerConfig("ms1").getListenAddress(), equalTo("host1"));
+  }
+
+  @Test
+  public void afterServerAddedToCluster_findItsCluster() {
+    WlsClusterConfig clusterConfig = new WlsClusterConfig("cluster1");
+    WlsDomainConfig domainConfig = new WlsDomainConfig("test-domain").withCluster(clusterConfig);
+    domainConfig.getClusterName("ms1");
+
+    clusterConfig.addServerConfig(new WlsServerConfig("ms1", "host1", 8001));
+
+    assertThat(domainConfig.getClusterName("ms1"), equalTo("cluster1"));
+  }
+
   @Test
   public void whenNoClustersDefined_returnEmptyArray() {
     WlsDomainConfigSupport support = new WlsDomainConfigSupport("test-domain");
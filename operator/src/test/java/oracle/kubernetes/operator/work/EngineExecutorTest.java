@@ -0,0 +1,182 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+import static org.junit.Assert.fail;
+
+public class EngineExecutorTest {
+  private final EngineExecutor executor = new EngineExecutor("test", 2, 60);
+
+  @After
+  public void tearDown() throws Exception {
+    executor.shutdownNow();
+    executor.awaitTermination(1, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void scheduledTask_runsOnWorkerThread() throws InterruptedException {
+    AtomicReference<String> threadName = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(1);
+
+    executor.schedule(() -> {
+      threadName.set(Thread.currentThread().getName());
+      done.countDown();
+    }, 1, TimeUnit.MILLISECONDS);
+
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(threadName.get(), startsWith("engine-test-thread-"));
+  }
+
+  @Test
+  public void scheduledCallable_runsOnWorkerThreadAndReturnsItsResult()
+      throws InterruptedException, ExecutionException, TimeoutException {
+    ScheduledFuture<String> future =
+        executor.schedule(() -> Thread.currentThread().getName(), 1, TimeUnit.MILLISECONDS);
+
+    assertThat(future.get(5, TimeUnit.SECONDS), startsWith("engine-test-thread-"));
+  }
+
+  @Test
+  public void whenScheduledTaskCanceled_itDoesNotRun() throws InterruptedException {
+    AtomicInteger runs = new AtomicInteger();
+
+    ScheduledFuture<?> future = executor.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+    future.cancel(false);
+    Thread.sleep(100);
+
+    assertThat(future.isCancelled(), is(true));
+    assertThat(runs.get(), equalTo(0));
+  }
+
+  @Test
+  public void whenWorkersBusy_timerStillFires() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch fired = new CountDownLatch(1);
+    executor.execute(() -> awaitQuietly(release));
+    executor.execute(() -> awaitQuietly(release));
+
+    executor.schedule(fired::countDown, 1, TimeUnit.MILLISECONDS);
+    Thread.sleep(100);
+
+    assertThat(executor.getQueueDepth(), equalTo(1));
+    release.countDown();
+    assertThat(fired.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  @Test
+  public void afterBacklogClears_maximumQueueDepthIsReported() throws InterruptedException {
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(5);
+    for (int i = 0; i < 5; i++) {
+      executor.execute(() -> {
+        awaitQuietly(release);
+        done.countDown();
+      });
+    }
+
+    release.countDown();
+
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(executor.getQueueDepth(), equalTo(0));
+    assertThat(executor.getMaximumQueueDepth(), equalTo(3));
+  }
+
+  @Test
+  public void whilePeriodicTaskRuns_itIsNotStartedAgain() throws InterruptedException {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch runs = new CountDownLatch(3);
+
+    executor.scheduleAtFixedRate(() -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      sleepQuietly(20);
+      running.decrementAndGet();
+      runs.countDown();
+    }, 0, 1, TimeUnit.MILLISECONDS);
+
+    assertThat(runs.await(5, TimeUnit.SECONDS), is(true));
+    assertThat(maxRunning.get(), equalTo(1));
+  }
+
+  @Test
+  public void afterConfigure_workerThreadLimitIsChanged() {
+    executor.configure(5, 5, 100, 30);
+
+    assertThat(executor.getMaximumWorkerThreadCount(), equalTo(5));
+
+    executor.configure(1, 1, 100, 30);
+
+    assertThat(executor.getMaximumWorkerThreadCount(), equalTo(1));
+  }
+
+  @Test
+  public void whenConfigurationInvalid_throwExceptionAndKeepSettings() {
+    assertConfigurationRejected(0, 5, 100, 30);
+    assertConfigurationRejected(2, 1, 100, 30);
+    assertConfigurationRejected(2, 2, -1, 30);
+    assertConfigurationRejected(2, 2, 100, 0);
+
+    assertThat(executor.getMaximumWorkerThreadCount(), equalTo(2));
+  }
+
+  private void assertConfigurationRejected(
+        int workerThreadCount, int maximumWorkerThreadCount, int queueThreshold, long keepAliveSeconds) {
+    try {
+      executor.configure(workerThreadCount, maximumWorkerThreadCount, queueThreshold, keepAliveSeconds);
+      fail("Configuration was accepted");
+    } catch (IllegalArgumentException e) {
+      // expected
+    }
+  }
+
+  @Test
+  public void whenQueueReachesThreshold_startAdditionalThreads() throws InterruptedException {
+    executor.configure(1, 3, 1, 30);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(5);
+    for (int i = 0; i < 5; i++) {
+      executor.execute(() -> {
+        awaitQuietly(release);
+        done.countDown();
+      });
+    }
+
+    assertThat(executor.getWorkerThreadCount(), equalTo(3));
+    assertThat(executor.getQueueDepth(), equalTo(2));
+
+    release.countDown();
+    assertThat(done.await(5, TimeUnit.SECONDS), is(true));
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
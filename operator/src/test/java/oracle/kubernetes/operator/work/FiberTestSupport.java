@@ -222,9 +222,10 @@ public class FiberTestSupport {
     @Nonnull
     public ScheduledFuture<?> schedule(
         @Nonnull Runnable command, long delay, @Nonnull TimeUnit unit) {
-      scheduledItems.add(new ScheduledItem(unit.toMillis(delay), command));
+      ScheduledItem item = new ScheduledItem(unit.toMillis(delay), command);
+      scheduledItems.add(item);
       runNextRunnable();
-      return createStub(ScheduledFuture.class);
+      return createStub(ScheduledFutureStub.class, item);
     }
 
     @Override
@@ -280,6 +281,9 @@ public class FiberTestSupport {
           break;
         }
         it.remove();
+        if (item.canceled) {
+          continue;
+        }
         Optional.ofNullable(item.rescheduled()).ifPresent(rescheduledItems::add);
         execute(item.runnable);
       }
@@ -297,16 +301,17 @@ public class FiberTestSupport {
      */
     boolean containsItemAt(int time, TimeUnit unit) {
       for (ScheduledItem scheduledItem : scheduledItems) {
-        if (scheduledItem.atTime == unit.toMillis(time)) {
+        if (scheduledItem.atTime == unit.toMillis(time) && !scheduledItem.canceled) {
           return true;
         }
       }
       return false;
     }
 
-    private static class ScheduledItem implements Comparable<ScheduledItem> {
+    static class ScheduledItem implements Comparable<ScheduledItem> {
       private long atTime;
       private Runnable runnable;
+      private boolean canceled;
 
       ScheduledItem(long atTime, Runnable runnable) {
         this.atTime = atTime;
@@ -323,6 +328,26 @@ public class FiberTestSupport {
       }
     }
 
+    // a canceled item remains scheduled, but is not run
+    abstract static class ScheduledFutureStub implements ScheduledFuture<Object> {
+      private final ScheduledItem item;
+
+      ScheduledFutureStub(ScheduledItem item) {
+        this.item = item;
+      }
+
+      @Override
+      public boolean cancel(boolean mayInterruptIfRunning) {
+        item.canceled = true;
+        return true;
+      }
+
+      @Override
+      public boolean isCancelled() {
+        return item.canceled;
+      }
+    }
+
     private static class PeriodicScheduledItem extends ScheduledItem {
       private final long interval;
 
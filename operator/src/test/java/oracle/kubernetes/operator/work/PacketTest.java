@@ -0,0 +1,230 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class PacketTest {
+  private final Packet packet = new Packet();
+
+  @Test
+  public void afterClone_cloneHasOriginalValues() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+
+    Packet clone = packet.clone();
+
+    assertThat(clone.get("a"), equalTo("1"));
+    assertThat(clone, equalTo(Map.of("a", "1", "b", "2")));
+  }
+
+  @Test
+  public void afterClone_changesToCloneAreNotSeenByOriginal() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+
+    Packet clone = packet.clone();
+    clone.put("a", "changed");
+    clone.remove("b");
+    clone.put("c", "3");
+
+    assertThat(packet, equalTo(Map.of("a", "1", "b", "2")));
+    assertThat(clone, equalTo(Map.of("a", "changed", "c", "3")));
+  }
+
+  @Test
+  public void afterClone_changesToOriginalAreNotSeenByClone() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    packet.put("a", "changed");
+    packet.put("b", "2");
+
+    assertThat(clone, equalTo(Map.of("a", "1")));
+  }
+
+  @Test
+  public void whenValueSetToNull_removeIt() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.put("a", null);
+
+    assertThat(clone, not(hasKey("a")));
+    assertThat(clone.get("a"), nullValue());
+  }
+
+  @Test
+  public void whenRemovedValueReplaced_returnNewValue() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.remove("a");
+    clone.put("a", "2");
+
+    assertThat(clone.get("a"), equalTo("2"));
+  }
+
+  @Test
+  public void afterRepeatedClonesAndChanges_packetHasLatestValues() {
+    Packet current = packet;
+    Map<String, Object> expected = new HashMap<>();
+    for (int i = 0; i < 50; i++) {
+      current.put("key" + (i % 7), "value" + i);
+      expected.put("key" + (i % 7), "value" + i);
+      current = current.clone();
+    }
+
+    assertThat(current, equalTo(expected));
+  }
+
+  @Test
+  public void afterValuesRemovedFromClone_sizeCountsOnlyVisibleValues() {
+    packet.put("a", "1");
+    packet.put("b", "2");
+    Packet clone = packet.clone();
+
+    clone.remove("a");
+    clone.put("b", "3");
+    clone.put("c", "4");
+
+    assertThat(clone.size(), equalTo(2));
+    assertThat(packet.size(), equalTo(2));
+  }
+
+  @Test
+  public void whenAllValuesRemovedFromClone_cloneIsEmpty() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.remove("a");
+
+    assertThat(clone.isEmpty(), equalTo(true));
+    assertThat(packet.isEmpty(), equalTo(false));
+  }
+
+  @Test
+  public void whenValueInheritedFromOriginal_putIfAbsentKeepsIt() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    assertThat(clone.putIfAbsent("a", "2"), equalTo("1"));
+    assertThat(clone.get("a"), equalTo("1"));
+  }
+
+  @Test
+  public void whenComputedValueIsNull_removeInheritedValue() {
+    packet.put("a", "1");
+    Packet clone = packet.clone();
+
+    clone.compute("a", (k, v) -> null);
+
+    assertThat(clone, not(hasKey("a")));
+    assertThat(packet.get("a"), equalTo("1"));
+  }
+
+  @Test
+  public void afterManyClonesReplacingValues_packetHasLatestValues() {
+    Packet current = packet;
+    for (int i = 0; i < 20; i++) {
+      current.put("a", Integer.toString(i));
+      current.remove("b" + (i - 1));
+      current.put("b" + i, "x");
+      current = current.clone();
+    }
+
+    assertThat(current, equalTo(Map.of("a", "19", "b19", "x")));
+  }
+
+  @Test
+  public void afterClone_cloneFindsOriginalComponents() {
+    Object spi = new Object();
+    packet.getComponents().put("test", Component.createFor(spi));
+
+    Packet clone = packet.clone();
+
+    assertThat(clone.getSpi(Object.class), sameInstance(spi));
+  }
+
+  @Test
+  public void whenComponentReplacedInClone_originalKeepsItsComponent() {
+    Object spi = new Object();
+    packet.getComponents().put("test", Component.createFor(spi));
+    Packet clone = packet.clone();
+
+    Object replacement = new Object();
+    clone.getComponents().put("test", Component.createFor(replacement));
+
+    assertThat(clone.getSpi(Object.class), sameInstance(replacement));
+    assertThat(packet.getSpi(Object.class), sameInstance(spi));
+  }
+
+  @Test
+  public void whenComponentRemovedFromClone_cloneNoLongerFindsIt() {
+    packet.getComponents().put("test", Component.createFor(new Object()));
+    Packet clone = packet.clone();
+
+    clone.getComponents().remove("test");
+
+    assertThat(clone.getSpi(Object.class), nullValue());
+  }
+
+  @Test
+  public void whenComponentReplaced_findNewSpi() {
+    packet.getComponents().put("test", Component.createFor(new Object()));
+    packet.getSpi(Object.class);
+
+    Object replacement = new Object();
+    packet.getComponents().put("test", Component.createFor(replacement));
+
+    assertThat(packet.getSpi(Object.class), sameInstance(replacement));
+  }
+
+  @Test
+  public void whenComponentAddedAfterFailedLookup_findNewSpi() {
+    packet.getSpi(Object.class);
+
+    Object spi = new Object();
+    packet.getComponents().put("test", Component.createFor(spi));
+
+    assertThat(packet.getSpi(Object.class), sameInstance(spi));
+  }
+
+  @Test
+  public void whenComponentReplacedInCloneAfterLookup_originalKeepsIndexedSpi() {
+    Object spi = new Object();
+    packet.getComponents().put("test", Component.createFor(spi));
+    packet.getSpi(Object.class);
+    Packet clone = packet.clone();
+
+    Object replacement = new Object();
+    clone.getComponents().put("test", Component.createFor(replacement));
+    clone.getSpi(Object.class);
+
+    assertThat(packet.getSpi(Object.class), sameInstance(spi));
+    assertThat(clone.getSpi(Object.class), sameInstance(replacement));
+  }
+
+  @Test
+  public void whenComponentReplacedInOriginalAfterClone_cloneKeepsIndexedSpi() {
+    Object spi = new Object();
+    packet.getComponents().put("test", Component.createFor(spi));
+    Packet clone = packet.clone();
+    clone.getSpi(Object.class);
+
+    packet.getComponents().put("test", Component.createFor(new Object()));
+
+    assertThat(clone.getSpi(Object.class), sameInstance(spi));
+  }
+}
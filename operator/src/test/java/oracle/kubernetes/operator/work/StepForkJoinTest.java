@@ -0,0 +1,141 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class StepForkJoinTest {
+  private static final String CHILDREN_DONE = "childrenDone";
+
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+  private final List<String> started = new ArrayList<>();
+  private int running;
+  private int maxRunning;
+
+  private Collection<Step.StepAndPacket> createChildren(int count) {
+    Collection<Step.StepAndPacket> children = new ArrayList<>();
+    for (int i = 1; i <= count; i++) {
+      children.add(new Step.StepAndPacket(new ChildStep("child" + i), new Packet()));
+    }
+    return children;
+  }
+
+  @Test
+  public void whenConcurrencyLimited_startOnlyThatManyChildrenAtOnce() {
+    testSupport.runSteps(new ForkStep(createChildren(5), 2));
+
+    assertThat(started, contains("child1", "child2"));
+  }
+
+  @Test
+  public void whenChildCompletes_startNextChild() {
+    testSupport.runSteps(new ForkStep(createChildren(5), 2));
+
+    testSupport.setTime(1, TimeUnit.SECONDS);
+
+    assertThat(started, contains("child1", "child2", "child3", "child4"));
+  }
+
+  @Test
+  public void whenAllChildrenComplete_resumeParentFiber() {
+    Packet packet = testSupport.runSteps(new ForkStep(createChildren(5), 2));
+
+    testSupport.setTime(3, TimeUnit.SECONDS);
+
+    assertThat(packet.get(CHILDREN_DONE), equalTo(Boolean.TRUE));
+    assertThat(maxRunning, equalTo(2));
+  }
+
+  @Test
+  public void whenConcurrencyNotLimited_startAllChildrenAtOnce() {
+    testSupport.runSteps(new ForkStep(createChildren(5), 0));
+
+    assertThat(started.size(), equalTo(5));
+  }
+
+  @Test
+  public void whenChildFails_stillStartRemainingChildrenAndTerminateParent() {
+    Collection<Step.StepAndPacket> children = new ArrayList<>();
+    children.add(new Step.StepAndPacket(new FailingStep(), new Packet()));
+    children.addAll(createChildren(2));
+
+    testSupport.runSteps(new ForkStep(children, 1));
+    testSupport.setTime(2, TimeUnit.SECONDS);
+
+    assertThat(started, contains("child1", "child2"));
+    testSupport.verifyCompletionThrowable(IllegalStateException.class);
+  }
+
+  @Test
+  public void whenNoChildren_resumeImmediately() {
+    Packet packet = testSupport.runSteps(new ForkStep(new ArrayList<>(), 2));
+
+    assertThat(packet.get(CHILDREN_DONE), is(Boolean.TRUE));
+  }
+
+  private class ForkStep extends Step {
+    private final Collection<StepAndPacket> children;
+    private final int maxConcurrency;
+
+    ForkStep(Collection<StepAndPacket> children, int maxConcurrency) {
+      super(new JoinedStep());
+      this.children = children;
+      this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doForkJoin(getNext(), packet, children, maxConcurrency);
+    }
+  }
+
+  private class ChildStep extends Step {
+    private final String name;
+
+    ChildStep(String name) {
+      super(new ChildDoneStep());
+      this.name = name;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      started.add(name);
+      maxRunning = Math.max(maxRunning, ++running);
+      return doDelay(packet, 1, TimeUnit.SECONDS);
+    }
+  }
+
+  private class ChildDoneStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      running--;
+      return doNext(packet);
+    }
+  }
+
+  private static class FailingStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      throw new IllegalStateException();
+    }
+  }
+
+  private static class JoinedStep extends Step {
+    @Override
+    public NextAction apply(Packet packet) {
+      packet.put(CHILDREN_DONE, Boolean.TRUE);
+      return doNext(packet);
+    }
+  }
+}
@@ -144,6 +144,63 @@ public class StepTest {
     assertTrue(throwables.isEmpty());
   }
 
+  @Test
+  public void afterFiberCompletes_stepRunTimesAreRecorded() throws InterruptedException {
+    Step stepline = createStepline(Arrays.asList(Step1.class, Step2.class, Step1.class));
+    Semaphore signal = new Semaphore(0);
+
+    engine
+        .createFiber()
+        .start(
+            stepline,
+            new Packet(),
+            new CompletionCallback() {
+              @Override
+              public void onCompletion(Packet packet) {
+                signal.release();
+              }
+
+              @Override
+              public void onThrowable(Packet packet, Throwable throwable) {
+                signal.release();
+              }
+            });
+
+    assertTrue(signal.tryAcquire(5, TimeUnit.SECONDS));
+    assertEquals(Long.valueOf(2), engine.getStepRunTimes().getCounts().get(Step1.class.getName()));
+    assertEquals(Long.valueOf(1), engine.getStepRunTimes().getCounts().get(Step2.class.getName()));
+  }
+
+  @Test
+  public void whenStepThrows_itsRunTimeIsRecorded() throws InterruptedException {
+    Step stepline = createStepline(Arrays.asList(Step1.class, Step2.class, Step3.class));
+    Packet p = new Packet();
+    Map<Class<? extends BaseStep>, Command> commandMap = new HashMap<>();
+    commandMap.put(Step2.class, new Command(THROW));
+    p.put(NA, commandMap);
+    Semaphore signal = new Semaphore(0);
+
+    engine
+        .createFiber()
+        .start(
+            stepline,
+            p,
+            new CompletionCallback() {
+              @Override
+              public void onCompletion(Packet packet) {
+                signal.release();
+              }
+
+              @Override
+              public void onThrowable(Packet packet, Throwable throwable) {
+                signal.release();
+              }
+            });
+
+    assertTrue(signal.tryAcquire(5, TimeUnit.SECONDS));
+    assertEquals(Long.valueOf(1), engine.getStepRunTimes().getCounts().get(Step2.class.getName()));
+  }
+
   @Test
   public void testRetry() throws InterruptedException {
     final Step stepline = createStepline(Arrays.asList(Step1.class, Step2.class, Step3.class));
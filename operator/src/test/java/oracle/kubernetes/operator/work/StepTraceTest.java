@@ -0,0 +1,185 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class StepTraceTest {
+  private final FiberTestSupport testSupport = new FiberTestSupport();
+
+  private StepTrace getStepTrace() {
+    return testSupport.getEngine().getStepTrace();
+  }
+
+  @Before
+  public void setUp() {
+    getStepTrace().setEnabled(true);
+  }
+
+  @Test
+  public void whenTraceDisabled_stepsAreNotRecorded() {
+    getStepTrace().setEnabled(false);
+
+    testSupport.runSteps(new FirstStep(new SecondStep(null)));
+
+    assertThat(getStepTrace().toCollapsedStacks(), equalTo(""));
+  }
+
+  @Test
+  public void byDefault_traceIsDisabled() {
+    assertThat(new StepTrace().isEnabled(), is(false));
+  }
+
+  @Test
+  public void afterStepsRun_collapsedStacksContainEachStep() {
+    testSupport.runSteps(new FirstStep(new SecondStep(null)));
+
+    String stacks = getStepTrace().toCollapsedStacks();
+
+    assertThat(stacks, containsString("fiber;StepTraceTest$First "));
+    assertThat(stacks, containsString("fiber;StepTraceTest$Second "));
+  }
+
+  @Test
+  public void afterStepsRun_chromeTraceContainsCompleteEventForEachStep() {
+    testSupport.runSteps(new FirstStep(new SecondStep(null)));
+
+    List<Map<String, Object>> events = getStepTrace().toChromeTraceEvents();
+
+    assertThat(events, hasSize(2));
+    assertThat(events.get(0), hasEntry("name", "StepTraceTest$First"));
+    assertThat(events.get(0), hasEntry("ph", "X"));
+    assertThat(events.get(1), hasEntry("name", "StepTraceTest$Second"));
+  }
+
+  @Test
+  public void whenStepSuspendsFiber_recordSuspension() {
+    testSupport.runSteps(new DelayStep(new SecondStep(null)));
+    testSupport.setTime(1, TimeUnit.SECONDS);
+
+    String stacks = getStepTrace().toCollapsedStacks();
+
+    assertThat(stacks, containsString("fiber;StepTraceTest$Delay;(suspended) "));
+  }
+
+  @Test
+  public void whileStepSuspended_suspensionNotYetRecorded() {
+    testSupport.runSteps(new DelayStep(new SecondStep(null)));
+
+    assertThat(getStepTrace().toCollapsedStacks(), not(containsString("(suspended)")));
+  }
+
+  @Test
+  public void childFiberSteps_areTracedBeneathForkingStep() {
+    testSupport.runSteps(new ForkStep(new FirstStep(null), null));
+
+    String stacks = getStepTrace().toCollapsedStacks();
+
+    assertThat(stacks, containsString("fiber;StepTraceTest$Fork;StepTraceTest$First "));
+  }
+
+  @Test
+  public void whenBufferFull_oldestEntriesAreReplaced() {
+    StepTrace trace = new StepTrace(2);
+    Fiber fiber = testSupport.getEngine().createFiber();
+
+    trace.recordRun(fiber, new FirstStep(null), 1000, 1000);
+    trace.recordRun(fiber, new SecondStep(null), 2000, 1000);
+    trace.recordRun(fiber, new SecondStep(null), 3000, 1000);
+
+    assertThat(trace.toCollapsedStacks(), equalTo("fiber;StepTraceTest$Second 2\n"));
+  }
+
+  @Test
+  public void afterStepRecorded_traceKeepsItsNameAtThatTime() {
+    StepTrace trace = new StepTrace(2);
+    Fiber fiber = testSupport.getEngine().createFiber();
+    DetailStep step = new DetailStep("before");
+
+    trace.recordRun(fiber, step, 1000, 1000);
+    step.detail = "after";
+
+    assertThat(trace.toCollapsedStacks(), equalTo("fiber;StepTraceTest$Detail(before) 1\n"));
+  }
+
+  private static class FirstStep extends Step {
+    FirstStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private static class SecondStep extends Step {
+    SecondStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private static class DetailStep extends Step {
+    private String detail;
+
+    DetailStep(String detail) {
+      super(null);
+      this.detail = detail;
+    }
+
+    @Override
+    protected String getDetail() {
+      return detail;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doNext(packet);
+    }
+  }
+
+  private static class DelayStep extends Step {
+    DelayStep(Step next) {
+      super(next);
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doDelay(getNext(), packet, 1, TimeUnit.SECONDS);
+    }
+  }
+
+  private static class ForkStep extends Step {
+    private final Step childStep;
+
+    ForkStep(Step childStep, Step next) {
+      super(next);
+      this.childStep = childStep;
+    }
+
+    @Override
+    public NextAction apply(Packet packet) {
+      return doForkJoin(getNext(), packet, Collections.singletonList(new StepAndPacket(childStep, packet.clone())));
+    }
+  }
+}
@@ -0,0 +1,196 @@
+// Copyright (c) 2020, Oracle Corporation and/or its affiliates.
+// Licensed under the Universal Permissive License v 1.0 as shown at https://oss.oracle.com/licenses/upl.
+
+package oracle.kubernetes.operator.work;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.junit.MatcherAssert.assertThat;
+
+public class TimerWheelTest {
+  private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+  private long nanoTime;
+  private final TimerWheel wheel = new TimerWheel(TICK_NANOS, () -> nanoTime);
+  private final List<String> runs = new ArrayList<>();
+
+  private void setTime(long time, TimeUnit unit) {
+    nanoTime = unit.toNanos(time);
+    wheel.expireTimers();
+  }
+
+  // advances the time one tick at a time, as the thread advancing a real wheel does
+  private void advanceTime(long time, TimeUnit unit) {
+    while (nanoTime + TICK_NANOS <= unit.toNanos(time)) {
+      nanoTime += TICK_NANOS;
+      wheel.expireTimers();
+    }
+  }
+
+  @Test
+  public void beforeDelayPasses_taskDoesNotRun() {
+    wheel.schedule(() -> runs.add("task"), 100, TimeUnit.MILLISECONDS);
+
+    setTime(99, TimeUnit.MILLISECONDS);
+
+    assertThat(runs, empty());
+  }
+
+  @Test
+  public void afterDelayPasses_taskRuns() {
+    wheel.schedule(() -> runs.add("task"), 100, TimeUnit.MILLISECONDS);
+
+    setTime(100, TimeUnit.MILLISECONDS);
+
+    assertThat(runs, contains("task"));
+    assertThat(wheel.size(), equalTo(0));
+  }
+
+  @Test
+  public void whenDelayExceedsLowestLevel_taskRunsOnTime() {
+    wheel.schedule(() -> runs.add("task"), 90, TimeUnit.SECONDS);
+
+    setTime(89_990, TimeUnit.MILLISECONDS);
+    assertThat(runs, empty());
+
+    setTime(90, TimeUnit.SECONDS);
+    assertThat(runs, contains("task"));
+  }
+
+  @Test
+  public void whenDelayExceedsSpanOfWheel_taskRunsOnTime() {
+    wheel.schedule(() -> runs.add("task"), 100, TimeUnit.DAYS);
+
+    setTime(TimeUnit.DAYS.toMillis(100) - 10, TimeUnit.MILLISECONDS);
+    assertThat(runs, empty());
+
+    setTime(100, TimeUnit.DAYS);
+    assertThat(runs, contains("task"));
+  }
+
+  @Test
+  public void tasksRunInOrderOfDeadline() {
+    wheel.schedule(() -> runs.add("third"), 5, TimeUnit.SECONDS);
+    wheel.schedule(() -> runs.add("first"), 50, TimeUnit.MILLISECONDS);
+    wheel.schedule(() -> runs.add("second"), 700, TimeUnit.MILLISECONDS);
+
+    setTime(10, TimeUnit.SECONDS);
+
+    assertThat(runs, contains("first", "second", "third"));
+  }
+
+  @Test
+  public void whenTaskCanceled_itDoesNotRun() {
+    ScheduledFuture<?> future = wheel.schedule(() -> runs.add("task"), 100, TimeUnit.MILLISECONDS);
+    setTime(50, TimeUnit.MILLISECONDS);
+
+    future.cancel(false);
+    setTime(200, TimeUnit.MILLISECONDS);
+
+    assertThat(runs, empty());
+    assertThat(wheel.size(), equalTo(0));
+  }
+
+  @Test
+  public void whenTaskCanceledBeforeWheelAdvances_itIsDiscarded() {
+    wheel.schedule(() -> runs.add("task"), 100, TimeUnit.MILLISECONDS).cancel(false);
+
+    setTime(10, TimeUnit.MILLISECONDS);
+
+    assertThat(wheel.size(), equalTo(0));
+  }
+
+  @Test
+  public void fixedRateTask_runsOncePerPeriod() {
+    AtomicInteger count = new AtomicInteger();
+    wheel.scheduleAtFixedRate(count::incrementAndGet, 0, 100, TimeUnit.MILLISECONDS);
+
+    advanceTime(1000, TimeUnit.MILLISECONDS);
+
+    assertThat(count.get(), equalTo(11));
+    assertThat(wheel.size(), equalTo(1));
+  }
+
+  @Test
+  public void fixedDelayTask_afterCancel_stopsRunning() {
+    AtomicInteger count = new AtomicInteger();
+    ScheduledFuture<?> future = wheel.scheduleWithFixedDelay(count::incrementAndGet, 1, 1, TimeUnit.SECONDS);
+    advanceTime(2500, TimeUnit.MILLISECONDS);
+
+    future.cancel(false);
+    advanceTime(10, TimeUnit.SECONDS);
+
+    assertThat(count.get(), equalTo(2));
+    assertThat(wheel.size(), equalTo(0));
+  }
+
+  @Test
+  public void tasksWithRandomDelays_runNoEarlierThanDeadlineAndWithinOneTick() {
+    Random random = new Random(17);
+    List<long[]> deadlinesAndRunTimes = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      long[] record = {TimeUnit.MILLISECONDS.toNanos(random.nextInt(600_000)), -1};
+      deadlinesAndRunTimes.add(record);
+      wheel.schedule(() -> record[1] = nanoTime, record[0], TimeUnit.NANOSECONDS);
+    }
+
+    advanceTime(600_000, TimeUnit.MILLISECONDS);
+
+    for (long[] record : deadlinesAndRunTimes) {
+      assertThat(record[1], greaterThanOrEqualTo(record[0]));
+      assertThat(record[1] - record[0], lessThan(TICK_NANOS));
+    }
+  }
+
+  @Test
+  public void whenNoTasksScheduled_noTickIsOccupied() {
+    setTime(10, TimeUnit.MILLISECONDS);
+
+    assertThat(wheel.getNextOccupiedTick(), equalTo(-1L));
+  }
+
+  @Test
+  public void afterTaskScheduled_nextOccupiedTickIsItsDeadline() {
+    wheel.schedule(() -> runs.add("task"), 100, TimeUnit.MILLISECONDS);
+
+    setTime(0, TimeUnit.MILLISECONDS);
+
+    assertThat(wheel.getNextOccupiedTick(), equalTo(10L));
+  }
+
+  @Test
+  public void whenIdleWheelThreadParked_newTaskWakesIt() throws InterruptedException {
+    TimerWheel threadedWheel = new TimerWheel("test-timer", 10);
+    CountDownLatch ran = new CountDownLatch(1);
+    Thread.sleep(50);
+
+    threadedWheel.schedule(ran::countDown, 20, TimeUnit.MILLISECONDS);
+
+    assertThat(ran.await(5, TimeUnit.SECONDS), is(true));
+    threadedWheel.shutdown();
+  }
+
+  @Test
+  public void afterShutdown_unrunTasksAreReturned() throws InterruptedException {
+    wheel.schedule(() -> runs.add("task1"), 1, TimeUnit.SECONDS);
+    wheel.schedule(() -> runs.add("task2"), 1, TimeUnit.MINUTES);
+    setTime(10, TimeUnit.MILLISECONDS);
+
+    assertThat(wheel.shutdownNow().size(), equalTo(2));
+    assertThat(wheel.isTerminated(), is(true));
+  }
+}
@@ -318,6 +318,30 @@ public abstract class DomainTestBase {
     assertThat(domain.getMaxUnavailable("cluster1"), equalTo(5));
   }
 
+  @Test
+  public void whenMaxConcurrentStartupNotSpecified_itIsUnlimited() {
+    configureCluster("cluster1").withReplicas(5);
+
+    assertThat(domain.getMaxConcurrentStartup("cluster1"), equalTo(0));
+  }
+
+  @Test
+  public void afterMaxConcurrentStartupSetForDomain_clustersAndNonClusteredServersUseIt() {
+    configureDomain(domain).withDefaultMaxConcurrentStartup(3);
+
+    assertThat(domain.getMaxConcurrentStartup("cluster1"), equalTo(3));
+    assertThat(domain.getMaxConcurrentStartup(null), equalTo(3));
+  }
+
+  @Test
+  public void afterMaxConcurrentStartupSetForCluster_itOverridesDomainSetting() {
+    configureDomain(domain).withDefaultMaxConcurrentStartup(3);
+    configureCluster("cluster1").withMaxConcurrentStartup(2);
+
+    assertThat(domain.getMaxConcurrentStartup("cluster1"), equalTo(2));
+    assertThat(domain.getMaxConcurrentStartup("cluster2"), equalTo(3));
+  }
+
   @Test
   public void whenBothClusterAndServerStateSpecified_managedServerUsesServerState() {
     configureServer(SERVER1).withDesiredState("STAND-BY");
@@ -19,6 +19,7 @@ import io.kubernetes.client.openapi.models.V1SecurityContext;
 import io.kubernetes.client.openapi.models.V1Sysctl;
 import io.kubernetes.client.openapi.models.V1Volume;
 import io.kubernetes.client.openapi.models.V1VolumeMount;
+import oracle.kubernetes.operator.ServerStateSource;
 import oracle.kubernetes.weblogic.domain.DomainConfigurator;
 import oracle.kubernetes.weblogic.domain.DomainTestBase;
 import org.hamcrest.Matcher;
@@ -96,6 +97,25 @@ public class DomainV2Test extends DomainTestBase {
     assertThat(domain.isLogHomeEnabled(), is(true));
   }
 
+  @Test
+  public void whenServerStateSourceNotSpecified_defaultsToExec() {
+    assertThat(domain.getServerStateSource(), equalTo(ServerStateSource.Exec));
+  }
+
+  @Test
+  public void whenServerStateSourceSpecified_returnIt() {
+    configureDomain(domain).withServerStateSource(ServerStateSource.PodAnnotation);
+
+    assertThat(domain.getServerStateSource(), equalTo(ServerStateSource.PodAnnotation));
+  }
+
+  @Test
+  public void whenServerStateSourceNotRecognized_defaultsToExec() {
+    domain.getSpec().getOrCreateExperimental().setServerStateSource("Http");
+
+    assertThat(domain.getServerStateSource(), equalTo(ServerStateSource.Exec));
+  }
+
   @Test
   public void whenLogHomeSet_returnIt() {
     configureDomain(domain).withLogHome("/my/logs/");